@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.markenwerk.commons.interfaces.Predicate;
+
+/**
+ * Compares filtering an {@link IntegerArrayIterable} with a
+ * {@link FilteredIterable} and with a {@link FilteredIntegerArrayIterable}.
+ * 
+ * <p>
+ * Run with
+ * {@code mvn -P benchmark test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args=FilteringBenchmark}
+ * .
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class FilteringBenchmark {
+
+	@Param({ "1000", "1000000" })
+	private int size;
+
+	@Param({ "1", "50" })
+	private int percentage;
+
+	private IntegerArrayIterable iterable;
+
+	private int threshold;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		int[] ints = new int[size];
+		for (int i = 0; i < size; i++) {
+			ints[i] = random.nextInt(100);
+		}
+		iterable = new IntegerArrayIterable(ints);
+		threshold = percentage;
+	}
+
+	@Benchmark
+	public void filteredIterable(Blackhole blackhole) {
+		final int threshold = this.threshold;
+		Iterable<Integer> filtered = new FilteredIterable<Integer>(iterable, new Predicate<Integer>() {
+			@Override
+			public boolean test(Integer value) {
+				return value < threshold;
+			}
+		});
+		for (Integer value : filtered) {
+			blackhole.consume(value.intValue());
+		}
+	}
+
+	@Benchmark
+	public void filteredIntegerArrayIterable(Blackhole blackhole) {
+		final int threshold = this.threshold;
+		IntegerIterator iterator = iterable.filtered(new IntegerPredicate() {
+			@Override
+			public boolean test(int value) {
+				return value < threshold;
+			}
+		}).primitiveIterator();
+		while (iterator.hasNext()) {
+			blackhole.consume(iterator.nextInt());
+		}
+	}
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the reductions of an {@link IntegerArrayIterable} and a
+ * {@link DoubleArrayIterable} with the equivalent reductions over a primitive
+ * iterator.
+ * 
+ * <p>
+ * Run with
+ * {@code mvn -P benchmark test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args=ReductionBenchmark}
+ * .
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class ReductionBenchmark {
+
+	@Param({ "1000", "1000000" })
+	private int size;
+
+	private IntegerArrayIterable integerIterable;
+
+	private DoubleArrayIterable doubleIterable;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		int[] ints = new int[size];
+		double[] doubles = new double[size];
+		for (int i = 0; i < size; i++) {
+			ints[i] = random.nextInt();
+			doubles[i] = random.nextDouble();
+		}
+		integerIterable = new IntegerArrayIterable(ints);
+		doubleIterable = new DoubleArrayIterable(doubles);
+	}
+
+	@Benchmark
+	public long integerIteratorSum() {
+		long sum = 0;
+		IntegerIterator iterator = integerIterable.primitiveIterator();
+		while (iterator.hasNext()) {
+			sum += iterator.nextInt();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long integerSum() {
+		return integerIterable.sum();
+	}
+
+	@Benchmark
+	public int integerIteratorMax() {
+		int max = Integer.MIN_VALUE;
+		IntegerIterator iterator = integerIterable.primitiveIterator();
+		while (iterator.hasNext()) {
+			max = Math.max(max, iterator.nextInt());
+		}
+		return max;
+	}
+
+	@Benchmark
+	public int integerMax() {
+		return integerIterable.max();
+	}
+
+	@Benchmark
+	public double doubleIteratorSum() {
+		double sum = 0;
+		DoubleIterator iterator = doubleIterable.primitiveIterator();
+		while (iterator.hasNext()) {
+			sum += iterator.nextDouble();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double doubleSum() {
+		return doubleIterable.sum();
+	}
+
+	@Benchmark
+	public double doubleDot() {
+		return doubleIterable.dot(doubleIterable);
+	}
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * An {@link AbstractIndexedIterator} is a
+ * {@link ProtectedBidirectionalIterator} that iterates over a contiguous range
+ * of indices and leaves it to subclasses to look up the value for an index.
+ * 
+ * <p>
+ * Like the iterators from {@code net.markenwerk.commons.iterators}, an
+ * {@link AbstractIndexedIterator} keeps track of the last yielded index, such
+ * that {@linkplain AbstractIndexedIterator#previous()} yields the value
+ * before the last yielded value.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+abstract class AbstractIndexedIterator<Payload>
+		implements ProtectedBidirectionalIterator<Payload>, ReversibleIterator<Payload>, SkippableIterator<Payload> {
+
+	private final int fromIndex;
+
+	private final int toIndex;
+
+	private int index;
+
+	/**
+	 * Creates a new {@link AbstractIndexedIterator}.
+	 * 
+	 * @param fromIndex
+	 *            The first index to be yielded.
+	 * @param toIndex
+	 *            The index after the last index to be yielded.
+	 */
+	protected AbstractIndexedIterator(int fromIndex, int toIndex) {
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+		this.index = fromIndex - 1;
+	}
+
+	@Override
+	public final boolean hasNext() {
+		return index < toIndex - 1;
+	}
+
+	@Override
+	public final boolean hasPrevious() {
+		return index > fromIndex;
+	}
+
+	/**
+	 * Advances this {@link AbstractIndexedIterator} and returns the index of
+	 * the next value.
+	 * 
+	 * @return The index of the next value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link AbstractIndexedIterator} has no next value.
+	 */
+	protected final int nextIndex() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		}
+		return ++index;
+	}
+
+	/**
+	 * Moves this {@link AbstractIndexedIterator} backwards and returns the
+	 * index of the previous value.
+	 * 
+	 * @return The index of the previous value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link AbstractIndexedIterator} has no previous
+	 *             value.
+	 */
+	protected final int previousIndex() throws NoSuchElementException {
+		if (!hasPrevious()) {
+			throw new NoSuchElementException("This iterator has no previous element");
+		}
+		return --index;
+	}
+
+	@Override
+	public final void skipToLast() {
+		index = Math.max(fromIndex - 1, toIndex - 2);
+	}
+
+	@Override
+	public final long skip(long count) throws IllegalArgumentException {
+		Skips.checkCount(count);
+		int skipped = (int) Math.min(count, toIndex - 1 - index);
+		index += skipped;
+		return skipped;
+	}
+
+	@Override
+	public final void seek(long position) throws IllegalArgumentException {
+		Skips.checkPosition(position, toIndex - fromIndex);
+		index = fromIndex + (int) position - 1;
+	}
+
+	@Override
+	public final void remove() throws UnsupportedOperationException {
+		throw new UnsupportedOperationException("Cannot remove from this iterator");
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * An {@link AbstractMappedIterator} is a {@link ProtectedBidirectionalIterator}
+ * that iterates over the records of some {@link MappedRegions} and leaves it to
+ * subclasses to read the value of a record.
+ * 
+ * <p>
+ * An {@link AbstractMappedIterator} keeps track of the region and the offset of
+ * the current record, such that moving to the next or previous record doesn't
+ * require any divisions.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+abstract class AbstractMappedIterator<Payload>
+		implements ProtectedBidirectionalIterator<Payload>, ReversibleIterator<Payload>, SkippableIterator<Payload> {
+
+	private final MappedRegions regions;
+
+	private final int recordSize;
+
+	private final int regionSize;
+
+	private final long size;
+
+	private long index = -1;
+
+	private int regionIndex;
+
+	private int offset;
+
+	private ByteBuffer region;
+
+	/**
+	 * Creates a new {@link AbstractMappedIterator}.
+	 * 
+	 * @param regions
+	 *            The {@link MappedRegions} to iterate over.
+	 */
+	protected AbstractMappedIterator(MappedRegions regions) {
+		this.regions = regions;
+		this.recordSize = regions.recordSize();
+		this.regionSize = regions.regionSize();
+		this.size = regions.size();
+		this.offset = -recordSize;
+	}
+
+	@Override
+	public final boolean hasNext() {
+		return index < size - 1;
+	}
+
+	@Override
+	public final boolean hasPrevious() {
+		return index > 0;
+	}
+
+	/**
+	 * Advances this {@link AbstractMappedIterator} and returns the offset of
+	 * the next record in the
+	 * {@link AbstractMappedIterator#region() current region}.
+	 * 
+	 * @return The offset of the next record.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link AbstractMappedIterator} has no next record.
+	 */
+	protected final int nextOffset() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		}
+		index++;
+		offset += recordSize;
+		if (offset == regionSize) {
+			regionIndex++;
+			offset = 0;
+			region = null;
+		}
+		if (null == region) {
+			region = regions.region(regionIndex);
+		}
+		return offset;
+	}
+
+	/**
+	 * Moves this {@link AbstractMappedIterator} backwards and returns the
+	 * offset of the previous record in the
+	 * {@link AbstractMappedIterator#region() current region}.
+	 * 
+	 * @return The offset of the previous record.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link AbstractMappedIterator} has no previous
+	 *             record.
+	 */
+	protected final int previousOffset() throws NoSuchElementException {
+		if (!hasPrevious()) {
+			throw new NoSuchElementException("This iterator has no previous element");
+		}
+		index--;
+		offset -= recordSize;
+		if (offset < 0) {
+			region = regions.region(--regionIndex);
+			offset = regionSize - recordSize;
+		}
+		return offset;
+	}
+
+	/**
+	 * Returns the region that contains the current record.
+	 * 
+	 * @return The current region.
+	 */
+	protected final ByteBuffer region() {
+		return region;
+	}
+
+	@Override
+	public final void skipToLast() {
+		if (size > 1) {
+			moveTo(size - 2);
+		}
+	}
+
+	@Override
+	public final long skip(long count) throws IllegalArgumentException {
+		Skips.checkCount(count);
+		long skipped = Math.min(count, size - 1 - index);
+		if (0 != skipped) {
+			moveTo(index + skipped);
+		}
+		return skipped;
+	}
+
+	@Override
+	public final void seek(long position) throws IllegalArgumentException {
+		Skips.checkPosition(position, size);
+		moveTo(position - 1);
+	}
+
+	private void moveTo(long index) {
+		this.index = index;
+		if (-1 == index) {
+			regionIndex = 0;
+			offset = -recordSize;
+			region = null;
+		} else {
+			int recordsPerRegion = regionSize / recordSize;
+			regionIndex = (int) (index / recordsPerRegion);
+			offset = (int) (index % recordsPerRegion) * recordSize;
+			region = regions.region(regionIndex);
+		}
+	}
+
+	@Override
+	public final void remove() throws UnsupportedOperationException {
+		throw new UnsupportedOperationException("Cannot remove from this iterator");
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.iterators.FilteredIterator;
+
+/**
+ * An {@link AdaptiveFilteredIterable} is an {@link Iterable} that can be
+ * wrapped around a given {@link Iterable} and generates {@link Iterator
+ * Iterators} that, like the {@link Iterator Iterators} generated by a
+ * {@link FilteredIterable}, filter out values that don't satisfy every one of
+ * some given {@link Predicate Predicates}.
+ * 
+ * <p>
+ * Every generated {@link Iterator} observes how often every {@link Predicate}
+ * rejects a value and samples how much time it takes. It periodically
+ * reorders the {@link Predicate Predicates}, such that cheap
+ * {@link Predicate Predicates} that reject many values are tested first and
+ * fewer {@link Predicate Predicates} have to be tested per value.
+ * 
+ * <p>
+ * The yielded values don't depend on the order in which the
+ * {@link Predicate Predicates} are tested, as long as the
+ * {@link Predicate Predicates} have no side effects. Use a
+ * {@link FilteredIterable} for every {@link Predicate}, if the
+ * {@link Predicate Predicates} must be tested in the given order.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class AdaptiveFilteredIterable<Payload> implements Iterable<Payload> {
+
+	private final Iterable<? extends Payload> iterable;
+
+	private final Predicate<?>[] predicates;
+
+	/**
+	 * Creates a new {@link AdaptiveFilteredIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link Iterable} to iterate over.
+	 * @param predicates
+	 *            The {@link Predicate Predicates} to be used, in their initial
+	 *            order.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} is {@literal null}, if the
+	 *             given array of {@link Predicate Predicates} is
+	 *             {@literal null} or if any of the given
+	 *             {@link Predicate Predicates} is {@literal null}.
+	 */
+	public AdaptiveFilteredIterable(Iterable<? extends Payload> iterable, Predicate<? super Payload>... predicates)
+			throws IllegalArgumentException {
+		this(iterable, null == predicates ? null : new ArrayIterable<Predicate<? super Payload>>(predicates));
+	}
+
+	/**
+	 * Creates a new {@link AdaptiveFilteredIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link Iterable} to iterate over.
+	 * @param predicates
+	 *            The {@link Iterable} of {@link Predicate Predicates} to be
+	 *            used, in their initial order.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} is {@literal null}, if the
+	 *             given {@link Iterable} of {@link Predicate Predicates} is
+	 *             {@literal null} or if any of the given
+	 *             {@link Predicate Predicates} is {@literal null}.
+	 */
+	public AdaptiveFilteredIterable(Iterable<? extends Payload> iterable,
+			Iterable<? extends Predicate<? super Payload>> predicates) throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable is null");
+		} else if (null == predicates) {
+			throw new IllegalArgumentException("The given predicates are null");
+		}
+		List<Predicate<?>> list = new ArrayList<Predicate<?>>();
+		for (Predicate<? super Payload> predicate : predicates) {
+			if (null == predicate) {
+				throw new IllegalArgumentException("The given predicates contain null");
+			}
+			list.add(predicate);
+		}
+		this.iterable = iterable;
+		this.predicates = list.toArray(new Predicate<?>[list.size()]);
+	}
+
+	@Override
+	public FilteredIterator<Payload> iterator() {
+		return new FilteredIterator<Payload>(iterable.iterator(), new AdaptivePredicate(predicates));
+	}
+
+}
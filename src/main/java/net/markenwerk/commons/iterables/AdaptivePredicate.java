@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Arrays;
+
+import net.markenwerk.commons.exceptions.PredicateException;
+import net.markenwerk.commons.interfaces.Predicate;
+
+/**
+ * An {@link AdaptivePredicate} is a {@link Predicate} that is satisfied by a
+ * value, if every one of some given {@link Predicate Predicates} is satisfied
+ * by that value, and that adapts the order in which the given
+ * {@link Predicate Predicates} are tested to their observed behavior.
+ * 
+ * <p>
+ * An {@link AdaptivePredicate} counts how often every {@link Predicate} is
+ * tested and how often it rejects a value. Every
+ * {@value AdaptivePredicate#SAMPLING_INTERVAL}th value, it additionally
+ * measures the time every tested {@link Predicate} takes. Every
+ * {@value AdaptivePredicate#REORDERING_INTERVAL} values, the
+ * {@link Predicate Predicates} are reordered by their average time per
+ * rejection, such that cheap {@link Predicate Predicates} that reject many
+ * values are tested first. {@link Predicate Predicates} that haven't been
+ * tested yet are moved to the front, in order to be observed. Afterwards, all
+ * observations are halved, such that the order follows changes in the
+ * behavior of the {@link Predicate Predicates}.
+ * 
+ * <p>
+ * A {@link Predicate} that has been tested, but whose time hasn't been
+ * measured since the last reordering, keeps its previous time estimate or, if
+ * it has never been measured, is assumed to take the average time of the
+ * measured {@link Predicate Predicates}. A {@link Predicate} that hasn't been
+ * tested since the last reordering keeps its rank. Rarely reached
+ * {@link Predicate Predicates} therefore don't jump back to the front.
+ * 
+ * <p>
+ * An {@link AdaptivePredicate} is not thread-safe.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+final class AdaptivePredicate implements Predicate<Object> {
+
+	/**
+	 * The interval, in tested values, at which the time taken by the
+	 * {@link Predicate Predicates} is measured.
+	 */
+	static final int SAMPLING_INTERVAL = 16;
+
+	/**
+	 * The interval, in tested values, at which the {@link Predicate
+	 * Predicates} are reordered.
+	 */
+	static final int REORDERING_INTERVAL = 1024;
+
+	private final Predicate<Object>[] predicates;
+
+	private final int[] order;
+
+	private final long[] evaluations;
+
+	private final long[] rejections;
+
+	private final long[] sampledEvaluations;
+
+	private final long[] sampledNanos;
+
+	private final double[] costs;
+
+	private final double[] ranks;
+
+	private int tests;
+
+	/**
+	 * Creates a new {@link AdaptivePredicate}.
+	 * 
+	 * @param predicates
+	 *            The {@link Predicate Predicates} to be tested, in their
+	 *            initial order.
+	 */
+	public AdaptivePredicate(Predicate<?>[] predicates) {
+		int length = predicates.length;
+		this.predicates = Predicates.newArray(length);
+		this.order = new int[length];
+		for (int i = 0; i < length; i++) {
+			this.predicates[i] = Predicates.erase(predicates[i]);
+			this.order[i] = i;
+		}
+		this.evaluations = new long[length];
+		this.rejections = new long[length];
+		this.sampledEvaluations = new long[length];
+		this.sampledNanos = new long[length];
+		this.costs = new double[length];
+		this.ranks = new double[length];
+		Arrays.fill(costs, Double.NaN);
+	}
+
+	@Override
+	public boolean test(Object value) throws PredicateException {
+		if (REORDERING_INTERVAL == tests) {
+			reorder();
+			tests = 0;
+		}
+		boolean sample = 0 == tests++ % SAMPLING_INTERVAL;
+		Predicate<Object>[] predicates = this.predicates;
+		int[] order = this.order;
+		for (int i = 0, n = order.length; i < n; i++) {
+			int index = order[i];
+			boolean satisfied;
+			if (sample) {
+				long start = System.nanoTime();
+				satisfied = predicates[index].test(value);
+				sampledNanos[index] += System.nanoTime() - start;
+				sampledEvaluations[index]++;
+			} else {
+				satisfied = predicates[index].test(value);
+			}
+			evaluations[index]++;
+			if (!satisfied) {
+				rejections[index]++;
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the index of the {@link Predicate} that is currently tested at
+	 * the given position.
+	 * 
+	 * @param position
+	 *            The position.
+	 * @return The index of the {@link Predicate} in the initial order.
+	 */
+	int indexAt(int position) {
+		return order[position];
+	}
+
+	private void reorder() {
+		int[] order = this.order;
+		double[] ranks = this.ranks;
+		double averageCost = updateCosts();
+		for (int index = 0, n = order.length; index < n; index++) {
+			if (0 != evaluations[index]) {
+				ranks[index] = rankOf(index, averageCost);
+			}
+			evaluations[index] >>>= 1;
+			rejections[index] >>>= 1;
+			sampledEvaluations[index] >>>= 1;
+			sampledNanos[index] >>>= 1;
+		}
+		for (int i = 1, n = order.length; i < n; i++) {
+			int index = order[i];
+			double rank = ranks[index];
+			int j = i - 1;
+			while (j >= 0 && ranks[order[j]] > rank) {
+				order[j + 1] = order[j];
+				j--;
+			}
+			order[j + 1] = index;
+		}
+	}
+
+	private double updateCosts() {
+		double[] costs = this.costs;
+		double totalCost = 0;
+		int measured = 0;
+		for (int index = 0, n = costs.length; index < n; index++) {
+			if (0 != sampledEvaluations[index]) {
+				costs[index] = (double) sampledNanos[index] / sampledEvaluations[index];
+			}
+			if (!Double.isNaN(costs[index])) {
+				totalCost += costs[index];
+				measured++;
+			}
+		}
+		return 0 == measured ? 1 : totalCost / measured;
+	}
+
+	private double rankOf(int index, double averageCost) {
+		double rejectionRate = (double) rejections[index] / evaluations[index];
+		double cost = Double.isNaN(costs[index]) ? averageCost : costs[index];
+		return 0 == rejectionRate ? Double.POSITIVE_INFINITY : cost / rejectionRate;
+	}
+
+}
@@ -22,12 +22,15 @@
 package net.markenwerk.commons.iterables;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
-import net.markenwerk.commons.iterators.ArrayIterator;
+import net.markenwerk.commons.interfaces.Handler;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
 
 /**
- * An {@link ArrayIterable} is a {@link ProtectedBidirectionalIterable} that generates
- * {@link Iterator Iterators} that iterate over a given payload array.
+ * An {@link ArrayIterable} is a {@link ProtectedBidirectionalIterable} that
+ * generates {@link Iterator Iterators} that iterate over a given payload array
+ * or over a given range of a given payload array.
  * 
  * @param <Payload>
  *            The payload type.
@@ -36,7 +39,11 @@ import net.markenwerk.commons.iterators.ArrayIterator;
  */
 public final class ArrayIterable<Payload> implements ProtectedBidirectionalIterable<Payload> {
 
-	private final Payload[] array;
+	final Payload[] array;
+
+	final int fromIndex;
+
+	final int toIndex;
 
 	/**
 	 * Creates a new {@link ArrayIterable}.
@@ -48,15 +55,116 @@ public final class ArrayIterable<Payload> implements ProtectedBidirectionalItera
 	 *             If the given payload array is {@literal null}.
 	 */
 	public ArrayIterable(Payload... array) throws IllegalArgumentException {
+		this(array, 0, null == array ? 0 : array.length);
+	}
+
+	/**
+	 * Creates a new {@link ArrayIterable} that iterates over the given range of
+	 * the given payload array, without copying it.
+	 * 
+	 * @param array
+	 *            The payload array to iterate over.
+	 * @param fromIndex
+	 *            The index of the first value to iterate over.
+	 * @param toIndex
+	 *            The index after the last value to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given payload array is {@literal null}, if the given
+	 *             from index is negative, if the given to index is larger than
+	 *             the length of the given payload array or if the given from
+	 *             index is larger than the given to index.
+	 */
+	public ArrayIterable(Payload[] array, int fromIndex, int toIndex) throws IllegalArgumentException {
 		if (null == array) {
 			throw new IllegalArgumentException("The given array is null");
 		}
+		Ranges.check(array.length, fromIndex, toIndex);
 		this.array = array;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of values this {@link ArrayIterable} iterates over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns an {@link ArrayIterable} that iterates over the given range of
+	 * the values this {@link ArrayIterable} iterates over. The returned
+	 * {@link ArrayIterable} is a view on the same payload array and doesn't
+	 * copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link ArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link ArrayIterable}.
+	 * @return The {@link ArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index is
+	 *             larger than the size of this {@link ArrayIterable} or if the
+	 *             given from index is larger than the given to index.
+	 */
+	public ArrayIterable<Payload> slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new ArrayIterable<Payload>(array, this.fromIndex + fromIndex, this.fromIndex + toIndex);
 	}
 
 	@Override
-	public ArrayIterator<Payload> iterator() {
-		return new ArrayIterator<Payload>(array);
+	public ProtectedBidirectionalIterator<Payload> iterator() {
+		return new RangeArrayIterator<Payload>(array, fromIndex, toIndex);
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link ArrayIterable} iterates over, in order. This is equivalent to, but
+	 * faster than, iterating over this {@link ArrayIterable} and calling the
+	 * given {@link Handler} with every yielded value, because the payload array
+	 * is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Payload> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		Payload[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	private static final class RangeArrayIterator<Payload> extends AbstractIndexedIterator<Payload> {
+
+		private final Payload[] array;
+
+		public RangeArrayIterator(Payload[] array, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.array = array;
+		}
+
+		@Override
+		public Payload next() throws NoSuchElementException {
+			return array[nextIndex()];
+		}
+
+		@Override
+		public Payload previous() throws NoSuchElementException {
+			return array[previousIndex()];
+		}
+
 	}
 
 }
@@ -22,19 +22,25 @@
 package net.markenwerk.commons.iterables;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
-import net.markenwerk.commons.iterators.BooleanArrayIterator;
+import net.markenwerk.commons.interfaces.Handler;
 
 /**
- * A {@link BooleanArrayIterable} is a {@link ProtectedBidirectionalIterable} that generates
- * {@link Iterator Iterators} that iterate over a given {@code boolean[]}.
+ * A {@link BooleanArrayIterable} is a {@link BooleanIterable} that generates
+ * {@link Iterator Iterators} that iterate over a given {@code boolean[]} or
+ * over a given range of a given {@code boolean[]}.
  * 
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class BooleanArrayIterable implements ProtectedBidirectionalIterable<Boolean> {
+public final class BooleanArrayIterable implements BooleanIterable {
 
-	private final boolean[] array;
+	final boolean[] array;
+
+	final int fromIndex;
+
+	final int toIndex;
 
 	/**
 	 * Creates a new {@link BooleanArrayIterable}.
@@ -45,16 +51,194 @@ public final class BooleanArrayIterable implements ProtectedBidirectionalIterabl
 	 * @throws IllegalArgumentException
 	 *             If the given {@code boolean[]} is {@literal null}.
 	 */
-	public BooleanArrayIterable(boolean ... array) throws IllegalArgumentException {
+	public BooleanArrayIterable(boolean... array) throws IllegalArgumentException {
+		this(array, 0, null == array ? 0 : array.length);
+	}
+
+	/**
+	 * Creates a new {@link BooleanArrayIterable} that iterates over the given
+	 * range of the given {@code boolean[]}, without copying it.
+	 * 
+	 * @param array
+	 *            The {@code boolean[]} to iterate over.
+	 * @param fromIndex
+	 *            The index of the first value to iterate over.
+	 * @param toIndex
+	 *            The index after the last value to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code boolean[]} is {@literal null}, if the
+	 *             given from index is negative, if the given to index is larger
+	 *             than the length of the given {@code boolean[]} or if the
+	 *             given from index is larger than the given to index.
+	 */
+	public BooleanArrayIterable(boolean[] array, int fromIndex, int toIndex) throws IllegalArgumentException {
 		if (null == array) {
 			throw new IllegalArgumentException("The given array is null");
 		}
+		Ranges.check(array.length, fromIndex, toIndex);
 		this.array = array;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of values this {@link BooleanArrayIterable} iterates
+	 * over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns a {@link BooleanArrayIterable} that iterates over the given range
+	 * of the values this {@link BooleanArrayIterable} iterates over. The
+	 * returned {@link BooleanArrayIterable} is a view on the same
+	 * {@code boolean[]} and doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to
+	 *            this {@link BooleanArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link BooleanArrayIterable}.
+	 * @return The {@link BooleanArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index
+	 *             is larger than the size of this {@link BooleanArrayIterable}
+	 *             or if the given from index is larger than the given to
+	 *             index.
+	 */
+	public BooleanArrayIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new BooleanArrayIterable(array, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+	}
+
+	/**
+	 * Returns a {@link StridedBooleanArrayIterable} that iterates over every
+	 * {@code stride}-th value this {@link BooleanArrayIterable} iterates over,
+	 * starting at the given offset. The returned
+	 * {@link StridedBooleanArrayIterable} is a view on the same
+	 * {@code boolean[]} and doesn't copy it.
+	 * 
+	 * @param offset
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link BooleanArrayIterable}.
+	 * @param stride
+	 *            The distance between the indices of two consecutive values to
+	 *            iterate over.
+	 * @return The {@link StridedBooleanArrayIterable} for the given offset and
+	 *         stride.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given offset is negative, if the given offset is
+	 *             larger than the size of this {@link BooleanArrayIterable} or
+	 *             if the given stride is not positive.
+	 */
+	public StridedBooleanArrayIterable strided(int offset, int stride) throws IllegalArgumentException {
+		if (offset < 0) {
+			throw new IllegalArgumentException("The given offset is negative");
+		} else if (offset > size()) {
+			throw new IllegalArgumentException("The given offset is larger than the size");
+		}
+		int count = offset == size() || stride <= 0 ? 0 : (size() - offset - 1) / stride + 1;
+		return new StridedBooleanArrayIterable(array, fromIndex + offset, stride, count);
+	}
+
+	@Override
+	public BooleanIterator iterator() {
+		return new PrimitiveBooleanArrayIterator(array, fromIndex, toIndex);
 	}
 
 	@Override
-	public BooleanArrayIterator iterator() {
-		return new BooleanArrayIterator(array);
+	public BooleanIterator primitiveIterator() {
+		return new PrimitiveBooleanArrayIterator(array, fromIndex, toIndex);
+	}
+
+	/**
+	 * Calls the given {@link BooleanHandler} with every value this
+	 * {@link BooleanArrayIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link BooleanArrayIterable} and
+	 * calling the given {@link BooleanHandler} with every yielded value,
+	 * because the {@code boolean[]} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link BooleanHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link BooleanHandler} is {@literal null}.
+	 */
+	public void handleEach(BooleanHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		boolean[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link BooleanArrayIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link BooleanArrayIterable} and
+	 * calling the given {@link Handler} with every yielded value, because the
+	 * {@code boolean[]} is traversed in a single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Boolean}. Use
+	 * {@linkplain BooleanArrayIterable#handleEach(BooleanHandler)} to handle
+	 * the values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Boolean> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		boolean[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	private static final class PrimitiveBooleanArrayIterator extends AbstractIndexedIterator<Boolean>
+			implements BooleanIterator {
+
+		private final boolean[] array;
+
+		public PrimitiveBooleanArrayIterator(boolean[] array, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.array = array;
+		}
+
+		@Override
+		public boolean nextBoolean() throws NoSuchElementException {
+			return array[nextIndex()];
+		}
+
+		@Override
+		public Boolean next() throws NoSuchElementException {
+			return nextBoolean();
+		}
+
+		@Override
+		public boolean previousBoolean() throws NoSuchElementException {
+			return array[previousIndex()];
+		}
+
+		@Override
+		public Boolean previous() throws NoSuchElementException {
+			return previousBoolean();
+		}
+
 	}
 
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link BooleanIterator} is a {@link ProtectedBidirectionalIterator} that
+ * additionally allows to retrieve the yielded values as {@code boolean} values,
+ * without boxing them into {@link Boolean Booleans}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public interface BooleanIterator extends ProtectedBidirectionalIterator<Boolean> {
+
+	/**
+	 * Returns the next {@code boolean} value.
+	 * 
+	 * @return The next {@code boolean} value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link BooleanIterator} has no next value.
+	 */
+	public boolean nextBoolean() throws NoSuchElementException;
+
+	/**
+	 * Returns the previous {@code boolean} value.
+	 * 
+	 * @return The previous {@code boolean} value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link BooleanIterator} has no previous value.
+	 */
+	public boolean previousBoolean() throws NoSuchElementException;
+
+}
@@ -22,19 +22,25 @@
 package net.markenwerk.commons.iterables;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
-import net.markenwerk.commons.iterators.ByteArrayIterator;
+import net.markenwerk.commons.interfaces.Handler;
 
 /**
- * A {@link ByteArrayIterable} is a {@link ProtectedBidirectionalIterable} that generates
- * {@link Iterator Iterators} that iterate over a given {@code byte[]}.
+ * A {@link ByteArrayIterable} is a {@link ByteIterable} that generates
+ * {@link Iterator Iterators} that iterate over a given {@code byte[]} or over a
+ * given range of a given {@code byte[]}.
  * 
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class ByteArrayIterable implements ProtectedBidirectionalIterable<Byte> {
+public final class ByteArrayIterable implements ByteIterable {
 
-	private final byte[] array;
+	final byte[] array;
+
+	final int fromIndex;
+
+	final int toIndex;
 
 	/**
 	 * Creates a new {@link ByteArrayIterable}.
@@ -45,16 +51,194 @@ public final class ByteArrayIterable implements ProtectedBidirectionalIterable<B
 	 * @throws IllegalArgumentException
 	 *             If the given {@code byte[]} is {@literal null}.
 	 */
-	public ByteArrayIterable(byte ... array) throws IllegalArgumentException {
+	public ByteArrayIterable(byte... array) throws IllegalArgumentException {
+		this(array, 0, null == array ? 0 : array.length);
+	}
+
+	/**
+	 * Creates a new {@link ByteArrayIterable} that iterates over the given
+	 * range of the given {@code byte[]}, without copying it.
+	 * 
+	 * @param array
+	 *            The {@code byte[]} to iterate over.
+	 * @param fromIndex
+	 *            The index of the first value to iterate over.
+	 * @param toIndex
+	 *            The index after the last value to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code byte[]} is {@literal null}, if the given
+	 *             from index is negative, if the given to index is larger than
+	 *             the length of the given {@code byte[]} or if the given from
+	 *             index is larger than the given to index.
+	 */
+	public ByteArrayIterable(byte[] array, int fromIndex, int toIndex) throws IllegalArgumentException {
 		if (null == array) {
 			throw new IllegalArgumentException("The given array is null");
 		}
+		Ranges.check(array.length, fromIndex, toIndex);
 		this.array = array;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of values this {@link ByteArrayIterable} iterates
+	 * over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns a {@link ByteArrayIterable} that iterates over the given range of
+	 * the values this {@link ByteArrayIterable} iterates over. The returned
+	 * {@link ByteArrayIterable} is a view on the same {@code byte[]} and
+	 * doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to
+	 *            this {@link ByteArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link ByteArrayIterable}.
+	 * @return The {@link ByteArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index
+	 *             is larger than the size of this {@link ByteArrayIterable}
+	 *             or if the given from index is larger than the given to
+	 *             index.
+	 */
+	public ByteArrayIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new ByteArrayIterable(array, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+	}
+
+	/**
+	 * Returns a {@link StridedByteArrayIterable} that iterates over every
+	 * {@code stride}-th value this {@link ByteArrayIterable} iterates over,
+	 * starting at the given offset. The returned
+	 * {@link StridedByteArrayIterable} is a view on the same {@code byte[]} and
+	 * doesn't copy it.
+	 * 
+	 * @param offset
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link ByteArrayIterable}.
+	 * @param stride
+	 *            The distance between the indices of two consecutive values to
+	 *            iterate over.
+	 * @return The {@link StridedByteArrayIterable} for the given offset and
+	 *         stride.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given offset is negative, if the given offset is
+	 *             larger than the size of this {@link ByteArrayIterable} or if
+	 *             the given stride is not positive.
+	 */
+	public StridedByteArrayIterable strided(int offset, int stride) throws IllegalArgumentException {
+		if (offset < 0) {
+			throw new IllegalArgumentException("The given offset is negative");
+		} else if (offset > size()) {
+			throw new IllegalArgumentException("The given offset is larger than the size");
+		}
+		int count = offset == size() || stride <= 0 ? 0 : (size() - offset - 1) / stride + 1;
+		return new StridedByteArrayIterable(array, fromIndex + offset, stride, count);
+	}
+
+	@Override
+	public ByteIterator iterator() {
+		return new PrimitiveByteArrayIterator(array, fromIndex, toIndex);
 	}
 
 	@Override
-	public ByteArrayIterator iterator() {
-		return new ByteArrayIterator(array);
+	public ByteIterator primitiveIterator() {
+		return new PrimitiveByteArrayIterator(array, fromIndex, toIndex);
+	}
+
+	/**
+	 * Calls the given {@link ByteHandler} with every value this
+	 * {@link ByteArrayIterable} iterates over, in order. This is equivalent to,
+	 * but faster than, iterating over this {@link ByteArrayIterable} and
+	 * calling the given {@link ByteHandler} with every yielded value, because
+	 * the {@code byte[]} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link ByteHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link ByteHandler} is {@literal null}.
+	 */
+	public void handleEach(ByteHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		byte[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link ByteArrayIterable} iterates over, in order. This is equivalent to,
+	 * but faster than, iterating over this {@link ByteArrayIterable} and
+	 * calling the given {@link Handler} with every yielded value, because the
+	 * {@code byte[]} is traversed in a single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Byte}. Use
+	 * {@linkplain ByteArrayIterable#handleEach(ByteHandler)} to handle the
+	 * values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Byte> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		byte[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	private static final class PrimitiveByteArrayIterator extends AbstractIndexedIterator<Byte>
+			implements ByteIterator {
+
+		private final byte[] array;
+
+		public PrimitiveByteArrayIterator(byte[] array, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.array = array;
+		}
+
+		@Override
+		public byte nextByte() throws NoSuchElementException {
+			return array[nextIndex()];
+		}
+
+		@Override
+		public Byte next() throws NoSuchElementException {
+			return nextByte();
+		}
+
+		@Override
+		public byte previousByte() throws NoSuchElementException {
+			return array[previousIndex()];
+		}
+
+		@Override
+		public Byte previous() throws NoSuchElementException {
+			return previousByte();
+		}
+
 	}
 
 }
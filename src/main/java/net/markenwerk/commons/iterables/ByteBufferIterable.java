@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+/**
+ * A {@link ByteBufferIterable} is a {@link ByteIterable} that generates
+ * {@link Iterator Iterators} that iterate over the values between the position
+ * and the limit of a given {@link ByteBuffer} or over a given range of a given
+ * {@link ByteBuffer}.
+ * 
+ * <p>
+ * The values are read in place with absolute {@link ByteBuffer#get(int) get}
+ * operations, which allows to iterate over direct buffers without copying their
+ * content onto the heap. The position and the limit of the given
+ * {@link ByteBuffer} are read once, when the {@link ByteBufferIterable} is
+ * created, and the values are read from a duplicate of the given
+ * {@link ByteBuffer}, that shares its content, but has its own position and
+ * limit. Neither are they modified, nor do later modifications of them
+ * influence the {@link ByteBufferIterable}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class ByteBufferIterable implements ByteIterable {
+
+	private final ByteBuffer buffer;
+
+	private final int fromIndex;
+
+	private final int toIndex;
+
+	/**
+	 * Creates a new {@link ByteBufferIterable} that iterates over the values
+	 * between the current position and the current limit of the given
+	 * {@link ByteBuffer}.
+	 * 
+	 * @param buffer
+	 *            The {@link ByteBuffer} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link ByteBuffer} is {@literal null}.
+	 */
+	public ByteBufferIterable(ByteBuffer buffer) throws IllegalArgumentException {
+		this(buffer, null == buffer ? 0 : buffer.position(), null == buffer ? 0 : buffer.limit());
+	}
+
+	/**
+	 * Creates a new {@link ByteBufferIterable} that iterates over the given
+	 * range of the given {@link ByteBuffer}, without copying it.
+	 * 
+	 * @param buffer
+	 *            The {@link ByteBuffer} to iterate over.
+	 * @param fromIndex
+	 *            The absolute index of the first value to iterate over.
+	 * @param toIndex
+	 *            The absolute index after the last value to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link ByteBuffer} is {@literal null}, if the
+	 *             given from index is negative, if the given to index is larger
+	 *             than the current limit of the given {@link ByteBuffer} or if
+	 *             the given from index is larger than the given to index.
+	 */
+	public ByteBufferIterable(ByteBuffer buffer, int fromIndex, int toIndex) throws IllegalArgumentException {
+		if (null == buffer) {
+			throw new IllegalArgumentException("The given buffer is null");
+		}
+		Ranges.check(buffer.limit(), fromIndex, toIndex);
+		this.buffer = buffer.duplicate().order(buffer.order());
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	private ByteBufferIterable(ByteBufferIterable iterable, int fromIndex, int toIndex) {
+		this.buffer = iterable.buffer;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of values this {@link ByteBufferIterable} iterates
+	 * over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns a {@link ByteBufferIterable} that iterates over the given range
+	 * of the values this {@link ByteBufferIterable} iterates over. The returned
+	 * {@link ByteBufferIterable} is a view on the same {@link ByteBuffer} and
+	 * doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link ByteBufferIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link ByteBufferIterable}.
+	 * @return The {@link ByteBufferIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index is
+	 *             larger than the size of this {@link ByteBufferIterable} or if
+	 *             the given from index is larger than the given to index.
+	 */
+	public ByteBufferIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new ByteBufferIterable(this, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+	}
+
+	@Override
+	public ByteIterator iterator() {
+		return new ByteBufferIterator(buffer, fromIndex, toIndex);
+	}
+
+	@Override
+	public ByteIterator primitiveIterator() {
+		return new ByteBufferIterator(buffer, fromIndex, toIndex);
+	}
+
+	/**
+	 * Calls the given {@link ByteHandler} with every value this
+	 * {@link ByteBufferIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link ByteBufferIterable} and
+	 * calling the given {@link ByteHandler} with every yielded value, because
+	 * the {@link ByteBuffer} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link ByteHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link ByteHandler} is {@literal null}.
+	 */
+	public void handleEach(ByteHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		ByteBuffer buffer = this.buffer;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(buffer.get(i));
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link ByteBufferIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link ByteBufferIterable} and
+	 * calling the given {@link Handler} with every yielded value, because the
+	 * {@link ByteBuffer} is traversed in a single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Byte}. Use
+	 * {@linkplain ByteBufferIterable#handleEach(ByteHandler)} to handle the
+	 * values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Byte> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		ByteBuffer buffer = this.buffer;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(buffer.get(i));
+		}
+	}
+
+	private static final class ByteBufferIterator extends AbstractIndexedIterator<Byte>
+			implements ByteIterator {
+
+		private final ByteBuffer buffer;
+
+		public ByteBufferIterator(ByteBuffer buffer, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.buffer = buffer;
+		}
+
+		@Override
+		public byte nextByte() throws NoSuchElementException {
+			return buffer.get(nextIndex());
+		}
+
+		@Override
+		public Byte next() throws NoSuchElementException {
+			return nextByte();
+		}
+
+		@Override
+		public byte previousByte() throws NoSuchElementException {
+			return buffer.get(previousIndex());
+		}
+
+		@Override
+		public Byte previous() throws NoSuchElementException {
+			return previousByte();
+		}
+
+	}
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link ByteIterator} is a {@link ProtectedBidirectionalIterator} that
+ * additionally allows to retrieve the yielded values as {@code byte} values,
+ * without boxing them into {@link Byte Bytes}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public interface ByteIterator extends ProtectedBidirectionalIterator<Byte> {
+
+	/**
+	 * Returns the next {@code byte} value.
+	 * 
+	 * @return The next {@code byte} value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link ByteIterator} has no next value.
+	 */
+	public byte nextByte() throws NoSuchElementException;
+
+	/**
+	 * Returns the previous {@code byte} value.
+	 * 
+	 * @return The previous {@code byte} value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link ByteIterator} has no previous value.
+	 */
+	public byte previousByte() throws NoSuchElementException;
+
+}
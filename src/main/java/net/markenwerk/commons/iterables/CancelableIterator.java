@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+
+/**
+ * A {@link CancelableIterator} is an {@link Iterator} that performs work in
+ * advance, e.g. on an {@link java.util.concurrent.Executor}, and that can be
+ * told that no further values will be requested.
+ * 
+ * <p>
+ * Callers that stop to iterate over a {@link CancelableIterator} before it is
+ * exhausted must call {@linkplain CancelableIterator#cancel()}. Otherwise, the
+ * work that has been started in advance keeps running and keeps the resources
+ * it uses.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public interface CancelableIterator<Payload> extends Iterator<Payload> {
+
+	/**
+	 * Cancels all work that has been started in advance and that hasn't been
+	 * consumed yet. Afterwards, this {@link CancelableIterator} has no further
+	 * values. Work that is currently running may be interrupted. Calling this
+	 * method more than once has no further effect.
+	 */
+	public void cancel();
+
+}
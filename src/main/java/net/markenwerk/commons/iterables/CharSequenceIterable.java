@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+/**
+ * A {@link CharSequenceIterable} is a {@link CharacterIterable} that generates
+ * {@link Iterator Iterators} that iterate over the characters of a given
+ * {@link CharSequence} or over a given range of a given {@link CharSequence}.
+ * 
+ * <p>
+ * The characters are read in place with {@link CharSequence#charAt(int)}, which
+ * allows to iterate over a {@link String}, a {@link StringBuilder} or a
+ * {@link java.nio.CharBuffer} without copying it into a {@code char[]}. The
+ * length of the given {@link CharSequence} is read once, when the
+ * {@link CharSequenceIterable} is created. Mutable
+ * {@link CharSequence CharSequences} must therefore not be shortened while a
+ * {@link CharSequenceIterable} is in use.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class CharSequenceIterable implements CharacterIterable {
+
+	private final CharSequence sequence;
+
+	private final int fromIndex;
+
+	private final int toIndex;
+
+	/**
+	 * Creates a new {@link CharSequenceIterable}.
+	 * 
+	 * @param sequence
+	 *            The {@link CharSequence} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link CharSequence} is {@literal null}.
+	 */
+	public CharSequenceIterable(CharSequence sequence) throws IllegalArgumentException {
+		this(sequence, 0, null == sequence ? 0 : sequence.length());
+	}
+
+	/**
+	 * Creates a new {@link CharSequenceIterable} that iterates over the given
+	 * range of the given {@link CharSequence}, without copying it.
+	 * 
+	 * @param sequence
+	 *            The {@link CharSequence} to iterate over.
+	 * @param fromIndex
+	 *            The index of the first character to iterate over.
+	 * @param toIndex
+	 *            The index after the last character to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link CharSequence} is {@literal null}, if the
+	 *             given from index is negative, if the given to index is larger
+	 *             than the length of the given {@link CharSequence} or if the
+	 *             given from index is larger than the given to index.
+	 */
+	public CharSequenceIterable(CharSequence sequence, int fromIndex, int toIndex) throws IllegalArgumentException {
+		if (null == sequence) {
+			throw new IllegalArgumentException("The given sequence is null");
+		}
+		Ranges.check(sequence.length(), fromIndex, toIndex);
+		this.sequence = sequence;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of characters this {@link CharSequenceIterable}
+	 * iterates over.
+	 * 
+	 * @return The amount of characters.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns a {@link CharSequenceIterable} that iterates over the given range
+	 * of the characters this {@link CharSequenceIterable} iterates over. The
+	 * returned {@link CharSequenceIterable} is a view on the same
+	 * {@link CharSequence} and doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first character to iterate over, relative to
+	 *            this {@link CharSequenceIterable}.
+	 * @param toIndex
+	 *            The index after the last character to iterate over, relative
+	 *            to this {@link CharSequenceIterable}.
+	 * @return The {@link CharSequenceIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index is
+	 *             larger than the size of this {@link CharSequenceIterable} or
+	 *             if the given from index is larger than the given to index.
+	 */
+	public CharSequenceIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new CharSequenceIterable(sequence, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+	}
+
+	@Override
+	public CharacterIterator iterator() {
+		return new CharSequenceIterator(sequence, fromIndex, toIndex);
+	}
+
+	@Override
+	public CharacterIterator primitiveIterator() {
+		return new CharSequenceIterator(sequence, fromIndex, toIndex);
+	}
+
+	/**
+	 * Calls the given {@link CharacterHandler} with every character this
+	 * {@link CharSequenceIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link CharSequenceIterable} and
+	 * calling the given {@link CharacterHandler} with every yielded character,
+	 * because the {@link CharSequence} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link CharacterHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link CharacterHandler} is {@literal null}.
+	 */
+	public void handleEach(CharacterHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		CharSequence sequence = this.sequence;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(sequence.charAt(i));
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every character this
+	 * {@link CharSequenceIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link CharSequenceIterable} and
+	 * calling the given {@link Handler} with every yielded character, because
+	 * the {@link CharSequence} is traversed in a single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Character}. Use
+	 * {@linkplain CharSequenceIterable#handleEach(CharacterHandler)} to handle
+	 * the values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Character> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		CharSequence sequence = this.sequence;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(sequence.charAt(i));
+		}
+	}
+
+	private static final class CharSequenceIterator extends AbstractIndexedIterator<Character>
+			implements CharacterIterator {
+
+		private final CharSequence sequence;
+
+		public CharSequenceIterator(CharSequence sequence, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.sequence = sequence;
+		}
+
+		@Override
+		public char nextChar() throws NoSuchElementException {
+			return sequence.charAt(nextIndex());
+		}
+
+		@Override
+		public Character next() throws NoSuchElementException {
+			return nextChar();
+		}
+
+		@Override
+		public char previousChar() throws NoSuchElementException {
+			return sequence.charAt(previousIndex());
+		}
+
+		@Override
+		public Character previous() throws NoSuchElementException {
+			return previousChar();
+		}
+
+	}
+
+}
@@ -22,20 +22,25 @@
 package net.markenwerk.commons.iterables;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
-import net.markenwerk.commons.iterators.CharacterArrayIterator;
+import net.markenwerk.commons.interfaces.Handler;
 
 /**
- * A {@link CharacterArrayIterable} is a {@link ProtectedBidirectionalIterable}
- * that generates {@link Iterator Iterators} that iterate over a given
- * {@code char[]}.
+ * A {@link CharacterArrayIterable} is a {@link CharacterIterable} that
+ * generates {@link Iterator Iterators} that iterate over a given {@code char[]}
+ * or over a given range of a given {@code char[]}.
  * 
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class CharacterArrayIterable implements ProtectedBidirectionalIterable<Character> {
+public final class CharacterArrayIterable implements CharacterIterable {
 
-	private final char[] array;
+	final char[] array;
+
+	final int fromIndex;
+
+	final int toIndex;
 
 	/**
 	 * Creates a new {@link CharacterArrayIterable}.
@@ -47,15 +52,194 @@ public final class CharacterArrayIterable implements ProtectedBidirectionalItera
 	 *             If the given {@code char[]} is {@literal null}.
 	 */
 	public CharacterArrayIterable(char... array) throws IllegalArgumentException {
+		this(array, 0, null == array ? 0 : array.length);
+	}
+
+	/**
+	 * Creates a new {@link CharacterArrayIterable} that iterates over the given
+	 * range of the given {@code char[]}, without copying it.
+	 * 
+	 * @param array
+	 *            The {@code char[]} to iterate over.
+	 * @param fromIndex
+	 *            The index of the first value to iterate over.
+	 * @param toIndex
+	 *            The index after the last value to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code char[]} is {@literal null}, if the given
+	 *             from index is negative, if the given to index is larger than
+	 *             the length of the given {@code char[]} or if the given from
+	 *             index is larger than the given to index.
+	 */
+	public CharacterArrayIterable(char[] array, int fromIndex, int toIndex) throws IllegalArgumentException {
 		if (null == array) {
 			throw new IllegalArgumentException("The given array is null");
 		}
+		Ranges.check(array.length, fromIndex, toIndex);
 		this.array = array;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of values this {@link CharacterArrayIterable} iterates
+	 * over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns a {@link CharacterArrayIterable} that iterates over the given
+	 * range of the values this {@link CharacterArrayIterable} iterates over.
+	 * The returned {@link CharacterArrayIterable} is a view on the same
+	 * {@code char[]} and doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to
+	 *            this {@link CharacterArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link CharacterArrayIterable}.
+	 * @return The {@link CharacterArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index is
+	 *             larger than the size of this {@link CharacterArrayIterable}
+	 *             or if the given from index is larger than the given to index.
+	 */
+	public CharacterArrayIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new CharacterArrayIterable(array, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+	}
+
+	/**
+	 * Returns a {@link StridedCharacterArrayIterable} that iterates over every
+	 * {@code stride}-th value this {@link CharacterArrayIterable} iterates
+	 * over, starting at the given offset. The returned
+	 * {@link StridedCharacterArrayIterable} is a view on the same
+	 * {@code char[]} and doesn't copy it.
+	 * 
+	 * @param offset
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link CharacterArrayIterable}.
+	 * @param stride
+	 *            The distance between the indices of two consecutive values to
+	 *            iterate over.
+	 * @return The {@link StridedCharacterArrayIterable} for the given offset
+	 *         and stride.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given offset is negative, if the given offset is
+	 *             larger than the size of this {@link CharacterArrayIterable}
+	 *             or if the given stride is not positive.
+	 */
+	public StridedCharacterArrayIterable strided(int offset, int stride) throws IllegalArgumentException {
+		if (offset < 0) {
+			throw new IllegalArgumentException("The given offset is negative");
+		} else if (offset > size()) {
+			throw new IllegalArgumentException("The given offset is larger than the size");
+		}
+		int count = offset == size() || stride <= 0 ? 0 : (size() - offset - 1) / stride + 1;
+		return new StridedCharacterArrayIterable(array, fromIndex + offset, stride, count);
+	}
+
+	@Override
+	public CharacterIterator iterator() {
+		return new PrimitiveCharacterArrayIterator(array, fromIndex, toIndex);
 	}
 
 	@Override
-	public CharacterArrayIterator iterator() {
-		return new CharacterArrayIterator(array);
+	public CharacterIterator primitiveIterator() {
+		return new PrimitiveCharacterArrayIterator(array, fromIndex, toIndex);
+	}
+
+	/**
+	 * Calls the given {@link CharacterHandler} with every value this
+	 * {@link CharacterArrayIterable} iterates over, in order. This is
+	 * equivalent to, but faster than, iterating over this
+	 * {@link CharacterArrayIterable} and calling the given
+	 * {@link CharacterHandler} with every yielded value, because the
+	 * {@code char[]} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link CharacterHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link CharacterHandler} is {@literal null}.
+	 */
+	public void handleEach(CharacterHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		char[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link CharacterArrayIterable} iterates over, in order. This is
+	 * equivalent to, but faster than, iterating over this
+	 * {@link CharacterArrayIterable} and calling the given {@link Handler} with
+	 * every yielded value, because the {@code char[]} is traversed in a single
+	 * loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Character}. Use
+	 * {@linkplain CharacterArrayIterable#handleEach(CharacterHandler)} to
+	 * handle the values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Character> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		char[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	private static final class PrimitiveCharacterArrayIterator extends AbstractIndexedIterator<Character>
+			implements CharacterIterator {
+
+		private final char[] array;
+
+		public PrimitiveCharacterArrayIterator(char[] array, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.array = array;
+		}
+
+		@Override
+		public char nextChar() throws NoSuchElementException {
+			return array[nextIndex()];
+		}
+
+		@Override
+		public Character next() throws NoSuchElementException {
+			return nextChar();
+		}
+
+		@Override
+		public char previousChar() throws NoSuchElementException {
+			return array[previousIndex()];
+		}
+
+		@Override
+		public Character previous() throws NoSuchElementException {
+			return previousChar();
+		}
+
 	}
 
 }
@@ -21,11 +21,11 @@
  */
 package net.markenwerk.commons.iterables;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-
-import net.markenwerk.commons.interfaces.Converter;
-import net.markenwerk.commons.iterators.CombinedIterator;
-import net.markenwerk.commons.iterators.ConvertingIterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
 
 /**
  * A {@link CombinedIterable} is an {@link Iterable} that wraps around some
@@ -33,6 +33,33 @@ import net.markenwerk.commons.iterators.ConvertingIterator;
  * {@link Iterable} by iterating over all given {@link Iterable Iterables} in
  * the order they were given.
  * 
+ * <p>
+ * Optionally, a {@link CombinedIterable} opens the upcoming
+ * {@link Iterable Iterables} in advance on a given {@link Executor}, while the
+ * current {@link Iterable} is still being iterated over. This avoids stalls
+ * when calling {@linkplain Iterable#iterator()} or yielding the first values is
+ * expensive, e.g. for I/O backed {@link Iterable Iterables}. The order of the
+ * yielded values is not affected. Calling {@linkplain Iterator#remove()} after
+ * a value that has been read in advance is not supported.
+ * 
+ * <p>
+ * The generated {@link Iterator Iterators} are {@link CancelableIterator
+ * CancelableIterators}. Callers that stop to iterate over a
+ * {@link CombinedIterable} that opens its {@link Iterable Iterables} in advance
+ * before all values have been yielded must call
+ * {@linkplain CancelableIterator#cancel()}, such that the
+ * {@link Iterable Iterables} that are still being opened don't occupy the
+ * {@link Executor}. Threads that are currently opening an {@link Iterable} are
+ * interrupted, which may abort blocking I/O. {@link Iterable Iterables} that
+ * have already been opened, but not been iterated over, are cancelled, if
+ * their {@link Iterator Iterators} are {@link CancelableIterator
+ * CancelableIterators}.
+ * 
+ * <p>
+ * Nested {@link CombinedIterable CombinedIterables} that don't open their
+ * {@link Iterable Iterables} in advance are flattened, such that yielding a
+ * value takes the same time, regardless of the depth of the nesting.
+ * 
  * @param <Payload>
  *            The payload type.
  * @author Torsten Krause (tk at markenwerk dot net)
@@ -40,7 +67,13 @@ import net.markenwerk.commons.iterators.ConvertingIterator;
  */
 public final class CombinedIterable<Payload> implements Iterable<Payload> {
 
-	private final Iterable<? extends Iterable<? extends Payload>> iterables;
+	final Iterable<? extends Iterable<? extends Payload>> iterables;
+
+	private final Executor executor;
+
+	private final int depth;
+
+	private final int batchSize;
 
 	/**
 	 * Creates a new {@link CombinedIterable}.
@@ -57,13 +90,17 @@ public final class CombinedIterable<Payload> implements Iterable<Payload> {
 			throw new IllegalArgumentException("The given array of iterables is null");
 		}
 		this.iterables = new ArrayIterable<Iterable<? extends Payload>>(iterables);
+		this.executor = null;
+		this.depth = 0;
+		this.batchSize = 0;
 	}
 
 	/**
 	 * Creates a new {@link CombinedIterable}.
 	 * 
 	 * @param iterable
-	 *            The {@link Iterable} of {@link Iterable Iterables} to iterate over.
+	 *            The {@link Iterable} of {@link Iterable Iterables} to iterate
+	 *            over.
 	 * 
 	 * @throws IllegalArgumentException
 	 *             If the given {@link Iterable} of {@link Iterable Iterables}
@@ -74,23 +111,184 @@ public final class CombinedIterable<Payload> implements Iterable<Payload> {
 			throw new IllegalArgumentException("The given iterable of iterable is null");
 		}
 		this.iterables = iterable;
+		this.executor = null;
+		this.depth = 0;
+		this.batchSize = 0;
+	}
+
+	/**
+	 * Creates a new {@link CombinedIterable} that opens the upcoming
+	 * {@link Iterable Iterables} in advance.
+	 * 
+	 * @param iterable
+	 *            The {@link Iterable} of {@link Iterable Iterables} to iterate
+	 *            over.
+	 * @param executor
+	 *            The {@link Executor} to open the upcoming
+	 *            {@link Iterable Iterables} with.
+	 * @param depth
+	 *            The amount of upcoming {@link Iterable Iterables} to open in
+	 *            advance.
+	 * @param batchSize
+	 *            The amount of values to read in advance from every opened
+	 *            {@link Iterable}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} of {@link Iterable Iterables}
+	 *             is {@literal null}, if the given {@link Executor} is
+	 *             {@literal null}, if the given depth is not positive or if
+	 *             the given batch size is negative.
+	 */
+	public CombinedIterable(Iterable<? extends Iterable<? extends Payload>> iterable, Executor executor, int depth,
+			int batchSize) throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable of iterable is null");
+		}
+		if (null == executor) {
+			throw new IllegalArgumentException("The given executor is null");
+		}
+		if (depth <= 0) {
+			throw new IllegalArgumentException("The given depth is not positive");
+		}
+		if (batchSize < 0) {
+			throw new IllegalArgumentException("The given batch size is negative");
+		}
+		this.iterables = iterable;
+		this.executor = executor;
+		this.depth = depth;
+		this.batchSize = batchSize;
 	}
 
 	@Override
-	public CombinedIterator<Payload> iterator() {
-		// @formatter:off
-		return new CombinedIterator<Payload>(
-			new ConvertingIterator<Iterable<? extends Payload>, Iterator<? extends Payload>>(
-				iterables.iterator(),
-				new Converter<Iterable<? extends Payload>, Iterator<? extends Payload>>() {
-					@Override
-					public Iterator<? extends Payload> convert(Iterable<? extends Payload> iterable) {
+	public CancelableIterator<Payload> iterator() {
+		if (null != executor) {
+			return new PrefetchedCombinedIterator<Payload>(new PrefetchingIterator<Payload>(iterables.iterator(),
+					executor, depth, batchSize));
+		}
+		return new FlatteningIterator<Payload>(iterables.iterator());
+	}
+
+	private static void cancel(Iterator<?> iterator) {
+		if (iterator instanceof CancelableIterator<?>) {
+			((CancelableIterator<?>) iterator).cancel();
+		}
+	}
+
+	private static final class PrefetchedCombinedIterator<Payload> implements CancelableIterator<Payload> {
+
+		private final PrefetchingIterator<Payload> iterators;
+
+		private Iterator<? extends Payload> iterator;
+
+		private Iterator<? extends Payload> lastIterator;
+
+		public PrefetchedCombinedIterator(PrefetchingIterator<Payload> iterators) {
+			this.iterators = iterators;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (null == iterator || !iterator.hasNext()) {
+				if (!iterators.hasNext()) {
+					return false;
+				}
+				iterator = iterators.next();
+			}
+			return true;
+		}
+
+		@Override
+		public Payload next() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			}
+			lastIterator = iterator;
+			return iterator.next();
+		}
+
+		@Override
+		public void remove() throws IllegalStateException, UnsupportedOperationException {
+			if (null == lastIterator) {
+				throw new IllegalStateException("This iterator has not yielded a value yet");
+			}
+			lastIterator.remove();
+		}
+
+		@Override
+		public void cancel() {
+			iterators.cancel();
+			CombinedIterable.cancel(iterator);
+			iterator = null;
+		}
+
+	}
+
+	private static final class FlatteningIterator<Payload> implements CancelableIterator<Payload> {
+
+		private final List<Iterator<? extends Iterable<? extends Payload>>> stack;
+
+		private Iterator<? extends Payload> iterator;
+
+		private Iterator<? extends Payload> lastIterator;
+
+		public FlatteningIterator(Iterator<? extends Iterable<? extends Payload>> iterables) {
+			stack = new ArrayList<Iterator<? extends Iterable<? extends Payload>>>();
+			stack.add(iterables);
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (null == iterator || !iterator.hasNext()) {
+				iterator = nextIterator();
+				if (null == iterator) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Iterator<? extends Payload> nextIterator() {
+			while (!stack.isEmpty()) {
+				Iterator<? extends Iterable<? extends Payload>> iterables = stack.get(stack.size() - 1);
+				if (!iterables.hasNext()) {
+					stack.remove(stack.size() - 1);
+				} else {
+					Iterable<? extends Payload> iterable = iterables.next();
+					if (iterable instanceof CombinedIterable<?> && null == ((CombinedIterable<?>) iterable).executor) {
+						stack.add(((CombinedIterable<? extends Payload>) iterable).iterables.iterator());
+					} else {
 						return iterable.iterator();
 					}
 				}
-			)
-		);
-		// @formatter:on
+			}
+			return null;
+		}
+
+		@Override
+		public Payload next() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			}
+			lastIterator = iterator;
+			return iterator.next();
+		}
+
+		@Override
+		public void remove() throws IllegalStateException, UnsupportedOperationException {
+			if (null == lastIterator) {
+				throw new IllegalStateException("This iterator has not yielded a value yet");
+			}
+			lastIterator.remove();
+		}
+
+		@Override
+		public void cancel() {
+			CombinedIterable.cancel(iterator);
+			stack.clear();
+			iterator = null;
+		}
+
 	}
 
 }
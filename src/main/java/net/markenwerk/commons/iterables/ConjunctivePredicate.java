@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import net.markenwerk.commons.exceptions.PredicateException;
+import net.markenwerk.commons.interfaces.Predicate;
+
+/**
+ * A {@link ConjunctivePredicate} is a {@link Predicate} that is satisfied by a
+ * value, if every one of a sequence of {@link Predicate Predicates} is
+ * satisfied, or not satisfied if it is to be inverted, by that value.
+ * 
+ * <p>
+ * The {@link Predicate Predicates} are tested in order and testing stops at the
+ * first {@link Predicate} that rejects a value. This is the same sequence of
+ * tests a chain of nested {@link FilteredIterable FilteredIterables} performs,
+ * such that nested {@link FilteredIterable FilteredIterables} can be fused into
+ * a single {@link FilteredIterable} that uses a {@link ConjunctivePredicate}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+final class ConjunctivePredicate implements Predicate<Object> {
+
+	private final Predicate<Object>[] predicates;
+
+	private final boolean[] inversions;
+
+	private ConjunctivePredicate(Predicate<Object>[] predicates, boolean[] inversions) {
+		this.predicates = predicates;
+		this.inversions = inversions;
+	}
+
+	/**
+	 * Creates a {@link ConjunctivePredicate} that tests the given first
+	 * {@link Predicate} and then the given second {@link Predicate}. If the
+	 * given first {@link Predicate} is a non-inverted
+	 * {@link ConjunctivePredicate}, its {@link Predicate Predicates} are
+	 * tested instead of the {@link ConjunctivePredicate} itself.
+	 * 
+	 * @param first
+	 *            The {@link Predicate} to test first.
+	 * @param invertFirst
+	 *            Whether to invert the test result of the first
+	 *            {@link Predicate}.
+	 * @param second
+	 *            The {@link Predicate} to test second.
+	 * @param invertSecond
+	 *            Whether to invert the test result of the second
+	 *            {@link Predicate}.
+	 * @return The created {@link ConjunctivePredicate}.
+	 */
+	static ConjunctivePredicate of(Predicate<?> first, boolean invertFirst, Predicate<?> second,
+			boolean invertSecond) {
+		Predicate<Object>[] predicates;
+		boolean[] inversions;
+		if (first instanceof ConjunctivePredicate && !invertFirst) {
+			ConjunctivePredicate conjunction = (ConjunctivePredicate) first;
+			int length = conjunction.predicates.length;
+			predicates = Predicates.newArray(length + 1);
+			inversions = new boolean[length + 1];
+			System.arraycopy(conjunction.predicates, 0, predicates, 0, length);
+			System.arraycopy(conjunction.inversions, 0, inversions, 0, length);
+		} else {
+			predicates = Predicates.newArray(2);
+			inversions = new boolean[2];
+			predicates[0] = Predicates.erase(first);
+			inversions[0] = invertFirst;
+		}
+		predicates[predicates.length - 1] = Predicates.erase(second);
+		inversions[inversions.length - 1] = invertSecond;
+		return new ConjunctivePredicate(predicates, inversions);
+	}
+
+	@Override
+	public boolean test(Object value) throws PredicateException {
+		Predicate<Object>[] predicates = this.predicates;
+		boolean[] inversions = this.inversions;
+		for (int i = 0, n = predicates.length; i < n; i++) {
+			if (predicates[i].test(value) == inversions[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
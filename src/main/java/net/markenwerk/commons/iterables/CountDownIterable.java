@@ -23,24 +23,24 @@ package net.markenwerk.commons.iterables;
 
 import java.util.Iterator;
 
-import net.markenwerk.commons.iterators.CountDownIterator;
-
 /**
- * A {@link CountDownIterable} is a {@link ProtectedIterable} that generates
- * {@link Iterator Iterators} that that yields all integer value between a given
- * lower bound and a given upper bound.
+ * A {@link CountDownIterable} is an {@link IntegerIterable} that generates
+ * {@link Iterator Iterators} that yield all {@code int} values between a given
+ * upper bound and a given lower bound, going downwards with a given step.
  * 
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class CountDownIterable implements ProtectedBidirectionalIterable<Integer> {
+public final class CountDownIterable implements IntegerIterable {
+
+	final int fromUpper;
 
-	private final int fromUpper;
+	final int toLower;
 
-	private final int toLower;
+	final int step;
 
 	/**
-	 * Creates a new {@link CountDownIterable}.
+	 * Creates a new {@link CountDownIterable} with a step of {@code 1}.
 	 * 
 	 * @param fromUpper
 	 *            The upper bound and first value to be yielded.
@@ -48,13 +48,68 @@ public final class CountDownIterable implements ProtectedBidirectionalIterable<I
 	 *            The lower bound and last value to be yielded.
 	 */
 	public CountDownIterable(int fromUpper, int toLower) {
+		this(fromUpper, toLower, 1);
+	}
+
+	/**
+	 * Creates a new {@link CountDownIterable}.
+	 * 
+	 * @param fromUpper
+	 *            The upper bound and first value to be yielded.
+	 * @param toLower
+	 *            The lower bound. The last value to be yielded is the last
+	 *            value that can be reached from the upper bound with the given
+	 *            step without passing the lower bound.
+	 * @param step
+	 *            The positive difference between two consecutive values to be
+	 *            yielded.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given step is not positive.
+	 */
+	public CountDownIterable(int fromUpper, int toLower, int step) throws IllegalArgumentException {
+		Steps.check(step);
 		this.fromUpper = fromUpper;
 		this.toLower = toLower;
+		this.step = step;
+	}
+
+	/**
+	 * Returns the amount of values this {@link CountDownIterable} yields.
+	 * 
+	 * @return The amount of values.
+	 */
+	public long size() {
+		return isEmpty() ? 0 : ((long) fromUpper - toLower) / step + 1;
+	}
+
+	@Override
+	public IntegerIterator iterator() {
+		return primitiveIterator();
 	}
 
 	@Override
-	public CountDownIterator iterator() {
-		return new CountDownIterator(fromUpper, toLower);
+	public IntegerIterator primitiveIterator() {
+		return new SteppedIntegerIterator(fromUpper, last(), -step, isEmpty());
+	}
+
+	/**
+	 * Returns whether this {@link CountDownIterable} yields no values at all.
+	 * 
+	 * @return Whether this {@link CountDownIterable} is empty.
+	 */
+	boolean isEmpty() {
+		return fromUpper < toLower;
+	}
+
+	/**
+	 * Returns the last value this {@link CountDownIterable} yields or the first
+	 * value, if this {@link CountDownIterable} is empty.
+	 * 
+	 * @return The last value.
+	 */
+	int last() {
+		return isEmpty() ? fromUpper : (int) (fromUpper - (size() - 1) * step);
 	}
 
 }
@@ -23,24 +23,24 @@ package net.markenwerk.commons.iterables;
 
 import java.util.Iterator;
 
-import net.markenwerk.commons.iterators.CountUpIterator;
-
 /**
- * A {@link CountUpIterable} is a {@link ProtectedBidirectionalIterable} that
- * generates {@link Iterator Iterators} that that yields all integer value
- * between a given lower bound and a given upper bound.
+ * A {@link CountUpIterable} is an {@link IntegerIterable} that generates
+ * {@link Iterator Iterators} that yield all {@code int} values between a given
+ * lower bound and a given upper bound, going upwards with a given step.
  * 
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class CountUpIterable implements ProtectedBidirectionalIterable<Integer> {
+public final class CountUpIterable implements IntegerIterable {
+
+	final int fromLower;
 
-	private final int fromLower;
+	final int toUpper;
 
-	private final int toUpper;
+	final int step;
 
 	/**
-	 * Creates a new {@link CountUpIterable}.
+	 * Creates a new {@link CountUpIterable} with a step of {@code 1}.
 	 * 
 	 * @param fromLower
 	 *            The lower bound and first value to be yielded.
@@ -48,13 +48,68 @@ public final class CountUpIterable implements ProtectedBidirectionalIterable<Int
 	 *            The upper bound and last value to be yielded.
 	 */
 	public CountUpIterable(int fromLower, int toUpper) {
+		this(fromLower, toUpper, 1);
+	}
+
+	/**
+	 * Creates a new {@link CountUpIterable}.
+	 * 
+	 * @param fromLower
+	 *            The lower bound and first value to be yielded.
+	 * @param toUpper
+	 *            The upper bound. The last value to be yielded is the last
+	 *            value that can be reached from the lower bound with the given
+	 *            step without passing the upper bound.
+	 * @param step
+	 *            The positive difference between two consecutive values to be
+	 *            yielded.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given step is not positive.
+	 */
+	public CountUpIterable(int fromLower, int toUpper, int step) throws IllegalArgumentException {
+		Steps.check(step);
 		this.fromLower = fromLower;
 		this.toUpper = toUpper;
+		this.step = step;
+	}
+
+	/**
+	 * Returns the amount of values this {@link CountUpIterable} yields.
+	 * 
+	 * @return The amount of values.
+	 */
+	public long size() {
+		return isEmpty() ? 0 : ((long) toUpper - fromLower) / step + 1;
+	}
+
+	@Override
+	public IntegerIterator iterator() {
+		return primitiveIterator();
 	}
 
 	@Override
-	public CountUpIterator iterator() {
-		return new CountUpIterator(fromLower, toUpper);
+	public IntegerIterator primitiveIterator() {
+		return new SteppedIntegerIterator(fromLower, last(), step, isEmpty());
+	}
+
+	/**
+	 * Returns whether this {@link CountUpIterable} yields no values at all.
+	 * 
+	 * @return Whether this {@link CountUpIterable} is empty.
+	 */
+	boolean isEmpty() {
+		return fromLower > toUpper;
+	}
+
+	/**
+	 * Returns the last value this {@link CountUpIterable} yields or the first
+	 * value, if this {@link CountUpIterable} is empty.
+	 * 
+	 * @return The last value.
+	 */
+	int last() {
+		return isEmpty() ? fromLower : (int) (fromLower + (size() - 1) * step);
 	}
 
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link DeltaEncodedIntegerIterable} is an {@link IntegerIterable} that
+ * generates {@link Iterator Iterators} that lazily decode the {@code int}
+ * values stored in a given {@code byte[]} or in a given range of a given
+ * {@code byte[]}, as created by
+ * {@link DeltaEncodedIntegerIterable#encode(IntegerIterable)}.
+ * 
+ * <p>
+ * Every value is stored as the difference to the preceding value (or to
+ * {@code 0} for the first value). Every difference is zigzag encoded, such that
+ * differences with a small absolute value are mapped to small non-negative
+ * numbers, and stored as a variable length quantity with seven bits per byte,
+ * least significant group first, where the most significant bit of every byte
+ * but the last is set. This allows to store sorted or otherwise slowly changing
+ * sequences of values, like sorted identifiers, in a fraction of the memory
+ * that would be needed for a {@code int[]}.
+ * 
+ * <p>
+ * Generated {@link Iterator Iterators} throw an {@link IllegalStateException}
+ * if they encounter a value that is stored in more than five bytes, which can't
+ * be the result of {@link DeltaEncodedIntegerIterable#encode(IntegerIterable)}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class DeltaEncodedIntegerIterable implements IntegerIterable {
+
+	private final byte[] bytes;
+
+	private final int fromIndex;
+
+	private final int toIndex;
+
+	/**
+	 * Creates a new {@link DeltaEncodedIntegerIterable}.
+	 * 
+	 * @param bytes
+	 *            The {@code byte[]} to decode.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code byte[]} is {@literal null} or if the
+	 *             given {@code byte[]} ends with an incomplete value.
+	 */
+	public DeltaEncodedIntegerIterable(byte... bytes) throws IllegalArgumentException {
+		this(bytes, 0, null == bytes ? 0 : bytes.length);
+	}
+
+	/**
+	 * Creates a new {@link DeltaEncodedIntegerIterable} that decodes the given
+	 * range of the given {@code byte[]}, without copying it.
+	 * 
+	 * @param bytes
+	 *            The {@code byte[]} to decode.
+	 * @param fromIndex
+	 *            The index of the first byte to decode.
+	 * @param toIndex
+	 *            The index after the last byte to decode.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code byte[]} is {@literal null}, if the given
+	 *             from index is negative, if the given to index is larger than
+	 *             the length of the given {@code byte[]}, if the given from
+	 *             index is larger than the given to index or if the given range
+	 *             ends with an incomplete value.
+	 */
+	public DeltaEncodedIntegerIterable(byte[] bytes, int fromIndex, int toIndex) throws IllegalArgumentException {
+		if (null == bytes) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		Ranges.check(bytes.length, fromIndex, toIndex);
+		if (fromIndex != toIndex && bytes[toIndex - 1] < 0) {
+			throw new IllegalArgumentException("The given range ends with an incomplete value");
+		}
+		this.bytes = bytes;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Encodes the values the given {@link IntegerIterable} iterates over into a
+	 * new {@code byte[]}, that can be decoded with a
+	 * {@link DeltaEncodedIntegerIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link IntegerIterable} to encode.
+	 * @return The encoded values.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IntegerIterable} is {@literal null}.
+	 */
+	public static byte[] encode(IntegerIterable iterable) throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable is null");
+		}
+		byte[] bytes = new byte[16];
+		int length = 0;
+		int previousValue = 0;
+		IntegerIterator iterator = iterable.primitiveIterator();
+		while (iterator.hasNext()) {
+			int value = iterator.nextInt();
+			int difference = value - previousValue;
+			int zigzag = (difference << 1) ^ (difference >> 31);
+			previousValue = value;
+			if (length + 5 > bytes.length) {
+				bytes = Arrays.copyOf(bytes, bytes.length * 2);
+			}
+			while (0 != (zigzag & ~0x7F)) {
+				bytes[length++] = (byte) ((zigzag & 0x7F) | 0x80);
+				zigzag >>>= 7;
+			}
+			bytes[length++] = (byte) zigzag;
+		}
+		return Arrays.copyOf(bytes, length);
+	}
+
+	@Override
+	public IntegerIterator iterator() {
+		return new DeltaEncodedIntegerIterator(bytes, fromIndex, toIndex);
+	}
+
+	@Override
+	public IntegerIterator primitiveIterator() {
+		return new DeltaEncodedIntegerIterator(bytes, fromIndex, toIndex);
+	}
+
+	private static final class DeltaEncodedIntegerIterator
+			implements IntegerIterator, ProtectedBidirectionalIterator<Integer> {
+
+		private final byte[] bytes;
+
+		private final int fromIndex;
+
+		private final int toIndex;
+
+		private int start;
+
+		private int end;
+
+		private int value;
+
+		public DeltaEncodedIntegerIterator(byte[] bytes, int fromIndex, int toIndex) {
+			this.bytes = bytes;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+			this.start = fromIndex;
+			this.end = fromIndex;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return end < toIndex;
+		}
+
+		@Override
+		public int nextInt() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			}
+			int zigzag = 0;
+			int shift = 0;
+			int index = end;
+			byte b;
+			do {
+				if (shift > 28) {
+					throw new IllegalStateException("The encoded value at index " + end + " is longer than five bytes");
+				}
+				b = bytes[index++];
+				zigzag |= (b & 0x7F) << shift;
+				shift += 7;
+			} while (b < 0);
+			start = end;
+			end = index;
+			value += (zigzag >>> 1) ^ -(zigzag & 1);
+			return value;
+		}
+
+		@Override
+		public Integer next() throws NoSuchElementException {
+			return nextInt();
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return start > fromIndex;
+		}
+
+		@Override
+		public int previousInt() throws NoSuchElementException {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException("This iterator has no previous element");
+			}
+			int zigzag = 0;
+			int shift = 0;
+			for (int i = start; i < end; i++) {
+				zigzag |= (bytes[i] & 0x7F) << shift;
+				shift += 7;
+			}
+			value -= (zigzag >>> 1) ^ -(zigzag & 1);
+			end = start;
+			start = end - 1;
+			while (start > fromIndex && bytes[start - 1] < 0) {
+				start--;
+			}
+			return value;
+		}
+
+		@Override
+		public Integer previous() throws NoSuchElementException {
+			return previousInt();
+		}
+
+		@Override
+		public void remove() throws UnsupportedOperationException {
+			throw new UnsupportedOperationException("Cannot remove from this iterator");
+		}
+
+	}
+
+}
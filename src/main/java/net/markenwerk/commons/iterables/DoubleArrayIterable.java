@@ -22,20 +22,25 @@
 package net.markenwerk.commons.iterables;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
-import net.markenwerk.commons.iterators.DoubleArrayIterator;
+import net.markenwerk.commons.interfaces.Handler;
 
 /**
- * A {@link DoubleArrayIterable} is a {@link ProtectedBidirectionalIterable}
- * that generates {@link Iterator Iterators} that iterate over a given
- * {@code double[]}.
+ * A {@link DoubleArrayIterable} is a {@link DoubleIterable} that generates
+ * {@link Iterator Iterators} that iterate over a given {@code double[]} or over
+ * a given range of a given {@code double[]}.
  * 
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class DoubleArrayIterable implements ProtectedBidirectionalIterable<Double> {
+public final class DoubleArrayIterable implements DoubleIterable {
 
-	private final double[] array;
+	final double[] array;
+
+	final int fromIndex;
+
+	final int toIndex;
 
 	/**
 	 * Creates a new {@link DoubleArrayIterable}.
@@ -47,15 +52,364 @@ public final class DoubleArrayIterable implements ProtectedBidirectionalIterable
 	 *             If the given {@code double[]} is {@literal null}.
 	 */
 	public DoubleArrayIterable(double... array) throws IllegalArgumentException {
+		this(array, 0, null == array ? 0 : array.length);
+	}
+
+	/**
+	 * Creates a new {@link DoubleArrayIterable} that iterates over the given
+	 * range of the given {@code double[]}, without copying it.
+	 * 
+	 * @param array
+	 *            The {@code double[]} to iterate over.
+	 * @param fromIndex
+	 *            The index of the first value to iterate over.
+	 * @param toIndex
+	 *            The index after the last value to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code double[]} is {@literal null}, if the
+	 *             given from index is negative, if the given to index is larger
+	 *             than the length of the given {@code double[]} or if the given
+	 *             from index is larger than the given to index.
+	 */
+	public DoubleArrayIterable(double[] array, int fromIndex, int toIndex) throws IllegalArgumentException {
 		if (null == array) {
 			throw new IllegalArgumentException("The given array is null");
 		}
+		Ranges.check(array.length, fromIndex, toIndex);
 		this.array = array;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of values this {@link DoubleArrayIterable} iterates
+	 * over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns a {@link DoubleArrayIterable} that iterates over the given range
+	 * of the values this {@link DoubleArrayIterable} iterates over. The
+	 * returned {@link DoubleArrayIterable} is a view on the same
+	 * {@code double[]} and doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to
+	 *            this {@link DoubleArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link DoubleArrayIterable}.
+	 * @return The {@link DoubleArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index
+	 *             is larger than the size of this {@link DoubleArrayIterable}
+	 *             or if the given from index is larger than the given to
+	 *             index.
+	 */
+	public DoubleArrayIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new DoubleArrayIterable(array, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+	}
+
+	/**
+	 * Returns a {@link StridedDoubleArrayIterable} that iterates over every
+	 * {@code stride}-th value this {@link DoubleArrayIterable} iterates over,
+	 * starting at the given offset. The returned
+	 * {@link StridedDoubleArrayIterable} is a view on the same {@code double[]}
+	 * and doesn't copy it.
+	 * 
+	 * @param offset
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link DoubleArrayIterable}.
+	 * @param stride
+	 *            The distance between the indices of two consecutive values to
+	 *            iterate over.
+	 * @return The {@link StridedDoubleArrayIterable} for the given offset and
+	 *         stride.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given offset is negative, if the given offset is
+	 *             larger than the size of this {@link DoubleArrayIterable} or
+	 *             if the given stride is not positive.
+	 */
+	public StridedDoubleArrayIterable strided(int offset, int stride) throws IllegalArgumentException {
+		if (offset < 0) {
+			throw new IllegalArgumentException("The given offset is negative");
+		} else if (offset > size()) {
+			throw new IllegalArgumentException("The given offset is larger than the size");
+		}
+		int count = offset == size() || stride <= 0 ? 0 : (size() - offset - 1) / stride + 1;
+		return new StridedDoubleArrayIterable(array, fromIndex + offset, stride, count);
+	}
+
+	/**
+	 * Returns a {@link FilteredDoubleArrayIterable} that iterates over the
+	 * values this {@link DoubleArrayIterable} iterates over that satisfy the
+	 * given {@link DoublePredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @return The {@link FilteredDoubleArrayIterable} for the given
+	 *         {@link DoublePredicate}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public FilteredDoubleArrayIterable filtered(DoublePredicate predicate) throws IllegalArgumentException {
+		return new FilteredDoubleArrayIterable(this, predicate);
+	}
+
+	/**
+	 * Returns a {@link FilteredDoubleArrayIterable} that iterates over the
+	 * values this {@link DoubleArrayIterable} iterates over that satisfy, or,
+	 * if the test result is inverted, don't satisfy the given
+	 * {@link DoublePredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @param invertPredicate
+	 *            Whether to invert the test result and yield values that don't
+	 *            satisfy the given {@link DoublePredicate}.
+	 * @return The {@link FilteredDoubleArrayIterable} for the given
+	 *         {@link DoublePredicate}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public FilteredDoubleArrayIterable filtered(DoublePredicate predicate, boolean invertPredicate)
+			throws IllegalArgumentException {
+		return new FilteredDoubleArrayIterable(this, predicate, invertPredicate);
+	}
+
+	@Override
+	public DoubleIterator iterator() {
+		return new PrimitiveDoubleArrayIterator(array, fromIndex, toIndex);
 	}
 
 	@Override
-	public DoubleArrayIterator iterator() {
-		return new DoubleArrayIterator(array);
+	public DoubleIterator primitiveIterator() {
+		return new PrimitiveDoubleArrayIterator(array, fromIndex, toIndex);
+	}
+
+	/**
+	 * Calls the given {@link DoubleHandler} with every value this
+	 * {@link DoubleArrayIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link DoubleArrayIterable} and
+	 * calling the given {@link DoubleHandler} with every yielded value, because
+	 * the {@code double[]} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link DoubleHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleHandler} is {@literal null}.
+	 */
+	public void handleEach(DoubleHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		double[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link DoubleArrayIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link DoubleArrayIterable} and
+	 * calling the given {@link Handler} with every yielded value, because the
+	 * {@code double[]} is traversed in a single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Double}. Use
+	 * {@linkplain DoubleArrayIterable#handleEach(DoubleHandler)} to handle the
+	 * values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Double> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		double[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	/**
+	 * Returns the sum of all values this {@link DoubleArrayIterable} iterates
+	 * over. The sum of no values is {@code 0}. Because the values are summed up
+	 * in multiple interleaved partial sums, the result may differ from a
+	 * strictly sequential summation in the least significant bits.
+	 * 
+	 * @return The sum of all values.
+	 */
+	public double sum() {
+		double[] array = this.array;
+		double sum0 = 0;
+		double sum1 = 0;
+		double sum2 = 0;
+		double sum3 = 0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			sum0 += array[i];
+			sum1 += array[i + 1];
+			sum2 += array[i + 2];
+			sum3 += array[i + 3];
+		}
+		for (; i < toIndex; i++) {
+			sum0 += array[i];
+		}
+		return (sum0 + sum1) + (sum2 + sum3);
+	}
+
+	/**
+	 * Returns the smallest value this {@link DoubleArrayIterable} iterates
+	 * over. If any value is {@code NaN}, the result is {@code NaN}.
+	 * 
+	 * @return The smallest value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link DoubleArrayIterable} has no values.
+	 */
+	public double min() throws NoSuchElementException {
+		if (fromIndex == toIndex) {
+			throw new NoSuchElementException("This iterable has no values");
+		}
+		double[] array = this.array;
+		double min0 = array[fromIndex];
+		double min1 = min0;
+		double min2 = min0;
+		double min3 = min0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			min0 = Math.min(min0, array[i]);
+			min1 = Math.min(min1, array[i + 1]);
+			min2 = Math.min(min2, array[i + 2]);
+			min3 = Math.min(min3, array[i + 3]);
+		}
+		for (; i < toIndex; i++) {
+			min0 = Math.min(min0, array[i]);
+		}
+		return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+	}
+
+	/**
+	 * Returns the largest value this {@link DoubleArrayIterable} iterates over.
+	 * If any value is {@code NaN}, the result is {@code NaN}.
+	 * 
+	 * @return The largest value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link DoubleArrayIterable} has no values.
+	 */
+	public double max() throws NoSuchElementException {
+		if (fromIndex == toIndex) {
+			throw new NoSuchElementException("This iterable has no values");
+		}
+		double[] array = this.array;
+		double max0 = array[fromIndex];
+		double max1 = max0;
+		double max2 = max0;
+		double max3 = max0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			max0 = Math.max(max0, array[i]);
+			max1 = Math.max(max1, array[i + 1]);
+			max2 = Math.max(max2, array[i + 2]);
+			max3 = Math.max(max3, array[i + 3]);
+		}
+		for (; i < toIndex; i++) {
+			max0 = Math.max(max0, array[i]);
+		}
+		return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+	}
+
+	/**
+	 * Returns the dot product of the values this {@link DoubleArrayIterable}
+	 * iterates over and the values the given {@link DoubleArrayIterable}
+	 * iterates over, i.e. the sum of the products of the values with the same
+	 * index. Because the products are summed up in multiple interleaved partial
+	 * sums, the result may differ from a strictly sequential summation in the
+	 * least significant bits.
+	 * 
+	 * @param other
+	 *            The other {@link DoubleArrayIterable}.
+	 * @return The dot product.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleArrayIterable} is {@literal null}
+	 *             or if the given {@link DoubleArrayIterable} has a different
+	 *             size than this {@link DoubleArrayIterable}.
+	 */
+	public double dot(DoubleArrayIterable other) throws IllegalArgumentException {
+		if (null == other) {
+			throw new IllegalArgumentException("The given iterable is null");
+		} else if (other.size() != size()) {
+			throw new IllegalArgumentException("The given iterable has a different size");
+		}
+		double[] array = this.array;
+		double[] otherArray = other.array;
+		int offset = other.fromIndex - fromIndex;
+		double dot0 = 0;
+		double dot1 = 0;
+		double dot2 = 0;
+		double dot3 = 0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			dot0 += array[i] * otherArray[i + offset];
+			dot1 += array[i + 1] * otherArray[i + offset + 1];
+			dot2 += array[i + 2] * otherArray[i + offset + 2];
+			dot3 += array[i + 3] * otherArray[i + offset + 3];
+		}
+		for (; i < toIndex; i++) {
+			dot0 += array[i] * otherArray[i + offset];
+		}
+		return (dot0 + dot1) + (dot2 + dot3);
+	}
+
+	private static final class PrimitiveDoubleArrayIterator extends AbstractIndexedIterator<Double>
+			implements DoubleIterator {
+
+		private final double[] array;
+
+		public PrimitiveDoubleArrayIterator(double[] array, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.array = array;
+		}
+
+		@Override
+		public double nextDouble() throws NoSuchElementException {
+			return array[nextIndex()];
+		}
+
+		@Override
+		public Double next() throws NoSuchElementException {
+			return nextDouble();
+		}
+
+		@Override
+		public double previousDouble() throws NoSuchElementException {
+			return array[previousIndex()];
+		}
+
+		@Override
+		public Double previous() throws NoSuchElementException {
+			return previousDouble();
+		}
+
 	}
 
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link DoubleFileIterable} is a {@link DoubleIterable} that generates
+ * {@link Iterator Iterators} that iterate over the {@code double} values stored
+ * in a given file.
+ * 
+ * <p>
+ * The file is memory-mapped once, when the {@link DoubleFileIterable} is
+ * created, and the values are read directly from the mapped memory, which
+ * allows to iterate over files of any size without reading them onto the heap.
+ * Files that are larger than 2 GB are mapped in multiple consecutive regions.
+ * Trailing bytes that don't form a complete {@code double} value are ignored.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class DoubleFileIterable implements DoubleIterable {
+
+	private final MappedRegions regions;
+
+	/**
+	 * Creates a new {@link DoubleFileIterable} for a file with values in
+	 * {@link ByteOrder#BIG_ENDIAN big-endian} byte order.
+	 * 
+	 * @param file
+	 *            The file to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given file is {@literal null}.
+	 * @throws IOException
+	 *             If the given file couldn't be mapped.
+	 */
+	public DoubleFileIterable(File file) throws IllegalArgumentException, IOException {
+		this(file, ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Creates a new {@link DoubleFileIterable}.
+	 * 
+	 * @param file
+	 *            The file to iterate over.
+	 * @param order
+	 *            The {@link ByteOrder} of the values in the given file.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given file is {@literal null} or if the given
+	 *             {@link ByteOrder} is {@literal null}.
+	 * @throws IOException
+	 *             If the given file couldn't be mapped.
+	 */
+	public DoubleFileIterable(File file, ByteOrder order) throws IllegalArgumentException, IOException {
+		this(file, order, MappedRegions.MAXIMUM_REGION_SIZE);
+	}
+
+	DoubleFileIterable(File file, ByteOrder order, int maximumRegionSize)
+			throws IllegalArgumentException, IOException {
+		regions = new MappedRegions(file, order, 8, maximumRegionSize);
+	}
+
+	/**
+	 * Returns the amount of values this {@link DoubleFileIterable} iterates
+	 * over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public long size() {
+		return regions.size();
+	}
+
+	@Override
+	public DoubleIterator iterator() {
+		return new DoubleFileIterator(regions);
+	}
+
+	@Override
+	public DoubleIterator primitiveIterator() {
+		return new DoubleFileIterator(regions);
+	}
+
+	private static final class DoubleFileIterator extends AbstractMappedIterator<Double> implements DoubleIterator {
+
+		public DoubleFileIterator(MappedRegions regions) {
+			super(regions);
+		}
+
+		@Override
+		public double nextDouble() throws NoSuchElementException {
+			int offset = nextOffset();
+			return region().getDouble(offset);
+		}
+
+		@Override
+		public Double next() throws NoSuchElementException {
+			return nextDouble();
+		}
+
+		@Override
+		public double previousDouble() throws NoSuchElementException {
+			int offset = previousOffset();
+			return region().getDouble(offset);
+		}
+
+		@Override
+		public Double previous() throws NoSuchElementException {
+			return previousDouble();
+		}
+
+	}
+
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+/**
+ * A {@link FilteredDoubleArrayIterable} is a {@link DoubleIterable} that
+ * generates {@link Iterator Iterators} that iterate over the values of a given
+ * {@link DoubleArrayIterable} that satisfy a given {@link DoublePredicate}.
+ * 
+ * <p>
+ * Instead of testing one value at a time, like the {@link Iterator Iterators}
+ * generated by a {@link FilteredIterable}, the generated
+ * {@link Iterator Iterators} test a block of values at a time in a tight loop
+ * and write the indices of the values that satisfy the given
+ * {@link DoublePredicate} into a reusable selection vector, which is then
+ * used to yield the values. The loop doesn't branch on the result of the
+ * {@link DoublePredicate}, which allows the JIT to optimize it for simple
+ * {@link DoublePredicate DoublePredicates}.
+ * 
+ * <p>
+ * The given {@link DoublePredicate} should have no side effects, because a
+ * block of values may be tested before the values are yielded and a block may
+ * be tested again, if the generated {@link Iterator Iterators} move
+ * backwards.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class FilteredDoubleArrayIterable implements DoubleIterable {
+
+	/**
+	 * The default amount of values to be tested at a time.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+	private final DoubleArrayIterable iterable;
+
+	private final DoublePredicate predicate;
+
+	private final boolean invertPredicate;
+
+	private final int blockSize;
+
+	/**
+	 * Creates a new {@link FilteredDoubleArrayIterable} that tests
+	 * {@value FilteredDoubleArrayIterable#DEFAULT_BLOCK_SIZE} values at a
+	 * time.
+	 * 
+	 * @param iterable
+	 *            The {@link DoubleArrayIterable} to iterate over.
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleArrayIterable} is {@literal null}
+	 *             or if the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public FilteredDoubleArrayIterable(DoubleArrayIterable iterable, DoublePredicate predicate)
+			throws IllegalArgumentException {
+		this(iterable, predicate, false, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link FilteredDoubleArrayIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link DoubleArrayIterable} to iterate over.
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @param blockSize
+	 *            The amount of values to be tested at a time.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleArrayIterable} is {@literal null},
+	 *             if the given {@link DoublePredicate} is {@literal null} or if
+	 *             the given block size is not positive.
+	 */
+	public FilteredDoubleArrayIterable(DoubleArrayIterable iterable, DoublePredicate predicate, int blockSize)
+			throws IllegalArgumentException {
+		this(iterable, predicate, false, blockSize);
+	}
+
+	/**
+	 * Creates a new {@link FilteredDoubleArrayIterable} that tests
+	 * {@value FilteredDoubleArrayIterable#DEFAULT_BLOCK_SIZE} values at a
+	 * time.
+	 * 
+	 * @param iterable
+	 *            The {@link DoubleArrayIterable} to iterate over.
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @param invertPredicate
+	 *            Whether to invert the test result and yield values that don't
+	 *            satisfy the given {@link DoublePredicate}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleArrayIterable} is {@literal null}
+	 *             or if the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public FilteredDoubleArrayIterable(DoubleArrayIterable iterable, DoublePredicate predicate, boolean invertPredicate)
+			throws IllegalArgumentException {
+		this(iterable, predicate, invertPredicate, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link FilteredDoubleArrayIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link DoubleArrayIterable} to iterate over.
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @param invertPredicate
+	 *            Whether to invert the test result and yield values that don't
+	 *            satisfy the given {@link DoublePredicate}.
+	 * @param blockSize
+	 *            The amount of values to be tested at a time.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleArrayIterable} is {@literal null},
+	 *             if the given {@link DoublePredicate} is {@literal null} or if
+	 *             the given block size is not positive.
+	 */
+	public FilteredDoubleArrayIterable(DoubleArrayIterable iterable, DoublePredicate predicate, boolean invertPredicate,
+			int blockSize) throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable is null");
+		} else if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		} else if (blockSize <= 0) {
+			throw new IllegalArgumentException("The given block size is not positive");
+		}
+		this.iterable = iterable;
+		this.predicate = predicate;
+		this.invertPredicate = invertPredicate;
+		this.blockSize = blockSize;
+	}
+
+	@Override
+	public DoubleIterator iterator() {
+		return new FilteredDoubleArrayIterator(iterable, predicate, invertPredicate, blockSize);
+	}
+
+	@Override
+	public DoubleIterator primitiveIterator() {
+		return new FilteredDoubleArrayIterator(iterable, predicate, invertPredicate, blockSize);
+	}
+
+	/**
+	 * Returns the amount of values this {@link FilteredDoubleArrayIterable}
+	 * iterates over. This tests every value of the given
+	 * {@link DoubleArrayIterable}.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int count() {
+		double[] array = iterable.array;
+		DoublePredicate predicate = this.predicate;
+		int count = 0;
+		for (int i = iterable.fromIndex, n = iterable.toIndex; i < n; i++) {
+			count += predicate.test(array[i]) != invertPredicate ? 1 : 0;
+		}
+		return count;
+	}
+
+	/**
+	 * Calls the given {@link DoubleHandler} with every value this
+	 * {@link FilteredDoubleArrayIterable} iterates over, in order.
+	 * 
+	 * @param handler
+	 *            The {@link DoubleHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleHandler} is {@literal null}.
+	 */
+	public void handleEach(DoubleHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		double[] array = iterable.array;
+		int[] selection = new int[Math.min(blockSize, iterable.size())];
+		for (int from = iterable.fromIndex, n = iterable.toIndex; from < n; from += blockSize) {
+			int count = select(array, from, Math.min(from + blockSize, n), predicate, invertPredicate, selection);
+			for (int i = 0; i < count; i++) {
+				handler.handle(array[selection[i]]);
+			}
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link FilteredDoubleArrayIterable} iterates over, in order.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Double}. Use
+	 * {@linkplain FilteredDoubleArrayIterable#handleEach(DoubleHandler)} to
+	 * handle the values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Double> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		double[] array = iterable.array;
+		int[] selection = new int[Math.min(blockSize, iterable.size())];
+		for (int from = iterable.fromIndex, n = iterable.toIndex; from < n; from += blockSize) {
+			int count = select(array, from, Math.min(from + blockSize, n), predicate, invertPredicate, selection);
+			for (int i = 0; i < count; i++) {
+				handler.handle(array[selection[i]]);
+			}
+		}
+	}
+
+	private static int select(double[] array, int fromIndex, int toIndex, DoublePredicate predicate,
+			boolean invertPredicate, int[] selection) {
+		int count = 0;
+		for (int i = fromIndex; i < toIndex; i++) {
+			selection[count] = i;
+			count += predicate.test(array[i]) != invertPredicate ? 1 : 0;
+		}
+		return count;
+	}
+
+	private static final class FilteredDoubleArrayIterator implements DoubleIterator {
+
+		private final double[] array;
+
+		private final int fromIndex;
+
+		private final int toIndex;
+
+		private final DoublePredicate predicate;
+
+		private final boolean invertPredicate;
+
+		private final int blockSize;
+
+		private final int[] selection;
+
+		private int blockStart;
+
+		private int blockEnd;
+
+		private int count;
+
+		private int next;
+
+		private int index;
+
+		public FilteredDoubleArrayIterator(DoubleArrayIterable iterable, DoublePredicate predicate,
+				boolean invertPredicate, int blockSize) {
+			this.array = iterable.array;
+			this.fromIndex = iterable.fromIndex;
+			this.toIndex = iterable.toIndex;
+			this.predicate = predicate;
+			this.invertPredicate = invertPredicate;
+			this.blockSize = blockSize;
+			this.selection = new int[Math.min(blockSize, iterable.size())];
+			this.blockStart = fromIndex;
+			this.blockEnd = fromIndex;
+			this.index = fromIndex - 1;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (next == count) {
+				if (blockEnd == toIndex) {
+					return false;
+				}
+				select(blockEnd, Math.min(blockEnd + blockSize, toIndex));
+			}
+			return true;
+		}
+
+		@Override
+		public double nextDouble() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			}
+			index = selection[next++];
+			return array[index];
+		}
+
+		@Override
+		public Double next() throws NoSuchElementException {
+			return nextDouble();
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			while (previousPosition() < 0) {
+				if (blockStart == fromIndex) {
+					return false;
+				}
+				select(Math.max(blockStart - blockSize, fromIndex), blockStart);
+			}
+			return true;
+		}
+
+		@Override
+		public double previousDouble() throws NoSuchElementException {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException("This iterator has no previous element");
+			}
+			int position = previousPosition();
+			index = selection[position];
+			next = position + 1;
+			return array[index];
+		}
+
+		@Override
+		public Double previous() throws NoSuchElementException {
+			return previousDouble();
+		}
+
+		@Override
+		public void remove() throws UnsupportedOperationException {
+			throw new UnsupportedOperationException("Cannot remove from this iterator");
+		}
+
+		private int previousPosition() {
+			int position = next - 1;
+			return position >= 0 && selection[position] == index ? position - 1 : position;
+		}
+
+		private void select(int fromIndex, int toIndex) {
+			count = FilteredDoubleArrayIterable.select(array, fromIndex, toIndex, predicate, invertPredicate,
+					selection);
+			next = Arrays.binarySearch(selection, 0, count, index);
+			next = next < 0 ? -next - 1 : next + 1;
+			blockStart = fromIndex;
+			blockEnd = toIndex;
+		}
+
+	}
+
+}
@@ -31,6 +31,14 @@ import net.markenwerk.commons.iterators.FilteredIterator;
  * a given {@link Iterable} and generates {@link Iterator Iterators} that
  * filters out values according to a given {@link Predicate}.
  * 
+ * <p>
+ * If the given {@link Iterable} is itself a {@link FilteredIterable}, both are
+ * fused into a single {@link FilteredIterable} that wraps around the
+ * {@link Iterable} of the given {@link FilteredIterable} and tests the
+ * {@link Predicate} of the given {@link FilteredIterable} first and then the
+ * given {@link Predicate}. This yields the same values and performs the same
+ * tests, but avoids a chain of nested {@link Iterator Iterators}.
+ * 
  * @param <Payload>
  *            The payload type.
  * @author Torsten Krause (tk at markenwerk dot net)
@@ -83,9 +91,17 @@ public final class FilteredIterable<Payload> implements Iterable<Payload> {
 		} else if (null == predicate) {
 			throw new IllegalArgumentException("The given predicate is null");
 		}
-		this.iterable = iterable;
-		this.predicate = predicate;
-		this.invertPredicate = invertPredicate;
+		if (iterable instanceof FilteredIterable<?>) {
+			FilteredIterable<? extends Payload> filteredIterable = (FilteredIterable<? extends Payload>) iterable;
+			this.iterable = filteredIterable.iterable;
+			this.predicate = ConjunctivePredicate.of(filteredIterable.predicate, filteredIterable.invertPredicate,
+					predicate, invertPredicate);
+			this.invertPredicate = false;
+		} else {
+			this.iterable = iterable;
+			this.predicate = predicate;
+			this.invertPredicate = invertPredicate;
+		}
 	}
 
 	@Override
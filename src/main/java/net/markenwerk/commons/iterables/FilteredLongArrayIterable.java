@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+/**
+ * A {@link FilteredLongArrayIterable} is a {@link LongIterable} that
+ * generates {@link Iterator Iterators} that iterate over the values of a given
+ * {@link LongArrayIterable} that satisfy a given {@link LongPredicate}.
+ * 
+ * <p>
+ * Instead of testing one value at a time, like the {@link Iterator Iterators}
+ * generated by a {@link FilteredIterable}, the generated
+ * {@link Iterator Iterators} test a block of values at a time in a tight loop
+ * and write the indices of the values that satisfy the given
+ * {@link LongPredicate} into a reusable selection vector, which is then
+ * used to yield the values. The loop doesn't branch on the result of the
+ * {@link LongPredicate}, which allows the JIT to optimize it for simple
+ * {@link LongPredicate LongPredicates}.
+ * 
+ * <p>
+ * The given {@link LongPredicate} should have no side effects, because a
+ * block of values may be tested before the values are yielded and a block may
+ * be tested again, if the generated {@link Iterator Iterators} move
+ * backwards.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class FilteredLongArrayIterable implements LongIterable {
+
+	/**
+	 * The default amount of values to be tested at a time.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+	private final LongArrayIterable iterable;
+
+	private final LongPredicate predicate;
+
+	private final boolean invertPredicate;
+
+	private final int blockSize;
+
+	/**
+	 * Creates a new {@link FilteredLongArrayIterable} that tests
+	 * {@value FilteredLongArrayIterable#DEFAULT_BLOCK_SIZE} values at a
+	 * time.
+	 * 
+	 * @param iterable
+	 *            The {@link LongArrayIterable} to iterate over.
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongArrayIterable} is {@literal null}
+	 *             or if the given {@link LongPredicate} is {@literal null}.
+	 */
+	public FilteredLongArrayIterable(LongArrayIterable iterable, LongPredicate predicate)
+			throws IllegalArgumentException {
+		this(iterable, predicate, false, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link FilteredLongArrayIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link LongArrayIterable} to iterate over.
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @param blockSize
+	 *            The amount of values to be tested at a time.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongArrayIterable} is {@literal null},
+	 *             if the given {@link LongPredicate} is {@literal null} or if
+	 *             the given block size is not positive.
+	 */
+	public FilteredLongArrayIterable(LongArrayIterable iterable, LongPredicate predicate, int blockSize)
+			throws IllegalArgumentException {
+		this(iterable, predicate, false, blockSize);
+	}
+
+	/**
+	 * Creates a new {@link FilteredLongArrayIterable} that tests
+	 * {@value FilteredLongArrayIterable#DEFAULT_BLOCK_SIZE} values at a
+	 * time.
+	 * 
+	 * @param iterable
+	 *            The {@link LongArrayIterable} to iterate over.
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @param invertPredicate
+	 *            Whether to invert the test result and yield values that don't
+	 *            satisfy the given {@link LongPredicate}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongArrayIterable} is {@literal null}
+	 *             or if the given {@link LongPredicate} is {@literal null}.
+	 */
+	public FilteredLongArrayIterable(LongArrayIterable iterable, LongPredicate predicate, boolean invertPredicate)
+			throws IllegalArgumentException {
+		this(iterable, predicate, invertPredicate, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link FilteredLongArrayIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link LongArrayIterable} to iterate over.
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @param invertPredicate
+	 *            Whether to invert the test result and yield values that don't
+	 *            satisfy the given {@link LongPredicate}.
+	 * @param blockSize
+	 *            The amount of values to be tested at a time.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongArrayIterable} is {@literal null},
+	 *             if the given {@link LongPredicate} is {@literal null} or if
+	 *             the given block size is not positive.
+	 */
+	public FilteredLongArrayIterable(LongArrayIterable iterable, LongPredicate predicate, boolean invertPredicate,
+			int blockSize) throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable is null");
+		} else if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		} else if (blockSize <= 0) {
+			throw new IllegalArgumentException("The given block size is not positive");
+		}
+		this.iterable = iterable;
+		this.predicate = predicate;
+		this.invertPredicate = invertPredicate;
+		this.blockSize = blockSize;
+	}
+
+	@Override
+	public LongIterator iterator() {
+		return new FilteredLongArrayIterator(iterable, predicate, invertPredicate, blockSize);
+	}
+
+	@Override
+	public LongIterator primitiveIterator() {
+		return new FilteredLongArrayIterator(iterable, predicate, invertPredicate, blockSize);
+	}
+
+	/**
+	 * Returns the amount of values this {@link FilteredLongArrayIterable}
+	 * iterates over. This tests every value of the given
+	 * {@link LongArrayIterable}.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int count() {
+		long[] array = iterable.array;
+		LongPredicate predicate = this.predicate;
+		int count = 0;
+		for (int i = iterable.fromIndex, n = iterable.toIndex; i < n; i++) {
+			count += predicate.test(array[i]) != invertPredicate ? 1 : 0;
+		}
+		return count;
+	}
+
+	/**
+	 * Calls the given {@link LongHandler} with every value this
+	 * {@link FilteredLongArrayIterable} iterates over, in order.
+	 * 
+	 * @param handler
+	 *            The {@link LongHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongHandler} is {@literal null}.
+	 */
+	public void handleEach(LongHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		long[] array = iterable.array;
+		int[] selection = new int[Math.min(blockSize, iterable.size())];
+		for (int from = iterable.fromIndex, n = iterable.toIndex; from < n; from += blockSize) {
+			int count = select(array, from, Math.min(from + blockSize, n), predicate, invertPredicate, selection);
+			for (int i = 0; i < count; i++) {
+				handler.handle(array[selection[i]]);
+			}
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link FilteredLongArrayIterable} iterates over, in order.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Long}. Use
+	 * {@linkplain FilteredLongArrayIterable#handleEach(LongHandler)} to handle
+	 * the values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Long> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		long[] array = iterable.array;
+		int[] selection = new int[Math.min(blockSize, iterable.size())];
+		for (int from = iterable.fromIndex, n = iterable.toIndex; from < n; from += blockSize) {
+			int count = select(array, from, Math.min(from + blockSize, n), predicate, invertPredicate, selection);
+			for (int i = 0; i < count; i++) {
+				handler.handle(array[selection[i]]);
+			}
+		}
+	}
+
+	private static int select(long[] array, int fromIndex, int toIndex, LongPredicate predicate,
+			boolean invertPredicate, int[] selection) {
+		int count = 0;
+		for (int i = fromIndex; i < toIndex; i++) {
+			selection[count] = i;
+			count += predicate.test(array[i]) != invertPredicate ? 1 : 0;
+		}
+		return count;
+	}
+
+	private static final class FilteredLongArrayIterator implements LongIterator {
+
+		private final long[] array;
+
+		private final int fromIndex;
+
+		private final int toIndex;
+
+		private final LongPredicate predicate;
+
+		private final boolean invertPredicate;
+
+		private final int blockSize;
+
+		private final int[] selection;
+
+		private int blockStart;
+
+		private int blockEnd;
+
+		private int count;
+
+		private int next;
+
+		private int index;
+
+		public FilteredLongArrayIterator(LongArrayIterable iterable, LongPredicate predicate, boolean invertPredicate,
+				int blockSize) {
+			this.array = iterable.array;
+			this.fromIndex = iterable.fromIndex;
+			this.toIndex = iterable.toIndex;
+			this.predicate = predicate;
+			this.invertPredicate = invertPredicate;
+			this.blockSize = blockSize;
+			this.selection = new int[Math.min(blockSize, iterable.size())];
+			this.blockStart = fromIndex;
+			this.blockEnd = fromIndex;
+			this.index = fromIndex - 1;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (next == count) {
+				if (blockEnd == toIndex) {
+					return false;
+				}
+				select(blockEnd, Math.min(blockEnd + blockSize, toIndex));
+			}
+			return true;
+		}
+
+		@Override
+		public long nextLong() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			}
+			index = selection[next++];
+			return array[index];
+		}
+
+		@Override
+		public Long next() throws NoSuchElementException {
+			return nextLong();
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			while (previousPosition() < 0) {
+				if (blockStart == fromIndex) {
+					return false;
+				}
+				select(Math.max(blockStart - blockSize, fromIndex), blockStart);
+			}
+			return true;
+		}
+
+		@Override
+		public long previousLong() throws NoSuchElementException {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException("This iterator has no previous element");
+			}
+			int position = previousPosition();
+			index = selection[position];
+			next = position + 1;
+			return array[index];
+		}
+
+		@Override
+		public Long previous() throws NoSuchElementException {
+			return previousLong();
+		}
+
+		@Override
+		public void remove() throws UnsupportedOperationException {
+			throw new UnsupportedOperationException("Cannot remove from this iterator");
+		}
+
+		private int previousPosition() {
+			int position = next - 1;
+			return position >= 0 && selection[position] == index ? position - 1 : position;
+		}
+
+		private void select(int fromIndex, int toIndex) {
+			count = FilteredLongArrayIterable.select(array, fromIndex, toIndex, predicate, invertPredicate, selection);
+			next = Arrays.binarySearch(selection, 0, count, index);
+			next = next < 0 ? -next - 1 : next + 1;
+			blockStart = fromIndex;
+			blockEnd = toIndex;
+		}
+
+	}
+
+}
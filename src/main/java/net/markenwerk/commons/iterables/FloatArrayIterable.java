@@ -22,20 +22,25 @@
 package net.markenwerk.commons.iterables;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
-import net.markenwerk.commons.iterators.FloatArrayIterator;
+import net.markenwerk.commons.interfaces.Handler;
 
 /**
- * A {@link FloatArrayIterable} is a {@link ProtectedBidirectionalIterable} that
- * generates {@link Iterator Iterators} that iterate over a given
- * {@code float[]}.
+ * A {@link FloatArrayIterable} is a {@link FloatIterable} that generates
+ * {@link Iterator Iterators} that iterate over a given {@code float[]} or over
+ * a given range of a given {@code float[]}.
  * 
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class FloatArrayIterable implements ProtectedBidirectionalIterable<Float> {
+public final class FloatArrayIterable implements FloatIterable {
 
-	private final float[] array;
+	final float[] array;
+
+	final int fromIndex;
+
+	final int toIndex;
 
 	/**
 	 * Creates a new {@link FloatArrayIterable}.
@@ -47,15 +52,327 @@ public final class FloatArrayIterable implements ProtectedBidirectionalIterable<
 	 *             If the given {@code float[]} is {@literal null}.
 	 */
 	public FloatArrayIterable(float... array) throws IllegalArgumentException {
+		this(array, 0, null == array ? 0 : array.length);
+	}
+
+	/**
+	 * Creates a new {@link FloatArrayIterable} that iterates over the given
+	 * range of the given {@code float[]}, without copying it.
+	 * 
+	 * @param array
+	 *            The {@code float[]} to iterate over.
+	 * @param fromIndex
+	 *            The index of the first value to iterate over.
+	 * @param toIndex
+	 *            The index after the last value to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code float[]} is {@literal null}, if the given
+	 *             from index is negative, if the given to index is larger than
+	 *             the length of the given {@code float[]} or if the given from
+	 *             index is larger than the given to index.
+	 */
+	public FloatArrayIterable(float[] array, int fromIndex, int toIndex) throws IllegalArgumentException {
 		if (null == array) {
 			throw new IllegalArgumentException("The given array is null");
 		}
+		Ranges.check(array.length, fromIndex, toIndex);
 		this.array = array;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of values this {@link FloatArrayIterable} iterates
+	 * over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns a {@link FloatArrayIterable} that iterates over the given range
+	 * of the values this {@link FloatArrayIterable} iterates over. The returned
+	 * {@link FloatArrayIterable} is a view on the same {@code float[]} and
+	 * doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to
+	 *            this {@link FloatArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link FloatArrayIterable}.
+	 * @return The {@link FloatArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index
+	 *             is larger than the size of this {@link FloatArrayIterable}
+	 *             or if the given from index is larger than the given to
+	 *             index.
+	 */
+	public FloatArrayIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new FloatArrayIterable(array, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+	}
+
+	/**
+	 * Returns a {@link StridedFloatArrayIterable} that iterates over every
+	 * {@code stride}-th value this {@link FloatArrayIterable} iterates over,
+	 * starting at the given offset. The returned
+	 * {@link StridedFloatArrayIterable} is a view on the same {@code float[]}
+	 * and doesn't copy it.
+	 * 
+	 * @param offset
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link FloatArrayIterable}.
+	 * @param stride
+	 *            The distance between the indices of two consecutive values to
+	 *            iterate over.
+	 * @return The {@link StridedFloatArrayIterable} for the given offset and
+	 *         stride.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given offset is negative, if the given offset is
+	 *             larger than the size of this {@link FloatArrayIterable} or if
+	 *             the given stride is not positive.
+	 */
+	public StridedFloatArrayIterable strided(int offset, int stride) throws IllegalArgumentException {
+		if (offset < 0) {
+			throw new IllegalArgumentException("The given offset is negative");
+		} else if (offset > size()) {
+			throw new IllegalArgumentException("The given offset is larger than the size");
+		}
+		int count = offset == size() || stride <= 0 ? 0 : (size() - offset - 1) / stride + 1;
+		return new StridedFloatArrayIterable(array, fromIndex + offset, stride, count);
 	}
 
 	@Override
-	public FloatArrayIterator iterator() {
-		return new FloatArrayIterator(array);
+	public FloatIterator iterator() {
+		return new PrimitiveFloatArrayIterator(array, fromIndex, toIndex);
+	}
+
+	@Override
+	public FloatIterator primitiveIterator() {
+		return new PrimitiveFloatArrayIterator(array, fromIndex, toIndex);
+	}
+
+	/**
+	 * Calls the given {@link FloatHandler} with every value this
+	 * {@link FloatArrayIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link FloatArrayIterable} and
+	 * calling the given {@link FloatHandler} with every yielded value, because
+	 * the {@code float[]} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link FloatHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link FloatHandler} is {@literal null}.
+	 */
+	public void handleEach(FloatHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		float[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link FloatArrayIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link FloatArrayIterable} and
+	 * calling the given {@link Handler} with every yielded value, because the
+	 * {@code float[]} is traversed in a single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Float}. Use
+	 * {@linkplain FloatArrayIterable#handleEach(FloatHandler)} to handle the
+	 * values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Float> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		float[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	/**
+	 * Returns the sum of all values this {@link FloatArrayIterable} iterates
+	 * over. The sum of no values is {@code 0}. The sum is computed as a
+	 * {@code double}. Because the values are summed up in multiple interleaved
+	 * partial sums, the result may differ from a strictly sequential summation
+	 * in the least significant bits.
+	 * 
+	 * @return The sum of all values.
+	 */
+	public double sum() {
+		float[] array = this.array;
+		double sum0 = 0;
+		double sum1 = 0;
+		double sum2 = 0;
+		double sum3 = 0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			sum0 += array[i];
+			sum1 += array[i + 1];
+			sum2 += array[i + 2];
+			sum3 += array[i + 3];
+		}
+		for (; i < toIndex; i++) {
+			sum0 += array[i];
+		}
+		return (sum0 + sum1) + (sum2 + sum3);
+	}
+
+	/**
+	 * Returns the smallest value this {@link FloatArrayIterable} iterates over.
+	 * If any value is {@code NaN}, the result is {@code NaN}.
+	 * 
+	 * @return The smallest value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link FloatArrayIterable} has no values.
+	 */
+	public float min() throws NoSuchElementException {
+		if (fromIndex == toIndex) {
+			throw new NoSuchElementException("This iterable has no values");
+		}
+		float[] array = this.array;
+		float min0 = array[fromIndex];
+		float min1 = min0;
+		float min2 = min0;
+		float min3 = min0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			min0 = Math.min(min0, array[i]);
+			min1 = Math.min(min1, array[i + 1]);
+			min2 = Math.min(min2, array[i + 2]);
+			min3 = Math.min(min3, array[i + 3]);
+		}
+		for (; i < toIndex; i++) {
+			min0 = Math.min(min0, array[i]);
+		}
+		return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+	}
+
+	/**
+	 * Returns the largest value this {@link FloatArrayIterable} iterates over.
+	 * If any value is {@code NaN}, the result is {@code NaN}.
+	 * 
+	 * @return The largest value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link FloatArrayIterable} has no values.
+	 */
+	public float max() throws NoSuchElementException {
+		if (fromIndex == toIndex) {
+			throw new NoSuchElementException("This iterable has no values");
+		}
+		float[] array = this.array;
+		float max0 = array[fromIndex];
+		float max1 = max0;
+		float max2 = max0;
+		float max3 = max0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			max0 = Math.max(max0, array[i]);
+			max1 = Math.max(max1, array[i + 1]);
+			max2 = Math.max(max2, array[i + 2]);
+			max3 = Math.max(max3, array[i + 3]);
+		}
+		for (; i < toIndex; i++) {
+			max0 = Math.max(max0, array[i]);
+		}
+		return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+	}
+
+	/**
+	 * Returns the dot product of the values this {@link FloatArrayIterable}
+	 * iterates over and the values the given {@link FloatArrayIterable}
+	 * iterates over, i.e. the sum of the products of the values with the same
+	 * index. The dot product is computed as a {@code double}. Because the
+	 * products are summed up in multiple interleaved partial sums, the result
+	 * may differ from a strictly sequential summation in the least significant
+	 * bits.
+	 * 
+	 * @param other
+	 *            The other {@link FloatArrayIterable}.
+	 * @return The dot product.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link FloatArrayIterable} is {@literal null} or
+	 *             if the given {@link FloatArrayIterable} has a different size
+	 *             than this {@link FloatArrayIterable}.
+	 */
+	public double dot(FloatArrayIterable other) throws IllegalArgumentException {
+		if (null == other) {
+			throw new IllegalArgumentException("The given iterable is null");
+		} else if (other.size() != size()) {
+			throw new IllegalArgumentException("The given iterable has a different size");
+		}
+		float[] array = this.array;
+		float[] otherArray = other.array;
+		int offset = other.fromIndex - fromIndex;
+		double dot0 = 0;
+		double dot1 = 0;
+		double dot2 = 0;
+		double dot3 = 0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			dot0 += (double) array[i] * otherArray[i + offset];
+			dot1 += (double) array[i + 1] * otherArray[i + offset + 1];
+			dot2 += (double) array[i + 2] * otherArray[i + offset + 2];
+			dot3 += (double) array[i + 3] * otherArray[i + offset + 3];
+		}
+		for (; i < toIndex; i++) {
+			dot0 += (double) array[i] * otherArray[i + offset];
+		}
+		return (dot0 + dot1) + (dot2 + dot3);
+	}
+
+	private static final class PrimitiveFloatArrayIterator extends AbstractIndexedIterator<Float>
+			implements FloatIterator {
+
+		private final float[] array;
+
+		public PrimitiveFloatArrayIterator(float[] array, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.array = array;
+		}
+
+		@Override
+		public float nextFloat() throws NoSuchElementException {
+			return array[nextIndex()];
+		}
+
+		@Override
+		public Float next() throws NoSuchElementException {
+			return nextFloat();
+		}
+
+		@Override
+		public float previousFloat() throws NoSuchElementException {
+			return array[previousIndex()];
+		}
+
+		@Override
+		public Float previous() throws NoSuchElementException {
+			return previousFloat();
+		}
+
 	}
 
 }
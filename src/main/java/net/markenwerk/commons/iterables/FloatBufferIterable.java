@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.nio.FloatBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+/**
+ * A {@link FloatBufferIterable} is a {@link FloatIterable} that generates
+ * {@link Iterator Iterators} that iterate over the values between the position
+ * and the limit of a given {@link FloatBuffer} or over a given range of a given
+ * {@link FloatBuffer}.
+ * 
+ * <p>
+ * The values are read in place with absolute {@link FloatBuffer#get(int) get}
+ * operations, which allows to iterate over direct buffers without copying their
+ * content onto the heap. The position and the limit of the given
+ * {@link FloatBuffer} are read once, when the {@link FloatBufferIterable} is
+ * created, and the values are read from a duplicate of the given
+ * {@link FloatBuffer}, that shares its content, but has its own position and
+ * limit. Neither are they modified, nor do later modifications of them
+ * influence the {@link FloatBufferIterable}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class FloatBufferIterable implements FloatIterable {
+
+	private final FloatBuffer buffer;
+
+	private final int fromIndex;
+
+	private final int toIndex;
+
+	/**
+	 * Creates a new {@link FloatBufferIterable} that iterates over the values
+	 * between the current position and the current limit of the given
+	 * {@link FloatBuffer}.
+	 * 
+	 * @param buffer
+	 *            The {@link FloatBuffer} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link FloatBuffer} is {@literal null}.
+	 */
+	public FloatBufferIterable(FloatBuffer buffer) throws IllegalArgumentException {
+		this(buffer, null == buffer ? 0 : buffer.position(), null == buffer ? 0 : buffer.limit());
+	}
+
+	/**
+	 * Creates a new {@link FloatBufferIterable} that iterates over the given
+	 * range of the given {@link FloatBuffer}, without copying it.
+	 * 
+	 * @param buffer
+	 *            The {@link FloatBuffer} to iterate over.
+	 * @param fromIndex
+	 *            The absolute index of the first value to iterate over.
+	 * @param toIndex
+	 *            The absolute index after the last value to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link FloatBuffer} is {@literal null}, if the
+	 *             given from index is negative, if the given to index is larger
+	 *             than the current limit of the given {@link FloatBuffer} or if
+	 *             the given from index is larger than the given to index.
+	 */
+	public FloatBufferIterable(FloatBuffer buffer, int fromIndex, int toIndex) throws IllegalArgumentException {
+		if (null == buffer) {
+			throw new IllegalArgumentException("The given buffer is null");
+		}
+		Ranges.check(buffer.limit(), fromIndex, toIndex);
+		this.buffer = buffer.duplicate();
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	private FloatBufferIterable(FloatBufferIterable iterable, int fromIndex, int toIndex) {
+		this.buffer = iterable.buffer;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of values this {@link FloatBufferIterable} iterates
+	 * over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns a {@link FloatBufferIterable} that iterates over the given range
+	 * of the values this {@link FloatBufferIterable} iterates over. The
+	 * returned {@link FloatBufferIterable} is a view on the same
+	 * {@link FloatBuffer} and doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link FloatBufferIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link FloatBufferIterable}.
+	 * @return The {@link FloatBufferIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index is
+	 *             larger than the size of this {@link FloatBufferIterable} or
+	 *             if the given from index is larger than the given to index.
+	 */
+	public FloatBufferIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new FloatBufferIterable(this, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+	}
+
+	@Override
+	public FloatIterator iterator() {
+		return new FloatBufferIterator(buffer, fromIndex, toIndex);
+	}
+
+	@Override
+	public FloatIterator primitiveIterator() {
+		return new FloatBufferIterator(buffer, fromIndex, toIndex);
+	}
+
+	/**
+	 * Calls the given {@link FloatHandler} with every value this
+	 * {@link FloatBufferIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link FloatBufferIterable} and
+	 * calling the given {@link FloatHandler} with every yielded value, because
+	 * the {@link FloatBuffer} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link FloatHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link FloatHandler} is {@literal null}.
+	 */
+	public void handleEach(FloatHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		FloatBuffer buffer = this.buffer;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(buffer.get(i));
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link FloatBufferIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link FloatBufferIterable} and
+	 * calling the given {@link Handler} with every yielded value, because the
+	 * {@link FloatBuffer} is traversed in a single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Float}. Use
+	 * {@linkplain FloatBufferIterable#handleEach(FloatHandler)} to handle the
+	 * values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Float> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		FloatBuffer buffer = this.buffer;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(buffer.get(i));
+		}
+	}
+
+	private static final class FloatBufferIterator extends AbstractIndexedIterator<Float>
+			implements FloatIterator {
+
+		private final FloatBuffer buffer;
+
+		public FloatBufferIterator(FloatBuffer buffer, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.buffer = buffer;
+		}
+
+		@Override
+		public float nextFloat() throws NoSuchElementException {
+			return buffer.get(nextIndex());
+		}
+
+		@Override
+		public Float next() throws NoSuchElementException {
+			return nextFloat();
+		}
+
+		@Override
+		public float previousFloat() throws NoSuchElementException {
+			return buffer.get(previousIndex());
+		}
+
+		@Override
+		public Float previous() throws NoSuchElementException {
+			return previousFloat();
+		}
+
+	}
+
+}
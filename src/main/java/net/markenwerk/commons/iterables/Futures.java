@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * {@link Futures} provides the waiting for and the cancellation of
+ * {@link Future Futures}, that is shared by all
+ * {@link java.util.Iterator Iterators} that compute values on an
+ * {@link java.util.concurrent.Executor Executor}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+final class Futures {
+
+	private Futures() {
+	}
+
+	/**
+	 * Waits uninterruptibly for the given {@link Future} and returns its
+	 * result. If the current thread is interrupted while waiting, its
+	 * interrupt status is restored afterwards.
+	 * 
+	 * @param <Result>
+	 *            The result type.
+	 * @param future
+	 *            The {@link Future} to wait for.
+	 * @return The result of the given {@link Future}.
+	 * 
+	 * @throws RuntimeException
+	 *             If the computation of the given {@link Future} threw a
+	 *             {@link RuntimeException}.
+	 * @throws Error
+	 *             If the computation of the given {@link Future} threw an
+	 *             {@link Error}.
+	 */
+	static <Result> Result await(Future<Result> future) throws RuntimeException, Error {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					return future.get();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					throw (Error) cause;
+				}
+			}
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Cancels the given {@link Future}. If the computation of the given
+	 * {@link Future} is running, the thread that runs it is interrupted. If
+	 * the computation has already completed with a {@link CancelableIterator},
+	 * that {@link CancelableIterator} is cancelled instead.
+	 * 
+	 * @param future
+	 *            The {@link Future} to cancel.
+	 */
+	static void cancel(Future<?> future) {
+		if (!future.cancel(true)) {
+			try {
+				Object result = future.get();
+				if (result instanceof CancelableIterator<?>) {
+					((CancelableIterator<?>) result).cancel();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				// the computation failed and there is nothing to cancel
+			}
+		}
+	}
+
+}
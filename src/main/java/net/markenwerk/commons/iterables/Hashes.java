@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+/**
+ * {@link Hashes} provides the hash function and the size calculations, that are
+ * shared by all primitive hash sets and bloom filters.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+final class Hashes {
+
+	/**
+	 * The largest capacity of a hash table.
+	 */
+	static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private Hashes() {
+	}
+
+	/**
+	 * Checks whether the given expected amount of values is not negative.
+	 * 
+	 * @param expectedSize
+	 *            The expected amount of values to be checked.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given expected amount of values is negative.
+	 */
+	static void checkExpectedSize(int expectedSize) throws IllegalArgumentException {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("The given expected size is negative");
+		}
+	}
+
+	/**
+	 * Mixes the bits of the given value, such that every bit of the result
+	 * depends on every bit of the given value.
+	 * 
+	 * @param value
+	 *            The value to be mixed.
+	 * @return The mixed value.
+	 */
+	static long mix(long value) {
+		long hash = value;
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	/**
+	 * Mixes the bits of the given value with a function that is independent of
+	 * {@linkplain Hashes#mix(long)}, such that a bloom filter doesn't select
+	 * the same values as a hash table.
+	 * 
+	 * @param value
+	 *            The value to be mixed.
+	 * @return The mixed value.
+	 */
+	static long remix(long value) {
+		long hash = value + 0x9e3779b97f4a7c15L;
+		hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+		hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+		return hash ^ (hash >>> 31);
+	}
+
+	/**
+	 * Returns the capacity of a hash table with linear probing, that is able to
+	 * hold the given amount of values with a load factor of at most
+	 * {@code 0.5}.
+	 * 
+	 * @param size
+	 *            The amount of values.
+	 * @return The capacity, a power of two.
+	 */
+	static int capacityFor(int size) {
+		int capacity = 16;
+		while (capacity < MAXIMUM_CAPACITY && capacity < 2L * size) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	/**
+	 * Returns the amount of {@code long} values needed for the bits of a bloom
+	 * filter for the given amount of values and the given false positive rate.
+	 * 
+	 * @param size
+	 *            The amount of values.
+	 * @param falsePositiveRate
+	 *            The false positive rate.
+	 * @return The amount of {@code long} values.
+	 */
+	static int wordsFor(int size, double falsePositiveRate) {
+		double bits = -Math.max(1, size) * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+		return (int) Math.min(Integer.MAX_VALUE / 64, Math.max(1, Math.ceil(bits / 64)));
+	}
+
+	/**
+	 * Returns the amount of hash functions for a bloom filter with the given
+	 * amount of bits for the given amount of values.
+	 * 
+	 * @param size
+	 *            The amount of values.
+	 * @param bits
+	 *            The amount of bits.
+	 * @return The amount of hash functions.
+	 */
+	static int hashesFor(int size, long bits) {
+		return (int) Math.max(1, Math.min(32, Math.round((double) bits / Math.max(1, size) * Math.log(2))));
+	}
+
+	/**
+	 * Checks whether the given false positive rate lies strictly between
+	 * {@code 0} and {@code 1}.
+	 * 
+	 * @param falsePositiveRate
+	 *            The false positive rate to be checked.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given false positive rate is not larger than {@code 0}
+	 *             or not smaller than {@code 1}.
+	 */
+	static void checkFalsePositiveRate(double falsePositiveRate) throws IllegalArgumentException {
+		if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+			throw new IllegalArgumentException("The given false positive rate is not between 0 and 1");
+		}
+	}
+
+}
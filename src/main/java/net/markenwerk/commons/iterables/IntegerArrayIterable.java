@@ -22,20 +22,25 @@
 package net.markenwerk.commons.iterables;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
-import net.markenwerk.commons.iterators.IntegerArrayIterator;
+import net.markenwerk.commons.interfaces.Handler;
 
 /**
- * An {@link IntegerArrayIterable} is a {@link ProtectedBidirectionalIterable}
- * that generates {@link Iterator Iterators} that iterate over a given
- * {@code int[]}.
+ * An {@link IntegerArrayIterable} is an {@link IntegerIterable} that generates
+ * {@link Iterator Iterators} that iterate over a given {@code int[]} or over a
+ * given range of a given {@code int[]}.
  * 
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class IntegerArrayIterable implements ProtectedBidirectionalIterable<Integer> {
+public final class IntegerArrayIterable implements IntegerIterable {
 
-	private final int[] array;
+	final int[] array;
+
+	final int fromIndex;
+
+	final int toIndex;
 
 	/**
 	 * Creates a new {@link IntegerArrayIterable}.
@@ -47,15 +52,361 @@ public final class IntegerArrayIterable implements ProtectedBidirectionalIterabl
 	 *             If the given {@code int[]} is {@literal null}.
 	 */
 	public IntegerArrayIterable(int... array) throws IllegalArgumentException {
+		this(array, 0, null == array ? 0 : array.length);
+	}
+
+	/**
+	 * Creates a new {@link IntegerArrayIterable} that iterates over the given
+	 * range of the given {@code int[]}, without copying it.
+	 * 
+	 * @param array
+	 *            The {@code int[]} to iterate over.
+	 * @param fromIndex
+	 *            The index of the first value to iterate over.
+	 * @param toIndex
+	 *            The index after the last value to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code int[]} is {@literal null}, if the given
+	 *             from index is negative, if the given to index is larger than
+	 *             the length of the given {@code int[]} or if the given from
+	 *             index is larger than the given to index.
+	 */
+	public IntegerArrayIterable(int[] array, int fromIndex, int toIndex) throws IllegalArgumentException {
 		if (null == array) {
 			throw new IllegalArgumentException("The given array is null");
 		}
+		Ranges.check(array.length, fromIndex, toIndex);
 		this.array = array;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of values this {@link IntegerArrayIterable} iterates
+	 * over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns an {@link IntegerArrayIterable} that iterates over the given
+	 * range of the values this {@link IntegerArrayIterable} iterates over. The
+	 * returned {@link IntegerArrayIterable} is a view on the same {@code int[]}
+	 * and doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to
+	 *            this {@link IntegerArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link IntegerArrayIterable}.
+	 * @return The {@link IntegerArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index
+	 *             is larger than the size of this {@link IntegerArrayIterable}
+	 *             or if the given from index is larger than the given to
+	 *             index.
+	 */
+	public IntegerArrayIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new IntegerArrayIterable(array, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+	}
+
+	/**
+	 * Returns a {@link StridedIntegerArrayIterable} that iterates over every
+	 * {@code stride}-th value this {@link IntegerArrayIterable} iterates over,
+	 * starting at the given offset. The returned
+	 * {@link StridedIntegerArrayIterable} is a view on the same {@code int[]}
+	 * and doesn't copy it.
+	 * 
+	 * @param offset
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link IntegerArrayIterable}.
+	 * @param stride
+	 *            The distance between the indices of two consecutive values to
+	 *            iterate over.
+	 * @return The {@link StridedIntegerArrayIterable} for the given offset and
+	 *         stride.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given offset is negative, if the given offset is
+	 *             larger than the size of this {@link IntegerArrayIterable} or
+	 *             if the given stride is not positive.
+	 */
+	public StridedIntegerArrayIterable strided(int offset, int stride) throws IllegalArgumentException {
+		if (offset < 0) {
+			throw new IllegalArgumentException("The given offset is negative");
+		} else if (offset > size()) {
+			throw new IllegalArgumentException("The given offset is larger than the size");
+		}
+		int count = offset == size() || stride <= 0 ? 0 : (size() - offset - 1) / stride + 1;
+		return new StridedIntegerArrayIterable(array, fromIndex + offset, stride, count);
+	}
+
+	/**
+	 * Returns a {@link FilteredIntegerArrayIterable} that iterates over the
+	 * values this {@link IntegerArrayIterable} iterates over that satisfy the
+	 * given {@link IntegerPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link IntegerPredicate} to be used.
+	 * @return The {@link FilteredIntegerArrayIterable} for the given
+	 *         {@link IntegerPredicate}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IntegerPredicate} is {@literal null}.
+	 */
+	public FilteredIntegerArrayIterable filtered(IntegerPredicate predicate) throws IllegalArgumentException {
+		return new FilteredIntegerArrayIterable(this, predicate);
+	}
+
+	/**
+	 * Returns a {@link FilteredIntegerArrayIterable} that iterates over the
+	 * values this {@link IntegerArrayIterable} iterates over that satisfy, or,
+	 * if the test result is inverted, don't satisfy the given
+	 * {@link IntegerPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link IntegerPredicate} to be used.
+	 * @param invertPredicate
+	 *            Whether to invert the test result and yield values that don't
+	 *            satisfy the given {@link IntegerPredicate}.
+	 * @return The {@link FilteredIntegerArrayIterable} for the given
+	 *         {@link IntegerPredicate}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IntegerPredicate} is {@literal null}.
+	 */
+	public FilteredIntegerArrayIterable filtered(IntegerPredicate predicate, boolean invertPredicate)
+			throws IllegalArgumentException {
+		return new FilteredIntegerArrayIterable(this, predicate, invertPredicate);
+	}
+
+	@Override
+	public IntegerIterator iterator() {
+		return new PrimitiveIntegerArrayIterator(array, fromIndex, toIndex);
 	}
 
 	@Override
-	public IntegerArrayIterator iterator() {
-		return new IntegerArrayIterator(array);
+	public IntegerIterator primitiveIterator() {
+		return new PrimitiveIntegerArrayIterator(array, fromIndex, toIndex);
+	}
+
+	/**
+	 * Calls the given {@link IntegerHandler} with every value this
+	 * {@link IntegerArrayIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link IntegerArrayIterable} and
+	 * calling the given {@link IntegerHandler} with every yielded value,
+	 * because the {@code int[]} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link IntegerHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IntegerHandler} is {@literal null}.
+	 */
+	public void handleEach(IntegerHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		int[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link IntegerArrayIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link IntegerArrayIterable} and
+	 * calling the given {@link Handler} with every yielded value, because the
+	 * {@code int[]} is traversed in a single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into an {@link Integer}. Use
+	 * {@linkplain IntegerArrayIterable#handleEach(IntegerHandler)} to handle
+	 * the values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Integer> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		int[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	/**
+	 * Returns the sum of all values this {@link IntegerArrayIterable} iterates
+	 * over. The sum of no values is {@code 0}. The sum is computed as a
+	 * {@code long}, such that it doesn't overflow.
+	 * 
+	 * @return The sum of all values.
+	 */
+	public long sum() {
+		int[] array = this.array;
+		long sum0 = 0;
+		long sum1 = 0;
+		long sum2 = 0;
+		long sum3 = 0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			sum0 += array[i];
+			sum1 += array[i + 1];
+			sum2 += array[i + 2];
+			sum3 += array[i + 3];
+		}
+		for (; i < toIndex; i++) {
+			sum0 += array[i];
+		}
+		return (sum0 + sum1) + (sum2 + sum3);
+	}
+
+	/**
+	 * Returns the smallest value this {@link IntegerArrayIterable} iterates
+	 * over.
+	 * 
+	 * @return The smallest value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link IntegerArrayIterable} has no values.
+	 */
+	public int min() throws NoSuchElementException {
+		if (fromIndex == toIndex) {
+			throw new NoSuchElementException("This iterable has no values");
+		}
+		int[] array = this.array;
+		int min0 = array[fromIndex];
+		int min1 = min0;
+		int min2 = min0;
+		int min3 = min0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			min0 = Math.min(min0, array[i]);
+			min1 = Math.min(min1, array[i + 1]);
+			min2 = Math.min(min2, array[i + 2]);
+			min3 = Math.min(min3, array[i + 3]);
+		}
+		for (; i < toIndex; i++) {
+			min0 = Math.min(min0, array[i]);
+		}
+		return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+	}
+
+	/**
+	 * Returns the largest value this {@link IntegerArrayIterable} iterates
+	 * over.
+	 * 
+	 * @return The largest value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link IntegerArrayIterable} has no values.
+	 */
+	public int max() throws NoSuchElementException {
+		if (fromIndex == toIndex) {
+			throw new NoSuchElementException("This iterable has no values");
+		}
+		int[] array = this.array;
+		int max0 = array[fromIndex];
+		int max1 = max0;
+		int max2 = max0;
+		int max3 = max0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			max0 = Math.max(max0, array[i]);
+			max1 = Math.max(max1, array[i + 1]);
+			max2 = Math.max(max2, array[i + 2]);
+			max3 = Math.max(max3, array[i + 3]);
+		}
+		for (; i < toIndex; i++) {
+			max0 = Math.max(max0, array[i]);
+		}
+		return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+	}
+
+	/**
+	 * Returns the dot product of the values this {@link IntegerArrayIterable}
+	 * iterates over and the values the given {@link IntegerArrayIterable}
+	 * iterates over, i.e. the sum of the products of the values with the same
+	 * index. The products and their sum are computed as {@code long} values.
+	 * 
+	 * @param other
+	 *            The other {@link IntegerArrayIterable}.
+	 * @return The dot product.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IntegerArrayIterable} is {@literal null}
+	 *             or if the given {@link IntegerArrayIterable} has a different
+	 *             size than this {@link IntegerArrayIterable}.
+	 */
+	public long dot(IntegerArrayIterable other) throws IllegalArgumentException {
+		if (null == other) {
+			throw new IllegalArgumentException("The given iterable is null");
+		} else if (other.size() != size()) {
+			throw new IllegalArgumentException("The given iterable has a different size");
+		}
+		int[] array = this.array;
+		int[] otherArray = other.array;
+		int offset = other.fromIndex - fromIndex;
+		long dot0 = 0;
+		long dot1 = 0;
+		long dot2 = 0;
+		long dot3 = 0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			dot0 += (long) array[i] * otherArray[i + offset];
+			dot1 += (long) array[i + 1] * otherArray[i + offset + 1];
+			dot2 += (long) array[i + 2] * otherArray[i + offset + 2];
+			dot3 += (long) array[i + 3] * otherArray[i + offset + 3];
+		}
+		for (; i < toIndex; i++) {
+			dot0 += (long) array[i] * otherArray[i + offset];
+		}
+		return (dot0 + dot1) + (dot2 + dot3);
+	}
+
+	private static final class PrimitiveIntegerArrayIterator extends AbstractIndexedIterator<Integer>
+			implements IntegerIterator {
+
+		private final int[] array;
+
+		public PrimitiveIntegerArrayIterator(int[] array, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.array = array;
+		}
+
+		@Override
+		public int nextInt() throws NoSuchElementException {
+			return array[nextIndex()];
+		}
+
+		@Override
+		public Integer next() throws NoSuchElementException {
+			return nextInt();
+		}
+
+		@Override
+		public int previousInt() throws NoSuchElementException {
+			return array[previousIndex()];
+		}
+
+		@Override
+		public Integer previous() throws NoSuchElementException {
+			return previousInt();
+		}
+
 	}
 
 }
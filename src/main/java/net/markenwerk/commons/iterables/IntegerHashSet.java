@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+/**
+ * An {@link IntegerHashSet} is a set of {@code int} values that stores the
+ * values in an {@code int[]} with open addressing and linear probing, without
+ * boxing them into {@link Integer Integers}.
+ * 
+ * <p>
+ * An {@link IntegerHashSet} is an {@link IntegerPredicate} that is satisfied by
+ * the values it contains. It can therefore be used to filter the values of a
+ * {@link FilteredIntegerArrayIterable} by membership or, with an inverted
+ * {@link IntegerPredicate}, to filter out the values it contains.
+ * 
+ * <p>
+ * An {@link IntegerHashSet} is not thread-safe. It can be tested concurrently,
+ * as long as no values are added.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class IntegerHashSet implements IntegerPredicate {
+
+	private int[] keys;
+
+	private int mask;
+
+	private boolean containsZero;
+
+	private int size;
+
+	/**
+	 * Creates a new, empty {@link IntegerHashSet}.
+	 */
+	public IntegerHashSet() {
+		this(0);
+	}
+
+	/**
+	 * Creates a new, empty {@link IntegerHashSet} that is able to hold the
+	 * given amount of values without growing.
+	 * 
+	 * @param expectedSize
+	 *            The expected amount of values.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given expected size is negative.
+	 */
+	public IntegerHashSet(int expectedSize) throws IllegalArgumentException {
+		Hashes.checkExpectedSize(expectedSize);
+		keys = new int[Hashes.capacityFor(expectedSize)];
+		mask = keys.length - 1;
+	}
+
+	/**
+	 * Creates a new {@link IntegerHashSet} that contains the given values.
+	 * 
+	 * @param values
+	 *            The values to be added.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code int[]} is {@literal null}.
+	 */
+	public IntegerHashSet(int[] values) throws IllegalArgumentException {
+		this(null == values ? 0 : values.length);
+		if (null == values) {
+			throw new IllegalArgumentException("The given values are null");
+		}
+		for (int value : values) {
+			add(value);
+		}
+	}
+
+	/**
+	 * Returns the amount of values this {@link IntegerHashSet} contains.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the values this {@link IntegerHashSet} contains, in no particular
+	 * order.
+	 * 
+	 * @return The values.
+	 */
+	int[] values() {
+		int[] values = new int[size];
+		int count = 0;
+		if (containsZero) {
+			values[count++] = 0;
+		}
+		for (int key : keys) {
+			if (0 != key) {
+				values[count++] = key;
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Adds the given value to this {@link IntegerHashSet}.
+	 * 
+	 * @param value
+	 *            The value to be added.
+	 * @return Whether this {@link IntegerHashSet} didn't already contain the
+	 *         given value.
+	 * 
+	 * @throws IllegalStateException
+	 *             If this {@link IntegerHashSet} has reached its maximum
+	 *             capacity.
+	 */
+	public boolean add(int value) throws IllegalStateException {
+		if (0 == value) {
+			if (containsZero) {
+				return false;
+			}
+			containsZero = true;
+			size++;
+			return true;
+		}
+		int index = indexOf(value);
+		if (0 != keys[index]) {
+			return false;
+		}
+		if ((containsZero ? size : size + 1) == keys.length) {
+			throw new IllegalStateException("This set has reached its maximum capacity");
+		}
+		keys[index] = value;
+		size++;
+		if (2 * size > keys.length && keys.length < Hashes.MAXIMUM_CAPACITY) {
+			grow();
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether this {@link IntegerHashSet} contains the given value.
+	 * 
+	 * @param value
+	 *            The value to be looked up.
+	 * @return Whether this {@link IntegerHashSet} contains the given value.
+	 */
+	public boolean contains(int value) {
+		if (0 == value) {
+			return containsZero;
+		}
+		return 0 != keys[indexOf(value)];
+	}
+
+	@Override
+	public boolean test(int value) {
+		return contains(value);
+	}
+
+	private int indexOf(int value) {
+		int[] keys = this.keys;
+		int mask = this.mask;
+		int index = (int) Hashes.mix(value) & mask;
+		while (0 != keys[index] && value != keys[index]) {
+			index = (index + 1) & mask;
+		}
+		return index;
+	}
+
+	private void grow() {
+		int[] oldKeys = keys;
+		keys = new int[oldKeys.length << 1];
+		mask = keys.length - 1;
+		for (int key : oldKeys) {
+			if (0 != key) {
+				keys[indexOf(key)] = key;
+			}
+		}
+	}
+
+}
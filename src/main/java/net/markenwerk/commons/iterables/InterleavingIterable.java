@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link InterleavingIterable} is an {@link Iterable} that wraps around some
+ * given {@link Iterable Iterables} and generates {@link Iterator Iterators}
+ * that take turns in yielding values from the {@link Iterator Iterators}
+ * generated by the given {@link Iterable Iterables}, in the order they were
+ * given.
+ * 
+ * <p>
+ * Every {@link Iterable} has a positive weight, that determines how many
+ * consecutive values are yielded from it per turn. By default, every
+ * {@link Iterable} has a weight of {@code 1}, such that one value is taken
+ * from every {@link Iterable} in turn. Once an {@link Iterable} is exhausted,
+ * it is dropped from the rotation in constant time, such that the remaining
+ * {@link Iterable Iterables} keep taking turns.
+ * 
+ * <p>
+ * Calling {@linkplain Iterator#remove()} on a generated {@link Iterator}
+ * removes the last yielded value from the {@link Iterator} that yielded it.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class InterleavingIterable<Payload> implements Iterable<Payload> {
+
+	private final Iterable<? extends Iterable<? extends Payload>> iterables;
+
+	private final int[] weights;
+
+	/**
+	 * Creates a new {@link InterleavingIterable} that takes one value from
+	 * every given {@link Iterable} in turn.
+	 * 
+	 * @param iterables
+	 *            The sequence of {@link Iterable Iterables} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given sequence of {@link Iterable Iterables} is
+	 *             {@literal null}.
+	 */
+	public InterleavingIterable(Iterable<? extends Payload>... iterables) throws IllegalArgumentException {
+		if (null == iterables) {
+			throw new IllegalArgumentException("The given array of iterables is null");
+		}
+		this.iterables = new ArrayIterable<Iterable<? extends Payload>>(iterables);
+		this.weights = null;
+	}
+
+	/**
+	 * Creates a new {@link InterleavingIterable} that takes one value from
+	 * every given {@link Iterable} in turn.
+	 * 
+	 * @param iterable
+	 *            The {@link Iterable} of {@link Iterable Iterables} to iterate
+	 *            over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} of {@link Iterable Iterables}
+	 *             is {@literal null}.
+	 */
+	public InterleavingIterable(Iterable<? extends Iterable<? extends Payload>> iterable)
+			throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable of iterables is null");
+		}
+		this.iterables = iterable;
+		this.weights = null;
+	}
+
+	/**
+	 * Creates a new {@link InterleavingIterable} that takes as many values
+	 * from every given {@link Iterable} in turn, as the corresponding weight
+	 * indicates.
+	 * 
+	 * @param weights
+	 *            The weights of the given {@link Iterable Iterables}.
+	 * @param iterables
+	 *            The sequence of {@link Iterable Iterables} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given weights are {@literal null}, if any of the
+	 *             given weights is not positive, if the given sequence of
+	 *             {@link Iterable Iterables} is {@literal null} or if the
+	 *             amount of given weights differs from the amount of given
+	 *             {@link Iterable Iterables}.
+	 */
+	public InterleavingIterable(int[] weights, Iterable<? extends Payload>... iterables)
+			throws IllegalArgumentException {
+		checkWeights(weights);
+		if (null == iterables) {
+			throw new IllegalArgumentException("The given array of iterables is null");
+		}
+		if (weights.length != iterables.length) {
+			throw new IllegalArgumentException("The amount of weights differs from the amount of iterables");
+		}
+		this.iterables = new ArrayIterable<Iterable<? extends Payload>>(iterables);
+		this.weights = Arrays.copyOf(weights, weights.length);
+	}
+
+	/**
+	 * Creates a new {@link InterleavingIterable} that takes as many values
+	 * from every given {@link Iterable} in turn, as the corresponding weight
+	 * indicates.
+	 * 
+	 * <p>
+	 * Because the given {@link Iterable} of {@link Iterable Iterables} is only
+	 * iterated over when an {@link Iterator} is generated, the amount of given
+	 * weights is checked against the amount of given {@link Iterable Iterables}
+	 * at that time.
+	 * 
+	 * @param weights
+	 *            The weights of the given {@link Iterable Iterables}.
+	 * @param iterable
+	 *            The {@link Iterable} of {@link Iterable Iterables} to iterate
+	 *            over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given weights are {@literal null}, if any of the
+	 *             given weights is not positive or if the given
+	 *             {@link Iterable} of {@link Iterable Iterables} is
+	 *             {@literal null}.
+	 */
+	public InterleavingIterable(int[] weights, Iterable<? extends Iterable<? extends Payload>> iterable)
+			throws IllegalArgumentException {
+		checkWeights(weights);
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable of iterables is null");
+		}
+		this.iterables = iterable;
+		this.weights = Arrays.copyOf(weights, weights.length);
+	}
+
+	private static void checkWeights(int[] weights) throws IllegalArgumentException {
+		if (null == weights) {
+			throw new IllegalArgumentException("The given weights are null");
+		}
+		for (int weight : weights) {
+			if (weight <= 0) {
+				throw new IllegalArgumentException("The given weights contain a non-positive weight");
+			}
+		}
+	}
+
+	/**
+	 * Generates a new {@link Iterator} that takes turns in yielding values
+	 * from the {@link Iterator Iterators} generated by the given
+	 * {@link Iterable Iterables}.
+	 * 
+	 * @throws IllegalStateException
+	 *             If this {@link InterleavingIterable} has been created with
+	 *             weights and the amount of weights differs from the amount of
+	 *             {@link Iterable Iterables} the given {@link Iterable} of
+	 *             {@link Iterable Iterables} currently iterates over.
+	 */
+	@Override
+	public Iterator<Payload> iterator() throws IllegalStateException {
+		return new InterleavingIterator<Payload>(iterables, weights);
+	}
+
+	private static final class InterleavingIterator<Payload> implements Iterator<Payload> {
+
+		private final Iterator<? extends Payload>[] iterators;
+
+		private final int[] weights;
+
+		private final int[] successors;
+
+		private int current;
+
+		private int predecessor;
+
+		private int quota;
+
+		private Iterator<? extends Payload> lastIterator;
+
+		public InterleavingIterator(Iterable<? extends Iterable<? extends Payload>> iterables, int[] weights) {
+			List<Iterator<? extends Payload>> iterators = new ArrayList<Iterator<? extends Payload>>();
+			for (Iterable<? extends Payload> iterable : iterables) {
+				iterators.add(iterable.iterator());
+			}
+			int count = iterators.size();
+			if (null != weights && weights.length != count) {
+				throw new IllegalStateException("The amount of weights differs from the amount of iterables");
+			}
+			@SuppressWarnings("unchecked")
+			Iterator<? extends Payload>[] array = (Iterator<? extends Payload>[]) new Iterator<?>[count];
+			this.iterators = iterators.toArray(array);
+			this.weights = weights;
+			this.successors = new int[count];
+			for (int i = 0; i < count; i++) {
+				successors[i] = i + 1 == count ? 0 : i + 1;
+			}
+			current = 0 == count ? -1 : 0;
+			predecessor = count - 1;
+			quota = 0 == count ? 0 : weightOf(0);
+		}
+
+		private int weightOf(int index) {
+			return null == weights ? 1 : weights[index];
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (-1 != current) {
+				if (0 == quota) {
+					predecessor = current;
+					current = successors[current];
+					quota = weightOf(current);
+				}
+				if (iterators[current].hasNext()) {
+					return true;
+				}
+				iterators[current] = null;
+				if (predecessor == current) {
+					current = -1;
+				} else {
+					current = successors[current];
+					successors[predecessor] = current;
+					quota = weightOf(current);
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Payload next() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			}
+			quota--;
+			lastIterator = iterators[current];
+			return lastIterator.next();
+		}
+
+		@Override
+		public void remove() throws IllegalStateException, UnsupportedOperationException {
+			if (null == lastIterator) {
+				throw new IllegalStateException("This iterator has not yielded a value yet");
+			}
+			lastIterator.remove();
+		}
+
+	}
+
+}
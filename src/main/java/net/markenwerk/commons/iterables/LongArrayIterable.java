@@ -22,20 +22,25 @@
 package net.markenwerk.commons.iterables;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
-import net.markenwerk.commons.iterators.LongArrayIterator;
+import net.markenwerk.commons.interfaces.Handler;
 
 /**
- * A {@link LongArrayIterable} is a {@link ProtectedBidirectionalIterable} that
- * generates {@link Iterator Iterators} that iterate over a given {@code long[]}
- * .
+ * A {@link LongArrayIterable} is a {@link LongIterable} that generates
+ * {@link Iterator Iterators} that iterate over a given {@code long[]} or over a
+ * given range of a given {@code long[]}.
  * 
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class LongArrayIterable implements ProtectedBidirectionalIterable<Long> {
+public final class LongArrayIterable implements LongIterable {
 
-	private final long[] array;
+	final long[] array;
+
+	final int fromIndex;
+
+	final int toIndex;
 
 	/**
 	 * Creates a new {@link LongArrayIterable}.
@@ -47,15 +52,360 @@ public final class LongArrayIterable implements ProtectedBidirectionalIterable<L
 	 *             If the given {@code long[]} is {@literal null}.
 	 */
 	public LongArrayIterable(long... array) throws IllegalArgumentException {
+		this(array, 0, null == array ? 0 : array.length);
+	}
+
+	/**
+	 * Creates a new {@link LongArrayIterable} that iterates over the given
+	 * range of the given {@code long[]}, without copying it.
+	 * 
+	 * @param array
+	 *            The {@code long[]} to iterate over.
+	 * @param fromIndex
+	 *            The index of the first value to iterate over.
+	 * @param toIndex
+	 *            The index after the last value to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code long[]} is {@literal null}, if the given
+	 *             from index is negative, if the given to index is larger than
+	 *             the length of the given {@code long[]} or if the given from
+	 *             index is larger than the given to index.
+	 */
+	public LongArrayIterable(long[] array, int fromIndex, int toIndex) throws IllegalArgumentException {
 		if (null == array) {
 			throw new IllegalArgumentException("The given array is null");
 		}
+		Ranges.check(array.length, fromIndex, toIndex);
 		this.array = array;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of values this {@link LongArrayIterable} iterates
+	 * over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns a {@link LongArrayIterable} that iterates over the given range of
+	 * the values this {@link LongArrayIterable} iterates over. The returned
+	 * {@link LongArrayIterable} is a view on the same {@code long[]} and
+	 * doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to
+	 *            this {@link LongArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link LongArrayIterable}.
+	 * @return The {@link LongArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index
+	 *             is larger than the size of this {@link LongArrayIterable}
+	 *             or if the given from index is larger than the given to
+	 *             index.
+	 */
+	public LongArrayIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new LongArrayIterable(array, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+	}
+
+	/**
+	 * Returns a {@link StridedLongArrayIterable} that iterates over every
+	 * {@code stride}-th value this {@link LongArrayIterable} iterates over,
+	 * starting at the given offset. The returned
+	 * {@link StridedLongArrayIterable} is a view on the same {@code long[]} and
+	 * doesn't copy it.
+	 * 
+	 * @param offset
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link LongArrayIterable}.
+	 * @param stride
+	 *            The distance between the indices of two consecutive values to
+	 *            iterate over.
+	 * @return The {@link StridedLongArrayIterable} for the given offset and
+	 *         stride.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given offset is negative, if the given offset is
+	 *             larger than the size of this {@link LongArrayIterable} or if
+	 *             the given stride is not positive.
+	 */
+	public StridedLongArrayIterable strided(int offset, int stride) throws IllegalArgumentException {
+		if (offset < 0) {
+			throw new IllegalArgumentException("The given offset is negative");
+		} else if (offset > size()) {
+			throw new IllegalArgumentException("The given offset is larger than the size");
+		}
+		int count = offset == size() || stride <= 0 ? 0 : (size() - offset - 1) / stride + 1;
+		return new StridedLongArrayIterable(array, fromIndex + offset, stride, count);
+	}
+
+	/**
+	 * Returns a {@link FilteredLongArrayIterable} that iterates over the
+	 * values this {@link LongArrayIterable} iterates over that satisfy the
+	 * given {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @return The {@link FilteredLongArrayIterable} for the given
+	 *         {@link LongPredicate}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public FilteredLongArrayIterable filtered(LongPredicate predicate) throws IllegalArgumentException {
+		return new FilteredLongArrayIterable(this, predicate);
+	}
+
+	/**
+	 * Returns a {@link FilteredLongArrayIterable} that iterates over the
+	 * values this {@link LongArrayIterable} iterates over that satisfy, or,
+	 * if the test result is inverted, don't satisfy the given
+	 * {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @param invertPredicate
+	 *            Whether to invert the test result and yield values that don't
+	 *            satisfy the given {@link LongPredicate}.
+	 * @return The {@link FilteredLongArrayIterable} for the given
+	 *         {@link LongPredicate}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public FilteredLongArrayIterable filtered(LongPredicate predicate, boolean invertPredicate)
+			throws IllegalArgumentException {
+		return new FilteredLongArrayIterable(this, predicate, invertPredicate);
+	}
+
+	@Override
+	public LongIterator iterator() {
+		return new PrimitiveLongArrayIterator(array, fromIndex, toIndex);
 	}
 
 	@Override
-	public LongArrayIterator iterator() {
-		return new LongArrayIterator(array);
+	public LongIterator primitiveIterator() {
+		return new PrimitiveLongArrayIterator(array, fromIndex, toIndex);
+	}
+
+	/**
+	 * Calls the given {@link LongHandler} with every value this
+	 * {@link LongArrayIterable} iterates over, in order. This is equivalent to,
+	 * but faster than, iterating over this {@link LongArrayIterable} and
+	 * calling the given {@link LongHandler} with every yielded value, because
+	 * the {@code long[]} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link LongHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongHandler} is {@literal null}.
+	 */
+	public void handleEach(LongHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		long[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link LongArrayIterable} iterates over, in order. This is equivalent to,
+	 * but faster than, iterating over this {@link LongArrayIterable} and
+	 * calling the given {@link Handler} with every yielded value, because the
+	 * {@code long[]} is traversed in a single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Long}. Use
+	 * {@linkplain LongArrayIterable#handleEach(LongHandler)} to handle the
+	 * values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Long> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		long[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	/**
+	 * Returns the sum of all values this {@link LongArrayIterable} iterates
+	 * over. The sum of no values is {@code 0}. The sum overflows silently, like
+	 * the addition of {@code long} values does.
+	 * 
+	 * @return The sum of all values.
+	 */
+	public long sum() {
+		long[] array = this.array;
+		long sum0 = 0;
+		long sum1 = 0;
+		long sum2 = 0;
+		long sum3 = 0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			sum0 += array[i];
+			sum1 += array[i + 1];
+			sum2 += array[i + 2];
+			sum3 += array[i + 3];
+		}
+		for (; i < toIndex; i++) {
+			sum0 += array[i];
+		}
+		return (sum0 + sum1) + (sum2 + sum3);
+	}
+
+	/**
+	 * Returns the smallest value this {@link LongArrayIterable} iterates over.
+	 * 
+	 * @return The smallest value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link LongArrayIterable} has no values.
+	 */
+	public long min() throws NoSuchElementException {
+		if (fromIndex == toIndex) {
+			throw new NoSuchElementException("This iterable has no values");
+		}
+		long[] array = this.array;
+		long min0 = array[fromIndex];
+		long min1 = min0;
+		long min2 = min0;
+		long min3 = min0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			min0 = Math.min(min0, array[i]);
+			min1 = Math.min(min1, array[i + 1]);
+			min2 = Math.min(min2, array[i + 2]);
+			min3 = Math.min(min3, array[i + 3]);
+		}
+		for (; i < toIndex; i++) {
+			min0 = Math.min(min0, array[i]);
+		}
+		return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+	}
+
+	/**
+	 * Returns the largest value this {@link LongArrayIterable} iterates over.
+	 * 
+	 * @return The largest value.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link LongArrayIterable} has no values.
+	 */
+	public long max() throws NoSuchElementException {
+		if (fromIndex == toIndex) {
+			throw new NoSuchElementException("This iterable has no values");
+		}
+		long[] array = this.array;
+		long max0 = array[fromIndex];
+		long max1 = max0;
+		long max2 = max0;
+		long max3 = max0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			max0 = Math.max(max0, array[i]);
+			max1 = Math.max(max1, array[i + 1]);
+			max2 = Math.max(max2, array[i + 2]);
+			max3 = Math.max(max3, array[i + 3]);
+		}
+		for (; i < toIndex; i++) {
+			max0 = Math.max(max0, array[i]);
+		}
+		return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+	}
+
+	/**
+	 * Returns the dot product of the values this {@link LongArrayIterable}
+	 * iterates over and the values the given {@link LongArrayIterable} iterates
+	 * over, i.e. the sum of the products of the values with the same index. The
+	 * dot product overflows silently, like the multiplication and addition of
+	 * {@code long} values does.
+	 * 
+	 * @param other
+	 *            The other {@link LongArrayIterable}.
+	 * @return The dot product.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongArrayIterable} is {@literal null} or
+	 *             if the given {@link LongArrayIterable} has a different size
+	 *             than this {@link LongArrayIterable}.
+	 */
+	public long dot(LongArrayIterable other) throws IllegalArgumentException {
+		if (null == other) {
+			throw new IllegalArgumentException("The given iterable is null");
+		} else if (other.size() != size()) {
+			throw new IllegalArgumentException("The given iterable has a different size");
+		}
+		long[] array = this.array;
+		long[] otherArray = other.array;
+		int offset = other.fromIndex - fromIndex;
+		long dot0 = 0;
+		long dot1 = 0;
+		long dot2 = 0;
+		long dot3 = 0;
+		int i = fromIndex;
+		for (int n = toIndex - 3; i < n; i += 4) {
+			dot0 += array[i] * otherArray[i + offset];
+			dot1 += array[i + 1] * otherArray[i + offset + 1];
+			dot2 += array[i + 2] * otherArray[i + offset + 2];
+			dot3 += array[i + 3] * otherArray[i + offset + 3];
+		}
+		for (; i < toIndex; i++) {
+			dot0 += array[i] * otherArray[i + offset];
+		}
+		return (dot0 + dot1) + (dot2 + dot3);
+	}
+
+	private static final class PrimitiveLongArrayIterator extends AbstractIndexedIterator<Long>
+			implements LongIterator {
+
+		private final long[] array;
+
+		public PrimitiveLongArrayIterator(long[] array, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.array = array;
+		}
+
+		@Override
+		public long nextLong() throws NoSuchElementException {
+			return array[nextIndex()];
+		}
+
+		@Override
+		public Long next() throws NoSuchElementException {
+			return nextLong();
+		}
+
+		@Override
+		public long previousLong() throws NoSuchElementException {
+			return array[previousIndex()];
+		}
+
+		@Override
+		public Long previous() throws NoSuchElementException {
+			return previousLong();
+		}
+
 	}
 
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+/**
+ * A {@link LongBloomFilter} is a probabilistic set of {@code long} values that
+ * only stores the bits of a bloom filter.
+ * 
+ * <p>
+ * The bloom filter uses a number of bits and hash functions, that is chosen
+ * such that, for the given expected amount of values, a value that isn't
+ * contained passes the bloom filter with the given false positive rate. A value
+ * that has been added always passes the bloom filter. If more than the expected
+ * amount of values are added, more values that aren't contained pass the bloom
+ * filter. The bit positions are derived from a hash function that is
+ * independent of the one used by {@link LongHashSet}.
+ * 
+ * <p>
+ * Optionally, a {@link LongBloomFilter} can be placed in front of a
+ * {@link LongHashSet}. Only values that pass the bloom filter are then looked
+ * up in the {@link LongHashSet}, which makes the result exact. This is
+ * beneficial, if most tested values are not contained, because the bits of the
+ * bloom filter are much smaller than the {@link LongHashSet} and are more
+ * likely to be cached. Values must then be added through the
+ * {@link LongBloomFilter}, because values that are added to the
+ * {@link LongHashSet} directly don't pass the bloom filter.
+ * 
+ * <p>
+ * A {@link LongBloomFilter} is a {@link LongPredicate} that is satisfied by the
+ * values that pass the bloom filter and, if a {@link LongHashSet} is given, are
+ * contained in that {@link LongHashSet}.
+ * 
+ * <p>
+ * A {@link LongBloomFilter} is not thread-safe. It can be tested concurrently,
+ * as long as no values are added.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class LongBloomFilter implements LongPredicate {
+
+	private final LongHashSet set;
+
+	private final long[] words;
+
+	private final long bits;
+
+	private final int hashes;
+
+	/**
+	 * Creates a new, empty {@link LongBloomFilter}.
+	 * 
+	 * @param expectedSize
+	 *            The expected amount of values.
+	 * @param falsePositiveRate
+	 *            The rate at which values that aren't contained should pass the
+	 *            bloom filter.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given expected size is negative or if the given false
+	 *             positive rate is not larger than {@code 0} or not smaller
+	 *             than {@code 1}.
+	 */
+	public LongBloomFilter(int expectedSize, double falsePositiveRate) throws IllegalArgumentException {
+		this(null, expectedSize, falsePositiveRate);
+	}
+
+	/**
+	 * Creates a new {@link LongBloomFilter} that contains the given values.
+	 * 
+	 * @param values
+	 *            The values to be added.
+	 * @param falsePositiveRate
+	 *            The rate at which values that aren't contained should pass the
+	 *            bloom filter.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code long[]} is {@literal null} or if the
+	 *             given false positive rate is not larger than {@code 0} or not
+	 *             smaller than {@code 1}.
+	 */
+	public LongBloomFilter(long[] values, double falsePositiveRate) throws IllegalArgumentException {
+		this(null, null == values ? 0 : values.length, falsePositiveRate);
+		if (null == values) {
+			throw new IllegalArgumentException("The given values are null");
+		}
+		for (long value : values) {
+			add(value);
+		}
+	}
+
+	/**
+	 * Creates a new {@link LongBloomFilter} in front of the given
+	 * {@link LongHashSet} that contains the values of the given
+	 * {@link LongHashSet}.
+	 * 
+	 * @param set
+	 *            The {@link LongHashSet} to look up the values in, that pass
+	 *            the bloom filter.
+	 * @param falsePositiveRate
+	 *            The rate at which values that aren't contained should pass the
+	 *            bloom filter.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongHashSet} is {@literal null} or if the
+	 *             given false positive rate is not larger than {@code 0} or not
+	 *             smaller than {@code 1}.
+	 */
+	public LongBloomFilter(LongHashSet set, double falsePositiveRate) throws IllegalArgumentException {
+		this(set, null == set ? 0 : set.size(), falsePositiveRate);
+		if (null == set) {
+			throw new IllegalArgumentException("The given set is null");
+		}
+		for (long value : set.values()) {
+			setBits(value);
+		}
+	}
+
+	private LongBloomFilter(LongHashSet set, int expectedSize, double falsePositiveRate)
+			throws IllegalArgumentException {
+		Hashes.checkExpectedSize(expectedSize);
+		Hashes.checkFalsePositiveRate(falsePositiveRate);
+		this.set = set;
+		words = new long[Hashes.wordsFor(expectedSize, falsePositiveRate)];
+		bits = 64L * words.length;
+		hashes = Hashes.hashesFor(expectedSize, bits);
+	}
+
+	/**
+	 * Adds the given value to this {@link LongBloomFilter} and, if given, to
+	 * the {@link LongHashSet} this {@link LongBloomFilter} is placed in front
+	 * of.
+	 * 
+	 * @param value
+	 *            The value to be added.
+	 * @return Whether this {@link LongBloomFilter} didn't already contain
+	 *         the given value. If no {@link LongHashSet} is given, this is
+	 *         the case, if at least one bit of the bloom filter has changed.
+	 * 
+	 * @throws IllegalStateException
+	 *             If the given {@link LongHashSet} has reached its maximum
+	 *             capacity.
+	 */
+	public boolean add(long value) throws IllegalStateException {
+		if (null == set) {
+			return setBits(value);
+		} else if (set.add(value)) {
+			setBits(value);
+			return true;
+		}
+		return false;
+	}
+
+	private boolean setBits(long value) {
+		long[] words = this.words;
+		long hash = Hashes.remix(value);
+		long increment = Long.rotateLeft(hash, 32) | 1;
+		boolean changed = false;
+		for (int i = 0; i < hashes; i++) {
+			long bit = (hash & Long.MAX_VALUE) % bits;
+			int index = (int) (bit >>> 6);
+			long word = words[index];
+			words[index] = word | 1L << bit;
+			changed |= word != words[index];
+			hash += increment;
+		}
+		return changed;
+	}
+
+	/**
+	 * Returns whether the given value passes the bloom filter of this
+	 * {@link LongBloomFilter}, i.e. whether it might be contained.
+	 * 
+	 * @param value
+	 *            The value to be looked up.
+	 * @return Whether the given value might be contained.
+	 */
+	public boolean mightContain(long value) {
+		long[] words = this.words;
+		long hash = Hashes.remix(value);
+		long increment = Long.rotateLeft(hash, 32) | 1;
+		for (int i = 0; i < hashes; i++) {
+			long bit = (hash & Long.MAX_VALUE) % bits;
+			if (0 == (words[(int) (bit >>> 6)] & 1L << bit)) {
+				return false;
+			}
+			hash += increment;
+		}
+		return true;
+	}
+
+	@Override
+	public boolean test(long value) {
+		return mightContain(value) && (null == set || set.contains(value));
+	}
+
+}
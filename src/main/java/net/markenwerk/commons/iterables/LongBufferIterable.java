@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.nio.LongBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+/**
+ * A {@link LongBufferIterable} is a {@link LongIterable} that generates
+ * {@link Iterator Iterators} that iterate over the values between the position
+ * and the limit of a given {@link LongBuffer} or over a given range of a given
+ * {@link LongBuffer}.
+ * 
+ * <p>
+ * The values are read in place with absolute {@link LongBuffer#get(int) get}
+ * operations, which allows to iterate over direct buffers without copying their
+ * content onto the heap. The position and the limit of the given
+ * {@link LongBuffer} are read once, when the {@link LongBufferIterable} is
+ * created, and the values are read from a duplicate of the given
+ * {@link LongBuffer}, that shares its content, but has its own position and
+ * limit. Neither are they modified, nor do later modifications of them
+ * influence the {@link LongBufferIterable}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class LongBufferIterable implements LongIterable {
+
+	private final LongBuffer buffer;
+
+	private final int fromIndex;
+
+	private final int toIndex;
+
+	/**
+	 * Creates a new {@link LongBufferIterable} that iterates over the values
+	 * between the current position and the current limit of the given
+	 * {@link LongBuffer}.
+	 * 
+	 * @param buffer
+	 *            The {@link LongBuffer} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongBuffer} is {@literal null}.
+	 */
+	public LongBufferIterable(LongBuffer buffer) throws IllegalArgumentException {
+		this(buffer, null == buffer ? 0 : buffer.position(), null == buffer ? 0 : buffer.limit());
+	}
+
+	/**
+	 * Creates a new {@link LongBufferIterable} that iterates over the given
+	 * range of the given {@link LongBuffer}, without copying it.
+	 * 
+	 * @param buffer
+	 *            The {@link LongBuffer} to iterate over.
+	 * @param fromIndex
+	 *            The absolute index of the first value to iterate over.
+	 * @param toIndex
+	 *            The absolute index after the last value to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongBuffer} is {@literal null}, if the
+	 *             given from index is negative, if the given to index is larger
+	 *             than the current limit of the given {@link LongBuffer} or if
+	 *             the given from index is larger than the given to index.
+	 */
+	public LongBufferIterable(LongBuffer buffer, int fromIndex, int toIndex) throws IllegalArgumentException {
+		if (null == buffer) {
+			throw new IllegalArgumentException("The given buffer is null");
+		}
+		Ranges.check(buffer.limit(), fromIndex, toIndex);
+		this.buffer = buffer.duplicate();
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	private LongBufferIterable(LongBufferIterable iterable, int fromIndex, int toIndex) {
+		this.buffer = iterable.buffer;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of values this {@link LongBufferIterable} iterates
+	 * over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns a {@link LongBufferIterable} that iterates over the given range
+	 * of the values this {@link LongBufferIterable} iterates over. The returned
+	 * {@link LongBufferIterable} is a view on the same {@link LongBuffer} and
+	 * doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link LongBufferIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link LongBufferIterable}.
+	 * @return The {@link LongBufferIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index is
+	 *             larger than the size of this {@link LongBufferIterable} or if
+	 *             the given from index is larger than the given to index.
+	 */
+	public LongBufferIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new LongBufferIterable(this, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+	}
+
+	@Override
+	public LongIterator iterator() {
+		return new LongBufferIterator(buffer, fromIndex, toIndex);
+	}
+
+	@Override
+	public LongIterator primitiveIterator() {
+		return new LongBufferIterator(buffer, fromIndex, toIndex);
+	}
+
+	/**
+	 * Calls the given {@link LongHandler} with every value this
+	 * {@link LongBufferIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link LongBufferIterable} and
+	 * calling the given {@link LongHandler} with every yielded value, because
+	 * the {@link LongBuffer} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link LongHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongHandler} is {@literal null}.
+	 */
+	public void handleEach(LongHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		LongBuffer buffer = this.buffer;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(buffer.get(i));
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link LongBufferIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link LongBufferIterable} and
+	 * calling the given {@link Handler} with every yielded value, because the
+	 * {@link LongBuffer} is traversed in a single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Long}. Use
+	 * {@linkplain LongBufferIterable#handleEach(LongHandler)} to handle the
+	 * values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Long> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		LongBuffer buffer = this.buffer;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(buffer.get(i));
+		}
+	}
+
+	private static final class LongBufferIterator extends AbstractIndexedIterator<Long>
+			implements LongIterator {
+
+		private final LongBuffer buffer;
+
+		public LongBufferIterator(LongBuffer buffer, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.buffer = buffer;
+		}
+
+		@Override
+		public long nextLong() throws NoSuchElementException {
+			return buffer.get(nextIndex());
+		}
+
+		@Override
+		public Long next() throws NoSuchElementException {
+			return nextLong();
+		}
+
+		@Override
+		public long previousLong() throws NoSuchElementException {
+			return buffer.get(previousIndex());
+		}
+
+		@Override
+		public Long previous() throws NoSuchElementException {
+			return previousLong();
+		}
+
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+
+/**
+ * A {@link LongCountDownIterable} is a {@link LongIterable} that generates
+ * {@link Iterator Iterators} that yield all {@code long} values between a given
+ * upper bound and a given lower bound, going downwards with a given step.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class LongCountDownIterable implements LongIterable {
+
+	final long fromUpper;
+
+	final long toLower;
+
+	final long step;
+
+	/**
+	 * Creates a new {@link LongCountDownIterable} with a step of {@code 1}.
+	 * 
+	 * @param fromUpper
+	 *            The upper bound and first value to be yielded.
+	 * @param toLower
+	 *            The lower bound and last value to be yielded.
+	 */
+	public LongCountDownIterable(long fromUpper, long toLower) {
+		this(fromUpper, toLower, 1);
+	}
+
+	/**
+	 * Creates a new {@link LongCountDownIterable}.
+	 * 
+	 * @param fromUpper
+	 *            The upper bound and first value to be yielded.
+	 * @param toLower
+	 *            The lower bound. The last value to be yielded is the last
+	 *            value that can be reached from the upper bound with the given
+	 *            step without passing the lower bound.
+	 * @param step
+	 *            The positive difference between two consecutive values to be
+	 *            yielded.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given step is not positive.
+	 */
+	public LongCountDownIterable(long fromUpper, long toLower, long step) throws IllegalArgumentException {
+		Steps.check(step);
+		this.fromUpper = fromUpper;
+		this.toLower = toLower;
+		this.step = step;
+	}
+
+	/**
+	 * Returns the amount of values this {@link LongCountDownIterable} yields.
+	 * If this {@link LongCountDownIterable} yields more than
+	 * {@link Long#MAX_VALUE} values, {@link Long#MAX_VALUE} is returned.
+	 * 
+	 * @return The amount of values.
+	 */
+	public long size() {
+		return isEmpty() ? 0 : Steps.size(Steps.count(fromUpper - toLower, step));
+	}
+
+	@Override
+	public LongIterator iterator() {
+		return primitiveIterator();
+	}
+
+	@Override
+	public LongIterator primitiveIterator() {
+		return new SteppedLongIterator(fromUpper, last(), -step, isEmpty());
+	}
+
+	/**
+	 * Returns whether this {@link LongCountDownIterable} yields no values at
+	 * all.
+	 * 
+	 * @return Whether this {@link LongCountDownIterable} is empty.
+	 */
+	boolean isEmpty() {
+		return fromUpper < toLower;
+	}
+
+	/**
+	 * Returns the last value this {@link LongCountDownIterable} yields or the
+	 * first value, if this {@link LongCountDownIterable} is empty.
+	 * 
+	 * @return The last value.
+	 */
+	long last() {
+		return isEmpty() ? fromUpper : fromUpper - Steps.count(fromUpper - toLower, step) * step;
+	}
+
+}
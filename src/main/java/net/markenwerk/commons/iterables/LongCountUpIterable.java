@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+
+/**
+ * A {@link LongCountUpIterable} is a {@link LongIterable} that generates
+ * {@link Iterator Iterators} that yield all {@code long} values between a given
+ * lower bound and a given upper bound, going upwards with a given step.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class LongCountUpIterable implements LongIterable {
+
+	final long fromLower;
+
+	final long toUpper;
+
+	final long step;
+
+	/**
+	 * Creates a new {@link LongCountUpIterable} with a step of {@code 1}.
+	 * 
+	 * @param fromLower
+	 *            The lower bound and first value to be yielded.
+	 * @param toUpper
+	 *            The upper bound and last value to be yielded.
+	 */
+	public LongCountUpIterable(long fromLower, long toUpper) {
+		this(fromLower, toUpper, 1);
+	}
+
+	/**
+	 * Creates a new {@link LongCountUpIterable}.
+	 * 
+	 * @param fromLower
+	 *            The lower bound and first value to be yielded.
+	 * @param toUpper
+	 *            The upper bound. The last value to be yielded is the last
+	 *            value that can be reached from the lower bound with the given
+	 *            step without passing the upper bound.
+	 * @param step
+	 *            The positive difference between two consecutive values to be
+	 *            yielded.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given step is not positive.
+	 */
+	public LongCountUpIterable(long fromLower, long toUpper, long step) throws IllegalArgumentException {
+		Steps.check(step);
+		this.fromLower = fromLower;
+		this.toUpper = toUpper;
+		this.step = step;
+	}
+
+	/**
+	 * Returns the amount of values this {@link LongCountUpIterable} yields. If
+	 * this {@link LongCountUpIterable} yields more than {@link Long#MAX_VALUE}
+	 * values, {@link Long#MAX_VALUE} is returned.
+	 * 
+	 * @return The amount of values.
+	 */
+	public long size() {
+		return isEmpty() ? 0 : Steps.size(Steps.count(toUpper - fromLower, step));
+	}
+
+	@Override
+	public LongIterator iterator() {
+		return primitiveIterator();
+	}
+
+	@Override
+	public LongIterator primitiveIterator() {
+		return new SteppedLongIterator(fromLower, last(), step, isEmpty());
+	}
+
+	/**
+	 * Returns whether this {@link LongCountUpIterable} yields no values at all.
+	 * 
+	 * @return Whether this {@link LongCountUpIterable} is empty.
+	 */
+	boolean isEmpty() {
+		return fromLower > toUpper;
+	}
+
+	/**
+	 * Returns the last value this {@link LongCountUpIterable} yields or the
+	 * first value, if this {@link LongCountUpIterable} is empty.
+	 * 
+	 * @return The last value.
+	 */
+	long last() {
+		return isEmpty() ? fromLower : fromLower + Steps.count(toUpper - fromLower, step) * step;
+	}
+
+}
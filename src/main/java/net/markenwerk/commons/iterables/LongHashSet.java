@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+/**
+ * A {@link LongHashSet} is a set of {@code long} values that stores the values
+ * in a {@code long[]} with open addressing and linear probing, without boxing
+ * them into {@link Long Longs}.
+ * 
+ * <p>
+ * A {@link LongHashSet} is a {@link LongPredicate} that is satisfied by the
+ * values it contains. It can therefore be used to filter the values of a
+ * {@link FilteredLongArrayIterable} by membership or, with an inverted
+ * {@link LongPredicate}, to filter out the values it contains.
+ * 
+ * <p>
+ * A {@link LongHashSet} is not thread-safe. It can be tested concurrently, as
+ * long as no values are added.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class LongHashSet implements LongPredicate {
+
+	private long[] keys;
+
+	private int mask;
+
+	private boolean containsZero;
+
+	private int size;
+
+	/**
+	 * Creates a new, empty {@link LongHashSet}.
+	 */
+	public LongHashSet() {
+		this(0);
+	}
+
+	/**
+	 * Creates a new, empty {@link LongHashSet} that is able to hold the given
+	 * amount of values without growing.
+	 * 
+	 * @param expectedSize
+	 *            The expected amount of values.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given expected size is negative.
+	 */
+	public LongHashSet(int expectedSize) throws IllegalArgumentException {
+		Hashes.checkExpectedSize(expectedSize);
+		keys = new long[Hashes.capacityFor(expectedSize)];
+		mask = keys.length - 1;
+	}
+
+	/**
+	 * Creates a new {@link LongHashSet} that contains the given values.
+	 * 
+	 * @param values
+	 *            The values to be added.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code long[]} is {@literal null}.
+	 */
+	public LongHashSet(long[] values) throws IllegalArgumentException {
+		this(null == values ? 0 : values.length);
+		if (null == values) {
+			throw new IllegalArgumentException("The given values are null");
+		}
+		for (long value : values) {
+			add(value);
+		}
+	}
+
+	/**
+	 * Returns the amount of values this {@link LongHashSet} contains.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the values this {@link LongHashSet} contains, in no particular
+	 * order.
+	 * 
+	 * @return The values.
+	 */
+	long[] values() {
+		long[] values = new long[size];
+		int count = 0;
+		if (containsZero) {
+			values[count++] = 0;
+		}
+		for (long key : keys) {
+			if (0 != key) {
+				values[count++] = key;
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Adds the given value to this {@link LongHashSet}.
+	 * 
+	 * @param value
+	 *            The value to be added.
+	 * @return Whether this {@link LongHashSet} didn't already contain the
+	 *         given value.
+	 * 
+	 * @throws IllegalStateException
+	 *             If this {@link LongHashSet} has reached its maximum capacity.
+	 */
+	public boolean add(long value) throws IllegalStateException {
+		if (0 == value) {
+			if (containsZero) {
+				return false;
+			}
+			containsZero = true;
+			size++;
+			return true;
+		}
+		int index = indexOf(value);
+		if (0 != keys[index]) {
+			return false;
+		}
+		if ((containsZero ? size : size + 1) == keys.length) {
+			throw new IllegalStateException("This set has reached its maximum capacity");
+		}
+		keys[index] = value;
+		size++;
+		if (2 * size > keys.length && keys.length < Hashes.MAXIMUM_CAPACITY) {
+			grow();
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether this {@link LongHashSet} contains the given value.
+	 * 
+	 * @param value
+	 *            The value to be looked up.
+	 * @return Whether this {@link LongHashSet} contains the given value.
+	 */
+	public boolean contains(long value) {
+		if (0 == value) {
+			return containsZero;
+		}
+		return 0 != keys[indexOf(value)];
+	}
+
+	@Override
+	public boolean test(long value) {
+		return contains(value);
+	}
+
+	private int indexOf(long value) {
+		long[] keys = this.keys;
+		int mask = this.mask;
+		int index = (int) Hashes.mix(value) & mask;
+		while (0 != keys[index] && value != keys[index]) {
+			index = (index + 1) & mask;
+		}
+		return index;
+	}
+
+	private void grow() {
+		long[] oldKeys = keys;
+		keys = new long[oldKeys.length << 1];
+		mask = keys.length - 1;
+		for (long key : oldKeys) {
+			if (0 != key) {
+				keys[indexOf(key)] = key;
+			}
+		}
+	}
+
+}
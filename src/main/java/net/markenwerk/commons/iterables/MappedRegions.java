@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * {@link MappedRegions} is a sequence of read-only memory-mapped regions of a
+ * file, that is shared by all iterables that iterate over the fixed-width
+ * records of a file.
+ * 
+ * <p>
+ * A single {@link ByteBuffer} can't address more than {@link Integer#MAX_VALUE}
+ * bytes. Therefore, the file is mapped in consecutive regions whose size is a
+ * multiple of the record size, such that no record spans two regions. Trailing
+ * bytes that don't form a complete record are ignored.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+final class MappedRegions {
+
+	/**
+	 * The default maximum size of a single region.
+	 */
+	static final int MAXIMUM_REGION_SIZE = Integer.MAX_VALUE;
+
+	private final ByteBuffer[] regions;
+
+	private final ByteOrder order;
+
+	private final int recordSize;
+
+	private final int regionSize;
+
+	private final long size;
+
+	/**
+	 * Maps the given file.
+	 * 
+	 * @param file
+	 *            The file to be mapped.
+	 * @param order
+	 *            The {@link ByteOrder} of the records.
+	 * @param recordSize
+	 *            The size of a single record in bytes.
+	 * @param maximumRegionSize
+	 *            The maximum size of a single region in bytes.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given file is {@literal null}, if the given
+	 *             {@link ByteOrder} is {@literal null} or if the given record
+	 *             size is not positive or larger than the given maximum region
+	 *             size.
+	 * @throws IOException
+	 *             If the given file couldn't be mapped.
+	 */
+	MappedRegions(File file, ByteOrder order, int recordSize, int maximumRegionSize)
+			throws IllegalArgumentException, IOException {
+		if (null == file) {
+			throw new IllegalArgumentException("The given file is null");
+		} else if (null == order) {
+			throw new IllegalArgumentException("The given byte order is null");
+		} else if (recordSize <= 0) {
+			throw new IllegalArgumentException("The given record size is not positive");
+		} else if (recordSize > maximumRegionSize) {
+			throw new IllegalArgumentException("The given record size is larger than the maximum region size");
+		}
+		this.order = order;
+		this.recordSize = recordSize;
+		this.regionSize = maximumRegionSize - maximumRegionSize % recordSize;
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = randomAccessFile.getChannel();
+			long length = channel.size() - channel.size() % recordSize;
+			regions = new ByteBuffer[(int) ((length + regionSize - 1) / regionSize)];
+			for (int i = 0; i < regions.length; i++) {
+				long position = (long) i * regionSize;
+				long regionLength = Math.min(regionSize, length - position);
+				regions[i] = channel.map(MapMode.READ_ONLY, position, regionLength).order(order);
+			}
+			size = length / recordSize;
+		} finally {
+			randomAccessFile.close();
+		}
+	}
+
+	/**
+	 * Returns the amount of records.
+	 * 
+	 * @return The amount of records.
+	 */
+	long size() {
+		return size;
+	}
+
+	/**
+	 * Returns the {@link ByteOrder} of the records.
+	 * 
+	 * @return The {@link ByteOrder} of the records.
+	 */
+	ByteOrder order() {
+		return order;
+	}
+
+	/**
+	 * Returns the size of a single record in bytes.
+	 * 
+	 * @return The size of a single record.
+	 */
+	int recordSize() {
+		return recordSize;
+	}
+
+	/**
+	 * Returns the size of every region, except the last one, in bytes.
+	 * 
+	 * @return The size of a region.
+	 */
+	int regionSize() {
+		return regionSize;
+	}
+
+	/**
+	 * Returns the region with the given index.
+	 * 
+	 * @param index
+	 *            The index of the region.
+	 * @return The region.
+	 */
+	ByteBuffer region(int index) {
+		return regions[index];
+	}
+
+}
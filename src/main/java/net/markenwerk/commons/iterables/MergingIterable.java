@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.iterators.ProtectedIterator;
+
+/**
+ * A {@link MergingIterable} is a {@link ProtectedIterable} that wraps around
+ * some given {@link Iterable Iterables}, that each yield their values in the
+ * order of a given {@link Comparator}, and generates {@link Iterator Iterators}
+ * that yield the values of all given {@link Iterable Iterables} in that order.
+ * 
+ * <p>
+ * Every generated {@link Iterator} keeps the next value of every given
+ * {@link Iterable} in a binary heap. Yielding a value takes
+ * {@code O(log(n))} comparisons for {@code n} given {@link Iterable Iterables}
+ * and allocates no additional memory. Values that are equal according to the
+ * given {@link Comparator} are yielded in the order of the given
+ * {@link Iterable Iterables}. Optionally, such values are collapsed, such that
+ * only the first of them is yielded.
+ * 
+ * <p>
+ * If a given {@link Iterable} doesn't yield its values in the order of the
+ * given {@link Comparator}, the order of the yielded values is unspecified.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class MergingIterable<Payload> implements ProtectedIterable<Payload> {
+
+	private final Comparator<? super Payload> comparator;
+
+	private final boolean collapseDuplicates;
+
+	private final Iterable<? extends Iterable<? extends Payload>> iterables;
+
+	/**
+	 * Creates a new {@link MergingIterable} that doesn't collapse duplicates.
+	 * 
+	 * @param comparator
+	 *            The {@link Comparator} that defines the order of the values.
+	 * @param iterables
+	 *            The sequence of {@link Iterable Iterables} to merge.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Comparator} is {@literal null} or if the
+	 *             given sequence of {@link Iterable Iterables} is
+	 *             {@literal null}.
+	 */
+	public MergingIterable(Comparator<? super Payload> comparator, Iterable<? extends Payload>... iterables)
+			throws IllegalArgumentException {
+		this(comparator, false, iterables);
+	}
+
+	/**
+	 * Creates a new {@link MergingIterable}.
+	 * 
+	 * @param comparator
+	 *            The {@link Comparator} that defines the order of the values.
+	 * @param collapseDuplicates
+	 *            Whether only the first of multiple equal values should be
+	 *            yielded.
+	 * @param iterables
+	 *            The sequence of {@link Iterable Iterables} to merge.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Comparator} is {@literal null} or if the
+	 *             given sequence of {@link Iterable Iterables} is
+	 *             {@literal null}.
+	 */
+	public MergingIterable(Comparator<? super Payload> comparator, boolean collapseDuplicates,
+			Iterable<? extends Payload>... iterables) throws IllegalArgumentException {
+		this(comparator, collapseDuplicates, null == iterables ? null
+				: new ArrayIterable<Iterable<? extends Payload>>(iterables));
+	}
+
+	/**
+	 * Creates a new {@link MergingIterable} that doesn't collapse duplicates.
+	 * 
+	 * @param comparator
+	 *            The {@link Comparator} that defines the order of the values.
+	 * @param iterable
+	 *            The {@link Iterable} of {@link Iterable Iterables} to merge.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Comparator} is {@literal null} or if the
+	 *             given {@link Iterable} of {@link Iterable Iterables} is
+	 *             {@literal null}.
+	 */
+	public MergingIterable(Comparator<? super Payload> comparator,
+			Iterable<? extends Iterable<? extends Payload>> iterable) throws IllegalArgumentException {
+		this(comparator, false, iterable);
+	}
+
+	/**
+	 * Creates a new {@link MergingIterable}.
+	 * 
+	 * @param comparator
+	 *            The {@link Comparator} that defines the order of the values.
+	 * @param collapseDuplicates
+	 *            Whether only the first of multiple equal values should be
+	 *            yielded.
+	 * @param iterable
+	 *            The {@link Iterable} of {@link Iterable Iterables} to merge.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Comparator} is {@literal null} or if the
+	 *             given {@link Iterable} of {@link Iterable Iterables} is
+	 *             {@literal null}.
+	 */
+	public MergingIterable(Comparator<? super Payload> comparator, boolean collapseDuplicates,
+			Iterable<? extends Iterable<? extends Payload>> iterable) throws IllegalArgumentException {
+		if (null == comparator) {
+			throw new IllegalArgumentException("The given comparator is null");
+		}
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable of iterables is null");
+		}
+		this.comparator = comparator;
+		this.collapseDuplicates = collapseDuplicates;
+		this.iterables = iterable;
+	}
+
+	@Override
+	public ProtectedIterator<Payload> iterator() {
+		return new MergingIterator<Payload>(comparator, collapseDuplicates, iterables);
+	}
+
+	private static final class MergingIterator<Payload> implements ProtectedIterator<Payload> {
+
+		private final Comparator<? super Payload> comparator;
+
+		private final boolean collapseDuplicates;
+
+		private final Iterator<? extends Payload>[] iterators;
+
+		private final Object[] heads;
+
+		private final int[] heap;
+
+		private int size;
+
+		public MergingIterator(Comparator<? super Payload> comparator, boolean collapseDuplicates,
+				Iterable<? extends Iterable<? extends Payload>> iterables) {
+			this.comparator = comparator;
+			this.collapseDuplicates = collapseDuplicates;
+			List<Iterator<? extends Payload>> iterators = new ArrayList<Iterator<? extends Payload>>();
+			for (Iterable<? extends Payload> iterable : iterables) {
+				iterators.add(iterable.iterator());
+			}
+			int count = iterators.size();
+			@SuppressWarnings("unchecked")
+			Iterator<? extends Payload>[] array = (Iterator<? extends Payload>[]) new Iterator<?>[count];
+			this.iterators = iterators.toArray(array);
+			this.heads = new Object[count];
+			this.heap = new int[count];
+			for (int i = 0; i < count; i++) {
+				Iterator<? extends Payload> iterator = this.iterators[i];
+				if (iterator.hasNext()) {
+					heads[i] = iterator.next();
+					heap[size++] = i;
+				}
+			}
+			for (int i = (size >>> 1) - 1; i >= 0; i--) {
+				siftDown(i);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return 0 != size;
+		}
+
+		@Override
+		public Payload next() throws NoSuchElementException {
+			if (0 == size) {
+				throw new NoSuchElementException("This iterator has no next element");
+			}
+			Payload value = head(heap[0]);
+			advance();
+			if (collapseDuplicates) {
+				while (0 != size && 0 == comparator.compare(head(heap[0]), value)) {
+					advance();
+				}
+			}
+			return value;
+		}
+
+		private void advance() {
+			int source = heap[0];
+			Iterator<? extends Payload> iterator = iterators[source];
+			if (iterator.hasNext()) {
+				heads[source] = iterator.next();
+			} else {
+				heads[source] = null;
+				iterators[source] = null;
+				heap[0] = heap[--size];
+			}
+			siftDown(0);
+		}
+
+		private void siftDown(int position) {
+			int[] heap = this.heap;
+			int size = this.size;
+			int source = heap[position];
+			int half = size >>> 1;
+			while (position < half) {
+				int child = (position << 1) + 1;
+				int right = child + 1;
+				if (right < size && isLess(heap[right], heap[child])) {
+					child = right;
+				}
+				if (!isLess(heap[child], source)) {
+					break;
+				}
+				heap[position] = heap[child];
+				position = child;
+			}
+			heap[position] = source;
+		}
+
+		private boolean isLess(int source, int other) {
+			int comparison = comparator.compare(head(source), head(other));
+			return comparison < 0 || (0 == comparison && source < other);
+		}
+
+		@SuppressWarnings("unchecked")
+		private Payload head(int source) {
+			return (Payload) heads[source];
+		}
+
+		@Override
+		public void remove() throws UnsupportedOperationException {
+			throw new UnsupportedOperationException("Cannot remove from this iterator");
+		}
+
+	}
+
+}
@@ -22,17 +22,24 @@
 package net.markenwerk.commons.iterables;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
-import net.markenwerk.commons.iterators.NodeListIterator;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
 
 /**
  * A {@link NodeListIterable} is a {@link ProtectedBidirectionalIterable} that
  * generates {@link Iterator Iterators} that iterate over a given
  * {@link NodeList}.
  * 
+ * <p>
+ * The generated {@link Iterator Iterators} are {@link SkippableIterator
+ * SkippableIterators}. The length of the {@link NodeList} is determined
+ * anew for every operation, such that the generated {@link Iterator Iterators}
+ * follow changes of a live {@link NodeList}.
+ * 
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 3.1.0
  */
@@ -57,8 +64,72 @@ public final class NodeListIterable implements ProtectedBidirectionalIterable<No
 	}
 
 	@Override
-	public NodeListIterator iterator() {
-		return new NodeListIterator(nodeList);
+	public ProtectedBidirectionalIterator<Node> iterator() {
+		return new IndexedNodeListIterator(nodeList);
+	}
+
+	private static final class IndexedNodeListIterator
+			implements ProtectedBidirectionalIterator<Node>, ReversibleIterator<Node>, SkippableIterator<Node> {
+
+		private final NodeList nodeList;
+
+		private int index = -1;
+
+		public IndexedNodeListIterator(NodeList nodeList) {
+			this.nodeList = nodeList;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < nodeList.getLength() - 1;
+		}
+
+		@Override
+		public Node next() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			}
+			return nodeList.item(++index);
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return Math.min(index, nodeList.getLength()) > 0;
+		}
+
+		@Override
+		public Node previous() throws NoSuchElementException {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException("This iterator has no previous element");
+			}
+			index = Math.min(index, nodeList.getLength()) - 1;
+			return nodeList.item(index);
+		}
+
+		@Override
+		public void skipToLast() {
+			index = Math.max(-1, nodeList.getLength() - 2);
+		}
+
+		@Override
+		public long skip(long count) throws IllegalArgumentException {
+			Skips.checkCount(count);
+			int skipped = (int) Math.max(0, Math.min(count, nodeList.getLength() - 1 - index));
+			index += skipped;
+			return skipped;
+		}
+
+		@Override
+		public void seek(long position) throws IllegalArgumentException {
+			Skips.checkPosition(position, nodeList.getLength());
+			index = (int) position - 1;
+		}
+
+		@Override
+		public void remove() throws UnsupportedOperationException {
+			throw new UnsupportedOperationException("Cannot remove from this iterator");
+		}
+
 	}
 
 }
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link PackedBooleanArrayIterable} is a {@link BooleanIterable} that
+ * generates {@link Iterator Iterators} that iterate over the bits of a given
+ * {@code long[]} or over a given range of bits of a given {@code long[]}.
+ * 
+ * <p>
+ * Bit {@code n} is stored in the {@code long} value at index {@code n / 64}, as
+ * the bit with the numerical value {@code 1L << (n % 64)}. This is the same
+ * layout that is used by {@link java.util.BitSet}.
+ * 
+ * <p>
+ * In addition to iterating over every bit, a {@link PackedBooleanArrayIterable}
+ * is able to iterate over the indices of all set bits, which skips unset bits a
+ * whole {@code long} value at a time.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class PackedBooleanArrayIterable implements BooleanIterable {
+
+	private static final int MAXIMUM_WORDS = Integer.MAX_VALUE / Long.SIZE;
+
+	private final long[] words;
+
+	private final int fromIndex;
+
+	private final int toIndex;
+
+	/**
+	 * Creates a new {@link PackedBooleanArrayIterable} that iterates over all
+	 * bits of the given {@code long[]}.
+	 * 
+	 * @param words
+	 *            The {@code long[]} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code long[]} is {@literal null} or if the
+	 *             given {@code long[]} has more bits than can be addressed with
+	 *             an {@code int} index.
+	 */
+	public PackedBooleanArrayIterable(long... words) throws IllegalArgumentException {
+		this(words, 0, null == words ? 0 : (int) Math.min((long) words.length * Long.SIZE, Integer.MAX_VALUE));
+		if (words.length > MAXIMUM_WORDS) {
+			throw new IllegalArgumentException("The given array has too many bits");
+		}
+	}
+
+	/**
+	 * Creates a new {@link PackedBooleanArrayIterable} that iterates over the
+	 * given range of bits of the given {@code long[]}, without copying it.
+	 * 
+	 * @param words
+	 *            The {@code long[]} to iterate over.
+	 * @param fromIndex
+	 *            The index of the first bit to iterate over.
+	 * @param toIndex
+	 *            The index after the last bit to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code long[]} is {@literal null}, if the given
+	 *             from index is negative, if the given to index is larger than
+	 *             the amount of bits of the given {@code long[]} or if the
+	 *             given from index is larger than the given to index.
+	 */
+	public PackedBooleanArrayIterable(long[] words, int fromIndex, int toIndex) throws IllegalArgumentException {
+		if (null == words) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		Ranges.check((int) Math.min((long) words.length * Long.SIZE, Integer.MAX_VALUE), fromIndex, toIndex);
+		this.words = words;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of bits this {@link PackedBooleanArrayIterable}
+	 * iterates over.
+	 * 
+	 * @return The amount of bits.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns a {@link PackedBooleanArrayIterable} that iterates over the given
+	 * range of the bits this {@link PackedBooleanArrayIterable} iterates over.
+	 * The returned {@link PackedBooleanArrayIterable} is a view on the same
+	 * {@code long[]} and doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first bit to iterate over, relative to this
+	 *            {@link PackedBooleanArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last bit to iterate over, relative to this
+	 *            {@link PackedBooleanArrayIterable}.
+	 * @return The {@link PackedBooleanArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index is
+	 *             larger than the size of this
+	 *             {@link PackedBooleanArrayIterable} or if the given from index
+	 *             is larger than the given to index.
+	 */
+	public PackedBooleanArrayIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new PackedBooleanArrayIterable(words, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+	}
+
+	@Override
+	public BooleanIterator iterator() {
+		return new PackedBooleanArrayIterator(words, fromIndex, toIndex);
+	}
+
+	@Override
+	public BooleanIterator primitiveIterator() {
+		return new PackedBooleanArrayIterator(words, fromIndex, toIndex);
+	}
+
+	/**
+	 * Returns an {@link IntegerIterable} that generates
+	 * {@link Iterator Iterators} that yield the index of every set bit this
+	 * {@link PackedBooleanArrayIterable} iterates over, relative to this
+	 * {@link PackedBooleanArrayIterable}.
+	 * 
+	 * @return An {@link IntegerIterable} for the indices of all set bits.
+	 */
+	public IntegerIterable setBits() {
+		return new SetBitIterable(words, fromIndex, toIndex);
+	}
+
+	private static boolean isSet(long[] words, int index) {
+		return 0 != (words[index >>> 6] & (1L << index));
+	}
+
+	private static final class PackedBooleanArrayIterator extends AbstractIndexedIterator<Boolean>
+			implements BooleanIterator {
+
+		private final long[] words;
+
+		public PackedBooleanArrayIterator(long[] words, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.words = words;
+		}
+
+		@Override
+		public boolean nextBoolean() throws NoSuchElementException {
+			return isSet(words, nextIndex());
+		}
+
+		@Override
+		public Boolean next() throws NoSuchElementException {
+			return nextBoolean();
+		}
+
+		@Override
+		public boolean previousBoolean() throws NoSuchElementException {
+			return isSet(words, previousIndex());
+		}
+
+		@Override
+		public Boolean previous() throws NoSuchElementException {
+			return previousBoolean();
+		}
+
+	}
+
+	private static final class SetBitIterable implements IntegerIterable {
+
+		private final long[] words;
+
+		private final int fromIndex;
+
+		private final int toIndex;
+
+		public SetBitIterable(long[] words, int fromIndex, int toIndex) {
+			this.words = words;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+		}
+
+		@Override
+		public IntegerIterator iterator() {
+			return new SetBitIterator(words, fromIndex, toIndex);
+		}
+
+		@Override
+		public IntegerIterator primitiveIterator() {
+			return new SetBitIterator(words, fromIndex, toIndex);
+		}
+
+	}
+
+	private static final class SetBitIterator
+			implements IntegerIterator, ProtectedBidirectionalIterator<Integer>, ReversibleIterator<Integer> {
+
+		private final long[] words;
+
+		private final int fromIndex;
+
+		private final int toIndex;
+
+		private int index;
+
+		public SetBitIterator(long[] words, int fromIndex, int toIndex) {
+			this.words = words;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+			this.index = fromIndex - 1;
+		}
+
+		private int nextSetBit(int index) {
+			if (index >= toIndex) {
+				return -1;
+			}
+			int wordIndex = index >>> 6;
+			long word = words[wordIndex] & (-1L << index);
+			while (0 == word) {
+				if (++wordIndex > (toIndex - 1) >>> 6) {
+					return -1;
+				}
+				word = words[wordIndex];
+			}
+			int setBit = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+			return setBit < toIndex ? setBit : -1;
+		}
+
+		private int previousSetBit(int index) {
+			if (index < fromIndex) {
+				return -1;
+			}
+			int wordIndex = index >>> 6;
+			long word = words[wordIndex] & (-1L >>> (63 - (index & 63)));
+			while (0 == word) {
+				if (--wordIndex < fromIndex >>> 6) {
+					return -1;
+				}
+				word = words[wordIndex];
+			}
+			int setBit = (wordIndex << 6) + 63 - Long.numberOfLeadingZeros(word);
+			return setBit >= fromIndex ? setBit : -1;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return -1 != nextSetBit(index + 1);
+		}
+
+		@Override
+		public int nextInt() throws NoSuchElementException {
+			int setBit = nextSetBit(index + 1);
+			if (-1 == setBit) {
+				throw new NoSuchElementException("This iterator has no next element");
+			}
+			index = setBit;
+			return setBit - fromIndex;
+		}
+
+		@Override
+		public Integer next() throws NoSuchElementException {
+			return nextInt();
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return index > fromIndex && -1 != previousSetBit(index - 1);
+		}
+
+		@Override
+		public int previousInt() throws NoSuchElementException {
+			int setBit = index > fromIndex ? previousSetBit(index - 1) : -1;
+			if (-1 == setBit) {
+				throw new NoSuchElementException("This iterator has no previous element");
+			}
+			index = setBit;
+			return setBit - fromIndex;
+		}
+
+		@Override
+		public Integer previous() throws NoSuchElementException {
+			return previousInt();
+		}
+
+		@Override
+		public void skipToLast() {
+			int setBit = previousSetBit(toIndex - 1);
+			if (-1 != setBit) {
+				index = setBit - 1;
+			}
+		}
+
+		@Override
+		public void remove() throws UnsupportedOperationException {
+			throw new UnsupportedOperationException("Cannot remove from this iterator");
+		}
+
+	}
+
+}
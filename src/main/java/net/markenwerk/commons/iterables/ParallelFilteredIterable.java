@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import net.markenwerk.commons.exceptions.PredicateException;
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.iterators.ProtectedIterator;
+
+/**
+ * A {@link ParallelFilteredIterable} is an {@link Iterable} that can be
+ * wrapped around a given {@link Iterable} and generates {@link Iterator
+ * Iterators} that, like the {@link Iterator Iterators} generated by a
+ * {@link FilteredIterable}, filter out values that don't satisfy a given
+ * {@link Predicate}, but test the values on a given {@link Executor}.
+ * 
+ * <p>
+ * The generated {@link Iterator Iterators} read chunks of a given size from an
+ * {@link Iterator} generated by the given {@link Iterable} and test every
+ * chunk as a separate task on the given {@link Executor} (e.g. a
+ * {@code ForkJoinPool}). Up to a given amount of chunks are tested in
+ * advance, which bounds the amount of values that are held in memory. The
+ * values that satisfy the given {@link Predicate} are yielded in the order of
+ * the given {@link Iterable}.
+ * 
+ * <p>
+ * The values are read from the given {@link Iterable} on the thread that
+ * uses the generated {@link Iterator Iterators}, but the given
+ * {@link Predicate} is called concurrently and must therefore be thread-safe.
+ * If the given {@link Predicate} throws an exception, that exception is
+ * thrown by the generated {@link Iterator}, when it reaches the affected
+ * chunk. Afterwards, the remaining chunks are discarded and the
+ * {@link Iterator} has no further values.
+ * 
+ * <p>
+ * The generated {@link Iterator Iterators} are {@link CancelableIterator
+ * CancelableIterators}. Callers that stop to iterate before all values have
+ * been yielded must call {@linkplain CancelableIterator#cancel()}, such that
+ * the chunks that are still being tested don't occupy the {@link Executor}.
+ * Threads that are currently testing a chunk are interrupted.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class ParallelFilteredIterable<Payload> implements ProtectedIterable<Payload> {
+
+	/**
+	 * The default amount of values to be tested in a single task.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 256;
+
+	private final Iterable<? extends Payload> iterable;
+
+	private final Predicate<? super Payload> predicate;
+
+	private final Executor executor;
+
+	private final int chunkSize;
+
+	private final int depth;
+
+	/**
+	 * Creates a new {@link ParallelFilteredIterable} that tests
+	 * {@value ParallelFilteredIterable#DEFAULT_CHUNK_SIZE} values in a single
+	 * task and twice as many chunks in advance as there are processors
+	 * available.
+	 * 
+	 * @param iterable
+	 *            The {@link Iterable} to iterate over.
+	 * @param predicate
+	 *            The {@link Predicate} to be used.
+	 * @param executor
+	 *            The {@link Executor} to test the values with.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} is {@literal null}, if the
+	 *             given {@link Predicate} is {@literal null} or if the given
+	 *             {@link Executor} is {@literal null}.
+	 */
+	public ParallelFilteredIterable(Iterable<? extends Payload> iterable, Predicate<? super Payload> predicate,
+			Executor executor) throws IllegalArgumentException {
+		this(iterable, predicate, executor, DEFAULT_CHUNK_SIZE, 2 * Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a new {@link ParallelFilteredIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link Iterable} to iterate over.
+	 * @param predicate
+	 *            The {@link Predicate} to be used.
+	 * @param executor
+	 *            The {@link Executor} to test the values with.
+	 * @param chunkSize
+	 *            The amount of values to be tested in a single task.
+	 * @param depth
+	 *            The amount of chunks to be tested in advance.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} is {@literal null}, if the
+	 *             given {@link Predicate} is {@literal null}, if the given
+	 *             {@link Executor} is {@literal null}, if the given chunk size
+	 *             is not positive or if the given depth is not positive.
+	 */
+	public ParallelFilteredIterable(Iterable<? extends Payload> iterable, Predicate<? super Payload> predicate,
+			Executor executor, int chunkSize, int depth) throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable is null");
+		} else if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		} else if (null == executor) {
+			throw new IllegalArgumentException("The given executor is null");
+		} else if (chunkSize <= 0) {
+			throw new IllegalArgumentException("The given chunk size is not positive");
+		} else if (depth <= 0) {
+			throw new IllegalArgumentException("The given depth is not positive");
+		}
+		this.iterable = iterable;
+		this.predicate = predicate;
+		this.executor = executor;
+		this.chunkSize = chunkSize;
+		this.depth = depth;
+	}
+
+	@Override
+	public ProtectedIterator<Payload> iterator() {
+		return new ParallelFilteredIterator<Payload>(iterable.iterator(), predicate, executor, chunkSize, depth);
+	}
+
+	private static final class ParallelFilteredIterator<Payload>
+			implements ProtectedIterator<Payload>, CancelableIterator<Payload> {
+
+		private final Iterator<? extends Payload> iterator;
+
+		private final Predicate<? super Payload> predicate;
+
+		private final Executor executor;
+
+		private final int chunkSize;
+
+		private final int depth;
+
+		private final Queue<Future<List<Payload>>> futures = new LinkedList<Future<List<Payload>>>();
+
+		private List<Payload> chunk = Collections.emptyList();
+
+		private int index;
+
+		public ParallelFilteredIterator(Iterator<? extends Payload> iterator, Predicate<? super Payload> predicate,
+				Executor executor, int chunkSize, int depth) {
+			this.iterator = iterator;
+			this.predicate = predicate;
+			this.executor = executor;
+			this.chunkSize = chunkSize;
+			this.depth = depth;
+			submit();
+		}
+
+		private void submit() {
+			while (futures.size() < depth && iterator.hasNext()) {
+				List<Payload> values = new ArrayList<Payload>(chunkSize);
+				while (values.size() < chunkSize && iterator.hasNext()) {
+					values.add(iterator.next());
+				}
+				FutureTask<List<Payload>> task = new FutureTask<List<Payload>>(new Selector<Payload>(values,
+						predicate));
+				futures.add(task);
+				executor.execute(task);
+			}
+		}
+
+		@Override
+		public boolean hasNext() throws PredicateException {
+			while (index == chunk.size()) {
+				if (futures.isEmpty()) {
+					return false;
+				}
+				Future<List<Payload>> future = futures.remove();
+				submit();
+				try {
+					chunk = Futures.await(future);
+					index = 0;
+				} catch (RuntimeException e) {
+					cancel();
+					throw e;
+				} catch (Error e) {
+					cancel();
+					throw e;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public void cancel() {
+			for (Future<List<Payload>> future : futures) {
+				Futures.cancel(future);
+			}
+			futures.clear();
+			chunk = Collections.emptyList();
+			index = 0;
+		}
+
+		@Override
+		public Payload next() throws PredicateException, NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			}
+			Payload value = chunk.get(index);
+			chunk.set(index++, null);
+			return value;
+		}
+
+		@Override
+		public void remove() throws UnsupportedOperationException {
+			throw new UnsupportedOperationException("Cannot remove from this iterator");
+		}
+
+	}
+
+	private static final class Selector<Payload> implements Callable<List<Payload>> {
+
+		private final List<Payload> values;
+
+		private final Predicate<? super Payload> predicate;
+
+		public Selector(List<Payload> values, Predicate<? super Payload> predicate) {
+			this.values = values;
+			this.predicate = predicate;
+		}
+
+		@Override
+		public List<Payload> call() throws PredicateException {
+			List<Payload> values = this.values;
+			int count = 0;
+			for (int i = 0, n = values.size(); i < n; i++) {
+				Payload value = values.get(i);
+				if (predicate.test(value)) {
+					values.set(count++, value);
+				}
+			}
+			values.subList(count, values.size()).clear();
+			return values;
+		}
+
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import net.markenwerk.commons.interfaces.Predicate;
+
+/**
+ * {@link Predicates} provides the unchecked conversions of
+ * {@link Predicate Predicates}, that are shared by all {@link Predicate
+ * Predicates} that combine a sequence of other {@link Predicate Predicates}
+ * into one {@link Predicate} that tests arbitrary values.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+final class Predicates {
+
+	private Predicates() {
+	}
+
+	/**
+	 * Creates a new array of {@link Predicate Predicates} with the given
+	 * length.
+	 * 
+	 * @param length
+	 *            The length of the array.
+	 * @return The created array.
+	 */
+	@SuppressWarnings("unchecked")
+	static Predicate<Object>[] newArray(int length) {
+		return (Predicate<Object>[]) new Predicate<?>[length];
+	}
+
+	/**
+	 * Returns the given {@link Predicate} as a {@link Predicate} that tests
+	 * arbitrary values. This is only safe, if the given {@link Predicate} is
+	 * only used to test values of the type it was created for.
+	 * 
+	 * @param predicate
+	 *            The {@link Predicate} to convert.
+	 * @return The given {@link Predicate}.
+	 */
+	@SuppressWarnings("unchecked")
+	static Predicate<Object> erase(Predicate<?> predicate) {
+		return (Predicate<Object>) predicate;
+	}
+
+}
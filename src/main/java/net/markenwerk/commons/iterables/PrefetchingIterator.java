@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A {@link PrefetchingIterator} is an {@link Iterator} that yields an
+ * {@link Iterator} for every {@link Iterable} yielded by a given
+ * {@link Iterator} and that opens the upcoming {@link Iterable Iterables} in
+ * advance.
+ * 
+ * <p>
+ * Up to a given amount of upcoming {@link Iterable Iterables} are opened on a
+ * given {@link Executor}, by calling {@linkplain Iterable#iterator()} and
+ * reading up to a given amount of values from the generated {@link Iterator}.
+ * The yielded {@link Iterator Iterators} are yielded in the order of the
+ * {@link Iterable Iterables}.
+ * 
+ * <p>
+ * Callers that stop to iterate over a {@link PrefetchingIterator} before it is
+ * exhausted must call {@linkplain PrefetchingIterator#cancel()}, such that the
+ * {@link Iterable Iterables} that are still being opened in advance don't
+ * occupy the {@link Executor}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+final class PrefetchingIterator<Payload> implements Iterator<Iterator<? extends Payload>> {
+
+	private final Iterator<? extends Iterable<? extends Payload>> iterables;
+
+	private final Executor executor;
+
+	private final int depth;
+
+	private final int batchSize;
+
+	private final Queue<Future<Iterator<Payload>>> futures = new LinkedList<Future<Iterator<Payload>>>();
+
+	/**
+	 * Creates a new {@link PrefetchingIterator}.
+	 * 
+	 * @param iterables
+	 *            The {@link Iterator} of {@link Iterable Iterables} to open.
+	 * @param executor
+	 *            The {@link Executor} to open the {@link Iterable Iterables}
+	 *            with.
+	 * @param depth
+	 *            The amount of {@link Iterable Iterables} to open in advance.
+	 * @param batchSize
+	 *            The amount of values to read in advance from every opened
+	 *            {@link Iterable}.
+	 */
+	public PrefetchingIterator(Iterator<? extends Iterable<? extends Payload>> iterables, Executor executor,
+			int depth, int batchSize) {
+		this.iterables = iterables;
+		this.executor = executor;
+		this.depth = depth;
+		this.batchSize = batchSize;
+		prefetch();
+	}
+
+	private void prefetch() {
+		while (futures.size() < depth && iterables.hasNext()) {
+			FutureTask<Iterator<Payload>> task = new FutureTask<Iterator<Payload>>(new Opener<Payload>(
+					iterables.next(), batchSize));
+			futures.add(task);
+			executor.execute(task);
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		return !futures.isEmpty();
+	}
+
+	@Override
+	public Iterator<? extends Payload> next() throws NoSuchElementException {
+		if (futures.isEmpty()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		}
+		Future<Iterator<Payload>> future = futures.remove();
+		prefetch();
+		return Futures.await(future);
+	}
+
+	/**
+	 * Cancels all {@link Iterable Iterables} that are being opened in advance
+	 * and that haven't been yielded yet. Threads that are currently opening
+	 * an {@link Iterable} are interrupted, which may abort blocking I/O.
+	 * Already opened {@link Iterator Iterators} that are
+	 * {@link CancelableIterator CancelableIterators} are cancelled. Afterwards,
+	 * this {@link PrefetchingIterator} has no further values.
+	 */
+	public void cancel() {
+		for (Future<Iterator<Payload>> future : futures) {
+			Futures.cancel(future);
+		}
+		futures.clear();
+	}
+
+	@Override
+	public void remove() throws UnsupportedOperationException {
+		throw new UnsupportedOperationException("Cannot remove from this iterator");
+	}
+
+	private static final class Opener<Payload> implements Callable<Iterator<Payload>> {
+
+		private final Iterable<? extends Payload> iterable;
+
+		private final int batchSize;
+
+		public Opener(Iterable<? extends Payload> iterable, int batchSize) {
+			this.iterable = iterable;
+			this.batchSize = batchSize;
+		}
+
+		@Override
+		public Iterator<Payload> call() {
+			Iterator<? extends Payload> iterator = iterable.iterator();
+			List<Payload> batch = new ArrayList<Payload>(batchSize);
+			while (batch.size() < batchSize && iterator.hasNext()) {
+				batch.add(iterator.next());
+			}
+			return new PrefetchedIterator<Payload>(batch, iterator);
+		}
+
+	}
+
+	private static final class PrefetchedIterator<Payload> implements CancelableIterator<Payload> {
+
+		private final List<Payload> batch;
+
+		private final Iterator<? extends Payload> iterator;
+
+		private int index;
+
+		private boolean fromBatch;
+
+		public PrefetchedIterator(List<Payload> batch, Iterator<? extends Payload> iterator) {
+			this.batch = batch;
+			this.iterator = iterator;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < batch.size() || iterator.hasNext();
+		}
+
+		@Override
+		public Payload next() throws NoSuchElementException {
+			fromBatch = index < batch.size();
+			if (fromBatch) {
+				Payload value = batch.get(index);
+				batch.set(index++, null);
+				return value;
+			}
+			return iterator.next();
+		}
+
+		@Override
+		public void remove() throws UnsupportedOperationException, IllegalStateException {
+			if (fromBatch) {
+				throw new UnsupportedOperationException("Cannot remove a prefetched value");
+			}
+			iterator.remove();
+		}
+
+		@Override
+		public void cancel() {
+			if (iterator instanceof CancelableIterator<?>) {
+				((CancelableIterator<?>) iterator).cancel();
+			}
+		}
+
+	}
+
+}
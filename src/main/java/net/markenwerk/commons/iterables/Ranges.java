@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+/**
+ * {@link Ranges} provides the validation of index ranges, that is shared by
+ * all iterables that iterate over a range of some indexed sequence of values.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+final class Ranges {
+
+	private Ranges() {
+	}
+
+	/**
+	 * Checks whether the given range is a valid range of an indexed sequence
+	 * of values with the given length.
+	 * 
+	 * @param length
+	 *            The length of the indexed sequence of values.
+	 * @param fromIndex
+	 *            The first index of the range.
+	 * @param toIndex
+	 *            The index after the last index of the range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index
+	 *             is larger than the given length or if the given from index
+	 *             is larger than the given to index.
+	 */
+	static void check(int length, int fromIndex, int toIndex) throws IllegalArgumentException {
+		if (fromIndex < 0) {
+			throw new IllegalArgumentException("The given from index is negative");
+		} else if (toIndex > length) {
+			throw new IllegalArgumentException("The given to index is larger than the length");
+		} else if (fromIndex > toIndex) {
+			throw new IllegalArgumentException("The given from index is larger than the given to index");
+		}
+	}
+
+	/**
+	 * Checks whether the given strided range is a valid strided range of an
+	 * indexed sequence of values with the given length.
+	 * 
+	 * @param length
+	 *            The length of the indexed sequence of values.
+	 * @param offset
+	 *            The first index of the strided range.
+	 * @param stride
+	 *            The distance between two consecutive indices of the strided
+	 *            range.
+	 * @param count
+	 *            The amount of indices of the strided range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given offset is negative or larger than the given
+	 *             length, if the given stride is not positive, if the given
+	 *             count is negative or if the last index of the strided range
+	 *             isn't smaller than the given length.
+	 */
+	static void checkStrided(int length, int offset, int stride, int count) throws IllegalArgumentException {
+		if (offset < 0) {
+			throw new IllegalArgumentException("The given offset is negative");
+		} else if (offset > length) {
+			throw new IllegalArgumentException("The given offset is larger than the length");
+		} else if (stride <= 0) {
+			throw new IllegalArgumentException("The given stride is not positive");
+		} else if (count < 0) {
+			throw new IllegalArgumentException("The given count is negative");
+		} else if (0 != count && offset + (long) stride * (count - 1) >= length) {
+			throw new IllegalArgumentException("The given count is too large for the length");
+		}
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link RecordFileIterable} is a {@link ProtectedBidirectionalIterable} that
+ * generates {@link Iterator Iterators} that iterate over the fixed-size records
+ * stored in a given file.
+ * 
+ * <p>
+ * The file is memory-mapped once, when the {@link RecordFileIterable} is
+ * created, and every record is yielded as a read-only {@link ByteBuffer} that
+ * is a slice of the mapped memory, which allows to iterate over files of any
+ * size without reading them onto the heap. Files that are larger than 2 GB are
+ * mapped in multiple consecutive regions. Trailing bytes that don't form a
+ * complete record are ignored.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class RecordFileIterable implements ProtectedBidirectionalIterable<ByteBuffer> {
+
+	private final MappedRegions regions;
+
+	/**
+	 * Creates a new {@link RecordFileIterable} that yields
+	 * {@link ByteBuffer ByteBuffers} with
+	 * {@link ByteOrder#BIG_ENDIAN big-endian} byte order.
+	 * 
+	 * @param file
+	 *            The file to iterate over.
+	 * @param recordSize
+	 *            The size of a single record in bytes.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given file is {@literal null} or if the given record
+	 *             size is not positive.
+	 * @throws IOException
+	 *             If the given file couldn't be mapped.
+	 */
+	public RecordFileIterable(File file, int recordSize) throws IllegalArgumentException, IOException {
+		this(file, recordSize, ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Creates a new {@link RecordFileIterable}.
+	 * 
+	 * @param file
+	 *            The file to iterate over.
+	 * @param recordSize
+	 *            The size of a single record in bytes.
+	 * @param order
+	 *            The {@link ByteOrder} of the yielded
+	 *            {@link ByteBuffer ByteBuffers}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given file is {@literal null}, if the given record
+	 *             size is not positive or if the given {@link ByteOrder} is
+	 *             {@literal null}.
+	 * @throws IOException
+	 *             If the given file couldn't be mapped.
+	 */
+	public RecordFileIterable(File file, int recordSize, ByteOrder order) throws IllegalArgumentException, IOException {
+		this(file, recordSize, order, MappedRegions.MAXIMUM_REGION_SIZE);
+	}
+
+	RecordFileIterable(File file, int recordSize, ByteOrder order, int maximumRegionSize)
+			throws IllegalArgumentException, IOException {
+		regions = new MappedRegions(file, order, recordSize, maximumRegionSize);
+	}
+
+	/**
+	 * Returns the amount of records this {@link RecordFileIterable} iterates
+	 * over.
+	 * 
+	 * @return The amount of records.
+	 */
+	public long size() {
+		return regions.size();
+	}
+
+	@Override
+	public ProtectedBidirectionalIterator<ByteBuffer> iterator() {
+		return new RecordFileIterator(regions);
+	}
+
+	private static final class RecordFileIterator extends AbstractMappedIterator<ByteBuffer> {
+
+		private final ByteOrder order;
+
+		private final int recordSize;
+
+		public RecordFileIterator(MappedRegions regions) {
+			super(regions);
+			this.order = regions.order();
+			this.recordSize = regions.recordSize();
+		}
+
+		@Override
+		public ByteBuffer next() throws NoSuchElementException {
+			return slice(nextOffset());
+		}
+
+		@Override
+		public ByteBuffer previous() throws NoSuchElementException {
+			return slice(previousOffset());
+		}
+
+		private ByteBuffer slice(int offset) {
+			ByteBuffer record = region().duplicate();
+			record.position(offset);
+			record.limit(offset + recordSize);
+			return record.slice().order(order);
+		}
+
+	}
+
+}
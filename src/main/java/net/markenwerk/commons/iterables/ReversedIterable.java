@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.iterators.BidirectionalIterator;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link ReversedIterable} is a {@link ProtectedBidirectionalIterable} that
+ * can be wrapped around a given {@link BidirectionalIterable} and generates
+ * {@link Iterator Iterators} that yield the values of the given
+ * {@link BidirectionalIterable} in reverse order, without buffering them.
+ * 
+ * <p>
+ * Every generated {@link Iterator} walks the {@link BidirectionalIterator}
+ * generated by the given {@link BidirectionalIterable} backwards. To start at
+ * the end, the {@link BidirectionalIterator} is directly moved to its last
+ * value, if it was generated by one of the indexed iterables of this library
+ * (e.g. an {@link ArrayIterable}, a primitive array iterable or a primitive
+ * buffer iterable). Otherwise, the {@link BidirectionalIterator} is advanced
+ * value by value, which takes linear time, but no additional memory.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class ReversedIterable<Payload> implements ProtectedBidirectionalIterable<Payload> {
+
+	private final BidirectionalIterable<? extends Payload> iterable;
+
+	/**
+	 * Creates a new {@link ReversedIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link BidirectionalIterable} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link BidirectionalIterable} is
+	 *             {@literal null}.
+	 */
+	public ReversedIterable(BidirectionalIterable<? extends Payload> iterable) throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable is null");
+		}
+		this.iterable = iterable;
+	}
+
+	@Override
+	public ProtectedBidirectionalIterator<Payload> iterator() {
+		return new ReversedIterator<Payload>(iterable.iterator());
+	}
+
+	private static final class ReversedIterator<Payload> implements ProtectedBidirectionalIterator<Payload> {
+
+		private final BidirectionalIterator<? extends Payload> iterator;
+
+		private boolean started;
+
+		public ReversedIterator(BidirectionalIterator<? extends Payload> iterator) {
+			this.iterator = iterator;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return started ? iterator.hasPrevious() : iterator.hasNext();
+		}
+
+		@Override
+		public Payload next() throws NoSuchElementException {
+			if (started) {
+				return iterator.previous();
+			} else if (!iterator.hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			}
+			started = true;
+			if (iterator instanceof ReversibleIterator<?>) {
+				((ReversibleIterator<?>) iterator).skipToLast();
+				return iterator.next();
+			}
+			Payload last = iterator.next();
+			while (iterator.hasNext()) {
+				last = iterator.next();
+			}
+			return last;
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return started && iterator.hasNext();
+		}
+
+		@Override
+		public Payload previous() throws NoSuchElementException {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException("This iterator has no previous element");
+			}
+			return iterator.next();
+		}
+
+		@Override
+		public void remove() throws UnsupportedOperationException {
+			throw new UnsupportedOperationException("Cannot remove from this iterator");
+		}
+
+	}
+
+}
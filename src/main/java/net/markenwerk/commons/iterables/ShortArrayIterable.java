@@ -22,20 +22,25 @@
 package net.markenwerk.commons.iterables;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
-import net.markenwerk.commons.iterators.ShortArrayIterator;
+import net.markenwerk.commons.interfaces.Handler;
 
 /**
- * A {@link ShortArrayIterable} is a {@link ProtectedBidirectionalIterable} that
- * generates {@link Iterator Iterators} that iterate over a given
- * {@code short[]}.
+ * A {@link ShortArrayIterable} is a {@link ShortIterable} that generates
+ * {@link Iterator Iterators} that iterate over a given {@code short[]} or over
+ * a given range of a given {@code short[]}.
  * 
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class ShortArrayIterable implements ProtectedBidirectionalIterable<Short> {
+public final class ShortArrayIterable implements ShortIterable {
 
-	private final short[] array;
+	final short[] array;
+
+	final int fromIndex;
+
+	final int toIndex;
 
 	/**
 	 * Creates a new {@link ShortArrayIterable}.
@@ -47,15 +52,193 @@ public final class ShortArrayIterable implements ProtectedBidirectionalIterable<
 	 *             If the given {@code short[]} is {@literal null}.
 	 */
 	public ShortArrayIterable(short... array) throws IllegalArgumentException {
+		this(array, 0, null == array ? 0 : array.length);
+	}
+
+	/**
+	 * Creates a new {@link ShortArrayIterable} that iterates over the given
+	 * range of the given {@code short[]}, without copying it.
+	 * 
+	 * @param array
+	 *            The {@code short[]} to iterate over.
+	 * @param fromIndex
+	 *            The index of the first value to iterate over.
+	 * @param toIndex
+	 *            The index after the last value to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code short[]} is {@literal null}, if the given
+	 *             from index is negative, if the given to index is larger than
+	 *             the length of the given {@code short[]} or if the given from
+	 *             index is larger than the given to index.
+	 */
+	public ShortArrayIterable(short[] array, int fromIndex, int toIndex) throws IllegalArgumentException {
 		if (null == array) {
 			throw new IllegalArgumentException("The given array is null");
 		}
+		Ranges.check(array.length, fromIndex, toIndex);
 		this.array = array;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Returns the amount of values this {@link ShortArrayIterable} iterates
+	 * over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns a {@link ShortArrayIterable} that iterates over the given range
+	 * of the values this {@link ShortArrayIterable} iterates over. The returned
+	 * {@link ShortArrayIterable} is a view on the same {@code short[]} and
+	 * doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to
+	 *            this {@link ShortArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link ShortArrayIterable}.
+	 * @return The {@link ShortArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index
+	 *             is larger than the size of this {@link ShortArrayIterable}
+	 *             or if the given from index is larger than the given to
+	 *             index.
+	 */
+	public ShortArrayIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(size(), fromIndex, toIndex);
+		return new ShortArrayIterable(array, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+	}
+
+	/**
+	 * Returns a {@link StridedShortArrayIterable} that iterates over every
+	 * {@code stride}-th value this {@link ShortArrayIterable} iterates over,
+	 * starting at the given offset. The returned
+	 * {@link StridedShortArrayIterable} is a view on the same {@code short[]}
+	 * and doesn't copy it.
+	 * 
+	 * @param offset
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link ShortArrayIterable}.
+	 * @param stride
+	 *            The distance between the indices of two consecutive values to
+	 *            iterate over.
+	 * @return The {@link StridedShortArrayIterable} for the given offset and
+	 *         stride.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given offset is negative, if the given offset is
+	 *             larger than the size of this {@link ShortArrayIterable} or if
+	 *             the given stride is not positive.
+	 */
+	public StridedShortArrayIterable strided(int offset, int stride) throws IllegalArgumentException {
+		if (offset < 0) {
+			throw new IllegalArgumentException("The given offset is negative");
+		} else if (offset > size()) {
+			throw new IllegalArgumentException("The given offset is larger than the size");
+		}
+		int count = offset == size() || stride <= 0 ? 0 : (size() - offset - 1) / stride + 1;
+		return new StridedShortArrayIterable(array, fromIndex + offset, stride, count);
+	}
+
+	@Override
+	public ShortIterator iterator() {
+		return new PrimitiveShortArrayIterator(array, fromIndex, toIndex);
 	}
 
 	@Override
-	public ShortArrayIterator iterator() {
-		return new ShortArrayIterator(array);
+	public ShortIterator primitiveIterator() {
+		return new PrimitiveShortArrayIterator(array, fromIndex, toIndex);
+	}
+
+	/**
+	 * Calls the given {@link ShortHandler} with every value this
+	 * {@link ShortArrayIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link ShortArrayIterable} and
+	 * calling the given {@link ShortHandler} with every yielded value, because
+	 * the {@code short[]} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link ShortHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link ShortHandler} is {@literal null}.
+	 */
+	public void handleEach(ShortHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		short[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link ShortArrayIterable} iterates over, in order. This is equivalent
+	 * to, but faster than, iterating over this {@link ShortArrayIterable} and
+	 * calling the given {@link Handler} with every yielded value, because the
+	 * {@code short[]} is traversed in a single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Short}. Use
+	 * {@linkplain ShortArrayIterable#handleEach(ShortHandler)} to handle the
+	 * values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Short> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		short[] array = this.array;
+		for (int i = fromIndex, n = toIndex; i < n; i++) {
+			handler.handle(array[i]);
+		}
+	}
+
+	private static final class PrimitiveShortArrayIterator extends AbstractIndexedIterator<Short>
+			implements ShortIterator {
+
+		private final short[] array;
+
+		public PrimitiveShortArrayIterator(short[] array, int fromIndex, int toIndex) {
+			super(fromIndex, toIndex);
+			this.array = array;
+		}
+
+		@Override
+		public short nextShort() throws NoSuchElementException {
+			return array[nextIndex()];
+		}
+
+		@Override
+		public Short next() throws NoSuchElementException {
+			return nextShort();
+		}
+
+		@Override
+		public short previousShort() throws NoSuchElementException {
+			return array[previousIndex()];
+		}
+
+		@Override
+		public Short previous() throws NoSuchElementException {
+			return previousShort();
+		}
+
 	}
 
 }
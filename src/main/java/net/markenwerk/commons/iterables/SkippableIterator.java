@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+
+/**
+ * A {@link SkippableIterator} is an {@link Iterator} that can skip values or
+ * move to an arbitrary position without stepping through all values in
+ * between.
+ * 
+ * <p>
+ * Skipping values or moving to a position leaves a {@link SkippableIterator} in
+ * the same state as if the corresponding amount of values had been yielded by
+ * {@linkplain SkippableIterator#next()}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public interface SkippableIterator<Payload> extends Iterator<Payload> {
+
+	/**
+	 * Skips the given amount of values or all remaining values, if less than
+	 * the given amount of values remain.
+	 * 
+	 * @param count
+	 *            The amount of values to skip.
+	 * @return The amount of values that have actually been skipped.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given amount of values is negative.
+	 */
+	public long skip(long count) throws IllegalArgumentException;
+
+	/**
+	 * Moves this {@link SkippableIterator}, such that the next call to
+	 * {@linkplain SkippableIterator#next()} yields the value at the given
+	 * position. Moving to the position after the last value moves this
+	 * {@link SkippableIterator} to the end of the values it iterates over.
+	 * 
+	 * @param position
+	 *            The zero based position of the value to be yielded next.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given position is negative or larger than the amount
+	 *             of values this {@link SkippableIterator} iterates over.
+	 */
+	public void seek(long position) throws IllegalArgumentException;
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+
+/**
+ * A {@link SkippedIterable} is an {@link Iterable} that can be wrapped around
+ * a given {@link Iterable} and generates {@link Iterator Iterators} that skip
+ * a given amount of values before yielding the remaining values.
+ * 
+ * <p>
+ * If an {@link Iterator} generated by the given {@link Iterable} is a
+ * {@link SkippableIterator}, the values are skipped with
+ * {@linkplain SkippableIterator#skip(long)}, otherwise they are skipped by
+ * stepping through them.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class SkippedIterable<Payload> implements Iterable<Payload> {
+
+	private final Iterable<? extends Payload> iterable;
+
+	private final long count;
+
+	/**
+	 * Creates a new {@link SkippedIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link Iterable} to iterate over.
+	 * @param count
+	 *            The amount of values to skip.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} is {@literal null} or if the
+	 *             given amount of values is negative.
+	 */
+	public SkippedIterable(Iterable<? extends Payload> iterable, long count) throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable is null");
+		}
+		Skips.checkCount(count);
+		this.iterable = iterable;
+		this.count = count;
+	}
+
+	@Override
+	public Iterator<Payload> iterator() {
+		Iterator<? extends Payload> iterator = iterable.iterator();
+		skip(iterator, count);
+		return new SkippedIterator<Payload>(iterator);
+	}
+
+	/**
+	 * Skips the given amount of values of the given {@link Iterator} or all
+	 * remaining values, if less than the given amount of values remain. Uses
+	 * {@linkplain SkippableIterator#skip(long)}, if the given {@link Iterator}
+	 * is a {@link SkippableIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to skip values of.
+	 * @param count
+	 *            The amount of values to skip.
+	 * @return The amount of values that have actually been skipped.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null} or if the
+	 *             given amount of values is negative.
+	 */
+	public static long skip(Iterator<?> iterator, long count) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		}
+		Skips.checkCount(count);
+		if (iterator instanceof SkippableIterator<?>) {
+			return ((SkippableIterator<?>) iterator).skip(count);
+		}
+		long skipped = 0;
+		while (skipped < count && iterator.hasNext()) {
+			iterator.next();
+			skipped++;
+		}
+		return skipped;
+	}
+
+	private static final class SkippedIterator<Payload> implements Iterator<Payload> {
+
+		private final Iterator<? extends Payload> iterator;
+
+		public SkippedIterator(Iterator<? extends Payload> iterator) {
+			this.iterator = iterator;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iterator.hasNext();
+		}
+
+		@Override
+		public Payload next() {
+			return iterator.next();
+		}
+
+		@Override
+		public void remove() {
+			iterator.remove();
+		}
+
+	}
+
+}
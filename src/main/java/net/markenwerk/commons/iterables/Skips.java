@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+/**
+ * {@link Skips} provides the argument checks, that are shared by all
+ * implementations of {@link SkippableIterator}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+final class Skips {
+
+	private Skips() {
+	}
+
+	/**
+	 * Checks whether the given amount of values to skip is not negative.
+	 * 
+	 * @param count
+	 *            The amount of values to be checked.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given amount of values is negative.
+	 */
+	static void checkCount(long count) throws IllegalArgumentException {
+		if (count < 0) {
+			throw new IllegalArgumentException("The given count is negative");
+		}
+	}
+
+	/**
+	 * Checks whether the given position lies within the given amount of values
+	 * or directly after the last value.
+	 * 
+	 * @param position
+	 *            The position to be checked.
+	 * @param size
+	 *            The amount of values.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given position is negative or larger than the given
+	 *             amount of values.
+	 */
+	static void checkPosition(long position, long size) throws IllegalArgumentException {
+		if (position < 0) {
+			throw new IllegalArgumentException("The given position is negative");
+		}
+		if (position > size) {
+			throw new IllegalArgumentException("The given position is larger than the amount of values");
+		}
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link SteppedLongIterator} is a {@link LongIterator} that yields every
+ * {@code long} value from a given first value to a given last value, with a
+ * given step between two consecutive values.
+ * 
+ * <p>
+ * The last value has to be reachable from the first value with the given step.
+ * Because a {@link SteppedLongIterator} stops at the last value, it never
+ * computes a value beyond the last value and therefore never overflows.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+final class SteppedLongIterator implements LongIterator, ReversibleIterator<Long>, SkippableIterator<Long> {
+
+	private final long first;
+
+	private final long last;
+
+	private final long step;
+
+	private final boolean empty;
+
+	private boolean started;
+
+	private long value;
+
+	/**
+	 * Creates a new {@link SteppedLongIterator}.
+	 * 
+	 * @param first
+	 *            The first value to be yielded.
+	 * @param last
+	 *            The last value to be yielded.
+	 * @param step
+	 *            The difference between two consecutive values, which is
+	 *            negative, if the values should be yielded in descending order.
+	 * @param empty
+	 *            Whether no values should be yielded at all.
+	 */
+	public SteppedLongIterator(long first, long last, long step, boolean empty) {
+		this.first = first;
+		this.last = last;
+		this.step = step;
+		this.empty = empty;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return started ? value != last : !empty;
+	}
+
+	@Override
+	public long nextLong() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		}
+		if (started) {
+			value += step;
+		} else {
+			started = true;
+			value = first;
+		}
+		return value;
+	}
+
+	@Override
+	public Long next() throws NoSuchElementException {
+		return nextLong();
+	}
+
+	@Override
+	public boolean hasPrevious() {
+		return started && value != first;
+	}
+
+	@Override
+	public long previousLong() throws NoSuchElementException {
+		if (!hasPrevious()) {
+			throw new NoSuchElementException("This iterator has no previous element");
+		}
+		value -= step;
+		return value;
+	}
+
+	@Override
+	public Long previous() throws NoSuchElementException {
+		return previousLong();
+	}
+
+	@Override
+	public void skipToLast() {
+		if (!empty && first != last) {
+			started = true;
+			value = last - step;
+		}
+	}
+
+	@Override
+	public long skip(long count) throws IllegalArgumentException {
+		Skips.checkCount(count);
+		if (0 == count || !hasNext()) {
+			return 0;
+		}
+		long skipped = 0;
+		if (!started) {
+			started = true;
+			value = first;
+			skipped++;
+		}
+		long steps = steps(value);
+		if (steps < 0 || steps > count - skipped) {
+			steps = count - skipped;
+		}
+		value += steps * step;
+		return skipped + steps;
+	}
+
+	@Override
+	public void seek(long position) throws IllegalArgumentException {
+		Skips.checkPosition(position, empty ? 0 : Steps.size(steps(first)));
+		started = 0 != position;
+		if (started) {
+			value = first + (position - 1) * step;
+		}
+	}
+
+	private long steps(long from) {
+		return step > 0 ? Steps.count(last - from, step) : Steps.count(from - last, -step);
+	}
+
+	@Override
+	public void remove() throws UnsupportedOperationException {
+		throw new UnsupportedOperationException("Cannot remove from this iterator");
+	}
+
+}
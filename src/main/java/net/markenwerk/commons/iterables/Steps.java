@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+/**
+ * {@link Steps} provides the arithmetic, that is shared by all iterables that
+ * yield values with a given step between two consecutive values.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+final class Steps {
+
+	private Steps() {
+	}
+
+	/**
+	 * Checks whether the given step is positive.
+	 * 
+	 * @param step
+	 *            The step to be checked.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given step is not positive.
+	 */
+	static void check(long step) throws IllegalArgumentException {
+		if (step <= 0) {
+			throw new IllegalArgumentException("The given step is not positive");
+		}
+	}
+
+	/**
+	 * Returns the amount of steps of the given size that fit into the given
+	 * distance. The given distance is interpreted as an unsigned value, such
+	 * that the distance between any two {@code long} values can be represented.
+	 * 
+	 * @param distance
+	 *            The unsigned distance.
+	 * @param step
+	 *            The positive step.
+	 * @return The unsigned amount of steps.
+	 */
+	static long count(long distance, long step) {
+		if (distance >= 0) {
+			return distance / step;
+		}
+		long count = ((distance >>> 1) / step) << 1;
+		long remainder = distance - count * step;
+		return remainder + Long.MIN_VALUE >= step + Long.MIN_VALUE ? count + 1 : count;
+	}
+
+	/**
+	 * Returns the amount of values that are yielded, if the given unsigned
+	 * amount of steps is taken, limited to {@link Long#MAX_VALUE}.
+	 * 
+	 * @param count
+	 *            The unsigned amount of steps.
+	 * @return The amount of values.
+	 */
+	static long size(long count) {
+		return count < 0 || count == Long.MAX_VALUE ? Long.MAX_VALUE : count + 1;
+	}
+
+}
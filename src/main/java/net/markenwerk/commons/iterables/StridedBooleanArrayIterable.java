@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+/**
+ * A {@link StridedBooleanArrayIterable} is a {@link BooleanIterable} that
+ * generates {@link Iterator Iterators} that iterate over every
+ * {@code stride}-th value of a given {@code boolean[]}, starting at a given
+ * offset, without copying it.
+ * 
+ * <p>
+ * This allows to iterate over a single column of interleaved values, e.g. over
+ * the {@code y} values of a {@code boolean[]} that contains
+ * {@code x0, y0, z0, x1, y1, z1, ...} with an offset of {@code 1} and a stride
+ * of {@code 3}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class StridedBooleanArrayIterable implements BooleanIterable {
+
+	private final boolean[] array;
+
+	private final int offset;
+
+	private final int stride;
+
+	private final int count;
+
+	/**
+	 * Creates a new {@link StridedBooleanArrayIterable}.
+	 * 
+	 * @param array
+	 *            The {@code boolean[]} to iterate over.
+	 * @param offset
+	 *            The index of the first value to iterate over.
+	 * @param stride
+	 *            The distance between the indices of two consecutive values to
+	 *            iterate over.
+	 * @param count
+	 *            The amount of values to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code boolean[]} is {@literal null}, if the
+	 *             given offset is negative or larger than the length of the
+	 *             given {@code boolean[]}, if the given stride is not positive,
+	 *             if the given count is negative or if the index of the last
+	 *             value to iterate over isn't smaller than the length of the
+	 *             given {@code boolean[]}.
+	 */
+	public StridedBooleanArrayIterable(boolean[] array, int offset, int stride, int count)
+			throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		Ranges.checkStrided(array.length, offset, stride, count);
+		this.array = array;
+		this.offset = offset;
+		this.stride = stride;
+		this.count = count;
+	}
+
+	/**
+	 * Returns the amount of values this {@link StridedBooleanArrayIterable}
+	 * iterates over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Returns a {@link StridedBooleanArrayIterable} that iterates over the
+	 * given range of the values this {@link StridedBooleanArrayIterable}
+	 * iterates over. The returned {@link StridedBooleanArrayIterable} is a view
+	 * on the same {@code boolean[]} and doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link StridedBooleanArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link StridedBooleanArrayIterable}.
+	 * @return The {@link StridedBooleanArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index is
+	 *             larger than the size of this
+	 *             {@link StridedBooleanArrayIterable} or if the given from
+	 *             index is larger than the given to index.
+	 */
+	public StridedBooleanArrayIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(count, fromIndex, toIndex);
+		if (fromIndex == toIndex) {
+			return new StridedBooleanArrayIterable(array, offset, stride, 0);
+		}
+		return new StridedBooleanArrayIterable(array, offset + fromIndex * stride, stride, toIndex - fromIndex);
+	}
+
+	@Override
+	public BooleanIterator iterator() {
+		return new StridedBooleanArrayIterator(array, offset, stride, count);
+	}
+
+	@Override
+	public BooleanIterator primitiveIterator() {
+		return new StridedBooleanArrayIterator(array, offset, stride, count);
+	}
+
+	/**
+	 * Calls the given {@link BooleanHandler} with every value this
+	 * {@link StridedBooleanArrayIterable} iterates over, in order. This is
+	 * equivalent to, but faster than, iterating over this
+	 * {@link StridedBooleanArrayIterable} and calling the given
+	 * {@link BooleanHandler} with every yielded value, because the
+	 * {@code boolean[]} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link BooleanHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link BooleanHandler} is {@literal null}.
+	 */
+	public void handleEach(BooleanHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		boolean[] array = this.array;
+		for (int i = 0, index = offset; i < count; i++, index += stride) {
+			handler.handle(array[index]);
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link StridedBooleanArrayIterable} iterates over, in order. This is
+	 * equivalent to, but faster than, iterating over this
+	 * {@link StridedBooleanArrayIterable} and calling the given {@link Handler}
+	 * with every yielded value, because the {@code boolean[]} is traversed in a
+	 * single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Boolean}. Use
+	 * {@linkplain StridedBooleanArrayIterable#handleEach(BooleanHandler)} to
+	 * handle the values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Boolean> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		boolean[] array = this.array;
+		for (int i = 0, index = offset; i < count; i++, index += stride) {
+			handler.handle(array[index]);
+		}
+	}
+
+	private static final class StridedBooleanArrayIterator extends AbstractIndexedIterator<Boolean>
+			implements BooleanIterator {
+
+		private final boolean[] array;
+
+		private final int offset;
+
+		private final int stride;
+
+		public StridedBooleanArrayIterator(boolean[] array, int offset, int stride, int count) {
+			super(0, count);
+			this.array = array;
+			this.offset = offset;
+			this.stride = stride;
+		}
+
+		@Override
+		public boolean nextBoolean() throws NoSuchElementException {
+			return array[offset + nextIndex() * stride];
+		}
+
+		@Override
+		public Boolean next() throws NoSuchElementException {
+			return nextBoolean();
+		}
+
+		@Override
+		public boolean previousBoolean() throws NoSuchElementException {
+			return array[offset + previousIndex() * stride];
+		}
+
+		@Override
+		public Boolean previous() throws NoSuchElementException {
+			return previousBoolean();
+		}
+
+	}
+
+}
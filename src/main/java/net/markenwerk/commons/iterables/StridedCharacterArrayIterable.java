@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+/**
+ * A {@link StridedCharacterArrayIterable} is a {@link CharacterIterable} that
+ * generates {@link Iterator Iterators} that iterate over every
+ * {@code stride}-th value of a given {@code char[]}, starting at a given
+ * offset, without copying it.
+ * 
+ * <p>
+ * This allows to iterate over a single column of interleaved values, e.g. over
+ * the {@code y} values of a {@code char[]} that contains
+ * {@code x0, y0, z0, x1, y1, z1, ...} with an offset of {@code 1} and a stride
+ * of {@code 3}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class StridedCharacterArrayIterable implements CharacterIterable {
+
+	private final char[] array;
+
+	private final int offset;
+
+	private final int stride;
+
+	private final int count;
+
+	/**
+	 * Creates a new {@link StridedCharacterArrayIterable}.
+	 * 
+	 * @param array
+	 *            The {@code char[]} to iterate over.
+	 * @param offset
+	 *            The index of the first value to iterate over.
+	 * @param stride
+	 *            The distance between the indices of two consecutive values to
+	 *            iterate over.
+	 * @param count
+	 *            The amount of values to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code char[]} is {@literal null}, if the given
+	 *             offset is negative or larger than the length of the given
+	 *             {@code char[]}, if the given stride is not positive, if the
+	 *             given count is negative or if the index of the last value to
+	 *             iterate over isn't smaller than the length of the given
+	 *             {@code char[]}.
+	 */
+	public StridedCharacterArrayIterable(char[] array, int offset, int stride, int count)
+			throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		Ranges.checkStrided(array.length, offset, stride, count);
+		this.array = array;
+		this.offset = offset;
+		this.stride = stride;
+		this.count = count;
+	}
+
+	/**
+	 * Returns the amount of values this {@link StridedCharacterArrayIterable}
+	 * iterates over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Returns a {@link StridedCharacterArrayIterable} that iterates over the
+	 * given range of the values this {@link StridedCharacterArrayIterable}
+	 * iterates over. The returned {@link StridedCharacterArrayIterable} is a
+	 * view on the same {@code char[]} and doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link StridedCharacterArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link StridedCharacterArrayIterable}.
+	 * @return The {@link StridedCharacterArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index is
+	 *             larger than the size of this
+	 *             {@link StridedCharacterArrayIterable} or if the given from
+	 *             index is larger than the given to index.
+	 */
+	public StridedCharacterArrayIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(count, fromIndex, toIndex);
+		if (fromIndex == toIndex) {
+			return new StridedCharacterArrayIterable(array, offset, stride, 0);
+		}
+		return new StridedCharacterArrayIterable(array, offset + fromIndex * stride, stride, toIndex - fromIndex);
+	}
+
+	@Override
+	public CharacterIterator iterator() {
+		return new StridedCharacterArrayIterator(array, offset, stride, count);
+	}
+
+	@Override
+	public CharacterIterator primitiveIterator() {
+		return new StridedCharacterArrayIterator(array, offset, stride, count);
+	}
+
+	/**
+	 * Calls the given {@link CharacterHandler} with every value this
+	 * {@link StridedCharacterArrayIterable} iterates over, in order. This is
+	 * equivalent to, but faster than, iterating over this
+	 * {@link StridedCharacterArrayIterable} and calling the given
+	 * {@link CharacterHandler} with every yielded value, because the
+	 * {@code char[]} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link CharacterHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link CharacterHandler} is {@literal null}.
+	 */
+	public void handleEach(CharacterHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		char[] array = this.array;
+		for (int i = 0, index = offset; i < count; i++, index += stride) {
+			handler.handle(array[index]);
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link StridedCharacterArrayIterable} iterates over, in order. This is
+	 * equivalent to, but faster than, iterating over this
+	 * {@link StridedCharacterArrayIterable} and calling the given
+	 * {@link Handler} with every yielded value, because the {@code char[]} is
+	 * traversed in a single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Character}. Use
+	 * {@linkplain StridedCharacterArrayIterable#handleEach(CharacterHandler)}
+	 * to handle the values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Character> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		char[] array = this.array;
+		for (int i = 0, index = offset; i < count; i++, index += stride) {
+			handler.handle(array[index]);
+		}
+	}
+
+	private static final class StridedCharacterArrayIterator extends AbstractIndexedIterator<Character>
+			implements CharacterIterator {
+
+		private final char[] array;
+
+		private final int offset;
+
+		private final int stride;
+
+		public StridedCharacterArrayIterator(char[] array, int offset, int stride, int count) {
+			super(0, count);
+			this.array = array;
+			this.offset = offset;
+			this.stride = stride;
+		}
+
+		@Override
+		public char nextChar() throws NoSuchElementException {
+			return array[offset + nextIndex() * stride];
+		}
+
+		@Override
+		public Character next() throws NoSuchElementException {
+			return nextChar();
+		}
+
+		@Override
+		public char previousChar() throws NoSuchElementException {
+			return array[offset + previousIndex() * stride];
+		}
+
+		@Override
+		public Character previous() throws NoSuchElementException {
+			return previousChar();
+		}
+
+	}
+
+}
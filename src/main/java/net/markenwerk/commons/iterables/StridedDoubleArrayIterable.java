@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+/**
+ * A {@link StridedDoubleArrayIterable} is a {@link DoubleIterable} that
+ * generates {@link Iterator Iterators} that iterate over every
+ * {@code stride}-th value of a given {@code double[]}, starting at a given
+ * offset, without copying it.
+ * 
+ * <p>
+ * This allows to iterate over a single column of interleaved values, e.g. over
+ * the {@code y} values of a {@code double[]} that contains
+ * {@code x0, y0, z0, x1, y1, z1, ...} with an offset of {@code 1} and a stride
+ * of {@code 3}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class StridedDoubleArrayIterable implements DoubleIterable {
+
+	private final double[] array;
+
+	private final int offset;
+
+	private final int stride;
+
+	private final int count;
+
+	/**
+	 * Creates a new {@link StridedDoubleArrayIterable}.
+	 * 
+	 * @param array
+	 *            The {@code double[]} to iterate over.
+	 * @param offset
+	 *            The index of the first value to iterate over.
+	 * @param stride
+	 *            The distance between the indices of two consecutive values to
+	 *            iterate over.
+	 * @param count
+	 *            The amount of values to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code double[]} is {@literal null}, if the
+	 *             given offset is negative or larger than the length of the
+	 *             given {@code double[]}, if the given stride is not positive,
+	 *             if the given count is negative or if the index of the last
+	 *             value to iterate over isn't smaller than the length of the
+	 *             given {@code double[]}.
+	 */
+	public StridedDoubleArrayIterable(double[] array, int offset, int stride, int count)
+			throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		Ranges.checkStrided(array.length, offset, stride, count);
+		this.array = array;
+		this.offset = offset;
+		this.stride = stride;
+		this.count = count;
+	}
+
+	/**
+	 * Returns the amount of values this {@link StridedDoubleArrayIterable}
+	 * iterates over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Returns a {@link StridedDoubleArrayIterable} that iterates over the given
+	 * range of the values this {@link StridedDoubleArrayIterable} iterates
+	 * over. The returned {@link StridedDoubleArrayIterable} is a view on the
+	 * same {@code double[]} and doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link StridedDoubleArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link StridedDoubleArrayIterable}.
+	 * @return The {@link StridedDoubleArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index is
+	 *             larger than the size of this
+	 *             {@link StridedDoubleArrayIterable} or if the given from index
+	 *             is larger than the given to index.
+	 */
+	public StridedDoubleArrayIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(count, fromIndex, toIndex);
+		if (fromIndex == toIndex) {
+			return new StridedDoubleArrayIterable(array, offset, stride, 0);
+		}
+		return new StridedDoubleArrayIterable(array, offset + fromIndex * stride, stride, toIndex - fromIndex);
+	}
+
+	@Override
+	public DoubleIterator iterator() {
+		return new StridedDoubleArrayIterator(array, offset, stride, count);
+	}
+
+	@Override
+	public DoubleIterator primitiveIterator() {
+		return new StridedDoubleArrayIterator(array, offset, stride, count);
+	}
+
+	/**
+	 * Calls the given {@link DoubleHandler} with every value this
+	 * {@link StridedDoubleArrayIterable} iterates over, in order. This is
+	 * equivalent to, but faster than, iterating over this
+	 * {@link StridedDoubleArrayIterable} and calling the given
+	 * {@link DoubleHandler} with every yielded value, because the
+	 * {@code double[]} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link DoubleHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleHandler} is {@literal null}.
+	 */
+	public void handleEach(DoubleHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		double[] array = this.array;
+		for (int i = 0, index = offset; i < count; i++, index += stride) {
+			handler.handle(array[index]);
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link StridedDoubleArrayIterable} iterates over, in order. This is
+	 * equivalent to, but faster than, iterating over this
+	 * {@link StridedDoubleArrayIterable} and calling the given {@link Handler}
+	 * with every yielded value, because the {@code double[]} is traversed in a
+	 * single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into a {@link Double}. Use
+	 * {@linkplain StridedDoubleArrayIterable#handleEach(DoubleHandler)} to
+	 * handle the values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Double> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		double[] array = this.array;
+		for (int i = 0, index = offset; i < count; i++, index += stride) {
+			handler.handle(array[index]);
+		}
+	}
+
+	private static final class StridedDoubleArrayIterator extends AbstractIndexedIterator<Double>
+			implements DoubleIterator {
+
+		private final double[] array;
+
+		private final int offset;
+
+		private final int stride;
+
+		public StridedDoubleArrayIterator(double[] array, int offset, int stride, int count) {
+			super(0, count);
+			this.array = array;
+			this.offset = offset;
+			this.stride = stride;
+		}
+
+		@Override
+		public double nextDouble() throws NoSuchElementException {
+			return array[offset + nextIndex() * stride];
+		}
+
+		@Override
+		public Double next() throws NoSuchElementException {
+			return nextDouble();
+		}
+
+		@Override
+		public double previousDouble() throws NoSuchElementException {
+			return array[offset + previousIndex() * stride];
+		}
+
+		@Override
+		public Double previous() throws NoSuchElementException {
+			return previousDouble();
+		}
+
+	}
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+/**
+ * A {@link StridedIntegerArrayIterable} is an {@link IntegerIterable} that
+ * generates {@link Iterator Iterators} that iterate over every
+ * {@code stride}-th value of a given {@code int[]}, starting at a given offset,
+ * without copying it.
+ * 
+ * <p>
+ * This allows to iterate over a single column of interleaved values, e.g. over
+ * the {@code y} values of a {@code int[]} that contains
+ * {@code x0, y0, z0, x1, y1, z1, ...} with an offset of {@code 1} and a stride
+ * of {@code 3}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class StridedIntegerArrayIterable implements IntegerIterable {
+
+	private final int[] array;
+
+	private final int offset;
+
+	private final int stride;
+
+	private final int count;
+
+	/**
+	 * Creates a new {@link StridedIntegerArrayIterable}.
+	 * 
+	 * @param array
+	 *            The {@code int[]} to iterate over.
+	 * @param offset
+	 *            The index of the first value to iterate over.
+	 * @param stride
+	 *            The distance between the indices of two consecutive values to
+	 *            iterate over.
+	 * @param count
+	 *            The amount of values to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@code int[]} is {@literal null}, if the given
+	 *             offset is negative or larger than the length of the given
+	 *             {@code int[]}, if the given stride is not positive, if the
+	 *             given count is negative or if the index of the last value to
+	 *             iterate over isn't smaller than the length of the given
+	 *             {@code int[]}.
+	 */
+	public StridedIntegerArrayIterable(int[] array, int offset, int stride, int count) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		Ranges.checkStrided(array.length, offset, stride, count);
+		this.array = array;
+		this.offset = offset;
+		this.stride = stride;
+		this.count = count;
+	}
+
+	/**
+	 * Returns the amount of values this {@link StridedIntegerArrayIterable}
+	 * iterates over.
+	 * 
+	 * @return The amount of values.
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Returns a {@link StridedIntegerArrayIterable} that iterates over the
+	 * given range of the values this {@link StridedIntegerArrayIterable}
+	 * iterates over. The returned {@link StridedIntegerArrayIterable} is a view
+	 * on the same {@code int[]} and doesn't copy it.
+	 * 
+	 * @param fromIndex
+	 *            The index of the first value to iterate over, relative to this
+	 *            {@link StridedIntegerArrayIterable}.
+	 * @param toIndex
+	 *            The index after the last value to iterate over, relative to
+	 *            this {@link StridedIntegerArrayIterable}.
+	 * @return The {@link StridedIntegerArrayIterable} for the given range.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given from index is negative, if the given to index is
+	 *             larger than the size of this
+	 *             {@link StridedIntegerArrayIterable} or if the given from
+	 *             index is larger than the given to index.
+	 */
+	public StridedIntegerArrayIterable slice(int fromIndex, int toIndex) throws IllegalArgumentException {
+		Ranges.check(count, fromIndex, toIndex);
+		if (fromIndex == toIndex) {
+			return new StridedIntegerArrayIterable(array, offset, stride, 0);
+		}
+		return new StridedIntegerArrayIterable(array, offset + fromIndex * stride, stride, toIndex - fromIndex);
+	}
+
+	@Override
+	public IntegerIterator iterator() {
+		return new StridedIntegerArrayIterator(array, offset, stride, count);
+	}
+
+	@Override
+	public IntegerIterator primitiveIterator() {
+		return new StridedIntegerArrayIterator(array, offset, stride, count);
+	}
+
+	/**
+	 * Calls the given {@link IntegerHandler} with every value this
+	 * {@link StridedIntegerArrayIterable} iterates over, in order. This is
+	 * equivalent to, but faster than, iterating over this
+	 * {@link StridedIntegerArrayIterable} and calling the given
+	 * {@link IntegerHandler} with every yielded value, because the
+	 * {@code int[]} is traversed in a single loop.
+	 * 
+	 * @param handler
+	 *            The {@link IntegerHandler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IntegerHandler} is {@literal null}.
+	 */
+	public void handleEach(IntegerHandler handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		int[] array = this.array;
+		for (int i = 0, index = offset; i < count; i++, index += stride) {
+			handler.handle(array[index]);
+		}
+	}
+
+	/**
+	 * Calls the given {@link Handler} with every value this
+	 * {@link StridedIntegerArrayIterable} iterates over, in order. This is
+	 * equivalent to, but faster than, iterating over this
+	 * {@link StridedIntegerArrayIterable} and calling the given {@link Handler}
+	 * with every yielded value, because the {@code int[]} is traversed in a
+	 * single loop.
+	 * 
+	 * <p>
+	 * Every value is boxed into an {@link Integer}. Use
+	 * {@linkplain StridedIntegerArrayIterable#handleEach(IntegerHandler)} to
+	 * handle the values without boxing them.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be called.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public void handleEach(Handler<? super Integer> handler) throws IllegalArgumentException {
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		int[] array = this.array;
+		for (int i = 0, index = offset; i < count; i++, index += stride) {
+			handler.handle(array[index]);
+		}
+	}
+
+	private static final class StridedIntegerArrayIterator extends AbstractIndexedIterator<Integer>
+			implements IntegerIterator {
+
+		private final int[] array;
+
+		private final int offset;
+
+		private final int stride;
+
+		public StridedIntegerArrayIterator(int[] array, int offset, int stride, int count) {
+			super(0, count);
+			this.array = array;
+			this.offset = offset;
+			this.stride = stride;
+		}
+
+		@Override
+		public int nextInt() throws NoSuchElementException {
+			return array[offset + nextIndex() * stride];
+		}
+
+		@Override
+		public Integer next() throws NoSuchElementException {
+			return nextInt();
+		}
+
+		@Override
+		public int previousInt() throws NoSuchElementException {
+			return array[offset + previousIndex() * stride];
+		}
+
+		@Override
+		public Integer previous() throws NoSuchElementException {
+			return previousInt();
+		}
+
+	}
+
+}
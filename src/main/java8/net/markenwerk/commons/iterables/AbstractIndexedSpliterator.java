@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Spliterator;
+
+/**
+ * An {@link AbstractIndexedSpliterator} is the common base of
+ * {@link Spliterator Spliterators} that traverse a contiguous range of indices
+ * and that split by halving the remaining range of indices.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+abstract class AbstractIndexedSpliterator {
+
+	/**
+	 * The characteristics of every {@link AbstractIndexedSpliterator}.
+	 */
+	protected static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+			| Spliterator.IMMUTABLE;
+
+	/**
+	 * The next index to be traversed.
+	 */
+	protected int index;
+
+	/**
+	 * The index after the last index to be traversed.
+	 */
+	protected final int toIndex;
+
+	/**
+	 * Creates a new {@link AbstractIndexedSpliterator}.
+	 * 
+	 * @param fromIndex
+	 *            The first index to be traversed.
+	 * @param toIndex
+	 *            The index after the last index to be traversed.
+	 */
+	protected AbstractIndexedSpliterator(int fromIndex, int toIndex) {
+		this.index = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * Hands the lower half of the remaining range of indices over to a new
+	 * {@link Spliterator}.
+	 * 
+	 * @return The first index of the upper half, that is retained by this
+	 *         {@link AbstractIndexedSpliterator}, or {@literal -1}, if the
+	 *         remaining range of indices is too small to be split.
+	 */
+	protected final int split() {
+		int fromIndex = index;
+		int middleIndex = (fromIndex + toIndex) >>> 1;
+		if (fromIndex >= middleIndex) {
+			return -1;
+		}
+		index = middleIndex;
+		return middleIndex;
+	}
+
+	public final long estimateSize() {
+		return toIndex - index;
+	}
+
+	public final long getExactSizeIfKnown() {
+		return toIndex - index;
+	}
+
+	public final int characteristics() {
+		return CHARACTERISTICS;
+	}
+
+}
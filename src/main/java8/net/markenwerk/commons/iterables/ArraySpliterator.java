@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * An {@link ArraySpliterator} is a {@link Spliterator} that traverses the
+ * payload array of a given {@link ArrayIterable} and that splits by halving
+ * the remaining range of the payload array.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class ArraySpliterator<Payload> extends AbstractIndexedSpliterator implements Spliterator<Payload> {
+
+	private final Payload[] array;
+
+	/**
+	 * Creates a new {@link ArraySpliterator}.
+	 * 
+	 * @param iterable
+	 *            The {@link ArrayIterable} to traverse.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link ArrayIterable} is {@literal null}.
+	 */
+	public ArraySpliterator(ArrayIterable<Payload> iterable) throws IllegalArgumentException {
+		this(arrayOf(iterable), iterable.fromIndex, iterable.toIndex);
+	}
+
+	private ArraySpliterator(Payload[] array, int fromIndex, int toIndex) {
+		super(fromIndex, toIndex);
+		this.array = array;
+	}
+
+	private static <Payload> Payload[] arrayOf(ArrayIterable<Payload> iterable) throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable is null");
+		}
+		return iterable.array;
+	}
+
+	@Override
+	public ArraySpliterator<Payload> trySplit() {
+		int fromIndex = index;
+		int middleIndex = split();
+		return -1 == middleIndex ? null : new ArraySpliterator<Payload>(array, fromIndex, middleIndex);
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Payload> consumer) {
+		if (null == consumer) {
+			throw new NullPointerException("The given consumer is null");
+		}
+		if (index < toIndex) {
+			consumer.accept(array[index++]);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super Payload> consumer) {
+		if (null == consumer) {
+			throw new NullPointerException("The given consumer is null");
+		}
+		Payload[] array = this.array;
+		int toIndex = this.toIndex;
+		int index = this.index;
+		this.index = toIndex;
+		for (; index < toIndex; index++) {
+			consumer.accept(array[index]);
+		}
+	}
+
+}
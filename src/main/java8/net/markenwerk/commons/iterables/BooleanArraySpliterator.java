@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link BooleanArraySpliterator} is a {@link Spliterator} that traverses the
+ * {@code boolean[]} of a given {@link BooleanArrayIterable} and that splits by
+ * halving the remaining range of the {@code boolean[]}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class BooleanArraySpliterator extends AbstractIndexedSpliterator implements Spliterator<Boolean> {
+
+	private final boolean[] array;
+
+	/**
+	 * Creates a new {@link BooleanArraySpliterator}.
+	 * 
+	 * @param iterable
+	 *            The {@link BooleanArrayIterable} to traverse.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link BooleanArrayIterable} is {@literal null}.
+	 */
+	public BooleanArraySpliterator(BooleanArrayIterable iterable) throws IllegalArgumentException {
+		this(arrayOf(iterable), iterable.fromIndex, iterable.toIndex);
+	}
+
+	private BooleanArraySpliterator(boolean[] array, int fromIndex, int toIndex) {
+		super(fromIndex, toIndex);
+		this.array = array;
+	}
+
+	private static boolean[] arrayOf(BooleanArrayIterable iterable) throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable is null");
+		}
+		return iterable.array;
+	}
+
+	@Override
+	public BooleanArraySpliterator trySplit() {
+		int fromIndex = index;
+		int middleIndex = split();
+		return -1 == middleIndex ? null : new BooleanArraySpliterator(array, fromIndex, middleIndex);
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Boolean> consumer) {
+		if (null == consumer) {
+			throw new NullPointerException("The given consumer is null");
+		}
+		if (index < toIndex) {
+			consumer.accept(array[index++]);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super Boolean> consumer) {
+		if (null == consumer) {
+			throw new NullPointerException("The given consumer is null");
+		}
+		boolean[] array = this.array;
+		int toIndex = this.toIndex;
+		int index = this.index;
+		this.index = toIndex;
+		for (; index < toIndex; index++) {
+			consumer.accept(array[index]);
+		}
+	}
+
+}
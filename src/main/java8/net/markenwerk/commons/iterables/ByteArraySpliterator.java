@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A {@link ByteArraySpliterator} is a {@link Spliterator.OfInt} that traverses
+ * the {@code byte[]} of a given {@link ByteArrayIterable} and that splits by
+ * halving the remaining range of the {@code byte[]}. The {@code byte} values
+ * are widened to {@code int} values.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class ByteArraySpliterator extends AbstractIndexedSpliterator implements Spliterator.OfInt {
+
+	private final byte[] array;
+
+	/**
+	 * Creates a new {@link ByteArraySpliterator}.
+	 * 
+	 * @param iterable
+	 *            The {@link ByteArrayIterable} to traverse.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link ByteArrayIterable} is {@literal null}.
+	 */
+	public ByteArraySpliterator(ByteArrayIterable iterable) throws IllegalArgumentException {
+		this(arrayOf(iterable), iterable.fromIndex, iterable.toIndex);
+	}
+
+	private ByteArraySpliterator(byte[] array, int fromIndex, int toIndex) {
+		super(fromIndex, toIndex);
+		this.array = array;
+	}
+
+	private static byte[] arrayOf(ByteArrayIterable iterable) throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable is null");
+		}
+		return iterable.array;
+	}
+
+	@Override
+	public ByteArraySpliterator trySplit() {
+		int fromIndex = index;
+		int middleIndex = split();
+		return -1 == middleIndex ? null : new ByteArraySpliterator(array, fromIndex, middleIndex);
+	}
+
+	@Override
+	public boolean tryAdvance(IntConsumer consumer) {
+		if (null == consumer) {
+			throw new NullPointerException("The given consumer is null");
+		}
+		if (index < toIndex) {
+			consumer.accept(array[index++]);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void forEachRemaining(IntConsumer consumer) {
+		if (null == consumer) {
+			throw new NullPointerException("The given consumer is null");
+		}
+		byte[] array = this.array;
+		int toIndex = this.toIndex;
+		int index = this.index;
+		this.index = toIndex;
+		for (; index < toIndex; index++) {
+			consumer.accept(array[index]);
+		}
+	}
+
+}
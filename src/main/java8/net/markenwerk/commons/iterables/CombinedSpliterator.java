@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link CombinedSpliterator} is a {@link Spliterator} that traverses the
+ * values of all {@link Iterable Iterables} of a given {@link CombinedIterable}
+ * in the order they were given.
+ * 
+ * <p>
+ * A {@link CombinedSpliterator} splits along the boundaries of the given
+ * {@link Iterable Iterables} first, such that both parts contain roughly the
+ * same amount of values, if the sizes of all {@link Iterable Iterables} are
+ * known, or the same amount of {@link Iterable Iterables} otherwise. Once only
+ * one {@link Iterable} remains, the {@link Spliterator} of that
+ * {@link Iterable} is split. Dedicated {@link Spliterator Spliterators} are
+ * used for the iterables of this library, where available.
+ * 
+ * <p>
+ * A {@link CombinedSpliterator} reports its size, if the sizes of all
+ * {@link Iterable Iterables} are known. It creates the dedicated
+ * {@link Spliterator Spliterators}, which don't iterate over their
+ * {@link Iterable Iterables}, when it is created. Other
+ * {@link Spliterator Spliterators} are only created when the corresponding
+ * {@link Iterable} is traversed or split, such that no
+ * {@link java.util.Iterator Iterator} is generated in advance.
+ * 
+ * <p>
+ * A {@link CombinedSpliterator} is always {@link Spliterator#ORDERED ORDERED},
+ * because the values of the given {@link Iterable Iterables} are traversed in
+ * the order they were given. It is only {@link Spliterator#NONNULL NONNULL} or
+ * {@link Spliterator#IMMUTABLE IMMUTABLE}, if all dedicated
+ * {@link Spliterator Spliterators} are and no other {@link Spliterator} is
+ * involved.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class CombinedSpliterator<Payload> implements Spliterator<Payload> {
+
+	private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+			| Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+	private final List<Iterable<? extends Payload>> iterables;
+
+	private final List<Spliterator<Payload>> spliterators;
+
+	private final int toIndex;
+
+	private final int characteristics;
+
+	private int index;
+
+	/**
+	 * Creates a new {@link CombinedSpliterator}.
+	 * 
+	 * @param iterable
+	 *            The {@link CombinedIterable} to traverse.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link CombinedIterable} is {@literal null}.
+	 */
+	public CombinedSpliterator(CombinedIterable<Payload> iterable) throws IllegalArgumentException {
+		this(iterablesOf(iterable));
+	}
+
+	private CombinedSpliterator(List<Iterable<? extends Payload>> iterables) {
+		this(iterables, dedicatedSpliteratorsOf(iterables), 0, iterables.size());
+	}
+
+	private CombinedSpliterator(List<Iterable<? extends Payload>> iterables, List<Spliterator<Payload>> spliterators,
+			int fromIndex, int toIndex) {
+		this.iterables = iterables;
+		this.spliterators = spliterators;
+		this.index = fromIndex;
+		this.toIndex = toIndex;
+		this.characteristics = characteristicsOf(spliterators, fromIndex, toIndex);
+	}
+
+	private static <Payload> List<Iterable<? extends Payload>> iterablesOf(CombinedIterable<Payload> iterable)
+			throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable is null");
+		}
+		List<Iterable<? extends Payload>> iterables = new ArrayList<>();
+		for (Iterable<? extends Payload> source : iterable.iterables) {
+			iterables.add(source);
+		}
+		return iterables;
+	}
+
+	private static <Payload> List<Spliterator<Payload>> dedicatedSpliteratorsOf(
+			List<Iterable<? extends Payload>> iterables) {
+		List<Spliterator<Payload>> spliterators = new ArrayList<>(iterables.size());
+		for (Iterable<? extends Payload> iterable : iterables) {
+			spliterators.add(Spliterables.dedicatedOf(iterable));
+		}
+		return spliterators;
+	}
+
+	private static int characteristicsOf(List<? extends Spliterator<?>> spliterators, int fromIndex, int toIndex) {
+		int characteristics = CHARACTERISTICS;
+		long size = 0;
+		for (int i = fromIndex; i < toIndex; i++) {
+			Spliterator<?> spliterator = spliterators.get(i);
+			if (null == spliterator) {
+				characteristics &= Spliterator.ORDERED;
+				continue;
+			}
+			characteristics &= spliterator.characteristics() | Spliterator.ORDERED;
+			size += spliterator.estimateSize();
+			if (size < 0) {
+				characteristics &= ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+				size = Long.MAX_VALUE;
+			}
+		}
+		return characteristics;
+	}
+
+	private Spliterator<Payload> spliteratorAt(int index) {
+		Spliterator<Payload> spliterator = spliterators.get(index);
+		if (null == spliterator) {
+			spliterator = Spliterables.defaultOf(iterables.get(index));
+			spliterators.set(index, spliterator);
+		}
+		return spliterator;
+	}
+
+	private long estimateSizeAt(int index) {
+		Spliterator<Payload> spliterator = spliterators.get(index);
+		return null == spliterator ? Long.MAX_VALUE : spliterator.estimateSize();
+	}
+
+	@Override
+	public Spliterator<Payload> trySplit() {
+		int fromIndex = index;
+		int count = toIndex - fromIndex;
+		if (0 == count) {
+			return null;
+		} else if (1 == count) {
+			return spliteratorAt(fromIndex).trySplit();
+		} else {
+			int middleIndex = hasCharacteristics(Spliterator.SIZED) ? sizedMiddleIndex() : (fromIndex + toIndex) >>> 1;
+			index = middleIndex;
+			return new CombinedSpliterator<Payload>(iterables, spliterators, fromIndex, middleIndex);
+		}
+	}
+
+	private int sizedMiddleIndex() {
+		long half = estimateSize() >>> 1;
+		long size = estimateSizeAt(index);
+		int middleIndex = index + 1;
+		while (middleIndex < toIndex - 1 && size < half) {
+			size += estimateSizeAt(middleIndex++);
+		}
+		return middleIndex;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Payload> consumer) {
+		if (null == consumer) {
+			throw new NullPointerException("The given consumer is null");
+		}
+		for (; index < toIndex; index++) {
+			if (spliteratorAt(index).tryAdvance(consumer)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super Payload> consumer) {
+		if (null == consumer) {
+			throw new NullPointerException("The given consumer is null");
+		}
+		for (; index < toIndex; index++) {
+			spliteratorAt(index).forEachRemaining(consumer);
+		}
+	}
+
+	@Override
+	public long estimateSize() {
+		long size = 0;
+		for (int i = index; i < toIndex; i++) {
+			size += estimateSizeAt(i);
+			if (size < 0) {
+				return Long.MAX_VALUE;
+			}
+		}
+		return size;
+	}
+
+	@Override
+	public int characteristics() {
+		return characteristics;
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * An {@link IntegerRangeSpliterator} is a {@link Spliterator.OfInt} that
+ * traverses the values of a given {@link CountUpIterable} or
+ * {@link CountDownIterable} and that splits by halving the remaining range of
+ * values.
+ * 
+ * <p>
+ * An {@link IntegerRangeSpliterator} only keeps track of the next and the last
+ * value to be traversed and computes every split in constant time.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class IntegerRangeSpliterator implements Spliterator.OfInt {
+
+	private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SIZED
+			| Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+	private final int last;
+
+	private final int step;
+
+	private int value;
+
+	private boolean empty;
+
+	/**
+	 * Creates a new {@link IntegerRangeSpliterator}.
+	 * 
+	 * @param iterable
+	 *            The {@link CountUpIterable} to traverse.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link CountUpIterable} is {@literal null}.
+	 */
+	public IntegerRangeSpliterator(CountUpIterable iterable) throws IllegalArgumentException {
+		this(check(iterable).fromLower, iterable.last(), iterable.step, iterable.isEmpty());
+	}
+
+	/**
+	 * Creates a new {@link IntegerRangeSpliterator}.
+	 * 
+	 * @param iterable
+	 *            The {@link CountDownIterable} to traverse.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link CountDownIterable} is {@literal null}.
+	 */
+	public IntegerRangeSpliterator(CountDownIterable iterable) throws IllegalArgumentException {
+		this(check(iterable).fromUpper, iterable.last(), -iterable.step, iterable.isEmpty());
+	}
+
+	private IntegerRangeSpliterator(int first, int last, int step, boolean empty) {
+		this.value = first;
+		this.last = last;
+		this.step = step;
+		this.empty = empty;
+	}
+
+	private static <Range> Range check(Range iterable) throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable is null");
+		}
+		return iterable;
+	}
+
+	private long steps() {
+		return ((long) last - value) / step;
+	}
+
+	@Override
+	public IntegerRangeSpliterator trySplit() {
+		long steps = empty ? 0 : steps();
+		if (0 == steps) {
+			return null;
+		}
+		int first = value;
+		int middle = (int) (first + (steps >>> 1) * step);
+		value = middle + step;
+		return new IntegerRangeSpliterator(first, middle, step, false);
+	}
+
+	@Override
+	public boolean tryAdvance(IntConsumer consumer) {
+		if (null == consumer) {
+			throw new NullPointerException("The given consumer is null");
+		}
+		if (empty) {
+			return false;
+		}
+		int value = this.value;
+		if (value == last) {
+			empty = true;
+		} else {
+			this.value = value + step;
+		}
+		consumer.accept(value);
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(IntConsumer consumer) {
+		if (null == consumer) {
+			throw new NullPointerException("The given consumer is null");
+		}
+		if (empty) {
+			return;
+		}
+		empty = true;
+		int last = this.last;
+		int step = this.step;
+		int value = this.value;
+		while (value != last) {
+			consumer.accept(value);
+			value += step;
+		}
+		consumer.accept(value);
+	}
+
+	@Override
+	public long estimateSize() {
+		return empty ? 0 : steps() + 1;
+	}
+
+	@Override
+	public int characteristics() {
+		return CHARACTERISTICS;
+	}
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link LongRangeSpliterator} is a {@link Spliterator.OfLong} that traverses
+ * the values of a given {@link LongCountUpIterable} or
+ * {@link LongCountDownIterable} and that splits by halving the remaining range
+ * of values.
+ * 
+ * <p>
+ * A {@link LongRangeSpliterator} only keeps track of the next and the last
+ * value to be traversed and computes every split in constant time. As long as
+ * more than {@link Long#MAX_VALUE} values remain to be traversed, it doesn't
+ * report the {@link Spliterator#SIZED} characteristic.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class LongRangeSpliterator implements Spliterator.OfLong {
+
+	private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL
+			| Spliterator.IMMUTABLE;
+
+	private final long last;
+
+	private final long step;
+
+	private long value;
+
+	private boolean empty;
+
+	/**
+	 * Creates a new {@link LongRangeSpliterator}.
+	 * 
+	 * @param iterable
+	 *            The {@link LongCountUpIterable} to traverse.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongCountUpIterable} is {@literal null}.
+	 */
+	public LongRangeSpliterator(LongCountUpIterable iterable) throws IllegalArgumentException {
+		this(check(iterable).fromLower, iterable.last(), iterable.step, iterable.isEmpty());
+	}
+
+	/**
+	 * Creates a new {@link LongRangeSpliterator}.
+	 * 
+	 * @param iterable
+	 *            The {@link LongCountDownIterable} to traverse.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongCountDownIterable} is {@literal null}.
+	 */
+	public LongRangeSpliterator(LongCountDownIterable iterable) throws IllegalArgumentException {
+		this(check(iterable).fromUpper, iterable.last(), -iterable.step, iterable.isEmpty());
+	}
+
+	private LongRangeSpliterator(long first, long last, long step, boolean empty) {
+		this.value = first;
+		this.last = last;
+		this.step = step;
+		this.empty = empty;
+	}
+
+	private static <Range> Range check(Range iterable) throws IllegalArgumentException {
+		if (null == iterable) {
+			throw new IllegalArgumentException("The given iterable is null");
+		}
+		return iterable;
+	}
+
+	private long steps() {
+		return step > 0 ? Steps.count(last - value, step) : Steps.count(value - last, -step);
+	}
+
+	@Override
+	public LongRangeSpliterator trySplit() {
+		long steps = empty ? 0 : steps();
+		if (0 == steps) {
+			return null;
+		}
+		long first = value;
+		long middle = first + (steps >>> 1) * step;
+		value = middle + step;
+		return new LongRangeSpliterator(first, middle, step, false);
+	}
+
+	@Override
+	public boolean tryAdvance(LongConsumer consumer) {
+		if (null == consumer) {
+			throw new NullPointerException("The given consumer is null");
+		}
+		if (empty) {
+			return false;
+		}
+		long value = this.value;
+		if (value == last) {
+			empty = true;
+		} else {
+			this.value = value + step;
+		}
+		consumer.accept(value);
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(LongConsumer consumer) {
+		if (null == consumer) {
+			throw new NullPointerException("The given consumer is null");
+		}
+		if (empty) {
+			return;
+		}
+		empty = true;
+		long last = this.last;
+		long step = this.step;
+		long value = this.value;
+		while (value != last) {
+			consumer.accept(value);
+			value += step;
+		}
+		consumer.accept(value);
+	}
+
+	@Override
+	public long estimateSize() {
+		return empty ? 0 : Steps.size(steps());
+	}
+
+	@Override
+	public int characteristics() {
+		return isSized() ? CHARACTERISTICS | Spliterator.SIZED | Spliterator.SUBSIZED : CHARACTERISTICS;
+	}
+
+	private boolean isSized() {
+		if (empty) {
+			return true;
+		}
+		long steps = steps();
+		return steps >= 0 && steps != Long.MAX_VALUE;
+	}
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link RangeExecutor} performs an action for every value of a
+ * {@link CountUpIterable}, {@link CountDownIterable},
+ * {@link LongCountUpIterable} or {@link LongCountDownIterable} in parallel.
+ * 
+ * <p>
+ * The range of values is recursively split in halves, until a part contains
+ * no more values than the configured grain size. Every split yields a pair of
+ * fork-join tasks, that are executed by the configured {@link ForkJoinPool}.
+ * 
+ * <p>
+ * The action may be performed concurrently by multiple threads and in no
+ * particular order. The methods of a {@link RangeExecutor} return after the
+ * action has been performed for every value. If the action throws an exception
+ * for any value, that exception is rethrown and the action may or may not have
+ * been performed for other values.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+public final class RangeExecutor {
+
+	/**
+	 * The grain size that is used by default.
+	 */
+	public static final long DEFAULT_GRAIN_SIZE = 1024;
+
+	private final ForkJoinPool pool;
+
+	private final long grainSize;
+
+	/**
+	 * Creates a new {@link RangeExecutor} that uses the
+	 * {@link ForkJoinPool#commonPool() common pool} and the
+	 * {@link RangeExecutor#DEFAULT_GRAIN_SIZE default grain size}.
+	 */
+	public RangeExecutor() {
+		this(ForkJoinPool.commonPool(), DEFAULT_GRAIN_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link RangeExecutor} that uses the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 * 
+	 * @param grainSize
+	 *            The maximum amount of values that is processed sequentially
+	 *            by a single task.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given grain size is not positive.
+	 */
+	public RangeExecutor(long grainSize) throws IllegalArgumentException {
+		this(ForkJoinPool.commonPool(), grainSize);
+	}
+
+	/**
+	 * Creates a new {@link RangeExecutor}.
+	 * 
+	 * @param pool
+	 *            The {@link ForkJoinPool} to execute the tasks with.
+	 * @param grainSize
+	 *            The maximum amount of values that is processed sequentially
+	 *            by a single task.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link ForkJoinPool} is {@literal null} or if the
+	 *             given grain size is not positive.
+	 */
+	public RangeExecutor(ForkJoinPool pool, long grainSize) throws IllegalArgumentException {
+		if (null == pool) {
+			throw new IllegalArgumentException("The given pool is null");
+		}
+		if (grainSize <= 0) {
+			throw new IllegalArgumentException("The given grain size is not positive");
+		}
+		this.pool = pool;
+		this.grainSize = grainSize;
+	}
+
+	/**
+	 * Performs the given action for every value of the given
+	 * {@link CountUpIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link CountUpIterable} to perform the action for.
+	 * @param action
+	 *            The action to perform.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link CountUpIterable} is {@literal null} or
+	 *             if the given action is {@literal null}.
+	 */
+	public void forEach(CountUpIterable iterable, IntConsumer action) throws IllegalArgumentException {
+		execute(new IntegerRangeSpliterator(iterable), action);
+	}
+
+	/**
+	 * Performs the given action for every value of the given
+	 * {@link CountDownIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link CountDownIterable} to perform the action for.
+	 * @param action
+	 *            The action to perform.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link CountDownIterable} is {@literal null} or
+	 *             if the given action is {@literal null}.
+	 */
+	public void forEach(CountDownIterable iterable, IntConsumer action) throws IllegalArgumentException {
+		execute(new IntegerRangeSpliterator(iterable), action);
+	}
+
+	/**
+	 * Performs the given action for every value of the given
+	 * {@link LongCountUpIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link LongCountUpIterable} to perform the action for.
+	 * @param action
+	 *            The action to perform.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongCountUpIterable} is {@literal null}
+	 *             or if the given action is {@literal null}.
+	 */
+	public void forEach(LongCountUpIterable iterable, LongConsumer action) throws IllegalArgumentException {
+		execute(new LongRangeSpliterator(iterable), action);
+	}
+
+	/**
+	 * Performs the given action for every value of the given
+	 * {@link LongCountDownIterable}.
+	 * 
+	 * @param iterable
+	 *            The {@link LongCountDownIterable} to perform the action for.
+	 * @param action
+	 *            The action to perform.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongCountDownIterable} is {@literal null}
+	 *             or if the given action is {@literal null}.
+	 */
+	public void forEach(LongCountDownIterable iterable, LongConsumer action) throws IllegalArgumentException {
+		execute(new LongRangeSpliterator(iterable), action);
+	}
+
+	private <Action, Split extends Spliterator.OfPrimitive<?, Action, Split>> void execute(Split spliterator,
+			Action action) throws IllegalArgumentException {
+		if (null == action) {
+			throw new IllegalArgumentException("The given action is null");
+		}
+		pool.invoke(new RangeTask<Action, Split>(spliterator, action, grainSize));
+	}
+
+	private static final class RangeTask<Action, Split extends Spliterator.OfPrimitive<?, Action, Split>>
+			extends RecursiveAction {
+
+		private static final long serialVersionUID = -6236540813645380174L;
+
+		private final Split spliterator;
+
+		private final Action action;
+
+		private final long grainSize;
+
+		public RangeTask(Split spliterator, Action action, long grainSize) {
+			this.spliterator = spliterator;
+			this.action = action;
+			this.grainSize = grainSize;
+		}
+
+		@Override
+		protected void compute() {
+			Split prefix = spliterator.estimateSize() > grainSize ? spliterator.trySplit() : null;
+			if (null == prefix) {
+				spliterator.forEachRemaining(action);
+			} else {
+				invokeAll(new RangeTask<Action, Split>(prefix, action, grainSize),
+						new RangeTask<Action, Split>(spliterator, action, grainSize));
+			}
+		}
+
+	}
+
+}
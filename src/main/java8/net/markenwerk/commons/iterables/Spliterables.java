@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Collection;
+import java.util.Spliterator;
+
+/**
+ * {@link Spliterables} selects the most capable {@link Spliterator} for a
+ * given {@link Iterable}.
+ * 
+ * <p>
+ * The iterables of this library can't override
+ * {@linkplain Iterable#spliterator()}, because they are compiled for Java 6.
+ * Their default {@link Spliterator Spliterators} neither know their size nor
+ * split efficiently. {@link Spliterables} therefore uses the dedicated
+ * {@link Spliterator Spliterators} of this library for such iterables, if
+ * available.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 4.0.0
+ */
+final class Spliterables {
+
+	private Spliterables() {
+	}
+
+	/**
+	 * Returns a {@link Spliterator} for the given {@link Iterable}.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param iterable
+	 *            The {@link Iterable} to create a {@link Spliterator} for.
+	 * @return The created {@link Spliterator}.
+	 */
+	static <Payload> Spliterator<Payload> of(Iterable<? extends Payload> iterable) {
+		Spliterator<Payload> spliterator = dedicatedOf(iterable);
+		return null != spliterator ? spliterator : defaultOf(iterable);
+	}
+
+	/**
+	 * Returns a dedicated {@link Spliterator} for the given {@link Iterable},
+	 * if the given {@link Iterable} is one of the iterables of this library
+	 * that has a dedicated {@link Spliterator} or a {@link Collection}.
+	 * Creating a dedicated {@link Spliterator} doesn't iterate over the given
+	 * {@link Iterable}.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param iterable
+	 *            The {@link Iterable} to create a {@link Spliterator} for.
+	 * @return The created {@link Spliterator} or {@literal null}, if no
+	 *         dedicated {@link Spliterator} is available.
+	 */
+	@SuppressWarnings("unchecked")
+	static <Payload> Spliterator<Payload> dedicatedOf(Iterable<? extends Payload> iterable) {
+		Spliterator<?> spliterator;
+		if (iterable instanceof ArrayIterable<?>) {
+			spliterator = new ArraySpliterator<Payload>((ArrayIterable<Payload>) iterable);
+		} else if (iterable instanceof BooleanArrayIterable) {
+			spliterator = new BooleanArraySpliterator((BooleanArrayIterable) iterable);
+		} else if (iterable instanceof ByteArrayIterable) {
+			spliterator = new ByteArraySpliterator((ByteArrayIterable) iterable);
+		} else if (iterable instanceof CharacterArrayIterable) {
+			spliterator = new CharacterArraySpliterator((CharacterArrayIterable) iterable);
+		} else if (iterable instanceof ShortArrayIterable) {
+			spliterator = new ShortArraySpliterator((ShortArrayIterable) iterable);
+		} else if (iterable instanceof IntegerArrayIterable) {
+			spliterator = new IntegerArraySpliterator((IntegerArrayIterable) iterable);
+		} else if (iterable instanceof LongArrayIterable) {
+			spliterator = new LongArraySpliterator((LongArrayIterable) iterable);
+		} else if (iterable instanceof FloatArrayIterable) {
+			spliterator = new FloatArraySpliterator((FloatArrayIterable) iterable);
+		} else if (iterable instanceof DoubleArrayIterable) {
+			spliterator = new DoubleArraySpliterator((DoubleArrayIterable) iterable);
+		} else if (iterable instanceof CountUpIterable) {
+			spliterator = new IntegerRangeSpliterator((CountUpIterable) iterable);
+		} else if (iterable instanceof CountDownIterable) {
+			spliterator = new IntegerRangeSpliterator((CountDownIterable) iterable);
+		} else if (iterable instanceof LongCountUpIterable) {
+			spliterator = new LongRangeSpliterator((LongCountUpIterable) iterable);
+		} else if (iterable instanceof LongCountDownIterable) {
+			spliterator = new LongRangeSpliterator((LongCountDownIterable) iterable);
+		} else if (iterable instanceof CombinedIterable<?>) {
+			spliterator = new CombinedSpliterator<Payload>((CombinedIterable<Payload>) iterable);
+		} else if (iterable instanceof Collection<?>) {
+			spliterator = ((Collection<?>) iterable).spliterator();
+		} else {
+			spliterator = null;
+		}
+		return (Spliterator<Payload>) spliterator;
+	}
+
+	/**
+	 * Returns the default {@link Spliterator} for the given {@link Iterable},
+	 * which generates an {@link java.util.Iterator Iterator} immediately.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param iterable
+	 *            The {@link Iterable} to create a {@link Spliterator} for.
+	 * @return The created {@link Spliterator}.
+	 */
+	@SuppressWarnings("unchecked")
+	static <Payload> Spliterator<Payload> defaultOf(Iterable<? extends Payload> iterable) {
+		return (Spliterator<Payload>) iterable.spliterator();
+	}
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Predicate;
+
+@SuppressWarnings("javadoc")
+public class AdaptiveFilteredIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new AdaptiveFilteredIterable<Integer>(null, new CountingPredicate(2));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPredicates() {
+
+		new AdaptiveFilteredIterable<Integer>(new EmptyIterable<Integer>(), (Predicate<Integer>[]) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPredicate() {
+
+		new AdaptiveFilteredIterable<Integer>(new EmptyIterable<Integer>(), new CountingPredicate(2), null);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Integer> iterable = new AdaptiveFilteredIterable<Integer>(new EmptyIterable<Integer>());
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Integer> iterable = new AdaptiveFilteredIterable<Integer>(new EmptyIterable<Integer>());
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_noPredicates() {
+
+		Iterable<Integer> iterable = new AdaptiveFilteredIterable<Integer>(Arrays.asList(1, 2, 3));
+
+		Assert.assertEquals(Arrays.asList(1, 2, 3), toList(iterable));
+
+	}
+
+	@Test
+	public void iterator_filtered() {
+
+		List<Integer> values = toList(new CountUpIterable(0, 9999));
+		Iterable<Integer> iterable = new AdaptiveFilteredIterable<Integer>(values, new CountingPredicate(2),
+				new CountingPredicate(3), new CountingPredicate(5));
+
+		List<Integer> expected = new ArrayList<Integer>();
+		for (int i = 0; i < 10000; i += 30) {
+			expected.add(i);
+		}
+
+		Assert.assertEquals(expected, toList(iterable));
+		Assert.assertEquals(expected, toList(iterable));
+
+	}
+
+	@Test
+	public void iterator_reordered() {
+
+		List<Integer> values = toList(new CountUpIterable(0, 9999));
+		CountingPredicate permissive = new CountingPredicate(1);
+		CountingPredicate selective = new CountingPredicate(10);
+		Iterable<Integer> iterable = new AdaptiveFilteredIterable<Integer>(values, permissive, selective);
+
+		List<Integer> expected = new ArrayList<Integer>();
+		for (int i = 0; i < 10000; i += 10) {
+			expected.add(i);
+		}
+
+		Assert.assertEquals(expected, toList(iterable));
+		Assert.assertEquals(10000, selective.count);
+		Assert.assertTrue(permissive.count < 2000);
+
+	}
+
+	@Test
+	public void iterator_unobservedPredicate() {
+
+		List<Integer> values = toList(new CountUpIterable(1, 10000));
+		CountingPredicate rejecting = new CountingPredicate(Integer.MAX_VALUE);
+		CountingPredicate unobserved = new CountingPredicate(1);
+		Iterable<Integer> iterable = new AdaptiveFilteredIterable<Integer>(values, rejecting, unobserved);
+
+		Assert.assertTrue(toList(iterable).isEmpty());
+		Assert.assertTrue(0 < unobserved.count);
+
+	}
+
+	@Test
+	public void iterator_expensiveRarelyReachedPredicate() {
+
+		List<Integer> values = toList(new CountUpIterable(0, 9999));
+		CountingPredicate cheap = new CountingPredicate(100) {
+
+			@Override
+			public boolean test(Integer value) {
+				return super.test(value - 1);
+			}
+
+		};
+		CountingPredicate expensive = new CountingPredicate(200) {
+
+			@Override
+			public boolean test(Integer value) {
+				long end = System.nanoTime() + 1000;
+				while (System.nanoTime() < end) {
+				}
+				return !super.test(value - 1);
+			}
+
+		};
+		Iterable<Integer> iterable = new AdaptiveFilteredIterable<Integer>(values, cheap, expensive);
+
+		Assert.assertEquals(50, toList(iterable).size());
+		Assert.assertEquals(10000, cheap.count);
+		Assert.assertEquals(100, expensive.count);
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterable<Integer> iterable = new AdaptiveFilteredIterable<Integer>(Arrays.asList(1, 2, 3),
+				new CountingPredicate(1));
+
+		iterable.iterator().remove();
+
+	}
+
+	private static List<Integer> toList(Iterable<Integer> iterable) {
+		List<Integer> list = new ArrayList<Integer>();
+		for (Integer value : iterable) {
+			list.add(value);
+		}
+		return list;
+	}
+
+	private static class CountingPredicate implements Predicate<Integer> {
+
+		private final int divisor;
+
+		private int count;
+
+		public CountingPredicate(int divisor) {
+			this.divisor = divisor;
+		}
+
+		@Override
+		public boolean test(Integer value) {
+			count++;
+			return 0 == value % divisor;
+		}
+
+	}
+
+}
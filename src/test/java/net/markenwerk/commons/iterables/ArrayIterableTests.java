@@ -21,9 +21,16 @@
  */
 package net.markenwerk.commons.iterables;
 
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
+import net.markenwerk.commons.interfaces.Handler;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
 @SuppressWarnings("javadoc")
 public class ArrayIterableTests {
 
@@ -52,4 +59,85 @@ public class ArrayIterableTests {
 
 	}
 
+	@Test
+	public void handleEach() {
+
+		final List<Object> values = new LinkedList<Object>();
+		new ArrayIterable<Object>("a", "b").handleEach(new Handler<Object>() {
+			@Override
+			public void handle(Object value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Object> asList("a", "b"), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new ArrayIterable<Object>(new Object[0]).handleEach(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new ArrayIterable<Object>(new Object[2], -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLength() {
+
+		new ArrayIterable<Object>(new Object[2], 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new ArrayIterable<Object>(new Object[2], 2, 1);
+
+	}
+
+	@Test
+	public void iterator_range() {
+
+		Object[] array = new Object[] { "a", "b", "c", "d" };
+		ProtectedBidirectionalIterator<Object> iterator = new ArrayIterable<Object>(array, 1, 3).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals("b", iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals("c", iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals("b", iterator.previous());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void slice() {
+
+		ArrayIterable<Object> iterable = new ArrayIterable<Object>(new Object[] { "a", "b", "c", "d" });
+		ArrayIterable<Object> slice = iterable.slice(1, 4).slice(1, 2);
+		ProtectedBidirectionalIterator<Object> iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals("c", iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new ArrayIterable<Object>(new Object[] { "a", "b", "c", "d" }).slice(1, 3).slice(0, 3);
+
+	}
+
 }
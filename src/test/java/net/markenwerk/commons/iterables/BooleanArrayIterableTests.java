@@ -21,9 +21,15 @@
  */
 package net.markenwerk.commons.iterables;
 
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
+import net.markenwerk.commons.interfaces.Handler;
+
 @SuppressWarnings("javadoc")
 public class BooleanArrayIterableTests {
 
@@ -52,4 +58,176 @@ public class BooleanArrayIterableTests {
 
 	}
 
+	@Test
+	public void primitiveIterator() {
+
+		BooleanIterator iterator = new BooleanArrayIterable(true, false).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertTrue(iterator.nextBoolean());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertFalse(iterator.nextBoolean());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertTrue(iterator.previousBoolean());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		BooleanIterable iterable = new BooleanArrayIterable(new boolean[0]);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Boolean> values = new LinkedList<Boolean>();
+		new BooleanArrayIterable(true, false).handleEach(new Handler<Boolean>() {
+			@Override
+			public void handle(Boolean value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Boolean> asList(true, false), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new BooleanArrayIterable(new boolean[0]).handleEach((Handler<Boolean>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Boolean> values = new LinkedList<Boolean>();
+		new BooleanArrayIterable(true, false).handleEach(new BooleanHandler() {
+			@Override
+			public void handle(boolean value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Boolean> asList(true, false), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new BooleanArrayIterable(new boolean[0]).handleEach((BooleanHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new BooleanArrayIterable(new boolean[2], -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLength() {
+
+		new BooleanArrayIterable(new boolean[2], 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new BooleanArrayIterable(new boolean[2], 2, 1);
+
+	}
+
+	@Test
+	public void iterator_range() {
+
+		boolean[] array = new boolean[] { true, false, true, false };
+		BooleanIterator iterator = new BooleanArrayIterable(array, 1, 3).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertFalse(iterator.nextBoolean());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertTrue(iterator.nextBoolean());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertFalse(iterator.previousBoolean());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void slice() {
+
+		BooleanArrayIterable iterable = new BooleanArrayIterable(true, false, true, false);
+		BooleanArrayIterable slice = iterable.slice(1, 4).slice(1, 2);
+		BooleanIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertTrue(iterator.nextBoolean());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new BooleanArrayIterable(true, false, true, false).slice(1, 3).slice(0, 3);
+
+	}
+
+	@Test
+	public void strided() {
+
+		BooleanArrayIterable iterable = new BooleanArrayIterable(false, true, false, false, true, true);
+		StridedBooleanArrayIterable strided = iterable.slice(1, 6).strided(1, 2);
+		BooleanIterator iterator = strided.iterator();
+
+		Assert.assertEquals(2, strided.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertFalse(iterator.nextBoolean());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertTrue(iterator.nextBoolean());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void strided_offsetEqualToSize() {
+
+		Assert.assertEquals(0, new BooleanArrayIterable(false, true).strided(2, 1).size());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_negativeOffset() {
+
+		new BooleanArrayIterable(false, true).slice(1, 2).strided(-1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_offsetLargerThanSize() {
+
+		new BooleanArrayIterable(false, true).strided(3, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_nonPositiveStride() {
+
+		new BooleanArrayIterable(false, true).strided(0, 0);
+
+	}
+
 }
@@ -21,9 +21,15 @@
  */
 package net.markenwerk.commons.iterables;
 
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
+import net.markenwerk.commons.interfaces.Handler;
+
 @SuppressWarnings("javadoc")
 public class ByteArrayIterableTests {
 
@@ -52,4 +58,176 @@ public class ByteArrayIterableTests {
 
 	}
 
+	@Test
+	public void primitiveIterator() {
+
+		ByteIterator iterator = new ByteArrayIterable((byte) 1, (byte) 2).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 1, iterator.nextByte());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 2, iterator.nextByte());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals((byte) 1, iterator.previousByte());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		ByteIterable iterable = new ByteArrayIterable(new byte[0]);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Byte> values = new LinkedList<Byte>();
+		new ByteArrayIterable((byte) 1, (byte) 2).handleEach(new Handler<Byte>() {
+			@Override
+			public void handle(Byte value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Byte> asList((byte) 1, (byte) 2), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new ByteArrayIterable(new byte[0]).handleEach((Handler<Byte>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Byte> values = new LinkedList<Byte>();
+		new ByteArrayIterable((byte) 1, (byte) 2).handleEach(new ByteHandler() {
+			@Override
+			public void handle(byte value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Byte> asList((byte) 1, (byte) 2), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new ByteArrayIterable(new byte[0]).handleEach((ByteHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new ByteArrayIterable(new byte[2], -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLength() {
+
+		new ByteArrayIterable(new byte[2], 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new ByteArrayIterable(new byte[2], 2, 1);
+
+	}
+
+	@Test
+	public void iterator_range() {
+
+		byte[] array = new byte[] { (byte) 1, (byte) 2, (byte) 3, (byte) 4 };
+		ByteIterator iterator = new ByteArrayIterable(array, 1, 3).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 2, iterator.nextByte());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 3, iterator.nextByte());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals((byte) 2, iterator.previousByte());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void slice() {
+
+		ByteArrayIterable iterable = new ByteArrayIterable((byte) 1, (byte) 2, (byte) 3, (byte) 4);
+		ByteArrayIterable slice = iterable.slice(1, 4).slice(1, 2);
+		ByteIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 3, iterator.nextByte());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new ByteArrayIterable((byte) 1, (byte) 2, (byte) 3, (byte) 4).slice(1, 3).slice(0, 3);
+
+	}
+
+	@Test
+	public void strided() {
+
+		ByteArrayIterable iterable = new ByteArrayIterable((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6);
+		StridedByteArrayIterable strided = iterable.slice(1, 6).strided(1, 2);
+		ByteIterator iterator = strided.iterator();
+
+		Assert.assertEquals(2, strided.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 3, iterator.nextByte());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 5, iterator.nextByte());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void strided_offsetEqualToSize() {
+
+		Assert.assertEquals(0, new ByteArrayIterable((byte) 1, (byte) 2).strided(2, 1).size());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_negativeOffset() {
+
+		new ByteArrayIterable((byte) 1, (byte) 2).slice(1, 2).strided(-1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_offsetLargerThanSize() {
+
+		new ByteArrayIterable((byte) 1, (byte) 2).strided(3, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_nonPositiveStride() {
+
+		new ByteArrayIterable((byte) 1, (byte) 2).strided(0, 0);
+
+	}
+
 }
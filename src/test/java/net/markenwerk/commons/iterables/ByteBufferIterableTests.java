@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class ByteBufferIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullBuffer() {
+
+		new ByteBufferIterable(null);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Byte> iterable = new ByteBufferIterable(ByteBuffer.allocate(0));
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Byte> iterable = new ByteBufferIterable(ByteBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 1, (byte) 2, (byte) 3, (byte) 4 });
+		buffer.position(1);
+		buffer.limit(3);
+		ByteIterator iterator = new ByteBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 2, iterator.nextByte());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 3, iterator.nextByte());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals((byte) 2, iterator.previousByte());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		ByteIterable iterable = new ByteBufferIterable(ByteBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_directBuffer() {
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(2);
+		buffer.put(0, (byte) 1);
+		buffer.put(1, (byte) 2);
+		ByteIterator iterator = new ByteBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 1, iterator.nextByte());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 2, iterator.nextByte());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_positionUnchanged() {
+
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 1, (byte) 2, (byte) 3, (byte) 4 });
+		ByteIterator iterator = new ByteBufferIterable(buffer).primitiveIterator();
+		iterator.nextByte();
+
+		Assert.assertEquals(0, buffer.position());
+
+	}
+
+	@Test
+	public void primitiveIterator_bufferChangedAfterCreation() {
+
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 1, (byte) 2, (byte) 3, (byte) 4 });
+		buffer.position(1);
+		ByteBufferIterable iterable = new ByteBufferIterable(buffer);
+		buffer.clear();
+		buffer.limit(1);
+		ByteIterator iterator = iterable.slice(1, 3).primitiveIterator();
+
+		Assert.assertEquals(3, iterable.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 3, iterator.nextByte());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 4, iterator.nextByte());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Byte> values = new LinkedList<Byte>();
+		new ByteBufferIterable(ByteBuffer.wrap(new byte[] { (byte) 1, (byte) 2 })).handleEach(new Handler<Byte>() {
+			@Override
+			public void handle(Byte value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Byte> asList((byte) 1, (byte) 2), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new ByteBufferIterable(ByteBuffer.allocate(0)).handleEach((Handler<Byte>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Byte> values = new LinkedList<Byte>();
+		new ByteBufferIterable(ByteBuffer.wrap(new byte[] { (byte) 1, (byte) 2 })).handleEach(new ByteHandler() {
+			@Override
+			public void handle(byte value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Byte> asList((byte) 1, (byte) 2), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new ByteBufferIterable(ByteBuffer.allocate(0)).handleEach((ByteHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new ByteBufferIterable(ByteBuffer.allocate(2), -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLimit() {
+
+		ByteBuffer buffer = ByteBuffer.allocate(4);
+		buffer.limit(2);
+
+		new ByteBufferIterable(buffer, 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new ByteBufferIterable(ByteBuffer.allocate(2), 2, 1);
+
+	}
+
+	@Test
+	public void slice() {
+
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 1, (byte) 2, (byte) 3, (byte) 4 });
+		ByteBufferIterable slice = new ByteBufferIterable(buffer).slice(1, 4).slice(1, 2);
+		ByteIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 3, iterator.nextByte());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new ByteBufferIterable(ByteBuffer.allocate(4)).slice(1, 3).slice(0, 3);
+
+	}
+
+}
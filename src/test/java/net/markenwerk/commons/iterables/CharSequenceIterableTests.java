@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class CharSequenceIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSequence() {
+
+		new CharSequenceIterable(null);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Character> iterable = new CharSequenceIterable("");
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Character> iterable = new CharSequenceIterable("");
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		CharacterIterator iterator = new CharSequenceIterable("ab").primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('a', iterator.nextChar());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('b', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals('a', iterator.previousChar());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		CharacterIterable iterable = new CharSequenceIterable("");
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_stringBuilder() {
+
+		CharacterIterator iterator = new CharSequenceIterable(new StringBuilder("ab")).primitiveIterator();
+
+		Assert.assertEquals('a', iterator.nextChar());
+		Assert.assertEquals('b', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_charBuffer() {
+
+		CharBuffer buffer = CharBuffer.wrap("xab");
+		buffer.position(1);
+		CharacterIterator iterator = new CharSequenceIterable(buffer).primitiveIterator();
+
+		Assert.assertEquals('a', iterator.nextChar());
+		Assert.assertEquals('b', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Character> values = new LinkedList<Character>();
+		new CharSequenceIterable("ab").handleEach(new Handler<Character>() {
+			@Override
+			public void handle(Character value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.asList('a', 'b'), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new CharSequenceIterable("").handleEach((Handler<Character>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Character> values = new LinkedList<Character>();
+		new CharSequenceIterable("ab").handleEach(new CharacterHandler() {
+			@Override
+			public void handle(char value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.asList('a', 'b'), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new CharSequenceIterable("").handleEach((CharacterHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new CharSequenceIterable("ab", -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLength() {
+
+		new CharSequenceIterable("ab", 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new CharSequenceIterable("ab", 2, 1);
+
+	}
+
+	@Test
+	public void iterator_range() {
+
+		CharacterIterator iterator = new CharSequenceIterable("abcd", 1, 3).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('b', iterator.nextChar());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('c', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals('b', iterator.previousChar());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void slice() {
+
+		CharSequenceIterable slice = new CharSequenceIterable("abcd").slice(1, 4).slice(1, 2);
+		CharacterIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('c', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new CharSequenceIterable("abcd").slice(1, 3).slice(0, 3);
+
+	}
+
+}
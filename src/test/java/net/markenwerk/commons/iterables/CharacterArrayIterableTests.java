@@ -21,9 +21,15 @@
  */
 package net.markenwerk.commons.iterables;
 
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
+import net.markenwerk.commons.interfaces.Handler;
+
 @SuppressWarnings("javadoc")
 public class CharacterArrayIterableTests {
 
@@ -52,4 +58,176 @@ public class CharacterArrayIterableTests {
 
 	}
 
+	@Test
+	public void primitiveIterator() {
+
+		CharacterIterator iterator = new CharacterArrayIterable('a', 'b').primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('a', iterator.nextChar());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('b', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals('a', iterator.previousChar());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		CharacterIterable iterable = new CharacterArrayIterable(new char[0]);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Character> values = new LinkedList<Character>();
+		new CharacterArrayIterable('a', 'b').handleEach(new Handler<Character>() {
+			@Override
+			public void handle(Character value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Character> asList('a', 'b'), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new CharacterArrayIterable(new char[0]).handleEach((Handler<Character>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Character> values = new LinkedList<Character>();
+		new CharacterArrayIterable('a', 'b').handleEach(new CharacterHandler() {
+			@Override
+			public void handle(char value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Character> asList('a', 'b'), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new CharacterArrayIterable(new char[0]).handleEach((CharacterHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new CharacterArrayIterable(new char[2], -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLength() {
+
+		new CharacterArrayIterable(new char[2], 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new CharacterArrayIterable(new char[2], 2, 1);
+
+	}
+
+	@Test
+	public void iterator_range() {
+
+		char[] array = new char[] { 'a', 'b', 'c', 'd' };
+		CharacterIterator iterator = new CharacterArrayIterable(array, 1, 3).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('b', iterator.nextChar());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('c', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals('b', iterator.previousChar());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void slice() {
+
+		CharacterArrayIterable iterable = new CharacterArrayIterable('a', 'b', 'c', 'd');
+		CharacterArrayIterable slice = iterable.slice(1, 4).slice(1, 2);
+		CharacterIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('c', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new CharacterArrayIterable('a', 'b', 'c', 'd').slice(1, 3).slice(0, 3);
+
+	}
+
+	@Test
+	public void strided() {
+
+		CharacterArrayIterable iterable = new CharacterArrayIterable('a', 'b', 'c', 'd', 'e', 'f');
+		StridedCharacterArrayIterable strided = iterable.slice(1, 6).strided(1, 2);
+		CharacterIterator iterator = strided.iterator();
+
+		Assert.assertEquals(2, strided.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('c', iterator.nextChar());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('e', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void strided_offsetEqualToSize() {
+
+		Assert.assertEquals(0, new CharacterArrayIterable('a', 'b').strided(2, 1).size());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_negativeOffset() {
+
+		new CharacterArrayIterable('a', 'b').slice(1, 2).strided(-1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_offsetLargerThanSize() {
+
+		new CharacterArrayIterable('a', 'b').strided(3, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_nonPositiveStride() {
+
+		new CharacterArrayIterable('a', 'b').strided(0, 0);
+
+	}
+
 }
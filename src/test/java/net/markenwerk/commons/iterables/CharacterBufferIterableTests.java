@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class CharacterBufferIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullBuffer() {
+
+		new CharacterBufferIterable(null);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Character> iterable = new CharacterBufferIterable(CharBuffer.allocate(0));
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Character> iterable = new CharacterBufferIterable(CharBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		CharBuffer buffer = CharBuffer.wrap(new char[] { 'a', 'b', 'c', 'd' });
+		buffer.position(1);
+		buffer.limit(3);
+		CharacterIterator iterator = new CharacterBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('b', iterator.nextChar());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('c', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals('b', iterator.previousChar());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		CharacterIterable iterable = new CharacterBufferIterable(CharBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_directBuffer() {
+
+		CharBuffer buffer = ByteBuffer.allocateDirect(4).asCharBuffer();
+		buffer.put(0, 'a');
+		buffer.put(1, 'b');
+		CharacterIterator iterator = new CharacterBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('a', iterator.nextChar());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('b', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_positionUnchanged() {
+
+		CharBuffer buffer = CharBuffer.wrap(new char[] { 'a', 'b', 'c', 'd' });
+		CharacterIterator iterator = new CharacterBufferIterable(buffer).primitiveIterator();
+		iterator.nextChar();
+
+		Assert.assertEquals(0, buffer.position());
+
+	}
+
+	@Test
+	public void primitiveIterator_bufferChangedAfterCreation() {
+
+		CharBuffer buffer = CharBuffer.wrap(new char[] { 'a', 'b', 'c', 'd' });
+		buffer.position(1);
+		CharacterBufferIterable iterable = new CharacterBufferIterable(buffer);
+		buffer.clear();
+		buffer.limit(1);
+		CharacterIterator iterator = iterable.slice(1, 3).primitiveIterator();
+
+		Assert.assertEquals(3, iterable.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('c', iterator.nextChar());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('d', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Character> values = new LinkedList<Character>();
+		new CharacterBufferIterable(CharBuffer.wrap(new char[] { 'a', 'b' })).handleEach(new Handler<Character>() {
+			@Override
+			public void handle(Character value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Character> asList('a', 'b'), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new CharacterBufferIterable(CharBuffer.allocate(0)).handleEach((Handler<Character>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Character> values = new LinkedList<Character>();
+		new CharacterBufferIterable(CharBuffer.wrap(new char[] { 'a', 'b' })).handleEach(new CharacterHandler() {
+			@Override
+			public void handle(char value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Character> asList('a', 'b'), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new CharacterBufferIterable(CharBuffer.allocate(0)).handleEach((CharacterHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new CharacterBufferIterable(CharBuffer.allocate(2), -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLimit() {
+
+		CharBuffer buffer = CharBuffer.allocate(4);
+		buffer.limit(2);
+
+		new CharacterBufferIterable(buffer, 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new CharacterBufferIterable(CharBuffer.allocate(2), 2, 1);
+
+	}
+
+	@Test
+	public void slice() {
+
+		CharBuffer buffer = CharBuffer.wrap(new char[] { 'a', 'b', 'c', 'd' });
+		CharacterBufferIterable slice = new CharacterBufferIterable(buffer).slice(1, 4).slice(1, 2);
+		CharacterIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('c', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new CharacterBufferIterable(CharBuffer.allocate(4)).slice(1, 3).slice(0, 3);
+
+	}
+
+}
@@ -21,14 +21,35 @@
  */
 package net.markenwerk.commons.iterables;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Test;
 
 @SuppressWarnings("javadoc")
 public class CombinedIterableTests {
 
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@After
+	public void shutdown() {
+
+		executor.shutdownNow();
+
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void iterateNullIterators() {
 
@@ -71,4 +92,283 @@ public class CombinedIterableTests {
 
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullExecutor() {
+
+		new CombinedIterable<Object>(new EmptyIterable<Iterable<Object>>(), null, 1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveDepth() {
+
+		new CombinedIterable<Object>(new EmptyIterable<Iterable<Object>>(), executor, 0, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeBatchSize() {
+
+		new CombinedIterable<Object>(new EmptyIterable<Iterable<Object>>(), executor, 1, -1);
+
+	}
+
+	@Test
+	public void iterator_prefetched() {
+
+		List<List<Integer>> lists = new ArrayList<List<Integer>>();
+		lists.add(Arrays.asList(1, 2, 3));
+		lists.add(Collections.<Integer> emptyList());
+		lists.add(Arrays.asList(4));
+		lists.add(Arrays.asList(5, 6));
+		Iterator<Integer> iterator = new CombinedIterable<Integer>(lists, executor, 2, 2).iterator();
+
+		for (int i = 1; i <= 6; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_prefetchedOnExecutor() {
+
+		final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+		List<Iterable<Integer>> iterables = new ArrayList<Iterable<Integer>>();
+		for (int i = 0; i < 3; i++) {
+			iterables.add(new Iterable<Integer>() {
+
+				@Override
+				public Iterator<Integer> iterator() {
+					threads.add(Thread.currentThread());
+					return Arrays.asList(1).iterator();
+				}
+
+			});
+		}
+		Iterator<Integer> iterator = new CombinedIterable<Integer>(iterables, executor, 3, 1).iterator();
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+
+		Assert.assertFalse(threads.contains(Thread.currentThread()));
+
+	}
+
+	@Test
+	public void iterator_prefetchedCancel() {
+
+		final List<Runnable> pending = new ArrayList<Runnable>();
+		Executor pendingExecutor = new Executor() {
+
+			@Override
+			public void execute(Runnable runnable) {
+				if (pending.isEmpty()) {
+					pending.add(null);
+					runnable.run();
+				} else {
+					pending.add(runnable);
+				}
+			}
+
+		};
+		final List<Integer> opened = new ArrayList<Integer>();
+		List<Iterable<Integer>> iterables = new ArrayList<Iterable<Integer>>();
+		for (int i = 0; i < 3; i++) {
+			final int value = i;
+			iterables.add(new Iterable<Integer>() {
+
+				@Override
+				public Iterator<Integer> iterator() {
+					opened.add(value);
+					return Arrays.asList(value).iterator();
+				}
+
+			});
+		}
+		CancelableIterator<Integer> iterator = new CombinedIterable<Integer>(iterables, pendingExecutor, 3, 1).iterator();
+		Assert.assertEquals(Integer.valueOf(0), iterator.next());
+		iterator.cancel();
+		for (Runnable runnable : pending.subList(1, pending.size())) {
+			runnable.run();
+		}
+
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(Arrays.asList(0), opened);
+
+	}
+
+	@Test
+	public void iterator_prefetchedCancelOpened() {
+
+		Executor sameThreadExecutor = new Executor() {
+
+			@Override
+			public void execute(Runnable runnable) {
+				runnable.run();
+			}
+
+		};
+		final boolean[] cancelled = new boolean[1];
+		Iterable<Integer> cancelable = new Iterable<Integer>() {
+
+			@Override
+			public Iterator<Integer> iterator() {
+				return new CancelableIterator<Integer>() {
+
+					@Override
+					public boolean hasNext() {
+						return true;
+					}
+
+					@Override
+					public Integer next() {
+						return 2;
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+
+					@Override
+					public void cancel() {
+						cancelled[0] = true;
+					}
+
+				};
+			}
+
+		};
+		List<Iterable<Integer>> iterables = new ArrayList<Iterable<Integer>>();
+		iterables.add(Arrays.asList(1));
+		iterables.add(cancelable);
+		CancelableIterator<Integer> iterator = new CombinedIterable<Integer>(iterables, sameThreadExecutor, 2, 0).iterator();
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		iterator.cancel();
+
+		Assert.assertTrue(cancelled[0]);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_nestedCancel() {
+
+		List<Integer> list = Arrays.asList(1, 2);
+		List<Iterable<Integer>> iterables = new ArrayList<Iterable<Integer>>();
+		iterables.add(new CombinedIterable<Integer>(list, list));
+		CancelableIterator<Integer> iterator = new CombinedIterable<Integer>(iterables).iterator();
+		iterator.next();
+		iterator.cancel();
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void iterator_prefetchedFailure() {
+
+		List<Iterable<Integer>> iterables = new ArrayList<Iterable<Integer>>();
+		iterables.add(new Iterable<Integer>() {
+
+			@Override
+			public Iterator<Integer> iterator() {
+				throw new IllegalStateException();
+			}
+
+		});
+		new CombinedIterable<Integer>(iterables, executor, 1, 1).iterator().hasNext();
+
+	}
+
+	@Test
+	public void iterator_prefetchedRemove() {
+
+		List<List<Integer>> lists = new ArrayList<List<Integer>>();
+		lists.add(new LinkedList<Integer>(Arrays.asList(1, 2)));
+		Iterator<Integer> iterator = new CombinedIterable<Integer>(lists, executor, 1, 1).iterator();
+		iterator.next();
+		iterator.next();
+		iterator.remove();
+
+		Assert.assertEquals(Arrays.asList(1), lists.get(0));
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void iterator_prefetchedRemovePrefetched() {
+
+		List<List<Integer>> lists = new ArrayList<List<Integer>>();
+		lists.add(new LinkedList<Integer>(Arrays.asList(1, 2)));
+		Iterator<Integer> iterator = new CombinedIterable<Integer>(lists, executor, 1, 1).iterator();
+		iterator.next();
+		iterator.remove();
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void iterator_combined() {
+
+		Iterator<Integer> iterator = new CombinedIterable<Integer>(Arrays.asList(1, 2),
+				Collections.<Integer> emptyList(), Arrays.asList(3)).iterator();
+
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	@SuppressWarnings("unchecked")
+	public void iterator_exhausted() {
+
+		Iterator<Integer> iterator = new CombinedIterable<Integer>(Arrays.asList(1)).iterator();
+		iterator.next();
+		iterator.next();
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void iterator_nested() {
+
+		CombinedIterable<Integer> iterable = new CombinedIterable<Integer>(Arrays.asList(0));
+		for (int i = 1; i < 10000; i++) {
+			iterable = new CombinedIterable<Integer>(iterable, new CombinedIterable<Integer>(), Arrays.asList(i));
+		}
+		Iterator<Integer> iterator = iterable.iterator();
+
+		for (int i = 0; i < 10000; i++) {
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void iterator_remove() {
+
+		List<Integer> list = new LinkedList<Integer>(Arrays.asList(1, 2));
+		Iterator<Integer> iterator = new CombinedIterable<Integer>(Arrays.asList(0), list).iterator();
+		iterator.next();
+		iterator.next();
+		iterator.remove();
+
+		Assert.assertEquals(Arrays.asList(2), list);
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	@SuppressWarnings("unchecked")
+	public void iterator_removeBeforeNext() {
+
+		new CombinedIterable<Integer>(Arrays.asList(0)).iterator().remove();
+
+	}
+
 }
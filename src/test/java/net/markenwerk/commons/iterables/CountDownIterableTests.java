@@ -80,4 +80,145 @@ public class CountDownIterableTests {
 
 	}
 
+	@Test
+	public void primitiveIterator_step() {
+
+		IntegerIterator iterator = new CountDownIterable(7, 1, 3).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(7, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(4, iterator.previousInt());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(7, iterator.previousInt());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_stepNotReachingBound() {
+
+		IntegerIterator iterator = new CountDownIterable(5, 0, 3).primitiveIterator();
+
+		Assert.assertEquals(5, iterator.nextInt());
+		Assert.assertEquals(2, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		IntegerIterable iterable = new CountDownIterable(0, 0);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_noOverflow() {
+
+		CountDownIterable iterable = new CountDownIterable(Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE);
+		IntegerIterator iterator = iterable.primitiveIterator();
+
+		Assert.assertEquals(Integer.MAX_VALUE, iterator.nextInt());
+		Assert.assertEquals(0, iterator.nextInt());
+		Assert.assertEquals(Integer.MIN_VALUE + 1, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_bound() {
+
+		IntegerIterator iterator = new CountDownIterable(Integer.MIN_VALUE + 1, Integer.MIN_VALUE).primitiveIterator();
+
+		Assert.assertEquals(Integer.MIN_VALUE + 1, iterator.nextInt());
+		Assert.assertEquals(Integer.MIN_VALUE, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveStep() {
+
+		new CountDownIterable(0, 1, 0);
+
+	}
+
+	@Test
+	public void size() {
+
+		Assert.assertEquals(3, new CountDownIterable(7, 1, 3).size());
+
+	}
+
+	@Test
+	public void size_empty() {
+
+		Assert.assertEquals(0, new CountDownIterable(1, 7).size());
+
+	}
+
+	@Test
+	public void size_fullRange() {
+
+		Assert.assertEquals(1L << 32, new CountDownIterable(Integer.MAX_VALUE, Integer.MIN_VALUE).size());
+
+	}
+
+	@Test
+	public void reversed() {
+
+		CountDownIterable iterable = new CountDownIterable(7, 1, 3);
+		Iterator<Integer> iterator = new ReversedIterable<Integer>(iterable).iterator();
+
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertEquals(Integer.valueOf(4), iterator.next());
+		Assert.assertEquals(Integer.valueOf(7), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_skip() {
+
+		IntegerIterator iterator = new CountDownIterable(9, 0, 3).primitiveIterator();
+		SkippableIterator<?> skippable = (SkippableIterator<?>) iterator;
+
+		Assert.assertEquals(2, skippable.skip(2));
+		Assert.assertEquals(3, iterator.nextInt());
+		Assert.assertEquals(1, skippable.skip(5));
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_seek() {
+
+		IntegerIterator iterator = new CountDownIterable(9, 0, 3).primitiveIterator();
+		SkippableIterator<?> skippable = (SkippableIterator<?>) iterator;
+
+		skippable.seek(2);
+		Assert.assertEquals(3, iterator.nextInt());
+		skippable.seek(0);
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertEquals(9, iterator.nextInt());
+		skippable.seek(4);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void primitiveIterator_seekBeyondSize() {
+
+		((SkippableIterator<?>) new CountDownIterable(9, 0, 3).primitiveIterator()).seek(5);
+
+	}
+
 }
@@ -79,4 +79,146 @@ public class CountUpIterableTests {
 		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
 
 	}
+
+	@Test
+	public void primitiveIterator_step() {
+
+		IntegerIterator iterator = new CountUpIterable(1, 7, 3).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(7, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(4, iterator.previousInt());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1, iterator.previousInt());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_stepNotReachingBound() {
+
+		IntegerIterator iterator = new CountUpIterable(0, 5, 3).primitiveIterator();
+
+		Assert.assertEquals(0, iterator.nextInt());
+		Assert.assertEquals(3, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		IntegerIterable iterable = new CountUpIterable(0, 0);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_noOverflow() {
+
+		CountUpIterable iterable = new CountUpIterable(Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+		IntegerIterator iterator = iterable.primitiveIterator();
+
+		Assert.assertEquals(Integer.MIN_VALUE, iterator.nextInt());
+		Assert.assertEquals(-1, iterator.nextInt());
+		Assert.assertEquals(Integer.MAX_VALUE - 1, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_bound() {
+
+		IntegerIterator iterator = new CountUpIterable(Integer.MAX_VALUE - 1, Integer.MAX_VALUE).primitiveIterator();
+
+		Assert.assertEquals(Integer.MAX_VALUE - 1, iterator.nextInt());
+		Assert.assertEquals(Integer.MAX_VALUE, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveStep() {
+
+		new CountUpIterable(0, 1, 0);
+
+	}
+
+	@Test
+	public void size() {
+
+		Assert.assertEquals(3, new CountUpIterable(1, 7, 3).size());
+
+	}
+
+	@Test
+	public void size_empty() {
+
+		Assert.assertEquals(0, new CountUpIterable(7, 1).size());
+
+	}
+
+	@Test
+	public void size_fullRange() {
+
+		Assert.assertEquals(1L << 32, new CountUpIterable(Integer.MIN_VALUE, Integer.MAX_VALUE).size());
+
+	}
+
+	@Test
+	public void reversed() {
+
+		CountUpIterable iterable = new CountUpIterable(1, 7, 3);
+		Iterator<Integer> iterator = new ReversedIterable<Integer>(iterable).iterator();
+
+		Assert.assertEquals(Integer.valueOf(7), iterator.next());
+		Assert.assertEquals(Integer.valueOf(4), iterator.next());
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_skip() {
+
+		IntegerIterator iterator = new CountUpIterable(0, 9, 3).primitiveIterator();
+		SkippableIterator<?> skippable = (SkippableIterator<?>) iterator;
+
+		Assert.assertEquals(2, skippable.skip(2));
+		Assert.assertEquals(6, iterator.nextInt());
+		Assert.assertEquals(1, skippable.skip(5));
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_seek() {
+
+		IntegerIterator iterator = new CountUpIterable(0, 9, 3).primitiveIterator();
+		SkippableIterator<?> skippable = (SkippableIterator<?>) iterator;
+
+		skippable.seek(2);
+		Assert.assertEquals(6, iterator.nextInt());
+		skippable.seek(0);
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertEquals(0, iterator.nextInt());
+		skippable.seek(4);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void primitiveIterator_seekBeyondSize() {
+
+		((SkippableIterator<?>) new CountUpIterable(0, 9, 3).primitiveIterator()).seek(5);
+
+	}
+
 }
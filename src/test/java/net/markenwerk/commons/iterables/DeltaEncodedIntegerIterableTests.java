@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class DeltaEncodedIntegerIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new DeltaEncodedIntegerIterable(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_incompleteValue() {
+
+		new DeltaEncodedIntegerIterable((byte) 0x01, (byte) 0x81);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void encode_nullIterable() {
+
+		DeltaEncodedIntegerIterable.encode(null);
+
+	}
+
+	@Test
+	public void encode() {
+
+		byte[] bytes = DeltaEncodedIntegerIterable.encode(new IntegerArrayIterable(1, 2, 0, 200));
+
+		Assert.assertArrayEquals(new byte[] { 0x02, 0x02, 0x03, (byte) 0x90, 0x03 }, bytes);
+
+	}
+
+	@Test
+	public void encode_empty() {
+
+		Assert.assertEquals(0, DeltaEncodedIntegerIterable.encode(new IntegerArrayIterable(new int[0])).length);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Integer> iterable = new DeltaEncodedIntegerIterable(new byte[0]);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Integer> iterable = new DeltaEncodedIntegerIterable(new byte[0]);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		byte[] bytes = DeltaEncodedIntegerIterable.encode(new IntegerArrayIterable(1, 2, 0, 200));
+		IntegerIterator iterator = new DeltaEncodedIntegerIterable(bytes).primitiveIterator();
+
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(0, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(200, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(0, iterator.previousInt());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(2, iterator.previousInt());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1, iterator.previousInt());
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInt());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		IntegerIterable iterable = new DeltaEncodedIntegerIterable(new byte[0]);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_extremeValues() {
+
+		int[] values = new int[] { Integer.MAX_VALUE, Integer.MIN_VALUE, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, -1 };
+		byte[] bytes = DeltaEncodedIntegerIterable.encode(new IntegerArrayIterable(values));
+		IntegerIterator iterator = new DeltaEncodedIntegerIterable(bytes).primitiveIterator();
+
+		for (int value : values) {
+			Assert.assertEquals(value, iterator.nextInt());
+		}
+		Assert.assertFalse(iterator.hasNext());
+		for (int i = values.length - 2; i >= 0; i--) {
+			Assert.assertEquals(values[i], iterator.previousInt());
+		}
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void primitiveIterator_overlongValue() {
+
+		byte[] bytes = new byte[] { (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x00 };
+		IntegerIterator iterator = new DeltaEncodedIntegerIterable(bytes).primitiveIterator();
+
+		iterator.nextInt();
+
+	}
+
+	@Test
+	public void primitiveIterator_range() {
+
+		byte[] bytes = new byte[] { (byte) 0xFF, 0x02, 0x04, (byte) 0x80 };
+		IntegerIterator iterator = new DeltaEncodedIntegerIterable(bytes, 1, 3).primitiveIterator();
+
+		Assert.assertEquals(1, iterator.nextInt());
+		Assert.assertEquals(3, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+}
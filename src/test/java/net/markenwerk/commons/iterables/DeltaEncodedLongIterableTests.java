@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class DeltaEncodedLongIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new DeltaEncodedLongIterable(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_incompleteValue() {
+
+		new DeltaEncodedLongIterable((byte) 0x01, (byte) 0x81);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void encode_nullIterable() {
+
+		DeltaEncodedLongIterable.encode(null);
+
+	}
+
+	@Test
+	public void encode() {
+
+		byte[] bytes = DeltaEncodedLongIterable.encode(new LongArrayIterable(1L, 2L, 0L, 200L));
+
+		Assert.assertArrayEquals(new byte[] { 0x02, 0x02, 0x03, (byte) 0x90, 0x03 }, bytes);
+
+	}
+
+	@Test
+	public void encode_empty() {
+
+		Assert.assertEquals(0, DeltaEncodedLongIterable.encode(new LongArrayIterable(new long[0])).length);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Long> iterable = new DeltaEncodedLongIterable(new byte[0]);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Long> iterable = new DeltaEncodedLongIterable(new byte[0]);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		byte[] bytes = DeltaEncodedLongIterable.encode(new LongArrayIterable(1L, 2L, 0L, 200L));
+		LongIterator iterator = new DeltaEncodedLongIterable(bytes).primitiveIterator();
+
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1L, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2L, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(0L, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(200L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(0L, iterator.previousLong());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(2L, iterator.previousLong());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1L, iterator.previousLong());
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2L, iterator.nextLong());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		LongIterable iterable = new DeltaEncodedLongIterable(new byte[0]);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_extremeValues() {
+
+		long[] values = new long[] { Long.MAX_VALUE, Long.MIN_VALUE, 0L, Long.MIN_VALUE, Long.MAX_VALUE, -1L };
+		byte[] bytes = DeltaEncodedLongIterable.encode(new LongArrayIterable(values));
+		LongIterator iterator = new DeltaEncodedLongIterable(bytes).primitiveIterator();
+
+		for (long value : values) {
+			Assert.assertEquals(value, iterator.nextLong());
+		}
+		Assert.assertFalse(iterator.hasNext());
+		for (int i = values.length - 2; i >= 0; i--) {
+			Assert.assertEquals(values[i], iterator.previousLong());
+		}
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void primitiveIterator_overlongValue() {
+
+		byte[] bytes = new byte[11];
+		Arrays.fill(bytes, 0, 10, (byte) 0x80);
+		LongIterator iterator = new DeltaEncodedLongIterable(bytes).primitiveIterator();
+
+		iterator.nextLong();
+
+	}
+
+	@Test
+	public void primitiveIterator_range() {
+
+		byte[] bytes = new byte[] { (byte) 0xFF, 0x02, 0x04, (byte) 0x80 };
+		LongIterator iterator = new DeltaEncodedLongIterable(bytes, 1, 3).primitiveIterator();
+
+		Assert.assertEquals(1L, iterator.nextLong());
+		Assert.assertEquals(3L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+}
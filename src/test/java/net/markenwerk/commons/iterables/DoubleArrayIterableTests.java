@@ -21,9 +21,16 @@
  */
 package net.markenwerk.commons.iterables;
 
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
 import org.junit.Assert;
 import org.junit.Test;
 
+import net.markenwerk.commons.interfaces.Handler;
+
 @SuppressWarnings("javadoc")
 public class DoubleArrayIterableTests {
 
@@ -52,4 +59,266 @@ public class DoubleArrayIterableTests {
 
 	}
 
+	@Test
+	public void primitiveIterator() {
+
+		DoubleIterator iterator = new DoubleArrayIterable(1d, 2d).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1d, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1d, iterator.previousDouble(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		DoubleIterable iterable = new DoubleArrayIterable(new double[0]);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Double> values = new LinkedList<Double>();
+		new DoubleArrayIterable(1d, 2d).handleEach(new Handler<Double>() {
+			@Override
+			public void handle(Double value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Double> asList(1d, 2d), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new DoubleArrayIterable(new double[0]).handleEach((Handler<Double>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Double> values = new LinkedList<Double>();
+		new DoubleArrayIterable(1d, 2d).handleEach(new DoubleHandler() {
+			@Override
+			public void handle(double value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Double> asList(1d, 2d), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new DoubleArrayIterable(new double[0]).handleEach((DoubleHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new DoubleArrayIterable(new double[2], -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLength() {
+
+		new DoubleArrayIterable(new double[2], 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new DoubleArrayIterable(new double[2], 2, 1);
+
+	}
+
+	@Test
+	public void iterator_range() {
+
+		double[] array = new double[] { 1d, 2d, 3d, 4d };
+		DoubleIterator iterator = new DoubleArrayIterable(array, 1, 3).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2d, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(2d, iterator.previousDouble(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void slice() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1d, 2d, 3d, 4d);
+		DoubleArrayIterable slice = iterable.slice(1, 4).slice(1, 2);
+		DoubleIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new DoubleArrayIterable(1d, 2d, 3d, 4d).slice(1, 3).slice(0, 3);
+
+	}
+
+	@Test
+	public void sum() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1d, 2d, 3d, 4d, 5d, 6d, 7d);
+
+		Assert.assertEquals(28d, iterable.sum(), 0);
+
+	}
+
+	@Test
+	public void sum_empty() {
+
+		Assert.assertEquals(0d, new DoubleArrayIterable(new double[0]).sum(), 0);
+
+	}
+
+	@Test
+	public void sum_range() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1d, 2d, 3d, 4d, 5d, 6d, 7d).slice(1, 6);
+
+		Assert.assertEquals(20d, iterable.sum(), 0);
+
+	}
+
+	@Test
+	public void min_nan() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1d, Double.NaN, 2d);
+
+		Assert.assertTrue(Double.isNaN(iterable.min()));
+
+	}
+
+	@Test
+	public void min() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(4d, 6d, 2d, 7d, 3d, 5d, 1d).slice(0, 6);
+
+		Assert.assertEquals(2d, iterable.min(), 0);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void min_empty() {
+
+		new DoubleArrayIterable(new double[0]).min();
+
+	}
+
+	@Test
+	public void max() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(4d, 6d, 2d, 1d, 3d, 7d, 5d).slice(1, 7);
+
+		Assert.assertEquals(7d, iterable.max(), 0);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void max_empty() {
+
+		new DoubleArrayIterable(new double[0]).max();
+
+	}
+
+	@Test
+	public void dot() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1d, 2d, 3d, 4d, 5d);
+		DoubleArrayIterable other = new DoubleArrayIterable(0d, 5d, 4d, 3d, 2d, 1d).slice(1, 6);
+
+		Assert.assertEquals(35d, iterable.dot(other), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void dot_nullIterable() {
+
+		new DoubleArrayIterable(new double[0]).dot(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void dot_differentSize() {
+
+		new DoubleArrayIterable(new double[2]).dot(new DoubleArrayIterable(new double[3]));
+
+	}
+
+	@Test
+	public void strided() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1d, 2d, 3d, 4d, 5d, 6d);
+		StridedDoubleArrayIterable strided = iterable.slice(1, 6).strided(1, 2);
+		DoubleIterator iterator = strided.iterator();
+
+		Assert.assertEquals(2, strided.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3d, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(5d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void strided_offsetEqualToSize() {
+
+		Assert.assertEquals(0, new DoubleArrayIterable(1d, 2d).strided(2, 1).size());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_negativeOffset() {
+
+		new DoubleArrayIterable(1d, 2d).slice(1, 2).strided(-1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_offsetLargerThanSize() {
+
+		new DoubleArrayIterable(1d, 2d).strided(3, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_nonPositiveStride() {
+
+		new DoubleArrayIterable(1d, 2d).strided(0, 0);
+
+	}
+
 }
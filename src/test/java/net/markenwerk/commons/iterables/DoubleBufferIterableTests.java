@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class DoubleBufferIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullBuffer() {
+
+		new DoubleBufferIterable(null);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Double> iterable = new DoubleBufferIterable(DoubleBuffer.allocate(0));
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Double> iterable = new DoubleBufferIterable(DoubleBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		DoubleBuffer buffer = DoubleBuffer.wrap(new double[] { 1d, 2d, 3d, 4d });
+		buffer.position(1);
+		buffer.limit(3);
+		DoubleIterator iterator = new DoubleBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2d, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(2d, iterator.previousDouble(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		DoubleIterable iterable = new DoubleBufferIterable(DoubleBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_directBuffer() {
+
+		DoubleBuffer buffer = ByteBuffer.allocateDirect(16).asDoubleBuffer();
+		buffer.put(0, 1d);
+		buffer.put(1, 2d);
+		DoubleIterator iterator = new DoubleBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1d, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_positionUnchanged() {
+
+		DoubleBuffer buffer = DoubleBuffer.wrap(new double[] { 1d, 2d, 3d, 4d });
+		DoubleIterator iterator = new DoubleBufferIterable(buffer).primitiveIterator();
+		iterator.nextDouble();
+
+		Assert.assertEquals(0, buffer.position());
+
+	}
+
+	@Test
+	public void primitiveIterator_bufferChangedAfterCreation() {
+
+		DoubleBuffer buffer = DoubleBuffer.wrap(new double[] { 1d, 2d, 3d, 4d });
+		buffer.position(1);
+		DoubleBufferIterable iterable = new DoubleBufferIterable(buffer);
+		buffer.clear();
+		buffer.limit(1);
+		DoubleIterator iterator = iterable.slice(1, 3).primitiveIterator();
+
+		Assert.assertEquals(3, iterable.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3d, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Double> values = new LinkedList<Double>();
+		new DoubleBufferIterable(DoubleBuffer.wrap(new double[] { 1d, 2d })).handleEach(new Handler<Double>() {
+			@Override
+			public void handle(Double value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Double> asList(1d, 2d), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new DoubleBufferIterable(DoubleBuffer.allocate(0)).handleEach((Handler<Double>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Double> values = new LinkedList<Double>();
+		new DoubleBufferIterable(DoubleBuffer.wrap(new double[] { 1d, 2d })).handleEach(new DoubleHandler() {
+			@Override
+			public void handle(double value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Double> asList(1d, 2d), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new DoubleBufferIterable(DoubleBuffer.allocate(0)).handleEach((DoubleHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new DoubleBufferIterable(DoubleBuffer.allocate(2), -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLimit() {
+
+		DoubleBuffer buffer = DoubleBuffer.allocate(4);
+		buffer.limit(2);
+
+		new DoubleBufferIterable(buffer, 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new DoubleBufferIterable(DoubleBuffer.allocate(2), 2, 1);
+
+	}
+
+	@Test
+	public void slice() {
+
+		DoubleBuffer buffer = DoubleBuffer.wrap(new double[] { 1d, 2d, 3d, 4d });
+		DoubleBufferIterable slice = new DoubleBufferIterable(buffer).slice(1, 4).slice(1, 2);
+		DoubleIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new DoubleBufferIterable(DoubleBuffer.allocate(4)).slice(1, 3).slice(0, 3);
+
+	}
+
+}
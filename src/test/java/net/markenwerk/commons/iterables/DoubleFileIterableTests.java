@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class DoubleFileIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullFile() throws IOException {
+
+		new DoubleFileIterable(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullOrder() throws IOException {
+
+		new DoubleFileIterable(createFile(ByteOrder.BIG_ENDIAN), null);
+
+	}
+
+	@Test
+	public void iterator() throws IOException {
+
+		Iterable<Double> iterable = new DoubleFileIterable(createFile(ByteOrder.BIG_ENDIAN));
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() throws IOException {
+
+		Iterable<Double> iterable = new DoubleFileIterable(createFile(ByteOrder.BIG_ENDIAN));
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() throws IOException {
+
+		File file = createFile(ByteOrder.BIG_ENDIAN, 1d, 2d);
+		DoubleIterator iterator = new DoubleFileIterable(file).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1d, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1d, iterator.previousDouble(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() throws IOException {
+
+		DoubleIterable iterable = new DoubleFileIterable(createFile(ByteOrder.BIG_ENDIAN));
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_littleEndian() throws IOException {
+
+		File file = createFile(ByteOrder.LITTLE_ENDIAN, 1d, 2d);
+		DoubleIterator iterator = new DoubleFileIterable(file, ByteOrder.LITTLE_ENDIAN).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1d, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_multipleRegions() throws IOException {
+
+		File file = createFile(ByteOrder.BIG_ENDIAN, 1d, 2d, 3d, 4d, 5d);
+		DoubleIterator iterator = new DoubleFileIterable(file, ByteOrder.BIG_ENDIAN, 17).primitiveIterator();
+
+		Assert.assertEquals(1d, iterator.nextDouble(), 0);
+		Assert.assertEquals(2d, iterator.nextDouble(), 0);
+		Assert.assertEquals(3d, iterator.nextDouble(), 0);
+		Assert.assertEquals(4d, iterator.nextDouble(), 0);
+		Assert.assertEquals(5d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(4d, iterator.previousDouble(), 0);
+		Assert.assertEquals(3d, iterator.previousDouble(), 0);
+		Assert.assertEquals(2d, iterator.previousDouble(), 0);
+		Assert.assertEquals(1d, iterator.previousDouble(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void size() throws IOException {
+
+		File file = createFile(ByteOrder.BIG_ENDIAN, 1d, 2d);
+		OutputStream out = new FileOutputStream(file, true);
+		out.write(new byte[7]);
+		out.close();
+
+		Assert.assertEquals(2, new DoubleFileIterable(file).size());
+
+	}
+
+	private static File createFile(ByteOrder order, double... values) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(values.length * 8).order(order);
+		for (double value : values) {
+			buffer.putDouble(value);
+		}
+		File file = File.createTempFile("DoubleFileIterableTests", null);
+		file.deleteOnExit();
+		OutputStream out = new FileOutputStream(file);
+		out.write(buffer.array());
+		out.close();
+		return file;
+	}
+
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class FilteredDoubleArrayIterableTests {
+
+	private static final DoublePredicate EVEN = new DoublePredicate() {
+		@Override
+		public boolean test(double value) {
+			return 0 == value % 2;
+		}
+	};
+
+	private static final DoublePredicate NONE = new DoublePredicate() {
+		@Override
+		public boolean test(double value) {
+			return false;
+		}
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new FilteredDoubleArrayIterable(null, EVEN);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPredicate() {
+
+		new FilteredDoubleArrayIterable(new DoubleArrayIterable(new double[0]), null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveBlockSize() {
+
+		new FilteredDoubleArrayIterable(new DoubleArrayIterable(new double[0]), EVEN, 0);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Double> iterable = new FilteredDoubleArrayIterable(new DoubleArrayIterable(new double[0]), EVEN);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Double> iterable = new FilteredDoubleArrayIterable(new DoubleArrayIterable(new double[0]), EVEN);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		DoubleIterator iterator = new FilteredDoubleArrayIterable(iterable, EVEN, 3).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(6, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(8, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(10, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(8, iterator.previousDouble(), 0);
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(6, iterator.previousDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(8, iterator.nextDouble(), 0);
+
+	}
+
+	@Test
+	public void iterator_blocks() {
+
+		double[] array = new double[100];
+		List<Double> expected = new ArrayList<Double>();
+		for (int i = 0; i < array.length; i++) {
+			array[i] = i * 7 % 100;
+			if (0 == array[i] % 2) {
+				expected.add(array[i]);
+			}
+		}
+
+		for (int blockSize = 1; blockSize <= 101; blockSize += 4) {
+			DoubleArrayIterable iterable = new DoubleArrayIterable(array);
+			DoubleIterator iterator = new FilteredDoubleArrayIterable(iterable, EVEN, blockSize).iterator();
+
+			List<Double> forwards = new ArrayList<Double>();
+			while (iterator.hasNext()) {
+				forwards.add(iterator.nextDouble());
+			}
+			List<Double> backwards = new ArrayList<Double>();
+			backwards.add(forwards.get(forwards.size() - 1));
+			while (iterator.hasPrevious()) {
+				backwards.add(iterator.previousDouble());
+			}
+			Collections.reverse(backwards);
+
+			Assert.assertEquals(expected, forwards);
+			Assert.assertEquals(expected, backwards);
+		}
+
+	}
+
+	@Test
+	public void iterator_sparse() {
+
+		double[] array = new double[50];
+		array[3] = 1;
+		array[41] = 1;
+		DoublePredicate predicate = new DoublePredicate() {
+			@Override
+			public boolean test(double value) {
+				return 0 != value;
+			}
+		};
+		DoubleIterator iterator = new FilteredDoubleArrayIterable(new DoubleArrayIterable(array), predicate, 4)
+				.iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1, iterator.previousDouble(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertTrue(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_slice() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1, 2, 3, 4, 5, 6, 7, 8).slice(2, 7);
+		List<Double> values = new ArrayList<Double>();
+		for (Double value : iterable.filtered(EVEN)) {
+			values.add(value);
+		}
+
+		Assert.assertEquals(Arrays.asList(4d, 6d), values);
+
+	}
+
+	@Test
+	public void iterator_inverted() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1, 2, 3, 4, 5, 6, 7);
+		List<Double> values = new ArrayList<Double>();
+		for (Double value : iterable.filtered(EVEN, true)) {
+			values.add(value);
+		}
+
+		Assert.assertEquals(Arrays.asList(1d, 3d, 5d, 7d), values);
+
+	}
+
+	@Test
+	public void iterator_noValues() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1, 2, 3, 4, 5);
+		DoubleIterator iterator = new FilteredDoubleArrayIterable(iterable, NONE, 2).iterator();
+
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterator_nextAfterLast() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1, 2, 3);
+
+		new FilteredDoubleArrayIterable(iterable, NONE).iterator().nextDouble();
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterator_previousBeforeFirst() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1, 2, 3);
+
+		new FilteredDoubleArrayIterable(iterable, EVEN).iterator().previousDouble();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void iterator_remove() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1, 2, 3);
+		DoubleIterator iterator = new FilteredDoubleArrayIterable(iterable, EVEN).iterator();
+		iterator.next();
+
+		iterator.remove();
+
+	}
+
+	@Test
+	public void count() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1, 2, 3, 4, 5, 6, 7);
+
+		Assert.assertEquals(3, new FilteredDoubleArrayIterable(iterable, EVEN).count());
+
+	}
+
+	@Test
+	public void count_inverted() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1, 2, 3, 4, 5, 6, 7);
+
+		Assert.assertEquals(4, new FilteredDoubleArrayIterable(iterable, EVEN, true, 2).count());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1, 2, 3, 4, 5, 6, 7);
+		final List<Double> values = new ArrayList<Double>();
+		new FilteredDoubleArrayIterable(iterable, EVEN, 2).handleEach(new Handler<Double>() {
+			@Override
+			public void handle(Double value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.asList(2d, 4d, 6d), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new FilteredDoubleArrayIterable(new DoubleArrayIterable(new double[0]), EVEN).handleEach((Handler<Double>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		DoubleArrayIterable iterable = new DoubleArrayIterable(1, 2, 3, 4, 5, 6, 7);
+		final List<Double> values = new ArrayList<Double>();
+		new FilteredDoubleArrayIterable(iterable, EVEN, 2).handleEach(new DoubleHandler() {
+			@Override
+			public void handle(double value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.asList(2d, 4d, 6d), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new FilteredDoubleArrayIterable(new DoubleArrayIterable(new double[0]), EVEN).handleEach((DoubleHandler) null);
+
+	}
+
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class FilteredIntegerArrayIterableTests {
+
+	private static final IntegerPredicate EVEN = new IntegerPredicate() {
+		@Override
+		public boolean test(int value) {
+			return 0 == value % 2;
+		}
+	};
+
+	private static final IntegerPredicate NONE = new IntegerPredicate() {
+		@Override
+		public boolean test(int value) {
+			return false;
+		}
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new FilteredIntegerArrayIterable(null, EVEN);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPredicate() {
+
+		new FilteredIntegerArrayIterable(new IntegerArrayIterable(new int[0]), null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveBlockSize() {
+
+		new FilteredIntegerArrayIterable(new IntegerArrayIterable(new int[0]), EVEN, 0);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Integer> iterable = new FilteredIntegerArrayIterable(new IntegerArrayIterable(new int[0]), EVEN);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Integer> iterable = new FilteredIntegerArrayIterable(new IntegerArrayIterable(new int[0]), EVEN);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		IntegerIterator iterator = new FilteredIntegerArrayIterable(iterable, EVEN, 3).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(6, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(8, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(10, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(8, iterator.previousInt());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(6, iterator.previousInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(8, iterator.nextInt());
+
+	}
+
+	@Test
+	public void iterator_blocks() {
+
+		int[] array = new int[100];
+		List<Integer> expected = new ArrayList<Integer>();
+		for (int i = 0; i < array.length; i++) {
+			array[i] = i * 7 % 100;
+			if (0 == array[i] % 2) {
+				expected.add(array[i]);
+			}
+		}
+
+		for (int blockSize = 1; blockSize <= 101; blockSize += 4) {
+			IntegerArrayIterable iterable = new IntegerArrayIterable(array);
+			IntegerIterator iterator = new FilteredIntegerArrayIterable(iterable, EVEN, blockSize).iterator();
+
+			List<Integer> forwards = new ArrayList<Integer>();
+			while (iterator.hasNext()) {
+				forwards.add(iterator.nextInt());
+			}
+			List<Integer> backwards = new ArrayList<Integer>();
+			backwards.add(forwards.get(forwards.size() - 1));
+			while (iterator.hasPrevious()) {
+				backwards.add(iterator.previousInt());
+			}
+			Collections.reverse(backwards);
+
+			Assert.assertEquals(expected, forwards);
+			Assert.assertEquals(expected, backwards);
+		}
+
+	}
+
+	@Test
+	public void iterator_sparse() {
+
+		int[] array = new int[50];
+		array[3] = 1;
+		array[41] = 1;
+		IntegerPredicate predicate = new IntegerPredicate() {
+			@Override
+			public boolean test(int value) {
+				return 0 != value;
+			}
+		};
+		IntegerIterator iterator = new FilteredIntegerArrayIterable(new IntegerArrayIterable(array), predicate, 4)
+				.iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInt());
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1, iterator.previousInt());
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertTrue(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_slice() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3, 4, 5, 6, 7, 8).slice(2, 7);
+		List<Integer> values = new ArrayList<Integer>();
+		for (Integer value : iterable.filtered(EVEN)) {
+			values.add(value);
+		}
+
+		Assert.assertEquals(Arrays.asList(4, 6), values);
+
+	}
+
+	@Test
+	public void iterator_inverted() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3, 4, 5, 6, 7);
+		IntegerHashSet denied = new IntegerHashSet(new int[] { 2, 3, 5 });
+		List<Integer> values = new ArrayList<Integer>();
+		for (Integer value : iterable.filtered(denied, true)) {
+			values.add(value);
+		}
+
+		Assert.assertEquals(Arrays.asList(1, 4, 6, 7), values);
+
+	}
+
+	@Test
+	public void iterator_noValues() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3, 4, 5);
+		IntegerIterator iterator = new FilteredIntegerArrayIterable(iterable, NONE, 2).iterator();
+
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterator_nextAfterLast() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3);
+
+		new FilteredIntegerArrayIterable(iterable, NONE).iterator().nextInt();
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterator_previousBeforeFirst() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3);
+
+		new FilteredIntegerArrayIterable(iterable, EVEN).iterator().previousInt();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void iterator_remove() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3);
+		IntegerIterator iterator = new FilteredIntegerArrayIterable(iterable, EVEN).iterator();
+		iterator.next();
+
+		iterator.remove();
+
+	}
+
+	@Test
+	public void count() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3, 4, 5, 6, 7);
+
+		Assert.assertEquals(3, new FilteredIntegerArrayIterable(iterable, EVEN).count());
+
+	}
+
+	@Test
+	public void count_inverted() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3, 4, 5, 6, 7);
+
+		Assert.assertEquals(4, new FilteredIntegerArrayIterable(iterable, EVEN, true, 2).count());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3, 4, 5, 6, 7);
+		final List<Integer> values = new ArrayList<Integer>();
+		new FilteredIntegerArrayIterable(iterable, EVEN, 2).handleEach(new Handler<Integer>() {
+			@Override
+			public void handle(Integer value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.asList(2, 4, 6), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new FilteredIntegerArrayIterable(new IntegerArrayIterable(new int[0]), EVEN).handleEach((Handler<Integer>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3, 4, 5, 6, 7);
+		final List<Integer> values = new ArrayList<Integer>();
+		new FilteredIntegerArrayIterable(iterable, EVEN, 2).handleEach(new IntegerHandler() {
+			@Override
+			public void handle(int value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.asList(2, 4, 6), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new FilteredIntegerArrayIterable(new IntegerArrayIterable(new int[0]), EVEN).handleEach((IntegerHandler) null);
+
+	}
+
+}
@@ -21,6 +21,10 @@
  */
 package net.markenwerk.commons.iterables;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -69,4 +73,76 @@ public class FilteredIterableTests {
 		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
 
 	}
+
+	@Test
+	public void iterator_nested() {
+
+		List<Integer> values = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+		CountingPredicate even = new CountingPredicate(2);
+		CountingPredicate divisibleByThree = new CountingPredicate(3);
+		CountingPredicate divisibleByFour = new CountingPredicate(4);
+		Iterable<Integer> iterable = new FilteredIterable<Integer>(new FilteredIterable<Integer>(
+				new FilteredIterable<Integer>(values, even), divisibleByThree, true), divisibleByFour);
+
+		Assert.assertEquals(Arrays.asList(4, 8), toList(iterable));
+		Assert.assertEquals(12, even.count);
+		Assert.assertEquals(6, divisibleByThree.count);
+		Assert.assertEquals(4, divisibleByFour.count);
+
+	}
+
+	@Test
+	public void iterator_nestedInverted() {
+
+		List<Integer> values = Arrays.asList(1, 2, 3, 4, 5, 6);
+		Iterable<Integer> inner = new FilteredIterable<Integer>(values, new CountingPredicate(2), true);
+		Iterable<Integer> outer = new FilteredIterable<Integer>(inner, new CountingPredicate(3), true);
+
+		Assert.assertEquals(Arrays.asList(1, 5), toList(outer));
+		Assert.assertEquals(Arrays.asList(1, 3, 5), toList(inner));
+
+	}
+
+	@Test
+	public void iterator_nestedSubtype() {
+
+		List<Integer> values = Arrays.asList(1, 2, 3);
+		Iterable<Integer> inner = new FilteredIterable<Integer>(values, new CountingPredicate(2), true);
+		Iterable<Number> outer = new FilteredIterable<Number>(inner, new Predicate<Number>() {
+			@Override
+			public boolean test(Number number) {
+				return number.intValue() > 1;
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Number> asList(3), toList(outer));
+
+	}
+
+	private static <Payload> List<Payload> toList(Iterable<Payload> iterable) {
+		List<Payload> list = new ArrayList<Payload>();
+		for (Payload value : iterable) {
+			list.add(value);
+		}
+		return list;
+	}
+
+	private static final class CountingPredicate implements Predicate<Integer> {
+
+		private final int divisor;
+
+		private int count;
+
+		public CountingPredicate(int divisor) {
+			this.divisor = divisor;
+		}
+
+		@Override
+		public boolean test(Integer value) {
+			count++;
+			return 0 == value % divisor;
+		}
+
+	}
+
 }
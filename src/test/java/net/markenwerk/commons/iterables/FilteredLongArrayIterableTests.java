@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class FilteredLongArrayIterableTests {
+
+	private static final LongPredicate EVEN = new LongPredicate() {
+		@Override
+		public boolean test(long value) {
+			return 0 == value % 2;
+		}
+	};
+
+	private static final LongPredicate NONE = new LongPredicate() {
+		@Override
+		public boolean test(long value) {
+			return false;
+		}
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new FilteredLongArrayIterable(null, EVEN);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPredicate() {
+
+		new FilteredLongArrayIterable(new LongArrayIterable(new long[0]), null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveBlockSize() {
+
+		new FilteredLongArrayIterable(new LongArrayIterable(new long[0]), EVEN, 0);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Long> iterable = new FilteredLongArrayIterable(new LongArrayIterable(new long[0]), EVEN);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Long> iterable = new FilteredLongArrayIterable(new LongArrayIterable(new long[0]), EVEN);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		LongIterator iterator = new FilteredLongArrayIterable(iterable, EVEN, 3).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(6, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(8, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(10, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(8, iterator.previousLong());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(6, iterator.previousLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(8, iterator.nextLong());
+
+	}
+
+	@Test
+	public void iterator_blocks() {
+
+		long[] array = new long[100];
+		List<Long> expected = new ArrayList<Long>();
+		for (int i = 0; i < array.length; i++) {
+			array[i] = i * 7L % 100;
+			if (0 == array[i] % 2) {
+				expected.add(array[i]);
+			}
+		}
+
+		for (int blockSize = 1; blockSize <= 101; blockSize += 4) {
+			LongArrayIterable iterable = new LongArrayIterable(array);
+			LongIterator iterator = new FilteredLongArrayIterable(iterable, EVEN, blockSize).iterator();
+
+			List<Long> forwards = new ArrayList<Long>();
+			while (iterator.hasNext()) {
+				forwards.add(iterator.nextLong());
+			}
+			List<Long> backwards = new ArrayList<Long>();
+			backwards.add(forwards.get(forwards.size() - 1));
+			while (iterator.hasPrevious()) {
+				backwards.add(iterator.previousLong());
+			}
+			Collections.reverse(backwards);
+
+			Assert.assertEquals(expected, forwards);
+			Assert.assertEquals(expected, backwards);
+		}
+
+	}
+
+	@Test
+	public void iterator_sparse() {
+
+		long[] array = new long[50];
+		array[3] = 1;
+		array[41] = 1;
+		LongPredicate predicate = new LongPredicate() {
+			@Override
+			public boolean test(long value) {
+				return 0 != value;
+			}
+		};
+		LongIterator iterator = new FilteredLongArrayIterable(new LongArrayIterable(array), predicate, 4)
+				.iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextLong());
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1, iterator.previousLong());
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertTrue(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_slice() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1, 2, 3, 4, 5, 6, 7, 8).slice(2, 7);
+		List<Long> values = new ArrayList<Long>();
+		for (Long value : iterable.filtered(EVEN)) {
+			values.add(value);
+		}
+
+		Assert.assertEquals(Arrays.asList(4L, 6L), values);
+
+	}
+
+	@Test
+	public void iterator_inverted() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1, 2, 3, 4, 5, 6, 7);
+		LongHashSet denied = new LongHashSet(new long[] { 2, 3, 5 });
+		List<Long> values = new ArrayList<Long>();
+		for (Long value : iterable.filtered(denied, true)) {
+			values.add(value);
+		}
+
+		Assert.assertEquals(Arrays.asList(1L, 4L, 6L, 7L), values);
+
+	}
+
+	@Test
+	public void iterator_noValues() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1, 2, 3, 4, 5);
+		LongIterator iterator = new FilteredLongArrayIterable(iterable, NONE, 2).iterator();
+
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterator_nextAfterLast() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1, 2, 3);
+
+		new FilteredLongArrayIterable(iterable, NONE).iterator().nextLong();
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterator_previousBeforeFirst() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1, 2, 3);
+
+		new FilteredLongArrayIterable(iterable, EVEN).iterator().previousLong();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void iterator_remove() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1, 2, 3);
+		LongIterator iterator = new FilteredLongArrayIterable(iterable, EVEN).iterator();
+		iterator.next();
+
+		iterator.remove();
+
+	}
+
+	@Test
+	public void count() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1, 2, 3, 4, 5, 6, 7);
+
+		Assert.assertEquals(3, new FilteredLongArrayIterable(iterable, EVEN).count());
+
+	}
+
+	@Test
+	public void count_inverted() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1, 2, 3, 4, 5, 6, 7);
+
+		Assert.assertEquals(4, new FilteredLongArrayIterable(iterable, EVEN, true, 2).count());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1, 2, 3, 4, 5, 6, 7);
+		final List<Long> values = new ArrayList<Long>();
+		new FilteredLongArrayIterable(iterable, EVEN, 2).handleEach(new Handler<Long>() {
+			@Override
+			public void handle(Long value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.asList(2L, 4L, 6L), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new FilteredLongArrayIterable(new LongArrayIterable(new long[0]), EVEN).handleEach((Handler<Long>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1, 2, 3, 4, 5, 6, 7);
+		final List<Long> values = new ArrayList<Long>();
+		new FilteredLongArrayIterable(iterable, EVEN, 2).handleEach(new LongHandler() {
+			@Override
+			public void handle(long value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.asList(2L, 4L, 6L), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new FilteredLongArrayIterable(new LongArrayIterable(new long[0]), EVEN).handleEach((LongHandler) null);
+
+	}
+
+}
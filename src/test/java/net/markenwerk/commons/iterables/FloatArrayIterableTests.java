@@ -21,9 +21,16 @@
  */
 package net.markenwerk.commons.iterables;
 
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
 import org.junit.Assert;
 import org.junit.Test;
 
+import net.markenwerk.commons.interfaces.Handler;
+
 @SuppressWarnings("javadoc")
 public class FloatArrayIterableTests {
 
@@ -51,4 +58,267 @@ public class FloatArrayIterableTests {
 		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
 
 	}
+
+	@Test
+	public void primitiveIterator() {
+
+		FloatIterator iterator = new FloatArrayIterable(1f, 2f).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1f, iterator.nextFloat(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2f, iterator.nextFloat(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1f, iterator.previousFloat(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		FloatIterable iterable = new FloatArrayIterable(new float[0]);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Float> values = new LinkedList<Float>();
+		new FloatArrayIterable(1f, 2f).handleEach(new Handler<Float>() {
+			@Override
+			public void handle(Float value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Float> asList(1f, 2f), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new FloatArrayIterable(new float[0]).handleEach((Handler<Float>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Float> values = new LinkedList<Float>();
+		new FloatArrayIterable(1f, 2f).handleEach(new FloatHandler() {
+			@Override
+			public void handle(float value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Float> asList(1f, 2f), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new FloatArrayIterable(new float[0]).handleEach((FloatHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new FloatArrayIterable(new float[2], -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLength() {
+
+		new FloatArrayIterable(new float[2], 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new FloatArrayIterable(new float[2], 2, 1);
+
+	}
+
+	@Test
+	public void iterator_range() {
+
+		float[] array = new float[] { 1f, 2f, 3f, 4f };
+		FloatIterator iterator = new FloatArrayIterable(array, 1, 3).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2f, iterator.nextFloat(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3f, iterator.nextFloat(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(2f, iterator.previousFloat(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void slice() {
+
+		FloatArrayIterable iterable = new FloatArrayIterable(1f, 2f, 3f, 4f);
+		FloatArrayIterable slice = iterable.slice(1, 4).slice(1, 2);
+		FloatIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3f, iterator.nextFloat(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new FloatArrayIterable(1f, 2f, 3f, 4f).slice(1, 3).slice(0, 3);
+
+	}
+
+	@Test
+	public void sum() {
+
+		FloatArrayIterable iterable = new FloatArrayIterable(1f, 2f, 3f, 4f, 5f, 6f, 7f);
+
+		Assert.assertEquals(28d, iterable.sum(), 0);
+
+	}
+
+	@Test
+	public void sum_empty() {
+
+		Assert.assertEquals(0d, new FloatArrayIterable(new float[0]).sum(), 0);
+
+	}
+
+	@Test
+	public void sum_range() {
+
+		FloatArrayIterable iterable = new FloatArrayIterable(1f, 2f, 3f, 4f, 5f, 6f, 7f).slice(1, 6);
+
+		Assert.assertEquals(20d, iterable.sum(), 0);
+
+	}
+
+	@Test
+	public void min_nan() {
+
+		FloatArrayIterable iterable = new FloatArrayIterable(1f, Float.NaN, 2f);
+
+		Assert.assertTrue(Float.isNaN(iterable.min()));
+
+	}
+
+	@Test
+	public void min() {
+
+		FloatArrayIterable iterable = new FloatArrayIterable(4f, 6f, 2f, 7f, 3f, 5f, 1f).slice(0, 6);
+
+		Assert.assertEquals(2f, iterable.min(), 0);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void min_empty() {
+
+		new FloatArrayIterable(new float[0]).min();
+
+	}
+
+	@Test
+	public void max() {
+
+		FloatArrayIterable iterable = new FloatArrayIterable(4f, 6f, 2f, 1f, 3f, 7f, 5f).slice(1, 7);
+
+		Assert.assertEquals(7f, iterable.max(), 0);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void max_empty() {
+
+		new FloatArrayIterable(new float[0]).max();
+
+	}
+
+	@Test
+	public void dot() {
+
+		FloatArrayIterable iterable = new FloatArrayIterable(1f, 2f, 3f, 4f, 5f);
+		FloatArrayIterable other = new FloatArrayIterable(0f, 5f, 4f, 3f, 2f, 1f).slice(1, 6);
+
+		Assert.assertEquals(35d, iterable.dot(other), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void dot_nullIterable() {
+
+		new FloatArrayIterable(new float[0]).dot(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void dot_differentSize() {
+
+		new FloatArrayIterable(new float[2]).dot(new FloatArrayIterable(new float[3]));
+
+	}
+
+	@Test
+	public void strided() {
+
+		FloatArrayIterable iterable = new FloatArrayIterable(1f, 2f, 3f, 4f, 5f, 6f);
+		StridedFloatArrayIterable strided = iterable.slice(1, 6).strided(1, 2);
+		FloatIterator iterator = strided.iterator();
+
+		Assert.assertEquals(2, strided.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3f, iterator.nextFloat(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(5f, iterator.nextFloat(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void strided_offsetEqualToSize() {
+
+		Assert.assertEquals(0, new FloatArrayIterable(1f, 2f).strided(2, 1).size());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_negativeOffset() {
+
+		new FloatArrayIterable(1f, 2f).slice(1, 2).strided(-1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_offsetLargerThanSize() {
+
+		new FloatArrayIterable(1f, 2f).strided(3, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_nonPositiveStride() {
+
+		new FloatArrayIterable(1f, 2f).strided(0, 0);
+
+	}
+
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class FloatBufferIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullBuffer() {
+
+		new FloatBufferIterable(null);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Float> iterable = new FloatBufferIterable(FloatBuffer.allocate(0));
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Float> iterable = new FloatBufferIterable(FloatBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		FloatBuffer buffer = FloatBuffer.wrap(new float[] { 1f, 2f, 3f, 4f });
+		buffer.position(1);
+		buffer.limit(3);
+		FloatIterator iterator = new FloatBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2f, iterator.nextFloat(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3f, iterator.nextFloat(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(2f, iterator.previousFloat(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		FloatIterable iterable = new FloatBufferIterable(FloatBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_directBuffer() {
+
+		FloatBuffer buffer = ByteBuffer.allocateDirect(8).asFloatBuffer();
+		buffer.put(0, 1f);
+		buffer.put(1, 2f);
+		FloatIterator iterator = new FloatBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1f, iterator.nextFloat(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2f, iterator.nextFloat(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_positionUnchanged() {
+
+		FloatBuffer buffer = FloatBuffer.wrap(new float[] { 1f, 2f, 3f, 4f });
+		FloatIterator iterator = new FloatBufferIterable(buffer).primitiveIterator();
+		iterator.nextFloat();
+
+		Assert.assertEquals(0, buffer.position());
+
+	}
+
+	@Test
+	public void primitiveIterator_bufferChangedAfterCreation() {
+
+		FloatBuffer buffer = FloatBuffer.wrap(new float[] { 1f, 2f, 3f, 4f });
+		buffer.position(1);
+		FloatBufferIterable iterable = new FloatBufferIterable(buffer);
+		buffer.clear();
+		buffer.limit(1);
+		FloatIterator iterator = iterable.slice(1, 3).primitiveIterator();
+
+		Assert.assertEquals(3, iterable.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3f, iterator.nextFloat(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4f, iterator.nextFloat(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Float> values = new LinkedList<Float>();
+		new FloatBufferIterable(FloatBuffer.wrap(new float[] { 1f, 2f })).handleEach(new Handler<Float>() {
+			@Override
+			public void handle(Float value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Float> asList(1f, 2f), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new FloatBufferIterable(FloatBuffer.allocate(0)).handleEach((Handler<Float>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Float> values = new LinkedList<Float>();
+		new FloatBufferIterable(FloatBuffer.wrap(new float[] { 1f, 2f })).handleEach(new FloatHandler() {
+			@Override
+			public void handle(float value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Float> asList(1f, 2f), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new FloatBufferIterable(FloatBuffer.allocate(0)).handleEach((FloatHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new FloatBufferIterable(FloatBuffer.allocate(2), -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLimit() {
+
+		FloatBuffer buffer = FloatBuffer.allocate(4);
+		buffer.limit(2);
+
+		new FloatBufferIterable(buffer, 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new FloatBufferIterable(FloatBuffer.allocate(2), 2, 1);
+
+	}
+
+	@Test
+	public void slice() {
+
+		FloatBuffer buffer = FloatBuffer.wrap(new float[] { 1f, 2f, 3f, 4f });
+		FloatBufferIterable slice = new FloatBufferIterable(buffer).slice(1, 4).slice(1, 2);
+		FloatIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3f, iterator.nextFloat(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new FloatBufferIterable(FloatBuffer.allocate(4)).slice(1, 3).slice(0, 3);
+
+	}
+
+}
@@ -21,9 +21,16 @@
  */
 package net.markenwerk.commons.iterables;
 
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
 import org.junit.Assert;
 import org.junit.Test;
 
+import net.markenwerk.commons.interfaces.Handler;
+
 @SuppressWarnings("javadoc")
 public class IntegerArrayIterableTests {
 
@@ -52,4 +59,312 @@ public class IntegerArrayIterableTests {
 
 	}
 
+	@Test
+	public void primitiveIterator() {
+
+		IntegerIterator iterator = new IntegerArrayIterable(1, 2).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1, iterator.previousInt());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		IntegerIterable iterable = new IntegerArrayIterable(new int[0]);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Integer> values = new LinkedList<Integer>();
+		new IntegerArrayIterable(1, 2).handleEach(new Handler<Integer>() {
+			@Override
+			public void handle(Integer value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Integer> asList(1, 2), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new IntegerArrayIterable(new int[0]).handleEach((Handler<Integer>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Integer> values = new LinkedList<Integer>();
+		new IntegerArrayIterable(1, 2).handleEach(new IntegerHandler() {
+			@Override
+			public void handle(int value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Integer> asList(1, 2), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new IntegerArrayIterable(new int[0]).handleEach((IntegerHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new IntegerArrayIterable(new int[2], -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLength() {
+
+		new IntegerArrayIterable(new int[2], 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new IntegerArrayIterable(new int[2], 2, 1);
+
+	}
+
+	@Test
+	public void iterator_range() {
+
+		int[] array = new int[] { 1, 2, 3, 4 };
+		IntegerIterator iterator = new IntegerArrayIterable(array, 1, 3).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(2, iterator.previousInt());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void slice() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3, 4);
+		IntegerArrayIterable slice = iterable.slice(1, 4).slice(1, 2);
+		IntegerIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new IntegerArrayIterable(1, 2, 3, 4).slice(1, 3).slice(0, 3);
+
+	}
+
+	@Test
+	public void sum() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3, 4, 5, 6, 7);
+
+		Assert.assertEquals(28L, iterable.sum());
+
+	}
+
+	@Test
+	public void sum_empty() {
+
+		Assert.assertEquals(0L, new IntegerArrayIterable(new int[0]).sum());
+
+	}
+
+	@Test
+	public void sum_range() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3, 4, 5, 6, 7).slice(1, 6);
+
+		Assert.assertEquals(20L, iterable.sum());
+
+	}
+
+	@Test
+	public void sum_noOverflow() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+		Assert.assertEquals(2L * Integer.MAX_VALUE, iterable.sum());
+
+	}
+
+	@Test
+	public void min() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(4, 6, 2, 7, 3, 5, 1).slice(0, 6);
+
+		Assert.assertEquals(2, iterable.min());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void min_empty() {
+
+		new IntegerArrayIterable(new int[0]).min();
+
+	}
+
+	@Test
+	public void max() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(4, 6, 2, 1, 3, 7, 5).slice(1, 7);
+
+		Assert.assertEquals(7, iterable.max());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void max_empty() {
+
+		new IntegerArrayIterable(new int[0]).max();
+
+	}
+
+	@Test
+	public void dot() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3, 4, 5);
+		IntegerArrayIterable other = new IntegerArrayIterable(0, 5, 4, 3, 2, 1).slice(1, 6);
+
+		Assert.assertEquals(35L, iterable.dot(other));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void dot_nullIterable() {
+
+		new IntegerArrayIterable(new int[0]).dot(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void dot_differentSize() {
+
+		new IntegerArrayIterable(new int[2]).dot(new IntegerArrayIterable(new int[3]));
+
+	}
+
+	@Test
+	public void strided() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(1, 2, 3, 4, 5, 6);
+		StridedIntegerArrayIterable strided = iterable.slice(1, 6).strided(1, 2);
+		IntegerIterator iterator = strided.iterator();
+
+		Assert.assertEquals(2, strided.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(5, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void strided_offsetEqualToSize() {
+
+		Assert.assertEquals(0, new IntegerArrayIterable(1, 2).strided(2, 1).size());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_negativeOffset() {
+
+		new IntegerArrayIterable(1, 2).slice(1, 2).strided(-1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_offsetLargerThanSize() {
+
+		new IntegerArrayIterable(1, 2).strided(3, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_nonPositiveStride() {
+
+		new IntegerArrayIterable(1, 2).strided(0, 0);
+
+	}
+
+	@Test
+	public void iterator_skip() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(0, 1, 2, 3, 4).slice(1, 5);
+		SkippableIterator<?> iterator = (SkippableIterator<?>) iterable.iterator();
+
+		Assert.assertEquals(2, iterator.skip(2));
+		Assert.assertEquals(3, iterator.next());
+		Assert.assertEquals(1, iterator.skip(2));
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(0, iterator.skip(1));
+
+	}
+
+	@Test
+	public void iterator_seek() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(0, 1, 2, 3, 4).slice(1, 5);
+		IntegerIterator iterator = iterable.iterator();
+		SkippableIterator<?> skippable = (SkippableIterator<?>) iterator;
+
+		skippable.seek(3);
+		Assert.assertEquals(4, iterator.nextInt());
+		Assert.assertEquals(3, iterator.previousInt());
+		skippable.seek(0);
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertEquals(1, iterator.nextInt());
+		skippable.seek(4);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void iterator_seekBeyondSize() {
+
+		((SkippableIterator<?>) new IntegerArrayIterable(0, 1, 2).slice(1, 3).iterator()).seek(3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void iterator_skipNegative() {
+
+		((SkippableIterator<?>) new IntegerArrayIterable(0, 1, 2).iterator()).skip(-1);
+
+	}
+
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class IntegerBufferIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullBuffer() {
+
+		new IntegerBufferIterable(null);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Integer> iterable = new IntegerBufferIterable(IntBuffer.allocate(0));
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Integer> iterable = new IntegerBufferIterable(IntBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		IntBuffer buffer = IntBuffer.wrap(new int[] { 1, 2, 3, 4 });
+		buffer.position(1);
+		buffer.limit(3);
+		IntegerIterator iterator = new IntegerBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(2, iterator.previousInt());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		IntegerIterable iterable = new IntegerBufferIterable(IntBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_directBuffer() {
+
+		IntBuffer buffer = ByteBuffer.allocateDirect(8).asIntBuffer();
+		buffer.put(0, 1);
+		buffer.put(1, 2);
+		IntegerIterator iterator = new IntegerBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_positionUnchanged() {
+
+		IntBuffer buffer = IntBuffer.wrap(new int[] { 1, 2, 3, 4 });
+		IntegerIterator iterator = new IntegerBufferIterable(buffer).primitiveIterator();
+		iterator.nextInt();
+
+		Assert.assertEquals(0, buffer.position());
+
+	}
+
+	@Test
+	public void primitiveIterator_bufferChangedAfterCreation() {
+
+		IntBuffer buffer = IntBuffer.wrap(new int[] { 1, 2, 3, 4 });
+		buffer.position(1);
+		IntegerBufferIterable iterable = new IntegerBufferIterable(buffer);
+		buffer.clear();
+		buffer.limit(1);
+		IntegerIterator iterator = iterable.slice(1, 3).primitiveIterator();
+
+		Assert.assertEquals(3, iterable.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Integer> values = new LinkedList<Integer>();
+		new IntegerBufferIterable(IntBuffer.wrap(new int[] { 1, 2 })).handleEach(new Handler<Integer>() {
+			@Override
+			public void handle(Integer value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Integer> asList(1, 2), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new IntegerBufferIterable(IntBuffer.allocate(0)).handleEach((Handler<Integer>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Integer> values = new LinkedList<Integer>();
+		new IntegerBufferIterable(IntBuffer.wrap(new int[] { 1, 2 })).handleEach(new IntegerHandler() {
+			@Override
+			public void handle(int value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Integer> asList(1, 2), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new IntegerBufferIterable(IntBuffer.allocate(0)).handleEach((IntegerHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new IntegerBufferIterable(IntBuffer.allocate(2), -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLimit() {
+
+		IntBuffer buffer = IntBuffer.allocate(4);
+		buffer.limit(2);
+
+		new IntegerBufferIterable(buffer, 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new IntegerBufferIterable(IntBuffer.allocate(2), 2, 1);
+
+	}
+
+	@Test
+	public void slice() {
+
+		IntBuffer buffer = IntBuffer.wrap(new int[] { 1, 2, 3, 4 });
+		IntegerBufferIterable slice = new IntegerBufferIterable(buffer).slice(1, 4).slice(1, 2);
+		IntegerIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new IntegerBufferIterable(IntBuffer.allocate(4)).slice(1, 3).slice(0, 3);
+
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class IntegerFileIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullFile() throws IOException {
+
+		new IntegerFileIterable(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullOrder() throws IOException {
+
+		new IntegerFileIterable(createFile(ByteOrder.BIG_ENDIAN), null);
+
+	}
+
+	@Test
+	public void iterator() throws IOException {
+
+		Iterable<Integer> iterable = new IntegerFileIterable(createFile(ByteOrder.BIG_ENDIAN));
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() throws IOException {
+
+		Iterable<Integer> iterable = new IntegerFileIterable(createFile(ByteOrder.BIG_ENDIAN));
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() throws IOException {
+
+		File file = createFile(ByteOrder.BIG_ENDIAN, 1, 2);
+		IntegerIterator iterator = new IntegerFileIterable(file).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1, iterator.previousInt());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() throws IOException {
+
+		IntegerIterable iterable = new IntegerFileIterable(createFile(ByteOrder.BIG_ENDIAN));
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_littleEndian() throws IOException {
+
+		File file = createFile(ByteOrder.LITTLE_ENDIAN, 1, 2);
+		IntegerIterator iterator = new IntegerFileIterable(file, ByteOrder.LITTLE_ENDIAN).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_multipleRegions() throws IOException {
+
+		File file = createFile(ByteOrder.BIG_ENDIAN, 1, 2, 3, 4, 5);
+		IntegerIterator iterator = new IntegerFileIterable(file, ByteOrder.BIG_ENDIAN, 9).primitiveIterator();
+
+		Assert.assertEquals(1, iterator.nextInt());
+		Assert.assertEquals(2, iterator.nextInt());
+		Assert.assertEquals(3, iterator.nextInt());
+		Assert.assertEquals(4, iterator.nextInt());
+		Assert.assertEquals(5, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(4, iterator.previousInt());
+		Assert.assertEquals(3, iterator.previousInt());
+		Assert.assertEquals(2, iterator.previousInt());
+		Assert.assertEquals(1, iterator.previousInt());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void size() throws IOException {
+
+		File file = createFile(ByteOrder.BIG_ENDIAN, 1, 2);
+		OutputStream out = new FileOutputStream(file, true);
+		out.write(new byte[3]);
+		out.close();
+
+		Assert.assertEquals(2, new IntegerFileIterable(file).size());
+
+	}
+
+	private static File createFile(ByteOrder order, int... values) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(values.length * 4).order(order);
+		for (int value : values) {
+			buffer.putInt(value);
+		}
+		File file = File.createTempFile("IntegerFileIterableTests", null);
+		file.deleteOnExit();
+		OutputStream out = new FileOutputStream(file);
+		out.write(buffer.array());
+		out.close();
+		return file;
+	}
+
+}
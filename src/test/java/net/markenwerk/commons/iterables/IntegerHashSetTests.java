@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class IntegerHashSetTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeExpectedSize() {
+
+		new IntegerHashSet(-1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullValues() {
+
+		new IntegerHashSet(null);
+
+	}
+
+	@Test
+	public void create_values() {
+
+		IntegerHashSet set = new IntegerHashSet(new int[] { 1, 2, 2, 3 });
+
+		Assert.assertEquals(3, set.size());
+		Assert.assertTrue(set.contains(1));
+		Assert.assertTrue(set.contains(2));
+		Assert.assertTrue(set.contains(3));
+		Assert.assertFalse(set.contains(4));
+
+	}
+
+	@Test
+	public void add() {
+
+		IntegerHashSet set = new IntegerHashSet();
+
+		Assert.assertTrue(set.add(42));
+		Assert.assertFalse(set.add(42));
+		Assert.assertEquals(1, set.size());
+		Assert.assertTrue(set.contains(42));
+
+	}
+
+	@Test
+	public void add_zero() {
+
+		IntegerHashSet set = new IntegerHashSet();
+
+		Assert.assertFalse(set.contains(0));
+		Assert.assertTrue(set.add(0));
+		Assert.assertFalse(set.add(0));
+		Assert.assertEquals(1, set.size());
+		Assert.assertTrue(set.contains(0));
+
+	}
+
+	@Test
+	public void add_extremeValues() {
+
+		IntegerHashSet set = new IntegerHashSet(new int[] { Integer.MIN_VALUE, -1, Integer.MAX_VALUE });
+
+		Assert.assertTrue(set.contains(Integer.MIN_VALUE));
+		Assert.assertTrue(set.contains(-1));
+		Assert.assertTrue(set.contains(Integer.MAX_VALUE));
+		Assert.assertFalse(set.contains(1));
+
+	}
+
+	@Test
+	public void contains_grown() {
+
+		Random random = new Random(42);
+		IntegerHashSet set = new IntegerHashSet();
+		Set<Integer> expected = new HashSet<Integer>();
+		for (int i = 0; i < 100000; i++) {
+			int value = random.nextInt(1000000);
+			Assert.assertEquals(expected.add(value), set.add(value));
+		}
+
+		Assert.assertEquals(expected.size(), set.size());
+		for (int i = 0; i < 1000000; i++) {
+			Assert.assertEquals(expected.contains(i), set.contains(i));
+		}
+
+	}
+
+	@Test
+	public void test() {
+
+		IntegerHashSet set = new IntegerHashSet(new int[] { 1, 2 });
+
+		Assert.assertTrue(set.test(1));
+		Assert.assertFalse(set.test(3));
+
+	}
+
+	@Test
+	public void values() {
+
+		IntegerHashSet set = new IntegerHashSet(new int[] { 0, 1, 2, 3 });
+		int[] values = set.values();
+		Arrays.sort(values);
+
+		Assert.assertArrayEquals(new int[] { 0, 1, 2, 3 }, values);
+
+	}
+
+}
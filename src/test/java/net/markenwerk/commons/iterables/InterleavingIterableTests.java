@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings({ "javadoc", "unchecked" })
+public class InterleavingIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterables() {
+
+		new InterleavingIterable<Object>((Iterable<Object>[]) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new InterleavingIterable<Object>((Iterable<Iterable<Object>>) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullWeights() {
+
+		new InterleavingIterable<Integer>((int[]) null, Arrays.asList(1));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveWeight() {
+
+		new InterleavingIterable<Integer>(new int[] { 1, 0 }, Arrays.asList(1), Arrays.asList(2));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_weightsMismatch() {
+
+		new InterleavingIterable<Integer>(new int[] { 1 }, Arrays.asList(1), Arrays.asList(2));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullWeightsForIterable() {
+
+		new InterleavingIterable<Integer>(null, new ArrayList<List<Integer>>());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterableWithWeights() {
+
+		new InterleavingIterable<Integer>(new int[0], (Iterable<Iterable<Integer>>) null);
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void iterator_weightsMismatchForIterable() {
+
+		List<List<Integer>> lists = new ArrayList<List<Integer>>();
+		lists.add(Arrays.asList(1));
+
+		new InterleavingIterable<Integer>(new int[] { 1, 1 }, lists).iterator();
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Object> iterable = new InterleavingIterable<Object>();
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Object> iterable = new InterleavingIterable<Object>();
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_noIterables() {
+
+		Assert.assertFalse(new InterleavingIterable<Object>().iterator().hasNext());
+		Assert.assertFalse(new InterleavingIterable<Object>(new int[0]).iterator().hasNext());
+
+	}
+
+	@Test
+	public void iterator_roundRobin() {
+
+		Iterable<Integer> iterable = new InterleavingIterable<Integer>(Arrays.asList(1, 4, 6, 8),
+				Collections.<Integer> emptyList(), Arrays.asList(2), Arrays.asList(3, 5, 7));
+
+		Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8), toList(iterable));
+
+	}
+
+	@Test
+	public void iterator_weighted() {
+
+		Iterable<String> iterable = new InterleavingIterable<String>(new int[] { 3, 1 },
+				Arrays.asList("a1", "a2", "a3", "a4", "a5"), Arrays.asList("b1", "b2", "b3"));
+
+		Assert.assertEquals(Arrays.asList("a1", "a2", "a3", "b1", "a4", "a5", "b2", "b3"), toList(iterable));
+
+	}
+
+	@Test
+	public void iterator_iterableOfIterables() {
+
+		List<List<Integer>> lists = new ArrayList<List<Integer>>();
+		lists.add(Arrays.asList(1, 3));
+		lists.add(Arrays.asList(2, 4, 5));
+
+		Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5), toList(new InterleavingIterable<Integer>(lists)));
+
+	}
+
+	@Test
+	public void iterator_weightedIterableOfIterables() {
+
+		List<List<String>> lists = new ArrayList<List<String>>();
+		lists.add(Arrays.asList("a1", "a2", "a3", "a4", "a5"));
+		lists.add(Arrays.asList("b1", "b2", "b3"));
+		Iterable<String> iterable = new InterleavingIterable<String>(new int[] { 3, 1 }, lists);
+
+		Assert.assertEquals(Arrays.asList("a1", "a2", "a3", "b1", "a4", "a5", "b2", "b3"), toList(iterable));
+
+	}
+
+	@Test
+	public void iterator_remove() {
+
+		List<Integer> first = new LinkedList<Integer>(Arrays.asList(1, 3));
+		List<Integer> second = new LinkedList<Integer>(Arrays.asList(2, 4));
+		Iterator<Integer> iterator = new InterleavingIterable<Integer>(first, second).iterator();
+		iterator.next();
+		iterator.next();
+		iterator.hasNext();
+		iterator.remove();
+
+		Assert.assertEquals(Arrays.asList(1, 3), first);
+		Assert.assertEquals(Arrays.asList(4), second);
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void iterator_removeBeforeNext() {
+
+		new InterleavingIterable<Integer>(Arrays.asList(1)).iterator().remove();
+
+	}
+
+	private static <Payload> List<Payload> toList(Iterable<Payload> iterable) {
+		List<Payload> list = new ArrayList<Payload>();
+		for (Payload value : iterable) {
+			list.add(value);
+		}
+		return list;
+	}
+
+}
@@ -21,9 +21,16 @@
  */
 package net.markenwerk.commons.iterables;
 
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
 import org.junit.Assert;
 import org.junit.Test;
 
+import net.markenwerk.commons.interfaces.Handler;
+
 @SuppressWarnings("javadoc")
 public class LongArrayIterableTests {
 
@@ -51,4 +58,258 @@ public class LongArrayIterableTests {
 		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
 
 	}
+
+	@Test
+	public void primitiveIterator() {
+
+		LongIterator iterator = new LongArrayIterable(1L, 2L).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1L, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1L, iterator.previousLong());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		LongIterable iterable = new LongArrayIterable(new long[0]);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Long> values = new LinkedList<Long>();
+		new LongArrayIterable(1L, 2L).handleEach(new Handler<Long>() {
+			@Override
+			public void handle(Long value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Long> asList(1L, 2L), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new LongArrayIterable(new long[0]).handleEach((Handler<Long>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Long> values = new LinkedList<Long>();
+		new LongArrayIterable(1L, 2L).handleEach(new LongHandler() {
+			@Override
+			public void handle(long value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Long> asList(1L, 2L), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new LongArrayIterable(new long[0]).handleEach((LongHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new LongArrayIterable(new long[2], -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLength() {
+
+		new LongArrayIterable(new long[2], 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new LongArrayIterable(new long[2], 2, 1);
+
+	}
+
+	@Test
+	public void iterator_range() {
+
+		long[] array = new long[] { 1L, 2L, 3L, 4L };
+		LongIterator iterator = new LongArrayIterable(array, 1, 3).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2L, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(2L, iterator.previousLong());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void slice() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1L, 2L, 3L, 4L);
+		LongArrayIterable slice = iterable.slice(1, 4).slice(1, 2);
+		LongIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new LongArrayIterable(1L, 2L, 3L, 4L).slice(1, 3).slice(0, 3);
+
+	}
+
+	@Test
+	public void sum() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+
+		Assert.assertEquals(28L, iterable.sum());
+
+	}
+
+	@Test
+	public void sum_empty() {
+
+		Assert.assertEquals(0L, new LongArrayIterable(new long[0]).sum());
+
+	}
+
+	@Test
+	public void sum_range() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1L, 2L, 3L, 4L, 5L, 6L, 7L).slice(1, 6);
+
+		Assert.assertEquals(20L, iterable.sum());
+
+	}
+
+	@Test
+	public void min() {
+
+		LongArrayIterable iterable = new LongArrayIterable(4L, 6L, 2L, 7L, 3L, 5L, 1L).slice(0, 6);
+
+		Assert.assertEquals(2L, iterable.min());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void min_empty() {
+
+		new LongArrayIterable(new long[0]).min();
+
+	}
+
+	@Test
+	public void max() {
+
+		LongArrayIterable iterable = new LongArrayIterable(4L, 6L, 2L, 1L, 3L, 7L, 5L).slice(1, 7);
+
+		Assert.assertEquals(7L, iterable.max());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void max_empty() {
+
+		new LongArrayIterable(new long[0]).max();
+
+	}
+
+	@Test
+	public void dot() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1L, 2L, 3L, 4L, 5L);
+		LongArrayIterable other = new LongArrayIterable(0L, 5L, 4L, 3L, 2L, 1L).slice(1, 6);
+
+		Assert.assertEquals(35L, iterable.dot(other));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void dot_nullIterable() {
+
+		new LongArrayIterable(new long[0]).dot(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void dot_differentSize() {
+
+		new LongArrayIterable(new long[2]).dot(new LongArrayIterable(new long[3]));
+
+	}
+
+	@Test
+	public void strided() {
+
+		LongArrayIterable iterable = new LongArrayIterable(1L, 2L, 3L, 4L, 5L, 6L);
+		StridedLongArrayIterable strided = iterable.slice(1, 6).strided(1, 2);
+		LongIterator iterator = strided.iterator();
+
+		Assert.assertEquals(2, strided.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3L, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(5L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void strided_offsetEqualToSize() {
+
+		Assert.assertEquals(0, new LongArrayIterable(1L, 2L).strided(2, 1).size());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_negativeOffset() {
+
+		new LongArrayIterable(1L, 2L).slice(1, 2).strided(-1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_offsetLargerThanSize() {
+
+		new LongArrayIterable(1L, 2L).strided(3, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_nonPositiveStride() {
+
+		new LongArrayIterable(1L, 2L).strided(0, 0);
+
+	}
+
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongBloomFilterTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeExpectedSize() {
+
+		new LongBloomFilter(-1, 0.01);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullValues() {
+
+		new LongBloomFilter((long[]) null, 0.01);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_zeroFalsePositiveRate() {
+
+		new LongBloomFilter(10, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_oneFalsePositiveRate() {
+
+		new LongBloomFilter(10, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nanFalsePositiveRate() {
+
+		new LongBloomFilter(10, Double.NaN);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSet() {
+
+		new LongBloomFilter((LongHashSet) null, 0.01);
+
+	}
+
+	@Test
+	public void add() {
+
+		LongBloomFilter filter = new LongBloomFilter(10, 0.01);
+
+		Assert.assertTrue(filter.add(42));
+		Assert.assertFalse(filter.add(42));
+		Assert.assertTrue(filter.mightContain(42));
+		Assert.assertTrue(filter.test(42));
+
+	}
+
+	@Test
+	public void add_withSet() {
+
+		LongHashSet set = new LongHashSet();
+		LongBloomFilter filter = new LongBloomFilter(set, 0.01);
+
+		Assert.assertTrue(filter.add(42));
+		Assert.assertFalse(filter.add(42));
+		Assert.assertTrue(set.contains(42));
+		Assert.assertTrue(filter.test(42));
+
+	}
+
+	@Test
+	public void test_exactWithSet() {
+
+		Random random = new Random(42);
+		long[] values = new long[10000];
+		Set<Long> expected = new HashSet<Long>();
+		for (int i = 0; i < values.length; i++) {
+			values[i] = random.nextInt(100000) * 1000003L;
+			expected.add(values[i]);
+		}
+		LongBloomFilter filter = new LongBloomFilter(new LongHashSet(values), 0.1);
+
+		for (int i = 0; i < 100000; i++) {
+			Assert.assertEquals(expected.contains(i * 1000003L), filter.test(i * 1000003L));
+		}
+
+	}
+
+	@Test
+	public void mightContain_falsePositiveRate() {
+
+		LongBloomFilter filter = new LongBloomFilter(10000, 0.01);
+		for (int i = 0; i < 10000; i++) {
+			filter.add(2L * i);
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 10000; i++) {
+			Assert.assertTrue(filter.mightContain(2L * i));
+			falsePositives += filter.mightContain(2L * i + 1) ? 1 : 0;
+		}
+
+		Assert.assertTrue(falsePositives < 300);
+
+	}
+
+	@Test
+	public void test_exceededExpectedSizeWithSet() {
+
+		LongBloomFilter filter = new LongBloomFilter(new LongHashSet(), 0.01);
+		for (int i = 0; i < 1000; i++) {
+			filter.add(3L * i);
+		}
+
+		for (int i = 0; i < 3000; i++) {
+			Assert.assertEquals(0 == i % 3, filter.test(i));
+		}
+
+	}
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class LongBufferIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullBuffer() {
+
+		new LongBufferIterable(null);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Long> iterable = new LongBufferIterable(LongBuffer.allocate(0));
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Long> iterable = new LongBufferIterable(LongBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		LongBuffer buffer = LongBuffer.wrap(new long[] { 1L, 2L, 3L, 4L });
+		buffer.position(1);
+		buffer.limit(3);
+		LongIterator iterator = new LongBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2L, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(2L, iterator.previousLong());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		LongIterable iterable = new LongBufferIterable(LongBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_directBuffer() {
+
+		LongBuffer buffer = ByteBuffer.allocateDirect(16).asLongBuffer();
+		buffer.put(0, 1L);
+		buffer.put(1, 2L);
+		LongIterator iterator = new LongBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1L, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_positionUnchanged() {
+
+		LongBuffer buffer = LongBuffer.wrap(new long[] { 1L, 2L, 3L, 4L });
+		LongIterator iterator = new LongBufferIterable(buffer).primitiveIterator();
+		iterator.nextLong();
+
+		Assert.assertEquals(0, buffer.position());
+
+	}
+
+	@Test
+	public void primitiveIterator_bufferChangedAfterCreation() {
+
+		LongBuffer buffer = LongBuffer.wrap(new long[] { 1L, 2L, 3L, 4L });
+		buffer.position(1);
+		LongBufferIterable iterable = new LongBufferIterable(buffer);
+		buffer.clear();
+		buffer.limit(1);
+		LongIterator iterator = iterable.slice(1, 3).primitiveIterator();
+
+		Assert.assertEquals(3, iterable.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3L, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Long> values = new LinkedList<Long>();
+		new LongBufferIterable(LongBuffer.wrap(new long[] { 1L, 2L })).handleEach(new Handler<Long>() {
+			@Override
+			public void handle(Long value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Long> asList(1L, 2L), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new LongBufferIterable(LongBuffer.allocate(0)).handleEach((Handler<Long>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Long> values = new LinkedList<Long>();
+		new LongBufferIterable(LongBuffer.wrap(new long[] { 1L, 2L })).handleEach(new LongHandler() {
+			@Override
+			public void handle(long value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Long> asList(1L, 2L), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new LongBufferIterable(LongBuffer.allocate(0)).handleEach((LongHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new LongBufferIterable(LongBuffer.allocate(2), -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLimit() {
+
+		LongBuffer buffer = LongBuffer.allocate(4);
+		buffer.limit(2);
+
+		new LongBufferIterable(buffer, 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new LongBufferIterable(LongBuffer.allocate(2), 2, 1);
+
+	}
+
+	@Test
+	public void slice() {
+
+		LongBuffer buffer = LongBuffer.wrap(new long[] { 1L, 2L, 3L, 4L });
+		LongBufferIterable slice = new LongBufferIterable(buffer).slice(1, 4).slice(1, 2);
+		LongIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new LongBufferIterable(LongBuffer.allocate(4)).slice(1, 3).slice(0, 3);
+
+	}
+
+}
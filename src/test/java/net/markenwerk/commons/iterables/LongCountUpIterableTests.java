@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongCountUpIterableTests {
+
+	@Test
+	public void lowerBoundLargerThanUpperBound() {
+
+		Iterator<Long> iterator = new LongCountUpIterable(2L, 1L).iterator();
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void lowerBoundEqualsUpperBound() {
+
+		Iterator<Long> iterator = new LongCountUpIterable(0L, 0L).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.valueOf(0L), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void lowerBoundSmallerThanUpperBound() {
+
+		Iterator<Long> iterator = new LongCountUpIterable(1L, 2L).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.valueOf(1L), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.valueOf(2L), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Long> iterable = new LongCountUpIterable(0L, 0L);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Long> iterable = new LongCountUpIterable(0L, 0L);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_step() {
+
+		LongIterator iterator = new LongCountUpIterable(1L, 7L, 3L).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1L, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4L, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(7L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(4L, iterator.previousLong());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1L, iterator.previousLong());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_stepNotReachingBound() {
+
+		LongIterator iterator = new LongCountUpIterable(0L, 5L, 3L).primitiveIterator();
+
+		Assert.assertEquals(0L, iterator.nextLong());
+		Assert.assertEquals(3L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		LongIterable iterable = new LongCountUpIterable(0L, 0L);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_noOverflow() {
+
+		LongCountUpIterable iterable = new LongCountUpIterable(Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+		LongIterator iterator = iterable.primitiveIterator();
+
+		Assert.assertEquals(Long.MIN_VALUE, iterator.nextLong());
+		Assert.assertEquals(-1L, iterator.nextLong());
+		Assert.assertEquals(Long.MAX_VALUE - 1, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_bound() {
+
+		LongIterator iterator = new LongCountUpIterable(Long.MAX_VALUE - 1, Long.MAX_VALUE).primitiveIterator();
+
+		Assert.assertEquals(Long.MAX_VALUE - 1, iterator.nextLong());
+		Assert.assertEquals(Long.MAX_VALUE, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveStep() {
+
+		new LongCountUpIterable(0L, 1L, 0L);
+
+	}
+
+	@Test
+	public void size() {
+
+		Assert.assertEquals(3, new LongCountUpIterable(1L, 7L, 3L).size());
+
+	}
+
+	@Test
+	public void size_empty() {
+
+		Assert.assertEquals(0, new LongCountUpIterable(7L, 1L).size());
+
+	}
+
+	@Test
+	public void size_fullRange() {
+
+		Assert.assertEquals(Long.MAX_VALUE, new LongCountUpIterable(Long.MIN_VALUE, Long.MAX_VALUE).size());
+
+	}
+
+	@Test
+	public void reversed() {
+
+		LongCountUpIterable iterable = new LongCountUpIterable(1L, 7L, 3L);
+		Iterator<Long> iterator = new ReversedIterable<Long>(iterable).iterator();
+
+		Assert.assertEquals(Long.valueOf(7L), iterator.next());
+		Assert.assertEquals(Long.valueOf(4L), iterator.next());
+		Assert.assertEquals(Long.valueOf(1L), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void size_beyondIntegerRange() {
+
+		Assert.assertEquals(1L << 40, new LongCountUpIterable(0L, (1L << 40) - 1).size());
+
+	}
+
+	@Test
+	public void primitiveIterator_skip() {
+
+		LongIterator iterator = new LongCountUpIterable(Long.MIN_VALUE, Long.MAX_VALUE).primitiveIterator();
+		SkippableIterator<?> skippable = (SkippableIterator<?>) iterator;
+
+		Assert.assertEquals(1000000000000L, skippable.skip(1000000000000L));
+		Assert.assertEquals(Long.MIN_VALUE + 1000000000000L, iterator.nextLong());
+		Assert.assertEquals(Long.MAX_VALUE, skippable.skip(Long.MAX_VALUE));
+		Assert.assertEquals(Long.MAX_VALUE - 999999999999L, skippable.skip(Long.MAX_VALUE));
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_seek() {
+
+		LongIterator iterator = new LongCountUpIterable(Long.MIN_VALUE, Long.MAX_VALUE).primitiveIterator();
+		SkippableIterator<?> skippable = (SkippableIterator<?>) iterator;
+
+		skippable.seek(1000000000000L);
+		Assert.assertEquals(Long.MIN_VALUE + 1000000000000L, iterator.nextLong());
+		skippable.seek(0);
+		Assert.assertFalse(iterator.hasPrevious());
+		skippable.seek(Long.MAX_VALUE);
+		Assert.assertEquals(-1L, iterator.nextLong());
+
+	}
+
+	@Test
+	public void primitiveIterator_skipToEnd() {
+
+		LongIterator iterator = new LongCountUpIterable(0L, 10L, 4L).primitiveIterator();
+		SkippableIterator<?> skippable = (SkippableIterator<?>) iterator;
+
+		Assert.assertEquals(3L, skippable.skip(10L));
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(4L, iterator.previousLong());
+
+	}
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongFileIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullFile() throws IOException {
+
+		new LongFileIterable(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullOrder() throws IOException {
+
+		new LongFileIterable(createFile(ByteOrder.BIG_ENDIAN), null);
+
+	}
+
+	@Test
+	public void iterator() throws IOException {
+
+		Iterable<Long> iterable = new LongFileIterable(createFile(ByteOrder.BIG_ENDIAN));
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() throws IOException {
+
+		Iterable<Long> iterable = new LongFileIterable(createFile(ByteOrder.BIG_ENDIAN));
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() throws IOException {
+
+		File file = createFile(ByteOrder.BIG_ENDIAN, 1L, 2L);
+		LongIterator iterator = new LongFileIterable(file).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1L, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(1L, iterator.previousLong());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() throws IOException {
+
+		LongIterable iterable = new LongFileIterable(createFile(ByteOrder.BIG_ENDIAN));
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_littleEndian() throws IOException {
+
+		File file = createFile(ByteOrder.LITTLE_ENDIAN, 1L, 2L);
+		LongIterator iterator = new LongFileIterable(file, ByteOrder.LITTLE_ENDIAN).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1L, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_multipleRegions() throws IOException {
+
+		File file = createFile(ByteOrder.BIG_ENDIAN, 1L, 2L, 3L, 4L, 5L);
+		LongIterator iterator = new LongFileIterable(file, ByteOrder.BIG_ENDIAN, 17).primitiveIterator();
+
+		Assert.assertEquals(1L, iterator.nextLong());
+		Assert.assertEquals(2L, iterator.nextLong());
+		Assert.assertEquals(3L, iterator.nextLong());
+		Assert.assertEquals(4L, iterator.nextLong());
+		Assert.assertEquals(5L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(4L, iterator.previousLong());
+		Assert.assertEquals(3L, iterator.previousLong());
+		Assert.assertEquals(2L, iterator.previousLong());
+		Assert.assertEquals(1L, iterator.previousLong());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void size() throws IOException {
+
+		File file = createFile(ByteOrder.BIG_ENDIAN, 1L, 2L);
+		OutputStream out = new FileOutputStream(file, true);
+		out.write(new byte[7]);
+		out.close();
+
+		Assert.assertEquals(2, new LongFileIterable(file).size());
+
+	}
+
+	@Test
+	public void reversed() throws IOException {
+
+		File file = createFile(ByteOrder.BIG_ENDIAN, 1L, 2L, 3L, 4L, 5L);
+		LongFileIterable iterable = new LongFileIterable(file, ByteOrder.BIG_ENDIAN, 17);
+		Iterator<Long> iterator = new ReversedIterable<Long>(iterable).iterator();
+
+		Assert.assertEquals(Long.valueOf(5L), iterator.next());
+		Assert.assertEquals(Long.valueOf(4L), iterator.next());
+		Assert.assertEquals(Long.valueOf(3L), iterator.next());
+		Assert.assertEquals(Long.valueOf(2L), iterator.next());
+		Assert.assertEquals(Long.valueOf(1L), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	private static File createFile(ByteOrder order, long... values) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(values.length * 8).order(order);
+		for (long value : values) {
+			buffer.putLong(value);
+		}
+		File file = File.createTempFile("LongFileIterableTests", null);
+		file.deleteOnExit();
+		OutputStream out = new FileOutputStream(file);
+		out.write(buffer.array());
+		out.close();
+		return file;
+	}
+
+	@Test
+	public void primitiveIterator_skipAndSeek() throws IOException {
+
+		File file = createFile(ByteOrder.BIG_ENDIAN, 1L, 2L, 3L, 4L, 5L);
+		LongIterator iterator = new LongFileIterable(file, ByteOrder.BIG_ENDIAN, 17).primitiveIterator();
+		SkippableIterator<?> skippable = (SkippableIterator<?>) iterator;
+
+		Assert.assertEquals(3L, skippable.skip(3L));
+		Assert.assertEquals(4L, iterator.nextLong());
+		Assert.assertEquals(3L, iterator.previousLong());
+		skippable.seek(1L);
+		Assert.assertEquals(2L, iterator.nextLong());
+		Assert.assertEquals(3L, iterator.nextLong());
+		skippable.seek(0L);
+		Assert.assertEquals(1L, iterator.nextLong());
+		Assert.assertEquals(4L, skippable.skip(10L));
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(4L, iterator.previousLong());
+
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongHashSetTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeExpectedSize() {
+
+		new LongHashSet(-1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullValues() {
+
+		new LongHashSet(null);
+
+	}
+
+	@Test
+	public void create_values() {
+
+		LongHashSet set = new LongHashSet(new long[] { 1, 2, 2, 3 });
+
+		Assert.assertEquals(3, set.size());
+		Assert.assertTrue(set.contains(1));
+		Assert.assertTrue(set.contains(2));
+		Assert.assertTrue(set.contains(3));
+		Assert.assertFalse(set.contains(4));
+
+	}
+
+	@Test
+	public void add() {
+
+		LongHashSet set = new LongHashSet();
+
+		Assert.assertTrue(set.add(42));
+		Assert.assertFalse(set.add(42));
+		Assert.assertEquals(1, set.size());
+		Assert.assertTrue(set.contains(42));
+
+	}
+
+	@Test
+	public void add_zero() {
+
+		LongHashSet set = new LongHashSet();
+
+		Assert.assertFalse(set.contains(0));
+		Assert.assertTrue(set.add(0));
+		Assert.assertFalse(set.add(0));
+		Assert.assertEquals(1, set.size());
+		Assert.assertTrue(set.contains(0));
+
+	}
+
+	@Test
+	public void add_extremeValues() {
+
+		LongHashSet set = new LongHashSet(new long[] { Long.MIN_VALUE, -1, Long.MAX_VALUE });
+
+		Assert.assertTrue(set.contains(Long.MIN_VALUE));
+		Assert.assertTrue(set.contains(-1));
+		Assert.assertTrue(set.contains(Long.MAX_VALUE));
+		Assert.assertFalse(set.contains(1));
+
+	}
+
+	@Test
+	public void contains_grown() {
+
+		Random random = new Random(42);
+		LongHashSet set = new LongHashSet();
+		Set<Long> expected = new HashSet<Long>();
+		for (int i = 0; i < 100000; i++) {
+			long value = random.nextInt(1000000) * 1000003L;
+			Assert.assertEquals(expected.add(value), set.add(value));
+		}
+
+		Assert.assertEquals(expected.size(), set.size());
+		for (int i = 0; i < 1000000; i++) {
+			Assert.assertEquals(expected.contains(i * 1000003L), set.contains(i * 1000003L));
+		}
+
+	}
+
+	@Test
+	public void test() {
+
+		LongHashSet set = new LongHashSet(new long[] { 1, 2 });
+
+		Assert.assertTrue(set.test(1));
+		Assert.assertFalse(set.test(3));
+
+	}
+
+	@Test
+	public void values() {
+
+		LongHashSet set = new LongHashSet(new long[] { 0, 1, 2, 3 });
+		long[] values = set.values();
+		Arrays.sort(values);
+
+		Assert.assertArrayEquals(new long[] { 0, 1, 2, 3 }, values);
+
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings({ "javadoc", "unchecked" })
+public class MergingIterableTests {
+
+	private static final Comparator<Integer> NATURAL = new Comparator<Integer>() {
+
+		@Override
+		public int compare(Integer left, Integer right) {
+			return left.compareTo(right);
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullComparator() {
+
+		new MergingIterable<Integer>(null, Arrays.asList(1));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterables() {
+
+		new MergingIterable<Integer>(NATURAL, (Iterable<Integer>[]) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new MergingIterable<Integer>(NATURAL, (Iterable<Iterable<Integer>>) null);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Integer> iterable = new MergingIterable<Integer>(NATURAL);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Integer> iterable = new MergingIterable<Integer>(NATURAL);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_noIterables() {
+
+		Iterator<Integer> iterator = new MergingIterable<Integer>(NATURAL).iterator();
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_merge() {
+
+		Iterable<Integer> iterable = new MergingIterable<Integer>(NATURAL, Arrays.asList(1, 4, 7),
+				Collections.<Integer> emptyList(), Arrays.asList(2, 5), Arrays.asList(0, 3, 6, 8));
+
+		Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8), toList(iterable));
+
+	}
+
+	@Test
+	public void iterator_stable() {
+
+		Comparator<String> byLength = new Comparator<String>() {
+
+			@Override
+			public int compare(String left, String right) {
+				return left.length() - right.length();
+			}
+
+		};
+		Iterable<String> iterable = new MergingIterable<String>(byLength, Arrays.asList("a", "bbb"),
+				Arrays.asList("c", "dd"), Arrays.asList("e", "fff"));
+
+		Assert.assertEquals(Arrays.asList("a", "c", "e", "dd", "bbb", "fff"), toList(iterable));
+
+	}
+
+	@Test
+	public void iterator_collapseDuplicates() {
+
+		Iterable<Integer> iterable = new MergingIterable<Integer>(NATURAL, true, Arrays.asList(1, 2, 2, 3),
+				Arrays.asList(2, 3, 4), Arrays.asList(1, 4));
+
+		Assert.assertEquals(Arrays.asList(1, 2, 3, 4), toList(iterable));
+
+	}
+
+	@Test
+	public void iterator_keepDuplicates() {
+
+		Iterable<Integer> iterable = new MergingIterable<Integer>(NATURAL, Arrays.asList(1, 2), Arrays.asList(2, 3));
+
+		Assert.assertEquals(Arrays.asList(1, 2, 2, 3), toList(iterable));
+
+	}
+
+	@Test
+	public void iterator_iterableOfIterables() {
+
+		List<List<Integer>> lists = new ArrayList<List<Integer>>();
+		List<Integer> expected = new ArrayList<Integer>();
+		Random random = new Random(42);
+		for (int i = 0; i < 20; i++) {
+			List<Integer> list = new ArrayList<Integer>();
+			for (int j = random.nextInt(50); j > 0; j--) {
+				list.add(random.nextInt(1000));
+			}
+			Collections.sort(list);
+			lists.add(list);
+			expected.addAll(list);
+		}
+		Collections.sort(expected);
+
+		Assert.assertEquals(expected, toList(new MergingIterable<Integer>(NATURAL, lists)));
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void iterator_remove() {
+
+		Iterator<Integer> iterator = new MergingIterable<Integer>(NATURAL, Arrays.asList(1)).iterator();
+		iterator.next();
+		iterator.remove();
+
+	}
+
+	private static <Payload> List<Payload> toList(Iterable<Payload> iterable) {
+		List<Payload> list = new ArrayList<Payload>();
+		for (Payload value : iterable) {
+			list.add(value);
+		}
+		return list;
+	}
+
+}
@@ -21,12 +21,15 @@
  */
 package net.markenwerk.commons.iterables;
 
+import java.util.Iterator;
+
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -64,4 +67,38 @@ public class NodeListIterableTests {
 
 	}
 
+	@Test
+	public void iterator_skipAndSeek() {
+
+		Element element = document.createElement("element");
+		element.appendChild(document.createElement("first"));
+		element.appendChild(document.createElement("second"));
+		element.appendChild(document.createElement("third"));
+		Iterator<Node> iterator = new NodeListIterable(element.getChildNodes()).iterator();
+		SkippableIterator<?> skippable = (SkippableIterator<?>) iterator;
+
+		Assert.assertEquals(2, skippable.skip(2));
+		Assert.assertEquals("third", iterator.next().getNodeName());
+		skippable.seek(1);
+		Assert.assertEquals("second", iterator.next().getNodeName());
+
+	}
+
+	@Test
+	public void iterator_childRemovedWhileIterating() {
+
+		Element element = document.createElement("element");
+		Node first = element.appendChild(document.createElement("first"));
+		element.appendChild(document.createElement("second"));
+		element.appendChild(document.createElement("third"));
+		Iterator<Node> iterator = new NodeListIterable(element.getChildNodes()).iterator();
+
+		Assert.assertEquals("first", iterator.next().getNodeName());
+		element.removeChild(first);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals("third", iterator.next().getNodeName());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class PackedBooleanArrayIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new PackedBooleanArrayIterable(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new PackedBooleanArrayIterable(new long[1], -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLength() {
+
+		new PackedBooleanArrayIterable(new long[1], 0, 65);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new PackedBooleanArrayIterable(new long[1], 2, 1);
+
+	}
+
+	@Test
+	public void size() {
+
+		Assert.assertEquals(128, new PackedBooleanArrayIterable(new long[2]).size());
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Boolean> iterable = new PackedBooleanArrayIterable(new long[0]);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Boolean> iterable = new PackedBooleanArrayIterable(new long[0]);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		BooleanIterator iterator = new PackedBooleanArrayIterable(new long[] { 1L }, 0, 2).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertTrue(iterator.nextBoolean());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertFalse(iterator.nextBoolean());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertTrue(iterator.previousBoolean());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		BooleanIterable iterable = new PackedBooleanArrayIterable(new long[0]);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void iterator_range() {
+
+		BooleanIterator iterator = new PackedBooleanArrayIterable(new long[] { 1L << 63, 1L }, 63, 65).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertTrue(iterator.nextBoolean());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertTrue(iterator.nextBoolean());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void slice() {
+
+		PackedBooleanArrayIterable iterable = new PackedBooleanArrayIterable(new long[] { 4L });
+		PackedBooleanArrayIterable slice = iterable.slice(1, 4).slice(1, 2);
+		BooleanIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertTrue(iterator.nextBoolean());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new PackedBooleanArrayIterable(new long[1]).slice(1, 3).slice(0, 3);
+
+	}
+
+	@Test
+	public void setBits() {
+
+		long[] words = new long[] { 1L | 1L << 63, 0L, 0L, 1L << 5 };
+		IntegerIterator iterator = new PackedBooleanArrayIterable(words).setBits().primitiveIterator();
+
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(0, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(63, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(197, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(63, iterator.previousInt());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(0, iterator.previousInt());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void setBits_empty() {
+
+		IntegerIterator iterator = new PackedBooleanArrayIterable(new long[3]).setBits().primitiveIterator();
+
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void setBits_range() {
+
+		long[] words = new long[] { 1L | 1L << 63, 1L | 1L << 2 };
+		IntegerIterator iterator = new PackedBooleanArrayIterable(words, 1, 66).setBits().primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(62, iterator.nextInt());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(63, iterator.nextInt());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(62, iterator.previousInt());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+}
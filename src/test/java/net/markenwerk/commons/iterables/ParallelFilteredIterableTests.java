@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.exceptions.PredicateException;
+import net.markenwerk.commons.interfaces.Predicate;
+
+@SuppressWarnings("javadoc")
+public class ParallelFilteredIterableTests {
+
+	private static final Predicate<Integer> EVEN = new Predicate<Integer>() {
+
+		@Override
+		public boolean test(Integer value) {
+			if (0 == value % 3) {
+				Thread.yield();
+			}
+			return 0 == value % 2;
+		}
+
+	};
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@After
+	public void shutdown() {
+
+		executor.shutdownNow();
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new ParallelFilteredIterable<Integer>(null, EVEN, executor);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPredicate() {
+
+		new ParallelFilteredIterable<Integer>(new EmptyIterable<Integer>(), null, executor);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullExecutor() {
+
+		new ParallelFilteredIterable<Integer>(new EmptyIterable<Integer>(), EVEN, null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveChunkSize() {
+
+		new ParallelFilteredIterable<Integer>(new EmptyIterable<Integer>(), EVEN, executor, 0, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveDepth() {
+
+		new ParallelFilteredIterable<Integer>(new EmptyIterable<Integer>(), EVEN, executor, 1, 0);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Integer> iterable = new ParallelFilteredIterable<Integer>(new EmptyIterable<Integer>(), EVEN,
+				executor);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Integer> iterable = new ParallelFilteredIterable<Integer>(new EmptyIterable<Integer>(), EVEN,
+				executor);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_empty() {
+
+		Iterator<Integer> iterator = new ParallelFilteredIterable<Integer>(new EmptyIterable<Integer>(), EVEN,
+				executor).iterator();
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_ordered() {
+
+		List<Integer> values = new ArrayList<Integer>();
+		List<Integer> expected = new ArrayList<Integer>();
+		for (int i = 0; i < 10000; i++) {
+			values.add(i);
+			if (0 == i % 2) {
+				expected.add(i);
+			}
+		}
+
+		for (int chunkSize : new int[] { 1, 7, 256, 20000 }) {
+			List<Integer> actual = new ArrayList<Integer>();
+			for (Integer value : new ParallelFilteredIterable<Integer>(values, EVEN, executor, chunkSize, 4)) {
+				actual.add(value);
+			}
+
+			Assert.assertEquals(expected, actual);
+		}
+
+	}
+
+	@Test
+	public void iterator_noValues() {
+
+		List<Integer> values = Arrays.asList(1, 3, 5, 7, 9, 11);
+		Iterator<Integer> iterator = new ParallelFilteredIterable<Integer>(values, EVEN, executor, 2, 2).iterator();
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_bounded() {
+
+		final int[] reads = new int[1];
+		Iterable<Integer> iterable = new Iterable<Integer>() {
+
+			@Override
+			public Iterator<Integer> iterator() {
+				return new Iterator<Integer>() {
+
+					@Override
+					public boolean hasNext() {
+						return reads[0] < 1000;
+					}
+
+					@Override
+					public Integer next() {
+						return reads[0]++;
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+
+				};
+			}
+
+		};
+		Iterator<Integer> iterator = new ParallelFilteredIterable<Integer>(iterable, EVEN, executor, 10, 3)
+				.iterator();
+
+		Assert.assertEquals(30, reads[0]);
+		Assert.assertEquals(Integer.valueOf(0), iterator.next());
+		Assert.assertEquals(40, reads[0]);
+
+	}
+
+	@Test
+	public void iterator_predicateException() {
+
+		List<Integer> values = new ArrayList<Integer>();
+		for (int i = 0; i < 100; i++) {
+			values.add(i);
+		}
+		Predicate<Integer> predicate = new Predicate<Integer>() {
+
+			@Override
+			public boolean test(Integer value) {
+				if (55 == value) {
+					throw new PredicateException("Unexpected value");
+				}
+				return true;
+			}
+
+		};
+		Iterator<Integer> iterator = new ParallelFilteredIterable<Integer>(values, predicate, executor, 10, 4)
+				.iterator();
+
+		List<Integer> yielded = new ArrayList<Integer>();
+		try {
+			while (iterator.hasNext()) {
+				yielded.add(iterator.next());
+			}
+			Assert.fail();
+		} catch (PredicateException e) {
+			Assert.assertEquals("Unexpected value", e.getMessage());
+		}
+
+		Assert.assertEquals(50, yielded.size());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_cancel() {
+
+		final List<Runnable> pending = new ArrayList<Runnable>();
+		Executor pendingExecutor = new Executor() {
+
+			@Override
+			public void execute(Runnable runnable) {
+				if (pending.isEmpty()) {
+					pending.add(null);
+					runnable.run();
+				} else {
+					pending.add(runnable);
+				}
+			}
+
+		};
+		final AtomicInteger tests = new AtomicInteger();
+		Predicate<Integer> predicate = new Predicate<Integer>() {
+
+			@Override
+			public boolean test(Integer value) {
+				tests.incrementAndGet();
+				return true;
+			}
+
+		};
+		List<Integer> values = Arrays.asList(1, 2, 3, 4, 5, 6);
+		Iterator<Integer> iterator = new ParallelFilteredIterable<Integer>(values, predicate, pendingExecutor, 2, 3)
+				.iterator();
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		((CancelableIterator<?>) iterator).cancel();
+		for (Runnable runnable : pending.subList(1, pending.size())) {
+			runnable.run();
+		}
+
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(2, tests.get());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterator_nextAfterLast() {
+
+		Iterator<Integer> iterator = new ParallelFilteredIterable<Integer>(Arrays.asList(1), EVEN, executor)
+				.iterator();
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void iterator_remove() {
+
+		Iterator<Integer> iterator = new ParallelFilteredIterable<Integer>(Arrays.asList(2), EVEN, executor)
+				.iterator();
+		iterator.next();
+
+		iterator.remove();
+
+	}
+
+}
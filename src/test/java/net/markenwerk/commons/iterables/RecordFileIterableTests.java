@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.iterators.BidirectionalIterator;
+
+@SuppressWarnings("javadoc")
+public class RecordFileIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullFile() throws IOException {
+
+		new RecordFileIterable(null, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveRecordSize() throws IOException {
+
+		new RecordFileIterable(createFile(), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullOrder() throws IOException {
+
+		new RecordFileIterable(createFile(), 1, null);
+
+	}
+
+	@Test
+	public void iterator() throws IOException {
+
+		Iterable<ByteBuffer> iterable = new RecordFileIterable(createFile(), 1);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() throws IOException {
+
+		Iterable<ByteBuffer> iterable = new RecordFileIterable(createFile(), 1);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_records() throws IOException {
+
+		File file = createFile((byte) 1, (byte) 2, (byte) 3, (byte) 4);
+		BidirectionalIterator<ByteBuffer> iterator = new RecordFileIterable(file, 2).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		ByteBuffer record = iterator.next();
+		Assert.assertEquals(2, record.remaining());
+		Assert.assertEquals((byte) 1, record.get(0));
+		Assert.assertEquals((byte) 2, record.get(1));
+		Assert.assertTrue(iterator.hasNext());
+		record = iterator.next();
+		Assert.assertEquals(2, record.remaining());
+		Assert.assertEquals((byte) 3, record.get(0));
+		Assert.assertEquals((byte) 4, record.get(1));
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals((byte) 1, iterator.previous().get(0));
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void iterator_order() throws IOException {
+
+		File file = createFile((byte) 1, (byte) 0);
+		Iterator<ByteBuffer> iterator = new RecordFileIterable(file, 2, ByteOrder.LITTLE_ENDIAN).iterator();
+
+		Assert.assertEquals((short) 1, iterator.next().getShort(0));
+
+	}
+
+	@Test
+	public void iterator_readOnly() throws IOException {
+
+		Iterator<ByteBuffer> iterator = new RecordFileIterable(createFile((byte) 1), 1).iterator();
+
+		Assert.assertTrue(iterator.next().isReadOnly());
+
+	}
+
+	@Test
+	public void iterator_multipleRegions() throws IOException {
+
+		File file = createFile((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6);
+		RecordFileIterable iterable = new RecordFileIterable(file, 2, ByteOrder.BIG_ENDIAN, 5);
+		BidirectionalIterator<ByteBuffer> iterator = iterable.iterator();
+
+		Assert.assertEquals((byte) 1, iterator.next().get(0));
+		Assert.assertEquals((byte) 3, iterator.next().get(0));
+		Assert.assertEquals((byte) 5, iterator.next().get(0));
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals((byte) 3, iterator.previous().get(0));
+		Assert.assertEquals((byte) 1, iterator.previous().get(0));
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void size() throws IOException {
+
+		File file = createFile((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5);
+
+		Assert.assertEquals(2, new RecordFileIterable(file, 2).size());
+
+	}
+
+	private static File createFile(byte... bytes) throws IOException {
+		File file = File.createTempFile("RecordFileIterableTests", null);
+		file.deleteOnExit();
+		OutputStream out = new FileOutputStream(file);
+		out.write(bytes);
+		out.close();
+		return file;
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.iterators.BidirectionalIterator;
+
+@SuppressWarnings("javadoc")
+public class ReversedIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new ReversedIterable<Object>(null);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Integer> iterable = new ReversedIterable<Integer>(new IntegerArrayIterable(new int[0]));
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Integer> iterable = new ReversedIterable<Integer>(new IntegerArrayIterable(new int[0]));
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_empty() {
+
+		BidirectionalIterator<Integer> iterator = new ReversedIterable<Integer>(new IntegerArrayIterable()).iterator();
+
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void iterator_indexed() {
+
+		IntegerArrayIterable iterable = new IntegerArrayIterable(0, 1, 2, 3, 4).slice(1, 4);
+		BidirectionalIterator<Integer> iterator = new ReversedIterable<Integer>(iterable).iterator();
+
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(Integer.valueOf(2), iterator.previous());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(Integer.valueOf(3), iterator.previous());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void iterator_singleValue() {
+
+		Iterator<Integer> iterator = new ReversedIterable<Integer>(new IntegerArrayIterable(1)).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_nonIndexed() {
+
+		BidirectionalIterator<Integer> iterator = new ReversedIterable<Integer>(new CountUpIterable(1, 3)).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(Integer.valueOf(2), iterator.previous());
+
+	}
+
+	@Test
+	public void iterator_setBits() {
+
+		IntegerIterable setBits = new PackedBooleanArrayIterable(new long[] { 1L | 1L << 5, 1L }).setBits();
+		Iterator<Integer> iterator = new ReversedIterable<Integer>(setBits).iterator();
+
+		Assert.assertEquals(Integer.valueOf(64), iterator.next());
+		Assert.assertEquals(Integer.valueOf(5), iterator.next());
+		Assert.assertEquals(Integer.valueOf(0), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_reversedTwice() {
+
+		ArrayIterable<String> iterable = new ArrayIterable<String>("a", "b", "c");
+		Iterator<String> iterator = new ReversedIterable<String>(new ReversedIterable<String>(iterable)).iterator();
+
+		Assert.assertEquals("a", iterator.next());
+		Assert.assertEquals("b", iterator.next());
+		Assert.assertEquals("c", iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void iterator_remove() {
+
+		Iterator<Integer> iterator = new ReversedIterable<Integer>(new IntegerArrayIterable(1)).iterator();
+		iterator.next();
+
+		iterator.remove();
+
+	}
+
+}
@@ -21,9 +21,15 @@
  */
 package net.markenwerk.commons.iterables;
 
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
+import net.markenwerk.commons.interfaces.Handler;
+
 @SuppressWarnings("javadoc")
 public class ShortArrayIterableTests {
 
@@ -52,4 +58,177 @@ public class ShortArrayIterableTests {
 
 	}
 
+	@Test
+	public void primitiveIterator() {
+
+		ShortIterator iterator = new ShortArrayIterable((short) 1, (short) 2).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 1, iterator.nextShort());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 2, iterator.nextShort());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals((short) 1, iterator.previousShort());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		ShortIterable iterable = new ShortArrayIterable(new short[0]);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Short> values = new LinkedList<Short>();
+		new ShortArrayIterable((short) 1, (short) 2).handleEach(new Handler<Short>() {
+			@Override
+			public void handle(Short value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Short> asList((short) 1, (short) 2), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new ShortArrayIterable(new short[0]).handleEach((Handler<Short>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Short> values = new LinkedList<Short>();
+		new ShortArrayIterable((short) 1, (short) 2).handleEach(new ShortHandler() {
+			@Override
+			public void handle(short value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Short> asList((short) 1, (short) 2), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new ShortArrayIterable(new short[0]).handleEach((ShortHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new ShortArrayIterable(new short[2], -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLength() {
+
+		new ShortArrayIterable(new short[2], 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new ShortArrayIterable(new short[2], 2, 1);
+
+	}
+
+	@Test
+	public void iterator_range() {
+
+		short[] array = new short[] { (short) 1, (short) 2, (short) 3, (short) 4 };
+		ShortIterator iterator = new ShortArrayIterable(array, 1, 3).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 2, iterator.nextShort());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 3, iterator.nextShort());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals((short) 2, iterator.previousShort());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void slice() {
+
+		ShortArrayIterable iterable = new ShortArrayIterable((short) 1, (short) 2, (short) 3, (short) 4);
+		ShortArrayIterable slice = iterable.slice(1, 4).slice(1, 2);
+		ShortIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 3, iterator.nextShort());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new ShortArrayIterable((short) 1, (short) 2, (short) 3, (short) 4).slice(1, 3).slice(0, 3);
+
+	}
+
+	@Test
+	public void strided() {
+
+		short[] array = new short[] { (short) 1, (short) 2, (short) 3, (short) 4, (short) 5, (short) 6 };
+		ShortArrayIterable iterable = new ShortArrayIterable(array);
+		StridedShortArrayIterable strided = iterable.slice(1, 6).strided(1, 2);
+		ShortIterator iterator = strided.iterator();
+
+		Assert.assertEquals(2, strided.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 3, iterator.nextShort());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 5, iterator.nextShort());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void strided_offsetEqualToSize() {
+
+		Assert.assertEquals(0, new ShortArrayIterable((short) 1, (short) 2).strided(2, 1).size());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_negativeOffset() {
+
+		new ShortArrayIterable((short) 1, (short) 2).slice(1, 2).strided(-1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_offsetLargerThanSize() {
+
+		new ShortArrayIterable((short) 1, (short) 2).strided(3, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void strided_nonPositiveStride() {
+
+		new ShortArrayIterable((short) 1, (short) 2).strided(0, 0);
+
+	}
+
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class ShortBufferIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullBuffer() {
+
+		new ShortBufferIterable(null);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Short> iterable = new ShortBufferIterable(ShortBuffer.allocate(0));
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Short> iterable = new ShortBufferIterable(ShortBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		ShortBuffer buffer = ShortBuffer.wrap(new short[] { (short) 1, (short) 2, (short) 3, (short) 4 });
+		buffer.position(1);
+		buffer.limit(3);
+		ShortIterator iterator = new ShortBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 2, iterator.nextShort());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 3, iterator.nextShort());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals((short) 2, iterator.previousShort());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		ShortIterable iterable = new ShortBufferIterable(ShortBuffer.allocate(0));
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void primitiveIterator_directBuffer() {
+
+		ShortBuffer buffer = ByteBuffer.allocateDirect(4).asShortBuffer();
+		buffer.put(0, (short) 1);
+		buffer.put(1, (short) 2);
+		ShortIterator iterator = new ShortBufferIterable(buffer).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 1, iterator.nextShort());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 2, iterator.nextShort());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void primitiveIterator_positionUnchanged() {
+
+		ShortBuffer buffer = ShortBuffer.wrap(new short[] { (short) 1, (short) 2, (short) 3, (short) 4 });
+		ShortIterator iterator = new ShortBufferIterable(buffer).primitiveIterator();
+		iterator.nextShort();
+
+		Assert.assertEquals(0, buffer.position());
+
+	}
+
+	@Test
+	public void primitiveIterator_bufferChangedAfterCreation() {
+
+		ShortBuffer buffer = ShortBuffer.wrap(new short[] { (short) 1, (short) 2, (short) 3, (short) 4 });
+		buffer.position(1);
+		ShortBufferIterable iterable = new ShortBufferIterable(buffer);
+		buffer.clear();
+		buffer.limit(1);
+		ShortIterator iterator = iterable.slice(1, 3).primitiveIterator();
+
+		Assert.assertEquals(3, iterable.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 3, iterator.nextShort());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 4, iterator.nextShort());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Short> values = new LinkedList<Short>();
+		ShortBuffer buffer = ShortBuffer.wrap(new short[] { (short) 1, (short) 2 });
+		new ShortBufferIterable(buffer).handleEach(new Handler<Short>() {
+			@Override
+			public void handle(Short value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Short> asList((short) 1, (short) 2), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new ShortBufferIterable(ShortBuffer.allocate(0)).handleEach((Handler<Short>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Short> values = new LinkedList<Short>();
+		ShortBuffer buffer = ShortBuffer.wrap(new short[] { (short) 1, (short) 2 });
+		new ShortBufferIterable(buffer).handleEach(new ShortHandler() {
+			@Override
+			public void handle(short value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Short> asList((short) 1, (short) 2), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new ShortBufferIterable(ShortBuffer.allocate(0)).handleEach((ShortHandler) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeFromIndex() {
+
+		new ShortBufferIterable(ShortBuffer.allocate(2), -1, 2);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_toIndexLargerThanLimit() {
+
+		ShortBuffer buffer = ShortBuffer.allocate(4);
+		buffer.limit(2);
+
+		new ShortBufferIterable(buffer, 0, 3);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_fromIndexLargerThanToIndex() {
+
+		new ShortBufferIterable(ShortBuffer.allocate(2), 2, 1);
+
+	}
+
+	@Test
+	public void slice() {
+
+		ShortBuffer buffer = ShortBuffer.wrap(new short[] { (short) 1, (short) 2, (short) 3, (short) 4 });
+		ShortBufferIterable slice = new ShortBufferIterable(buffer).slice(1, 4).slice(1, 2);
+		ShortIterator iterator = slice.iterator();
+
+		Assert.assertEquals(1, slice.size());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 3, iterator.nextShort());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new ShortBufferIterable(ShortBuffer.allocate(4)).slice(1, 3).slice(0, 3);
+
+	}
+
+}
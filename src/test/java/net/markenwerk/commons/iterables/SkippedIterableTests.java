@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class SkippedIterableTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new SkippedIterable<Object>(null, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCount() {
+
+		new SkippedIterable<Object>(new EmptyIterable<Object>(), -1);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Object> iterable = new SkippedIterable<Object>(new EmptyIterable<Object>(), 1);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Object> iterable = new SkippedIterable<Object>(new EmptyIterable<Object>(), 1);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_skippable() {
+
+		Iterable<Integer> iterable = new SkippedIterable<Integer>(new IntegerArrayIterable(1, 2, 3), 2);
+		Iterator<Integer> iterator = iterable.iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_notSkippable() {
+
+		List<Integer> list = Arrays.asList(1, 2, 3);
+		Iterator<Integer> iterator = new SkippedIterable<Integer>(list, 2).iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_skipAll() {
+
+		Iterator<Integer> iterator = new SkippedIterable<Integer>(Arrays.asList(1, 2, 3), 5).iterator();
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_remove() {
+
+		List<Integer> list = new LinkedList<Integer>(Arrays.asList(1, 2, 3));
+		Iterator<Integer> iterator = new SkippedIterable<Integer>(list, 1).iterator();
+		iterator.next();
+		iterator.remove();
+
+		Assert.assertEquals(Arrays.asList(1, 3), list);
+
+	}
+
+	@Test
+	public void skip() {
+
+		Iterator<Integer> iterator = new IntegerArrayIterable(1, 2, 3).iterator();
+
+		Assert.assertEquals(2, SkippedIterable.skip(iterator, 2));
+		Assert.assertEquals(1, SkippedIterable.skip(iterator, 2));
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void skip_notSkippable() {
+
+		Iterator<Integer> iterator = Arrays.asList(1, 2, 3).iterator();
+
+		Assert.assertEquals(2, SkippedIterable.skip(iterator, 2));
+		Assert.assertEquals(1, SkippedIterable.skip(iterator, 2));
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void skip_nullIterator() {
+
+		SkippedIterable.skip(null, 1);
+
+	}
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class StridedByteArrayIterableTests {
+
+	private static final byte[] ARRAY = new byte[] { (byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6 };
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new StridedByteArrayIterable(null, 0, 1, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeOffset() {
+
+		new StridedByteArrayIterable(ARRAY, -1, 1, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_offsetTooLarge() {
+
+		new StridedByteArrayIterable(ARRAY, ARRAY.length + 1, 1, 0);
+
+	}
+
+	@Test
+	public void create_offsetAtLength() {
+
+		Iterable<?> iterable = new StridedByteArrayIterable(ARRAY, ARRAY.length, 1, 0);
+
+		Assert.assertFalse(iterable.iterator().hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveStride() {
+
+		new StridedByteArrayIterable(ARRAY, 0, 0, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCount() {
+
+		new StridedByteArrayIterable(ARRAY, 0, 1, -1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_countTooLarge() {
+
+		new StridedByteArrayIterable(ARRAY, 1, 2, 4);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Byte> iterable = new StridedByteArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Byte> iterable = new StridedByteArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		ByteIterator iterator = new StridedByteArrayIterable(ARRAY, 1, 2, 3).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 2, iterator.nextByte());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 4, iterator.nextByte());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((byte) 6, iterator.nextByte());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals((byte) 4, iterator.previousByte());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals((byte) 2, iterator.previousByte());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		ByteIterable iterable = new StridedByteArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Byte> values = new LinkedList<Byte>();
+		new StridedByteArrayIterable(ARRAY, 0, 3, 2).handleEach(new Handler<Byte>() {
+			@Override
+			public void handle(Byte value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Byte> asList((byte) 1, (byte) 4), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new StridedByteArrayIterable(ARRAY, 0, 1, 0).handleEach((Handler<Byte>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Byte> values = new LinkedList<Byte>();
+		new StridedByteArrayIterable(ARRAY, 0, 3, 2).handleEach(new ByteHandler() {
+			@Override
+			public void handle(byte value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Byte> asList((byte) 1, (byte) 4), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new StridedByteArrayIterable(ARRAY, 0, 1, 0).handleEach((ByteHandler) null);
+
+	}
+
+	@Test
+	public void slice() {
+
+		StridedByteArrayIterable slice = new StridedByteArrayIterable(ARRAY, 0, 1, 6).slice(1, 5);
+		ByteIterator iterator = slice.slice(1, 4).iterator();
+
+		Assert.assertEquals(4, slice.size());
+		Assert.assertEquals((byte) 3, iterator.nextByte());
+		Assert.assertEquals((byte) 4, iterator.nextByte());
+		Assert.assertEquals((byte) 5, iterator.nextByte());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void slice_strided() {
+
+		ByteIterator iterator = new StridedByteArrayIterable(ARRAY, 0, 2, 3).slice(1, 3).iterator();
+
+		Assert.assertEquals((byte) 3, iterator.nextByte());
+		Assert.assertEquals((byte) 5, iterator.nextByte());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void slice_emptyWithLargeStride() {
+
+		StridedByteArrayIterable slice = new StridedByteArrayIterable(ARRAY, 5, Integer.MAX_VALUE, 1).slice(1, 1);
+
+		Assert.assertEquals(0, slice.size());
+		Assert.assertFalse(slice.iterator().hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new StridedByteArrayIterable(ARRAY, 0, 2, 3).slice(0, 4);
+
+	}
+
+}
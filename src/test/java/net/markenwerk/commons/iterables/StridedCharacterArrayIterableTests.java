@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class StridedCharacterArrayIterableTests {
+
+	private static final char[] ARRAY = new char[] { 'a', 'b', 'c', 'd', 'e', 'f' };
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new StridedCharacterArrayIterable(null, 0, 1, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeOffset() {
+
+		new StridedCharacterArrayIterable(ARRAY, -1, 1, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_offsetTooLarge() {
+
+		new StridedCharacterArrayIterable(ARRAY, ARRAY.length + 1, 1, 0);
+
+	}
+
+	@Test
+	public void create_offsetAtLength() {
+
+		Iterable<?> iterable = new StridedCharacterArrayIterable(ARRAY, ARRAY.length, 1, 0);
+
+		Assert.assertFalse(iterable.iterator().hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveStride() {
+
+		new StridedCharacterArrayIterable(ARRAY, 0, 0, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCount() {
+
+		new StridedCharacterArrayIterable(ARRAY, 0, 1, -1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_countTooLarge() {
+
+		new StridedCharacterArrayIterable(ARRAY, 1, 2, 4);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Character> iterable = new StridedCharacterArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Character> iterable = new StridedCharacterArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		CharacterIterator iterator = new StridedCharacterArrayIterable(ARRAY, 1, 2, 3).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('b', iterator.nextChar());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('d', iterator.nextChar());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals('f', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals('d', iterator.previousChar());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals('b', iterator.previousChar());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		CharacterIterable iterable = new StridedCharacterArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Character> values = new LinkedList<Character>();
+		new StridedCharacterArrayIterable(ARRAY, 0, 3, 2).handleEach(new Handler<Character>() {
+			@Override
+			public void handle(Character value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Character> asList('a', 'd'), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new StridedCharacterArrayIterable(ARRAY, 0, 1, 0).handleEach((Handler<Character>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Character> values = new LinkedList<Character>();
+		new StridedCharacterArrayIterable(ARRAY, 0, 3, 2).handleEach(new CharacterHandler() {
+			@Override
+			public void handle(char value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Character> asList('a', 'd'), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new StridedCharacterArrayIterable(ARRAY, 0, 1, 0).handleEach((CharacterHandler) null);
+
+	}
+
+	@Test
+	public void slice() {
+
+		StridedCharacterArrayIterable slice = new StridedCharacterArrayIterable(ARRAY, 0, 1, 6).slice(1, 5);
+		CharacterIterator iterator = slice.slice(1, 4).iterator();
+
+		Assert.assertEquals(4, slice.size());
+		Assert.assertEquals('c', iterator.nextChar());
+		Assert.assertEquals('d', iterator.nextChar());
+		Assert.assertEquals('e', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void slice_strided() {
+
+		CharacterIterator iterator = new StridedCharacterArrayIterable(ARRAY, 0, 2, 3).slice(1, 3).iterator();
+
+		Assert.assertEquals('c', iterator.nextChar());
+		Assert.assertEquals('e', iterator.nextChar());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void slice_emptyWithLargeStride() {
+
+		StridedCharacterArrayIterable slice = new StridedCharacterArrayIterable(ARRAY, 5, Integer.MAX_VALUE, 1).slice(1, 1);
+
+		Assert.assertEquals(0, slice.size());
+		Assert.assertFalse(slice.iterator().hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new StridedCharacterArrayIterable(ARRAY, 0, 2, 3).slice(0, 4);
+
+	}
+
+}
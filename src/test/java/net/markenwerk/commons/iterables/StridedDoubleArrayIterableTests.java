@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class StridedDoubleArrayIterableTests {
+
+	private static final double[] ARRAY = new double[] { 1d, 2d, 3d, 4d, 5d, 6d };
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new StridedDoubleArrayIterable(null, 0, 1, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeOffset() {
+
+		new StridedDoubleArrayIterable(ARRAY, -1, 1, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_offsetTooLarge() {
+
+		new StridedDoubleArrayIterable(ARRAY, ARRAY.length + 1, 1, 0);
+
+	}
+
+	@Test
+	public void create_offsetAtLength() {
+
+		Iterable<?> iterable = new StridedDoubleArrayIterable(ARRAY, ARRAY.length, 1, 0);
+
+		Assert.assertFalse(iterable.iterator().hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveStride() {
+
+		new StridedDoubleArrayIterable(ARRAY, 0, 0, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCount() {
+
+		new StridedDoubleArrayIterable(ARRAY, 0, 1, -1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_countTooLarge() {
+
+		new StridedDoubleArrayIterable(ARRAY, 1, 2, 4);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Double> iterable = new StridedDoubleArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Double> iterable = new StridedDoubleArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		DoubleIterator iterator = new StridedDoubleArrayIterable(ARRAY, 1, 2, 3).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2d, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4d, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(6d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(4d, iterator.previousDouble(), 0);
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(2d, iterator.previousDouble(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		DoubleIterable iterable = new StridedDoubleArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Double> values = new LinkedList<Double>();
+		new StridedDoubleArrayIterable(ARRAY, 0, 3, 2).handleEach(new Handler<Double>() {
+			@Override
+			public void handle(Double value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Double> asList(1d, 4d), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new StridedDoubleArrayIterable(ARRAY, 0, 1, 0).handleEach((Handler<Double>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Double> values = new LinkedList<Double>();
+		new StridedDoubleArrayIterable(ARRAY, 0, 3, 2).handleEach(new DoubleHandler() {
+			@Override
+			public void handle(double value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Double> asList(1d, 4d), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new StridedDoubleArrayIterable(ARRAY, 0, 1, 0).handleEach((DoubleHandler) null);
+
+	}
+
+	@Test
+	public void slice() {
+
+		StridedDoubleArrayIterable slice = new StridedDoubleArrayIterable(ARRAY, 0, 1, 6).slice(1, 5);
+		DoubleIterator iterator = slice.slice(1, 4).iterator();
+
+		Assert.assertEquals(4, slice.size());
+		Assert.assertEquals(3d, iterator.nextDouble(), 0);
+		Assert.assertEquals(4d, iterator.nextDouble(), 0);
+		Assert.assertEquals(5d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void slice_strided() {
+
+		DoubleIterator iterator = new StridedDoubleArrayIterable(ARRAY, 0, 2, 3).slice(1, 3).iterator();
+
+		Assert.assertEquals(3d, iterator.nextDouble(), 0);
+		Assert.assertEquals(5d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void slice_emptyWithLargeStride() {
+
+		StridedDoubleArrayIterable slice = new StridedDoubleArrayIterable(ARRAY, 5, Integer.MAX_VALUE, 1).slice(1, 1);
+
+		Assert.assertEquals(0, slice.size());
+		Assert.assertFalse(slice.iterator().hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new StridedDoubleArrayIterable(ARRAY, 0, 2, 3).slice(0, 4);
+
+	}
+
+}
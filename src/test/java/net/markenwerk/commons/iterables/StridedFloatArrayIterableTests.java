@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class StridedFloatArrayIterableTests {
+
+	private static final float[] ARRAY = new float[] { 1f, 2f, 3f, 4f, 5f, 6f };
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new StridedFloatArrayIterable(null, 0, 1, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeOffset() {
+
+		new StridedFloatArrayIterable(ARRAY, -1, 1, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_offsetTooLarge() {
+
+		new StridedFloatArrayIterable(ARRAY, ARRAY.length + 1, 1, 0);
+
+	}
+
+	@Test
+	public void create_offsetAtLength() {
+
+		Iterable<?> iterable = new StridedFloatArrayIterable(ARRAY, ARRAY.length, 1, 0);
+
+		Assert.assertFalse(iterable.iterator().hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveStride() {
+
+		new StridedFloatArrayIterable(ARRAY, 0, 0, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCount() {
+
+		new StridedFloatArrayIterable(ARRAY, 0, 1, -1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_countTooLarge() {
+
+		new StridedFloatArrayIterable(ARRAY, 1, 2, 4);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Float> iterable = new StridedFloatArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Float> iterable = new StridedFloatArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		FloatIterator iterator = new StridedFloatArrayIterable(ARRAY, 1, 2, 3).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2f, iterator.nextFloat(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4f, iterator.nextFloat(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(6f, iterator.nextFloat(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(4f, iterator.previousFloat(), 0);
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals(2f, iterator.previousFloat(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		FloatIterable iterable = new StridedFloatArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Float> values = new LinkedList<Float>();
+		new StridedFloatArrayIterable(ARRAY, 0, 3, 2).handleEach(new Handler<Float>() {
+			@Override
+			public void handle(Float value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Float> asList(1f, 4f), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new StridedFloatArrayIterable(ARRAY, 0, 1, 0).handleEach((Handler<Float>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Float> values = new LinkedList<Float>();
+		new StridedFloatArrayIterable(ARRAY, 0, 3, 2).handleEach(new FloatHandler() {
+			@Override
+			public void handle(float value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Float> asList(1f, 4f), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new StridedFloatArrayIterable(ARRAY, 0, 1, 0).handleEach((FloatHandler) null);
+
+	}
+
+	@Test
+	public void slice() {
+
+		StridedFloatArrayIterable slice = new StridedFloatArrayIterable(ARRAY, 0, 1, 6).slice(1, 5);
+		FloatIterator iterator = slice.slice(1, 4).iterator();
+
+		Assert.assertEquals(4, slice.size());
+		Assert.assertEquals(3f, iterator.nextFloat(), 0);
+		Assert.assertEquals(4f, iterator.nextFloat(), 0);
+		Assert.assertEquals(5f, iterator.nextFloat(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void slice_strided() {
+
+		FloatIterator iterator = new StridedFloatArrayIterable(ARRAY, 0, 2, 3).slice(1, 3).iterator();
+
+		Assert.assertEquals(3f, iterator.nextFloat(), 0);
+		Assert.assertEquals(5f, iterator.nextFloat(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void slice_emptyWithLargeStride() {
+
+		StridedFloatArrayIterable slice = new StridedFloatArrayIterable(ARRAY, 5, Integer.MAX_VALUE, 1).slice(1, 1);
+
+		Assert.assertEquals(0, slice.size());
+		Assert.assertFalse(slice.iterator().hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new StridedFloatArrayIterable(ARRAY, 0, 2, 3).slice(0, 4);
+
+	}
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class StridedShortArrayIterableTests {
+
+	private static final short[] ARRAY = new short[] { (short) 1, (short) 2, (short) 3, (short) 4, (short) 5,
+			(short) 6 };
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new StridedShortArrayIterable(null, 0, 1, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeOffset() {
+
+		new StridedShortArrayIterable(ARRAY, -1, 1, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_offsetTooLarge() {
+
+		new StridedShortArrayIterable(ARRAY, ARRAY.length + 1, 1, 0);
+
+	}
+
+	@Test
+	public void create_offsetAtLength() {
+
+		Iterable<?> iterable = new StridedShortArrayIterable(ARRAY, ARRAY.length, 1, 0);
+
+		Assert.assertFalse(iterable.iterator().hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveStride() {
+
+		new StridedShortArrayIterable(ARRAY, 0, 0, 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCount() {
+
+		new StridedShortArrayIterable(ARRAY, 0, 1, -1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_countTooLarge() {
+
+		new StridedShortArrayIterable(ARRAY, 1, 2, 4);
+
+	}
+
+	@Test
+	public void iterator() {
+
+		Iterable<Short> iterable = new StridedShortArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotNull(iterable.iterator());
+
+	}
+
+	@Test
+	public void iterator_twice() {
+
+		Iterable<Short> iterable = new StridedShortArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotSame(iterable.iterator(), iterable.iterator());
+
+	}
+
+	@Test
+	public void primitiveIterator() {
+
+		ShortIterator iterator = new StridedShortArrayIterable(ARRAY, 1, 2, 3).primitiveIterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 2, iterator.nextShort());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 4, iterator.nextShort());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals((short) 6, iterator.nextShort());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals((short) 4, iterator.previousShort());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertEquals((short) 2, iterator.previousShort());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void primitiveIterator_twice() {
+
+		ShortIterable iterable = new StridedShortArrayIterable(ARRAY, 0, 1, 0);
+
+		Assert.assertNotSame(iterable.primitiveIterator(), iterable.primitiveIterator());
+
+	}
+
+	@Test
+	public void handleEach() {
+
+		final List<Short> values = new LinkedList<Short>();
+		new StridedShortArrayIterable(ARRAY, 0, 3, 2).handleEach(new Handler<Short>() {
+			@Override
+			public void handle(Short value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Short> asList((short) 1, (short) 4), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullHandler() {
+
+		new StridedShortArrayIterable(ARRAY, 0, 1, 0).handleEach((Handler<Short>) null);
+
+	}
+
+	@Test
+	public void handleEach_primitive() {
+
+		final List<Short> values = new LinkedList<Short>();
+		new StridedShortArrayIterable(ARRAY, 0, 3, 2).handleEach(new ShortHandler() {
+			@Override
+			public void handle(short value) {
+				values.add(value);
+			}
+		});
+
+		Assert.assertEquals(Arrays.<Short> asList((short) 1, (short) 4), values);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void handleEach_nullPrimitiveHandler() {
+
+		new StridedShortArrayIterable(ARRAY, 0, 1, 0).handleEach((ShortHandler) null);
+
+	}
+
+	@Test
+	public void slice() {
+
+		StridedShortArrayIterable slice = new StridedShortArrayIterable(ARRAY, 0, 1, 6).slice(1, 5);
+		ShortIterator iterator = slice.slice(1, 4).iterator();
+
+		Assert.assertEquals(4, slice.size());
+		Assert.assertEquals((short) 3, iterator.nextShort());
+		Assert.assertEquals((short) 4, iterator.nextShort());
+		Assert.assertEquals((short) 5, iterator.nextShort());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void slice_strided() {
+
+		ShortIterator iterator = new StridedShortArrayIterable(ARRAY, 0, 2, 3).slice(1, 3).iterator();
+
+		Assert.assertEquals((short) 3, iterator.nextShort());
+		Assert.assertEquals((short) 5, iterator.nextShort());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void slice_emptyWithLargeStride() {
+
+		StridedShortArrayIterable slice = new StridedShortArrayIterable(ARRAY, 5, Integer.MAX_VALUE, 1).slice(1, 1);
+
+		Assert.assertEquals(0, slice.size());
+		Assert.assertFalse(slice.iterator().hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void slice_toIndexLargerThanSize() {
+
+		new StridedShortArrayIterable(ARRAY, 0, 2, 3).slice(0, 4);
+
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class ArraySpliteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new ArraySpliterator<Object>(null);
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		Spliterator<String> spliterator = new ArraySpliterator<String>(new ArrayIterable<String>("a", "b", "c", "d"));
+
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+		Assert.assertEquals(4, spliterator.getExactSizeIfKnown());
+
+	}
+
+	@Test
+	public void trySplit() {
+
+		Spliterator<String> spliterator = new ArraySpliterator<String>(new ArrayIterable<String>("a", "b", "c", "d"));
+		Spliterator<String> prefix = spliterator.trySplit();
+
+		Assert.assertEquals(2, prefix.estimateSize());
+		Assert.assertEquals(2, spliterator.estimateSize());
+		Assert.assertTrue(prefix.tryAdvance(value -> Assert.assertEquals("a", value)));
+		Assert.assertTrue(spliterator.tryAdvance(value -> Assert.assertEquals("c", value)));
+
+	}
+
+	@Test
+	public void trySplit_single() {
+
+		Spliterator<String> spliterator = new ArraySpliterator<String>(new ArrayIterable<String>("a"));
+
+		Assert.assertNull(spliterator.trySplit());
+
+	}
+
+	@Test
+	public void forEachRemaining() {
+
+		Spliterator<String> spliterator = new ArraySpliterator<String>(new ArrayIterable<String>("a", "b", "c", "d"));
+		StringBuilder builder = new StringBuilder();
+		spliterator.forEachRemaining(value -> builder.append(value));
+
+		Assert.assertEquals("abcd", builder.toString());
+		Assert.assertEquals(0, spliterator.estimateSize());
+		Assert.assertFalse(spliterator.tryAdvance(value -> Assert.fail()));
+
+	}
+
+	@Test
+	public void parallelStream() {
+
+		Spliterator<String> spliterator = new ArraySpliterator<String>(new ArrayIterable<String>("a", "b", "c", "d"));
+
+		Assert.assertEquals("abcd", StreamSupport.stream(spliterator, true).collect(Collectors.joining()));
+
+	}
+
+}
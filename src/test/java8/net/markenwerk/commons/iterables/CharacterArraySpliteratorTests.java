@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.StreamSupport;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class CharacterArraySpliteratorTests {
+
+	private static final CharacterArrayIterable ITERABLE =
+			new CharacterArrayIterable((char) 1, (char) 2, (char) 3, (char) 4);
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new CharacterArraySpliterator(null);
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		Spliterator<?> spliterator = new CharacterArraySpliterator(ITERABLE);
+
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+		Assert.assertEquals(4, spliterator.getExactSizeIfKnown());
+
+	}
+
+	@Test
+	public void trySplit() {
+
+		CharacterArraySpliterator spliterator = new CharacterArraySpliterator(ITERABLE);
+		CharacterArraySpliterator prefix = spliterator.trySplit();
+
+		Assert.assertEquals(2, prefix.estimateSize());
+		Assert.assertEquals(2, spliterator.estimateSize());
+		Assert.assertTrue(prefix.tryAdvance((IntConsumer) value -> Assert.assertEquals(1, value)));
+		Assert.assertTrue(spliterator.tryAdvance((IntConsumer) value -> Assert.assertEquals(3, value)));
+
+	}
+
+	@Test
+	public void trySplit_single() {
+
+		CharacterArraySpliterator spliterator = new CharacterArraySpliterator(new CharacterArrayIterable(new char[1]));
+
+		Assert.assertNull(spliterator.trySplit());
+
+	}
+
+	@Test
+	public void forEachRemaining() {
+
+		CharacterArraySpliterator spliterator = new CharacterArraySpliterator(ITERABLE);
+		long[] sum = new long[1];
+		spliterator.forEachRemaining((IntConsumer) value -> sum[0] += value);
+
+		Assert.assertEquals(10, sum[0]);
+		Assert.assertEquals(0, spliterator.estimateSize());
+		Assert.assertFalse(spliterator.tryAdvance((IntConsumer) value -> Assert.fail()));
+
+	}
+
+	@Test
+	public void parallelStream() {
+
+		CharacterArraySpliterator spliterator = new CharacterArraySpliterator(ITERABLE);
+
+		Assert.assertEquals(10, StreamSupport.intStream(spliterator, true).sum());
+
+	}
+
+}
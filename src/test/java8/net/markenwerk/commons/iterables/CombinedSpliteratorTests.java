@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class CombinedSpliteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new CombinedSpliterator<Object>(null);
+
+	}
+
+	@Test
+	public void characteristics_sized() {
+
+		CombinedIterable<Integer> iterable = new CombinedIterable<Integer>(new IntegerArrayIterable(1, 2),
+				Arrays.asList(3, 4, 5), new CountUpIterable(6, 9));
+		Spliterator<Integer> spliterator = new CombinedSpliterator<Integer>(iterable);
+
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+		Assert.assertEquals(9, spliterator.getExactSizeIfKnown());
+
+	}
+
+	@Test
+	public void characteristics_sizedPrimitiveArrays() {
+
+		List<Iterable<?>> iterables = Arrays.<Iterable<?>> asList(new ByteArrayIterable((byte) 1, (byte) 2),
+				new ShortArrayIterable((short) 1, (short) 2), new CharacterArrayIterable('a', 'b'),
+				new FloatArrayIterable(1f, 2f));
+
+		for (Iterable<?> source : iterables) {
+			Spliterator<Object> spliterator = new CombinedSpliterator<Object>(new CombinedIterable<Object>(
+					Collections.<Iterable<?>> singletonList(source)));
+
+			Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+			Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+			Assert.assertEquals(2, spliterator.getExactSizeIfKnown());
+		}
+
+	}
+
+	@Test
+	public void create_lazy() {
+
+		int[] iterators = new int[1];
+		Iterable<Integer> unsized = () -> {
+			iterators[0]++;
+			return Arrays.asList(3, 4).iterator();
+		};
+		CombinedIterable<Integer> iterable = new CombinedIterable<Integer>(new IntegerArrayIterable(1, 2), unsized);
+		Spliterator<Integer> spliterator = new CombinedSpliterator<Integer>(iterable);
+
+		Assert.assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+		Assert.assertEquals(0, iterators[0]);
+		Assert.assertEquals(Arrays.asList(1, 2, 3, 4),
+				StreamSupport.stream(spliterator, false).collect(Collectors.toList()));
+		Assert.assertEquals(1, iterators[0]);
+
+	}
+
+	@Test
+	public void characteristics_orderedWithDeferred() {
+
+		Iterable<Integer> unsized = () -> Arrays.asList(3, 4).iterator();
+		CombinedIterable<Integer> iterable = new CombinedIterable<Integer>(new IntegerArrayIterable(1, 2), unsized);
+		Spliterator<Integer> spliterator = new CombinedSpliterator<Integer>(iterable);
+
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+		Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.NONNULL));
+
+	}
+
+	@Test
+	public void characteristics_notSized() {
+
+		Iterable<Integer> unsized = new DeltaEncodedIntegerIterable(DeltaEncodedIntegerIterable.encode(
+				new IntegerArrayIterable(3, 4)));
+		CombinedIterable<Integer> iterable = new CombinedIterable<Integer>(new IntegerArrayIterable(1, 2), unsized);
+		Spliterator<Integer> spliterator = new CombinedSpliterator<Integer>(iterable);
+
+		Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertEquals(-1, spliterator.getExactSizeIfKnown());
+		Assert.assertEquals(Arrays.asList(1, 2, 3, 4),
+				StreamSupport.stream(spliterator, false).collect(Collectors.toList()));
+
+	}
+
+	@Test
+	public void characteristics_empty() {
+
+		Spliterator<Object> spliterator = new CombinedSpliterator<Object>(new CombinedIterable<Object>());
+
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertEquals(0, spliterator.getExactSizeIfKnown());
+		Assert.assertNull(spliterator.trySplit());
+		Assert.assertFalse(spliterator.tryAdvance(value -> Assert.fail()));
+
+	}
+
+	@Test
+	public void trySplit_alongIterables() {
+
+		CombinedIterable<Integer> iterable = new CombinedIterable<Integer>(new IntegerArrayIterable(1, 2, 3, 4),
+				new IntegerArrayIterable(5), new IntegerArrayIterable(6, 7, 8));
+		Spliterator<Integer> spliterator = new CombinedSpliterator<Integer>(iterable);
+		Spliterator<Integer> prefix = spliterator.trySplit();
+
+		Assert.assertEquals(4, prefix.estimateSize());
+		Assert.assertEquals(4, spliterator.estimateSize());
+		Assert.assertTrue(prefix.tryAdvance(value -> Assert.assertEquals(Integer.valueOf(1), value)));
+		Assert.assertTrue(spliterator.tryAdvance(value -> Assert.assertEquals(Integer.valueOf(5), value)));
+
+	}
+
+	@Test
+	public void trySplit_withinIterable() {
+
+		CombinedIterable<Integer> iterable = new CombinedIterable<Integer>(new IntegerArrayIterable(1, 2, 3, 4));
+		Spliterator<Integer> spliterator = new CombinedSpliterator<Integer>(iterable);
+		Spliterator<Integer> prefix = spliterator.trySplit();
+
+		Assert.assertEquals(2, prefix.estimateSize());
+		Assert.assertEquals(2, spliterator.estimateSize());
+		Assert.assertTrue(prefix.tryAdvance(value -> Assert.assertEquals(Integer.valueOf(1), value)));
+		Assert.assertTrue(spliterator.tryAdvance(value -> Assert.assertEquals(Integer.valueOf(3), value)));
+
+	}
+
+	@Test
+	public void forEachRemaining() {
+
+		CombinedIterable<String> iterable = new CombinedIterable<String>(new ArrayIterable<String>("a", "b"),
+				Collections.<String> emptyList(), Arrays.asList("c"));
+		Spliterator<String> spliterator = new CombinedSpliterator<String>(iterable);
+		StringBuilder builder = new StringBuilder();
+		spliterator.forEachRemaining(builder::append);
+
+		Assert.assertEquals("abc", builder.toString());
+		Assert.assertEquals(0, spliterator.estimateSize());
+		Assert.assertFalse(spliterator.tryAdvance(value -> Assert.fail()));
+
+	}
+
+	@Test
+	public void nested() {
+
+		CombinedIterable<Integer> inner = new CombinedIterable<Integer>(new IntegerArrayIterable(1, 2),
+				new IntegerArrayIterable(3));
+		CombinedIterable<Integer> iterable = new CombinedIterable<Integer>(inner, new IntegerArrayIterable(4));
+		Spliterator<Integer> spliterator = new CombinedSpliterator<Integer>(iterable);
+
+		Assert.assertEquals(4, spliterator.getExactSizeIfKnown());
+		Assert.assertEquals(Arrays.asList(1, 2, 3, 4),
+				StreamSupport.stream(spliterator, true).collect(Collectors.toList()));
+
+	}
+
+	@Test
+	public void parallelStream() {
+
+		List<Integer> expected = StreamSupport.stream(new CountUpIterable(1, 1000).spliterator(), false)
+				.collect(Collectors.toList());
+		CombinedIterable<Integer> iterable = new CombinedIterable<Integer>(new CountUpIterable(1, 100),
+				new IntegerArrayIterable(expected.subList(100, 500).stream().mapToInt(i -> i).toArray()),
+				expected.subList(500, 1000));
+		Spliterator<Integer> spliterator = new CombinedSpliterator<Integer>(iterable);
+
+		Assert.assertEquals(expected, StreamSupport.stream(spliterator, true).collect(Collectors.toList()));
+
+	}
+
+	@Test
+	public void parallelStream_skipAndLimitWithDeferred() {
+
+		List<Iterable<Integer>> iterables = new ArrayList<>();
+		for (int i = 0; i < 2000; i += 100) {
+			int[] values = IntStream.range(i, i + 100).toArray();
+			if (0 == i % 200) {
+				iterables.add(new IntegerArrayIterable(values));
+			} else {
+				iterables.add(() -> IntStream.of(values).iterator());
+			}
+		}
+		CombinedIterable<Integer> iterable = new CombinedIterable<Integer>(iterables);
+
+		for (int i = 0; i < 20; i++) {
+			Spliterator<Integer> spliterator = new CombinedSpliterator<Integer>(iterable);
+			Assert.assertEquals(Arrays.asList(10, 11, 12, 13, 14),
+					StreamSupport.stream(spliterator, true).skip(10).limit(5).collect(Collectors.toList()));
+		}
+
+	}
+
+}
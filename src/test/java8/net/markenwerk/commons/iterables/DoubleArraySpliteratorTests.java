@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.stream.StreamSupport;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class DoubleArraySpliteratorTests {
+
+	private static final DoubleArrayIterable ITERABLE = new DoubleArrayIterable(1, 2, 3, 4);
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new DoubleArraySpliterator(null);
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		Spliterator<?> spliterator = new DoubleArraySpliterator(ITERABLE);
+
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+		Assert.assertEquals(4, spliterator.getExactSizeIfKnown());
+
+	}
+
+	@Test
+	public void trySplit() {
+
+		DoubleArraySpliterator spliterator = new DoubleArraySpliterator(ITERABLE);
+		DoubleArraySpliterator prefix = spliterator.trySplit();
+
+		Assert.assertEquals(2, prefix.estimateSize());
+		Assert.assertEquals(2, spliterator.estimateSize());
+		Assert.assertTrue(prefix.tryAdvance((DoubleConsumer) value -> Assert.assertEquals(1, value, 0)));
+		Assert.assertTrue(spliterator.tryAdvance((DoubleConsumer) value -> Assert.assertEquals(3, value, 0)));
+
+	}
+
+	@Test
+	public void trySplit_single() {
+
+		DoubleArraySpliterator spliterator = new DoubleArraySpliterator(new DoubleArrayIterable(new double[1]));
+
+		Assert.assertNull(spliterator.trySplit());
+
+	}
+
+	@Test
+	public void forEachRemaining() {
+
+		DoubleArraySpliterator spliterator = new DoubleArraySpliterator(ITERABLE);
+		double[] sum = new double[1];
+		spliterator.forEachRemaining((DoubleConsumer) value -> sum[0] += value);
+
+		Assert.assertEquals(10, sum[0], 0);
+		Assert.assertEquals(0, spliterator.estimateSize());
+		Assert.assertFalse(spliterator.tryAdvance((DoubleConsumer) value -> Assert.fail()));
+
+	}
+
+	@Test
+	public void parallelStream() {
+
+		DoubleArraySpliterator spliterator = new DoubleArraySpliterator(ITERABLE);
+
+		Assert.assertEquals(10, StreamSupport.doubleStream(spliterator, true).sum(), 0);
+
+	}
+
+}
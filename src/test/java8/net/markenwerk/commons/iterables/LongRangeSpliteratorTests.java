@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.StreamSupport;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongRangeSpliteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullLongCountUpIterable() {
+
+		new LongRangeSpliterator((LongCountUpIterable) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullLongCountDownIterable() {
+
+		new LongRangeSpliterator((LongCountDownIterable) null);
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		Spliterator<?> spliterator = new LongRangeSpliterator(new LongCountUpIterable(1L, 4L));
+
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+		Assert.assertEquals(4, spliterator.getExactSizeIfKnown());
+
+	}
+
+	@Test
+	public void trySplit() {
+
+		LongRangeSpliterator spliterator = new LongRangeSpliterator(new LongCountUpIterable(1L, 4L));
+		LongRangeSpliterator prefix = spliterator.trySplit();
+
+		Assert.assertEquals(2, prefix.estimateSize());
+		Assert.assertEquals(2, spliterator.estimateSize());
+		Assert.assertTrue(prefix.tryAdvance((LongConsumer) value -> Assert.assertEquals(1L, value)));
+		Assert.assertTrue(spliterator.tryAdvance((LongConsumer) value -> Assert.assertEquals(3L, value)));
+
+	}
+
+	@Test
+	public void trySplit_step() {
+
+		LongRangeSpliterator spliterator = new LongRangeSpliterator(new LongCountDownIterable(10L, 0L, 3L));
+		LongRangeSpliterator prefix = spliterator.trySplit();
+
+		Assert.assertEquals(2, prefix.estimateSize());
+		Assert.assertEquals(2, spliterator.estimateSize());
+		Assert.assertTrue(prefix.tryAdvance((LongConsumer) value -> Assert.assertEquals(10L, value)));
+		Assert.assertTrue(spliterator.tryAdvance((LongConsumer) value -> Assert.assertEquals(4L, value)));
+
+	}
+
+	@Test
+	public void trySplit_single() {
+
+		LongRangeSpliterator spliterator = new LongRangeSpliterator(new LongCountUpIterable(1L, 1L));
+
+		Assert.assertNull(spliterator.trySplit());
+
+	}
+
+	@Test
+	public void trySplit_empty() {
+
+		LongRangeSpliterator spliterator = new LongRangeSpliterator(new LongCountUpIterable(1L, 0L));
+
+		Assert.assertEquals(0, spliterator.estimateSize());
+		Assert.assertNull(spliterator.trySplit());
+		Assert.assertFalse(spliterator.tryAdvance((LongConsumer) value -> Assert.fail()));
+
+	}
+
+	@Test
+	public void forEachRemaining() {
+
+		LongRangeSpliterator spliterator = new LongRangeSpliterator(new LongCountUpIterable(1L, 4L));
+		long[] sum = new long[1];
+		spliterator.forEachRemaining((LongConsumer) value -> sum[0] += value);
+
+		Assert.assertEquals(10L, sum[0]);
+		Assert.assertEquals(0, spliterator.estimateSize());
+		Assert.assertFalse(spliterator.tryAdvance((LongConsumer) value -> Assert.fail()));
+
+	}
+
+	@Test
+	public void forEachRemaining_noOverflow() {
+
+		LongCountDownIterable iterable = new LongCountDownIterable(Long.MIN_VALUE + 1, Long.MIN_VALUE);
+		LongRangeSpliterator spliterator = new LongRangeSpliterator(iterable);
+		long[] count = new long[1];
+		spliterator.forEachRemaining((LongConsumer) value -> count[0]++);
+
+		Assert.assertEquals(2L, count[0]);
+
+	}
+
+	@Test
+	public void fullRange() {
+
+		LongCountUpIterable iterable = new LongCountUpIterable(Long.MIN_VALUE, Long.MAX_VALUE);
+		LongRangeSpliterator spliterator = new LongRangeSpliterator(iterable);
+
+		Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+
+		LongRangeSpliterator prefix = spliterator.trySplit();
+
+		Assert.assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertTrue(prefix.tryAdvance((LongConsumer) value -> Assert.assertEquals(Long.MIN_VALUE, value)));
+		Assert.assertTrue(spliterator.tryAdvance((LongConsumer) value -> Assert.assertEquals(0L, value)));
+		Assert.assertTrue(prefix.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertEquals(Long.MAX_VALUE, prefix.getExactSizeIfKnown());
+
+	}
+
+	@Test
+	public void parallelStream() {
+
+		LongRangeSpliterator spliterator = new LongRangeSpliterator(new LongCountUpIterable(1L, 100L));
+
+		Assert.assertEquals(5050L, StreamSupport.longStream(spliterator, true).sum());
+
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterables;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class RangeExecutorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPool() {
+
+		new RangeExecutor(null, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveGrainSize() {
+
+		new RangeExecutor(0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void forEach_nullIterable() {
+
+		new RangeExecutor().forEach((CountUpIterable) null, value -> {
+		});
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void forEach_nullAction() {
+
+		new RangeExecutor().forEach(new CountUpIterable(0, 1), (IntConsumer) null);
+
+	}
+
+	@Test
+	public void forEach_countUp() {
+
+		AtomicIntegerArray counts = new AtomicIntegerArray(10000);
+		new RangeExecutor(new ForkJoinPool(4), 16).forEach(new CountUpIterable(0, 9999), counts::incrementAndGet);
+
+		for (int i = 0; i < counts.length(); i++) {
+			Assert.assertEquals(1, counts.get(i));
+		}
+
+	}
+
+	@Test
+	public void forEach_countDown() {
+
+		AtomicIntegerArray counts = new AtomicIntegerArray(10000);
+		new RangeExecutor(16).forEach(new CountDownIterable(9999, 0, 2), counts::incrementAndGet);
+
+		for (int i = 0; i < counts.length(); i++) {
+			Assert.assertEquals(i % 2, counts.get(i));
+		}
+
+	}
+
+	@Test
+	public void forEach_longCountUp() {
+
+		AtomicLong sum = new AtomicLong();
+		new RangeExecutor(16).forEach(new LongCountUpIterable(1L, 10000L), (LongConsumer) sum::addAndGet);
+
+		Assert.assertEquals(50005000L, sum.get());
+
+	}
+
+	@Test
+	public void forEach_longCountDown() {
+
+		AtomicLong count = new AtomicLong();
+		LongCountDownIterable iterable = new LongCountDownIterable(Long.MIN_VALUE + 9999, Long.MIN_VALUE);
+		new RangeExecutor(16).forEach(iterable, value -> count.incrementAndGet());
+
+		Assert.assertEquals(10000L, count.get());
+
+	}
+
+	@Test
+	public void forEach_empty() {
+
+		new RangeExecutor(1).forEach(new CountUpIterable(1, 0), value -> Assert.fail());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void forEach_failingAction() {
+
+		new RangeExecutor(1).forEach(new CountUpIterable(0, 100), value -> {
+			if (50 == value) {
+				throw new IllegalStateException();
+			}
+		});
+
+	}
+
+}